@@ -41,8 +41,16 @@ public final class TimeServiceConfiguration {
     
     private static final TimeServiceConfiguration CONFIG = new TimeServiceConfiguration();
     
+    private static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000L;
+    
+    private static final long DEFAULT_MAX_STALENESS_MILLIS = 3000L;
+    
     private String driverClassName;
     
+    private long syncIntervalMillis;
+    
+    private long maxStalenessMillis;
+    
     private DataSource dataSource;
     
     private TimeServiceConfiguration() {
@@ -55,6 +63,10 @@ public final class TimeServiceConfiguration {
             properties.load(inputStream);
             String dataSourceType = (String) properties.remove("dataSourceType");
             driverClassName = (String) properties.get("driverClassName");
+            syncIntervalMillis = Long.parseLong((String) properties.getOrDefault("syncIntervalMillis", String.valueOf(DEFAULT_SYNC_INTERVAL_MILLIS)));
+            maxStalenessMillis = Long.parseLong((String) properties.getOrDefault("maxStalenessMillis", String.valueOf(DEFAULT_MAX_STALENESS_MILLIS)));
+            properties.remove("syncIntervalMillis");
+            properties.remove("maxStalenessMillis");
             Class dataSourceClass = Class.forName(dataSourceType);
             dataSource = (DataSource) dataSourceClass.newInstance();
             for (String each : properties.stringPropertyNames()) {
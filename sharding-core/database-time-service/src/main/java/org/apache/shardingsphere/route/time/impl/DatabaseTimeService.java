@@ -17,7 +17,14 @@
 
 package org.apache.shardingsphere.route.time.impl;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.metrics.facade.handle.MetricsCounter;
+import org.apache.shardingsphere.metrics.facade.handle.MetricsGauge;
+import org.apache.shardingsphere.route.time.exception.DatabaseTimeStaleException;
 import org.apache.shardingsphere.sharding.route.spi.TimeService;
 
 import javax.sql.DataSource;
@@ -26,27 +33,221 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Database time service.
+ * 
+ * <p>
+ * The database clock is sampled periodically in background, and the time is served locally by extrapolating the latest sample with {@link System#nanoTime()},
+ * corrected by the drift between database clock and local monotonic clock. Served time never goes backwards.
+ * If the latest sample is older than max staleness, the database clock is sampled synchronously before serving,
+ * and time is not served if the database clock still can not be sampled.
+ * Offset, drift, staleness and round trip of samples are reported through metrics after every sync.
+ * </p>
  */
-@RequiredArgsConstructor
-public final class DatabaseTimeService implements TimeService {
+@Slf4j
+public final class DatabaseTimeService implements TimeService, AutoCloseable {
+    
+    private static final long MIN_DRIFT_BASELINE_NANOS = TimeUnit.MINUTES.toNanos(1L);
+    
+    private static final double MAX_DRIFT_RATE = 0.001D;
+    
+    private static final MetricsGauge OFFSET_GAUGE = new MetricsGauge(MetricsLabelEnum.DATABASE_TIME.getName(), "offset_millis");
+    
+    private static final MetricsGauge DRIFT_GAUGE = new MetricsGauge(MetricsLabelEnum.DATABASE_TIME.getName(), "drift_ppm");
+    
+    private static final MetricsGauge STALENESS_GAUGE = new MetricsGauge(MetricsLabelEnum.DATABASE_TIME.getName(), "staleness_millis");
+    
+    private static final MetricsGauge ROUND_TRIP_GAUGE = new MetricsGauge(MetricsLabelEnum.DATABASE_TIME.getName(), "round_trip_millis");
+    
+    private static final MetricsCounter SYNC_FAILURE_COUNTER = new MetricsCounter(MetricsLabelEnum.DATABASE_TIME_SYNC_FAILURE.getName());
     
     private final DataSource dataSource;
     
     private final String sql;
     
+    private final long syncIntervalNanos;
+    
+    private final long maxStalenessNanos;
+    
+    private final ScheduledExecutorService syncExecutor;
+    
+    private final AtomicLong lastServedMillis = new AtomicLong();
+    
+    private final AtomicLong failedSyncCount = new AtomicLong();
+    
+    private volatile ClockSample baselineSample;
+    
+    private volatile ClockSample latestSample;
+    
+    private volatile double driftRate;
+    
+    private volatile long lastSyncAttemptNanos;
+    
+    public DatabaseTimeService(final DataSource dataSource, final String sql, final long syncIntervalMillis, final long maxStalenessMillis) {
+        this.dataSource = dataSource;
+        this.sql = sql;
+        syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis);
+        maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-DatabaseTimeSync-%d").build());
+        syncExecutor.scheduleWithFixedDelay(this::sync, 0L, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
     @Override
     public Date getTime() {
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                resultSet.next();
-                return (Date) resultSet.getObject(1);
+        ClockSample sample = latestSample;
+        if (isStale(sample)) {
+            sample = syncIfNecessary();
+        }
+        if (isStale(sample)) {
+            throw new DatabaseTimeStaleException(null == sample ? "Database time has never been sampled."
+                    : String.format("Database time has not been sampled for %d ms, exceeds max staleness %d ms.", getStalenessMillis(), TimeUnit.NANOSECONDS.toMillis(maxStalenessNanos)));
+        }
+        long correctedMillis = sample.getDatabaseMillis() + Math.round((System.nanoTime() - sample.getNanoTime()) * (1D + driftRate) / 1000000D);
+        return new Date(advance(correctedMillis));
+    }
+    
+    private boolean isStale(final ClockSample sample) {
+        return null == sample || System.nanoTime() - sample.getNanoTime() > maxStalenessNanos;
+    }
+    
+    private long advance(final long correctedMillis) {
+        while (true) {
+            long lastMillis = lastServedMillis.get();
+            long result = Math.max(lastMillis, correctedMillis);
+            if (lastMillis == result || lastServedMillis.compareAndSet(lastMillis, result)) {
+                return result;
             }
-        } catch (final SQLException ignore) {
         }
-        return new Date();
+    }
+    
+    private synchronized ClockSample syncIfNecessary() {
+        ClockSample sample = latestSample;
+        boolean fresh = !isStale(sample);
+        boolean justAttempted = 0L != lastSyncAttemptNanos && System.nanoTime() - lastSyncAttemptNanos < syncIntervalNanos;
+        return fresh || justAttempted ? sample : sync();
+    }
+    
+    private synchronized ClockSample sync() {
+        lastSyncAttemptNanos = System.nanoTime();
+        long startNanos = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            long databaseMillis = resultSet.getTimestamp(1).getTime();
+            long roundTripNanos = System.nanoTime() - startNanos;
+            ClockSample result = new ClockSample(startNanos + roundTripNanos / 2, databaseMillis, System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(roundTripNanos / 2), roundTripNanos);
+            updateDriftRate(result);
+            latestSample = result;
+            return result;
+        } catch (final SQLException ex) {
+            failedSyncCount.incrementAndGet();
+            SYNC_FAILURE_COUNTER.inc();
+            log.warn("Sample database time failed, the latest sample is {} ms stale.", getStalenessMillis(), ex);
+        } finally {
+            reportMetrics();
+        }
+        return latestSample;
+    }
+    
+    private void reportMetrics() {
+        if (null == latestSample) {
+            return;
+        }
+        OFFSET_GAUGE.set(getOffsetMillis());
+        DRIFT_GAUGE.set(getDriftPpm());
+        STALENESS_GAUGE.set(getStalenessMillis());
+        ROUND_TRIP_GAUGE.set(getRoundTripMillis());
+    }
+    
+    private void updateDriftRate(final ClockSample sample) {
+        if (null == baselineSample) {
+            baselineSample = sample;
+            return;
+        }
+        long elapsedNanos = sample.getNanoTime() - baselineSample.getNanoTime();
+        if (elapsedNanos < MIN_DRIFT_BASELINE_NANOS) {
+            return;
+        }
+        double elapsedMillis = elapsedNanos / 1000000D;
+        double rate = (sample.getDatabaseMillis() - baselineSample.getDatabaseMillis() - elapsedMillis) / elapsedMillis;
+        if (Math.abs(rate) > MAX_DRIFT_RATE) {
+            log.warn("Database clock stepped by {} ms, reset drift baseline.", Math.round(rate * elapsedMillis));
+            baselineSample = sample;
+            driftRate = 0D;
+            return;
+        }
+        driftRate = rate;
+    }
+    
+    /**
+     * Get offset between database clock and local wall clock of latest sample.
+     *
+     * @return offset in milliseconds, 0 if never sampled
+     */
+    public long getOffsetMillis() {
+        ClockSample sample = latestSample;
+        return null == sample ? 0L : sample.getDatabaseMillis() - sample.getLocalMillis();
+    }
+    
+    /**
+     * Get drift of database clock against local monotonic clock.
+     *
+     * @return drift in parts per million
+     */
+    public double getDriftPpm() {
+        return driftRate * 1000000D;
+    }
+    
+    /**
+     * Get staleness of latest sample.
+     *
+     * @return staleness in milliseconds, -1 if never sampled
+     */
+    public long getStalenessMillis() {
+        ClockSample sample = latestSample;
+        return null == sample ? -1L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sample.getNanoTime());
+    }
+    
+    /**
+     * Get round trip time of latest sample.
+     *
+     * @return round trip time in milliseconds, -1 if never sampled
+     */
+    public long getRoundTripMillis() {
+        ClockSample sample = latestSample;
+        return null == sample ? -1L : TimeUnit.NANOSECONDS.toMillis(sample.getRoundTripNanos());
+    }
+    
+    /**
+     * Get count of failed samples.
+     *
+     * @return failed sample count
+     */
+    public long getFailedSyncCount() {
+        return failedSyncCount.get();
+    }
+    
+    @Override
+    public void close() {
+        syncExecutor.shutdownNow();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ClockSample {
+        
+        private final long nanoTime;
+        
+        private final long databaseMillis;
+        
+        private final long localMillis;
+        
+        private final long roundTripNanos;
     }
 }
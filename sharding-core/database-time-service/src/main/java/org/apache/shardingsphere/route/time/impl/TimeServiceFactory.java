@@ -33,6 +33,7 @@ public final class TimeServiceFactory {
      */
     public static TimeService createTimeService() {
         TimeServiceConfiguration timeServiceConfiguration = TimeServiceConfiguration.getInstance();
-        return new DatabaseTimeService(timeServiceConfiguration.getDataSource(), new SPIDataBaseSQLEntry(timeServiceConfiguration.getDriverClassName()).getSQL());
+        return new DatabaseTimeService(timeServiceConfiguration.getDataSource(), new SPIDataBaseSQLEntry(timeServiceConfiguration.getDriverClassName()).getSQL(),
+                timeServiceConfiguration.getSyncIntervalMillis(), timeServiceConfiguration.getMaxStalenessMillis());
     }
 }
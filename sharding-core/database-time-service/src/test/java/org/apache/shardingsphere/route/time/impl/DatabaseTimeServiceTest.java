@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.route.time.impl;
+
+import org.apache.shardingsphere.route.time.exception.DatabaseTimeStaleException;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DatabaseTimeServiceTest {
+    
+    private static final long OFFSET_MILLIS = 100000L;
+    
+    @Test
+    public void assertGetTimeWithDatabaseOffset() throws SQLException {
+        try (DatabaseTimeService timeService = new DatabaseTimeService(mockDataSource(), "SELECT NOW()", 60000L, 60000L)) {
+            long expectedMillis = System.currentTimeMillis() + OFFSET_MILLIS;
+            long actualMillis = timeService.getTime().getTime();
+            assertTrue(Math.abs(actualMillis - expectedMillis) < 1000L);
+            assertTrue(Math.abs(timeService.getOffsetMillis() - OFFSET_MILLIS) < 1000L);
+            assertTrue(timeService.getStalenessMillis() >= 0L);
+            assertTrue(timeService.getRoundTripMillis() >= 0L);
+            assertThat(timeService.getFailedSyncCount(), is(0L));
+        }
+    }
+    
+    @Test
+    public void assertGetTimeIsMonotonic() throws SQLException {
+        try (DatabaseTimeService timeService = new DatabaseTimeService(mockDataSource(), "SELECT NOW()", 60000L, 60000L)) {
+            Date previous = timeService.getTime();
+            for (int i = 0; i < 10000; i++) {
+                Date current = timeService.getTime();
+                assertFalse(current.before(previous));
+                previous = current;
+            }
+        }
+    }
+    
+    @Test
+    public void assertGetTimeWhenDatabaseUnavailable() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("unavailable"));
+        try (DatabaseTimeService timeService = new DatabaseTimeService(dataSource, "SELECT NOW()", 60000L, 60000L)) {
+            timeService.getTime();
+            fail("Expected DatabaseTimeStaleException.");
+        } catch (final DatabaseTimeStaleException ex) {
+            assertThat(ex.getMessage(), is("Database time has never been sampled."));
+        }
+    }
+    
+    @Test
+    public void assertGetTimeWhenStalenessExceeded() throws SQLException, InterruptedException {
+        DataSource dataSource = mockDataSource();
+        try (DatabaseTimeService timeService = new DatabaseTimeService(dataSource, "SELECT NOW()", 60000L, 200L)) {
+            timeService.getTime();
+            when(dataSource.getConnection()).thenThrow(new SQLException("unavailable"));
+            Thread.sleep(300L);
+            try {
+                timeService.getTime();
+                fail("Expected DatabaseTimeStaleException.");
+            } catch (final DatabaseTimeStaleException ignored) {
+                assertTrue(timeService.getStalenessMillis() > 200L);
+            }
+        }
+    }
+    
+    private DataSource mockDataSource() throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT NOW()")).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getTimestamp(1)).thenAnswer(invocation -> new Timestamp(System.currentTimeMillis() + OFFSET_MILLIS));
+        return result;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.api.sharding.standard;
 import org.apache.shardingsphere.spi.algorithm.ShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 
 /**
  * Standard sharding algorithm.
@@ -37,6 +38,23 @@ public interface StandardShardingAlgorithm<T extends Comparable<?>> extends Shar
      */
     String doSharding(Collection<String> availableTargetNames, PreciseShardingValue<T> shardingValue);
     
+    /**
+     * Sharding for multiple precise values, such as values of IN list.
+     * 
+     * <p>Evaluate every value by default, algorithms can override it to evaluate values in batch.</p>
+     *
+     * @param availableTargetNames available data sources or tables's names
+     * @param shardingValues sharding values
+     * @return sharding results for data sources or tables's names
+     */
+    default Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<PreciseShardingValue<T>> shardingValues) {
+        Collection<String> result = new LinkedHashSet<>(shardingValues.size(), 1);
+        for (PreciseShardingValue<T> each : shardingValues) {
+            result.add(doSharding(availableTargetNames, each));
+        }
+        return result;
+    }
+    
     /**
      * Sharding.
      *
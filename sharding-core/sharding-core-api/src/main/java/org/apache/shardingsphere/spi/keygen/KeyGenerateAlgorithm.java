@@ -19,6 +19,9 @@ package org.apache.shardingsphere.spi.keygen;
 
 import org.apache.shardingsphere.spi.type.TypedSPI;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * Key generate algorithm.
  */
@@ -30,4 +33,18 @@ public interface KeyGenerateAlgorithm extends TypedSPI {
      * @return generated key
      */
     Comparable<?> generateKey();
+    
+    /**
+     * Generate keys in batch.
+     * 
+     * @param count count of keys
+     * @return generated keys
+     */
+    default Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(generateKey());
+        }
+        return result;
+    }
 }
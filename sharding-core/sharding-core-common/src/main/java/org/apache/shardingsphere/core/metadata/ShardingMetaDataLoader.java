@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaDataLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect.DialectTableMetaDataLoaderFactory;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
@@ -57,6 +58,8 @@ public final class ShardingMetaDataLoader implements RuleMetaDataLoader<Sharding
     
     private static final int FUTURE_GET_TIME_OUT_SECOND = 5;
     
+    private static final int DATA_SOURCE_FUTURE_GET_TIME_OUT_SECOND = 60;
+    
     @Override
     public SchemaMetaData load(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes, 
                                final ShardingRule shardingRule, final ConfigurationProperties properties, final Collection<String> excludedTableNames) throws SQLException {
@@ -90,6 +93,9 @@ public final class ShardingMetaDataLoader implements RuleMetaDataLoader<Sharding
     private Map<String, TableMetaData> parallelLoadTables(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes, 
                                                           final String tableName, final int maxConnectionsSizePerQuery) {
         Map<String, List<DataNode>> dataNodeGroups = dataNodes.getDataNodeGroups(tableName);
+        if (DialectTableMetaDataLoaderFactory.findInstance(databaseType.getName()).isPresent()) {
+            return parallelLoadTablesByDataSource(databaseType, dataSourceMap, dataNodeGroups);
+        }
         Map<String, TableMetaData> result = new HashMap<>(dataNodeGroups.size(), 1);
         Map<String, Future<Optional<TableMetaData>>> tableFutureMap = new HashMap<>(dataNodeGroups.size(), 1);
         ExecutorService executorService = Executors.newFixedThreadPool(Math.min(CPU_CORES * 2, dataNodeGroups.size() * maxConnectionsSizePerQuery));
@@ -110,6 +116,26 @@ public final class ShardingMetaDataLoader implements RuleMetaDataLoader<Sharding
         return result;
     }
     
+    private Map<String, TableMetaData> parallelLoadTablesByDataSource(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, 
+                                                                      final Map<String, List<DataNode>> dataNodeGroups) {
+        Map<String, TableMetaData> result = new HashMap<>();
+        Map<String, Future<Map<String, TableMetaData>>> dataSourceFutureMap = new HashMap<>(dataNodeGroups.size(), 1);
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(CPU_CORES * 2, dataNodeGroups.size()));
+        for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
+            Collection<String> actualTableNames = entry.getValue().stream().map(DataNode::getTableName).collect(Collectors.toList());
+            dataSourceFutureMap.put(entry.getKey(), executorService.submit(() -> TableMetaDataLoader.load(dataSourceMap.get(entry.getKey()), actualTableNames, databaseType.getName())));
+        }
+        dataSourceFutureMap.forEach((key, value) -> {
+            try {
+                result.putAll(value.get(DATA_SOURCE_FUTURE_GET_TIME_OUT_SECOND, TimeUnit.SECONDS));
+            } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
+                throw new IllegalStateException(String.format("Error while fetching tableMetaData of data source `%s`", key), ex);
+            }
+        });
+        executorService.shutdownNow();
+        return result;
+    }
+    
     private Optional<TableMetaData> getTableMetaData(final Future<Optional<TableMetaData>> value) throws InterruptedException, ExecutionException, TimeoutException {
         return value.get(FUTURE_GET_TIME_OUT_SECOND, TimeUnit.SECONDS);
     }
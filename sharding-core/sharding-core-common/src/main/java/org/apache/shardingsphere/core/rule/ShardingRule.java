@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
@@ -36,6 +37,7 @@ import org.apache.shardingsphere.underlying.common.datanode.DataNode;
 import org.apache.shardingsphere.underlying.common.rule.DataNodeRoutedRule;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -70,16 +72,36 @@ public final class ShardingRule implements DataNodeRoutedRule {
     
     private final KeyGenerateAlgorithm defaultKeyGenerateAlgorithm;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> broadcastTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> logicTableShardingColumns;
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfiguration, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != shardingRuleConfiguration, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.dataSourceNames = getDataSourceNames(shardingRuleConfiguration.getTableRuleConfigs(), dataSourceNames);
         tableRules = createTableRules(shardingRuleConfiguration);
         broadcastTables = shardingRuleConfiguration.getBroadcastTables();
+        logicTableRules = createLogicTableRules();
+        actualTableRules = createActualTableRules();
+        broadcastTableRules = createBroadcastTableRules();
         bindingTableRules = createBindingTableRules(shardingRuleConfiguration.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules();
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfiguration.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfiguration.getDefaultTableShardingStrategyConfig());
         defaultKeyGenerateAlgorithm = createDefaultKeyGenerateAlgorithm(shardingRuleConfiguration.getDefaultKeyGeneratorConfig());
+        logicTableShardingColumns = createLogicTableShardingColumns();
     }
     
     private Collection<String> getDataSourceNames(final Collection<TableRuleConfiguration> tableRuleConfigs, final Collection<String> dataSourceNames) {
@@ -113,6 +135,32 @@ public final class ShardingRule implements DataNodeRoutedRule {
         return Optional.ofNullable(shardingRuleConfig.getDefaultKeyGeneratorConfig()).map(KeyGeneratorConfiguration::getColumn).orElse(null);
     }
     
+    private Map<String, TableRule> createLogicTableRules() {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            result.putIfAbsent(each.getLogicTable(), each);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Map<String, TableRule> createActualTableRules() {
+        Map<String, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName(), each);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Map<String, TableRule> createBroadcastTableRules() {
+        Map<String, TableRule> result = new HashMap<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.putIfAbsent(each.toLowerCase(), new TableRule(dataSourceNames, each));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     private Collection<BindingTableRule> createBindingTableRules(final Collection<String> bindingTableGroups) {
         return bindingTableGroups.stream().map(this::createBindingTableRule).collect(Collectors.toList());
     }
@@ -121,6 +169,27 @@ public final class ShardingRule implements DataNodeRoutedRule {
         return new BindingTableRule(Splitter.on(",").trimResults().splitToList(bindingTableGroup).stream().map(this::getTableRule).collect(Collectors.toList()));
     }
     
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules() {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (String logicTable : each.getAllLogicTables()) {
+                result.putIfAbsent(logicTable.toLowerCase(), each);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Map<String, Collection<String>> createLogicTableShardingColumns() {
+        Map<String, Collection<String>> result = new HashMap<>(logicTableRules.size(), 1);
+        for (TableRule each : logicTableRules.values()) {
+            Collection<String> shardingColumns = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            shardingColumns.addAll(getDatabaseShardingStrategy(each).getShardingColumns());
+            shardingColumns.addAll(getTableShardingStrategy(each).getShardingColumns());
+            result.put(each.getLogicTable(), Collections.unmodifiableCollection(shardingColumns));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     private ShardingStrategy createDefaultShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfiguration) {
         return Optional.ofNullable(shardingStrategyConfiguration).map(ShardingStrategyFactory::newInstance).orElse(new NoneShardingStrategy());
     }
@@ -140,7 +209,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName)).findFirst();
+        return Optional.ofNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -150,7 +219,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        return tableRules.stream().filter(each -> each.isExisted(actualTableName)).findFirst();
+        return Optional.ofNullable(actualTableRules.get(actualTableName));
     }
     
     /**
@@ -164,8 +233,9 @@ public final class ShardingRule implements DataNodeRoutedRule {
         if (tableRule.isPresent()) {
             return tableRule.get();
         }
-        if (isBroadcastTable(logicTableName)) {
-            return new TableRule(dataSourceNames, logicTableName);
+        TableRule broadcastTableRule = broadcastTableRules.get(logicTableName.toLowerCase());
+        if (null != broadcastTableRule) {
+            return broadcastTableRule;
         }
         throw new ShardingSphereConfigurationException("Cannot find table rule with logic table: '%s'", logicTableName);
     }
@@ -228,7 +298,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return bindingTableRules.stream().filter(each -> each.hasLogicTable(logicTableName)).findFirst();
+        return Optional.ofNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -256,7 +326,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        return broadcastTables.stream().anyMatch(each -> each.equalsIgnoreCase(logicTableName));
+        return broadcastTableRules.containsKey(logicTableName.toLowerCase());
     }
     
     /**
@@ -277,11 +347,8 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        return tableRules.stream().anyMatch(each -> each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName));
-    }
-    
-    private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
-        return getDatabaseShardingStrategy(tableRule).getShardingColumns().contains(columnName) || getTableShardingStrategy(tableRule).getShardingColumns().contains(columnName);
+        Collection<String> shardingColumns = logicTableShardingColumns.get(tableName.toLowerCase());
+        return null != shardingColumns && shardingColumns.contains(columnName);
     }
     
     /**
@@ -291,8 +358,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName) && each.getGenerateKeyColumn().isPresent())
-                .map(TableRule::getGenerateKeyColumn).findFirst().orElse(Optional.empty());
+        return findTableRule(logicTableName).flatMap(TableRule::getGenerateKeyColumn);
     }
     
     /**
@@ -302,11 +368,26 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys in batch.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        return Optional.ofNullable(tableRule.get().getKeyGenerateAlgorithm()).orElse(defaultKeyGenerateAlgorithm).generateKey();
+        return Optional.ofNullable(tableRule.get().getKeyGenerateAlgorithm()).orElse(defaultKeyGenerateAlgorithm);
     }
     
     /**
@@ -20,11 +20,14 @@ package org.apache.shardingsphere.core.strategy.algorithm.keygen;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
-import lombok.SneakyThrows;
 import org.apache.shardingsphere.spi.keygen.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake distributed primary key generate algorithm.
@@ -42,10 +45,16 @@ import java.util.Properties;
  * 
  * <p>
  * Call @{@code SnowflakeKeyGenerateAlgorithm.setWorkerId} to set worker id, default value is 0.
+ * Worker id assigned by @{@code SnowflakeKeyGenerateAlgorithm.setAssignedWorkerId} is used if worker id is not set.
  * </p>
  * 
  * <p>
  * Call @{@code SnowflakeKeyGenerateAlgorithm.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
+ * Keys keep using last timestamp without sleeping if clock moves backwards within max tolerate time difference.
+ * </p>
+ * 
+ * <p>
+ * Last timestamp and sequence are kept in one atomic long and updated by CAS, so concurrent threads do not block each other.
  * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm {
@@ -70,18 +79,20 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
     
+    private static final long INITIAL_STATE = -1L;
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
+    private static volatile long assignedWorkerId = WORKER_ID;
+    
     @Getter
     @Setter
     private Properties properties = new Properties();
     
-    private int sequenceOffset = -1;
-    
-    private long sequence;
+    private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private long lastMilliseconds;
+    private final AtomicLong state = new AtomicLong(INITIAL_STATE);
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -93,43 +104,112 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         EPOCH = calendar.getTimeInMillis();
     }
     
+    /**
+     * Set worker id assigned for current process, e.g. leased from registry center.
+     * 
+     * @param workerId worker id
+     */
+    public static void setAssignedWorkerId(final long workerId) {
+        Preconditions.checkArgument(workerId >= 0L && workerId < WORKER_ID_MAX_VALUE, "Illegal worker id %s", workerId);
+        assignedWorkerId = workerId;
+    }
+    
     @Override
     public String getType() {
         return "SNOWFLAKE";
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public Comparable<?> generateKey() {
+        long workerId = getWorkerId();
+        while (true) {
+            long currentState = state.get();
+            long lastMilliseconds = getLastMilliseconds(currentState);
+            long currentMilliseconds = getCurrentMilliseconds(lastMilliseconds);
+            if (lastMilliseconds == currentMilliseconds) {
+                long sequence = (getSequence(currentState) + 1) & SEQUENCE_MASK;
+                if (0L == sequence) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+                if (state.compareAndSet(currentState, createState(currentMilliseconds, sequence))) {
+                    return createKey(currentMilliseconds, workerId, sequence);
+                }
+            } else {
+                int offset = getNextSequenceOffset();
+                if (state.compareAndSet(currentState, createState(currentMilliseconds, offset))) {
+                    sequenceOffset.set(offset);
+                    return createKey(currentMilliseconds, workerId, offset);
+                }
+            }
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        long workerId = getWorkerId();
+        while (result.size() < count) {
+            long currentState = state.get();
+            long lastMilliseconds = getLastMilliseconds(currentState);
+            long currentMilliseconds = getCurrentMilliseconds(lastMilliseconds);
+            long firstSequence;
+            boolean isNewMilliseconds = lastMilliseconds != currentMilliseconds;
+            int offset = 0;
+            if (isNewMilliseconds) {
+                offset = getNextSequenceOffset();
+                firstSequence = offset;
+            } else if (SEQUENCE_MASK == getSequence(currentState)) {
                 currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                firstSequence = 0L;
+            } else {
+                firstSequence = getSequence(currentState) + 1;
+            }
+            long lastSequence = Math.min(SEQUENCE_MASK, firstSequence + count - result.size() - 1);
+            if (state.compareAndSet(currentState, createState(currentMilliseconds, lastSequence))) {
+                if (isNewMilliseconds) {
+                    sequenceOffset.set(offset);
+                }
+                for (long each = firstSequence; each <= lastSequence; each++) {
+                    result.add(createKey(currentMilliseconds, workerId, each));
+                }
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+        return result;
     }
     
-    @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
-        if (lastMilliseconds <= currentMilliseconds) {
-            return false;
+    private long getCurrentMilliseconds(final long lastMilliseconds) {
+        long result = timeService.getCurrentMillis();
+        if (lastMilliseconds <= result) {
+            return result;
         }
-        long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
+        long timeDifferenceMilliseconds = lastMilliseconds - result;
         Preconditions.checkState(timeDifferenceMilliseconds < getMaxTolerateTimeDifferenceMilliseconds(), 
-                "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, currentMilliseconds);
-        Thread.sleep(timeDifferenceMilliseconds);
-        return true;
+                "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, result);
+        return lastMilliseconds;
+    }
+    
+    private long getLastMilliseconds(final long state) {
+        return INITIAL_STATE == state ? 0L : (state >>> SEQUENCE_BITS) + EPOCH;
+    }
+    
+    private long getSequence(final long state) {
+        return INITIAL_STATE == state ? 0L : state & SEQUENCE_MASK;
+    }
+    
+    private long createState(final long milliseconds, final long sequence) {
+        return ((milliseconds - EPOCH) << SEQUENCE_BITS) | sequence;
+    }
+    
+    private long createKey(final long milliseconds, final long workerId, final long sequence) {
+        return ((milliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     private long getWorkerId() {
-        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
+        String workerId = properties.getProperty("worker.id");
+        if (null == workerId) {
+            return assignedWorkerId;
+        }
+        long result = Long.valueOf(workerId);
         Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE);
         return result;
     }
@@ -152,7 +232,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= getMaxVibrationOffset() ? 0 : sequenceOffset + 1;
+    private int getNextSequenceOffset() {
+        int result = sequenceOffset.get();
+        return result >= getMaxVibrationOffset() ? 0 : result + 1;
     }
 }
@@ -18,17 +18,18 @@
 package org.apache.shardingsphere.core.strategy.algorithm.sharding;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.StandardShardingAlgorithm;
 
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.Properties;
 
 /**
@@ -48,43 +49,47 @@ public final class DatetimeShardingAlgorithm implements StandardShardingAlgorith
     
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern(DATETIME_PATTERN);
     
+    private final PartitionTargetNameIndex partitionTargetNameIndex = new PartitionTargetNameIndex();
+    
+    private volatile LocalDateTime epoch;
+    
+    private long partitionSeconds;
+    
     @Getter
     @Setter
     private Properties properties = new Properties();
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        checkProperties();
-        for (String each : availableTargetNames) {
-            if (each.endsWith(doSharding(parseDate(shardingValue.getValue())) + "")) {
-                return each;
-            }
-        }
-        throw new UnsupportedOperationException();
+        checkInit();
+        return partitionTargetNameIndex.findTargetName(availableTargetNames, getPartition(shardingValue.getValue())).orElseThrow(UnsupportedOperationException::new);
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        checkProperties();
-        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
-        int firstPartition = doSharding(parseDate(shardingValue.getValueRange().lowerEndpoint()));
-        int lastPartition = doSharding(parseDate(shardingValue.getValueRange().upperEndpoint()));
-        for (int i = firstPartition; i <= lastPartition; i++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(i + "")) {
-                    result.add(each);
-                }
-                if (result.size() == availableTargetNames.size()) {
-                    return result;
+        checkInit();
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        int firstPartition = valueRange.hasLowerBound() ? getPartition(valueRange.lowerEndpoint()) : 0;
+        int lastPartition = valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : Integer.MAX_VALUE;
+        return partitionTargetNameIndex.getTargetNames(availableTargetNames, firstPartition, lastPartition);
+    }
+    
+    private int getPartition(final Comparable<?> shardingValue) {
+        long seconds = ChronoUnit.SECONDS.between(epoch, LocalDateTime.parse(shardingValue.toString(), DATE_FORMAT));
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0L, Math.floorDiv(seconds, partitionSeconds)));
+    }
+    
+    private void checkInit() {
+        if (null == epoch) {
+            synchronized (this) {
+                if (null == epoch) {
+                    checkProperties();
+                    partitionSeconds = Long.parseLong(properties.get(PARTITION_SECONDS).toString());
+                    Preconditions.checkArgument(partitionSeconds > 0, "Sharding partition volume must be positive.");
+                    epoch = LocalDateTime.parse(properties.get(EPOCH).toString(), DATE_FORMAT);
                 }
             }
         }
-        return result;
-    }
-    
-    private int doSharding(final long shardingValue) {
-        int position = (int) (Math.floor(shardingValue / getPartitionValue()));
-        return Math.max(0, position);
     }
     
     private void checkProperties() {
@@ -102,23 +107,6 @@ public final class DatetimeShardingAlgorithm implements StandardShardingAlgorith
         }
     }
     
-    private long parseDate(final Comparable<?> shardingValue) {
-        LocalTime dateValue = LocalTime.parse(shardingValue.toString(), DATE_FORMAT);
-        if (null != properties.get(EPOCH)) {
-            return parseDate(dateValue);
-        }
-        return dateValue.getSecond();
-    }
-    
-    private Long parseDate(final LocalTime dateValue) {
-        LocalTime sinceDate = LocalTime.parse(properties.get(EPOCH).toString(), DATE_FORMAT);
-        return (long) (dateValue.getSecond() - sinceDate.getSecond());
-    }
-    
-    private long getPartitionValue() {
-        return Long.parseLong(properties.get(PARTITION_SECONDS).toString());
-    }
-    
     @Override
     public String getType() {
         return "DATETIME";
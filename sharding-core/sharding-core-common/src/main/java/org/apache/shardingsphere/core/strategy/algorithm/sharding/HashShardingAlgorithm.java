@@ -25,6 +25,7 @@ import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 /**
@@ -38,6 +39,8 @@ public final class HashShardingAlgorithm implements StandardShardingAlgorithm<Co
     
     private static final String MODULO_VALUE = "mod.value";
     
+    private final PartitionTargetNameIndex partitionTargetNameIndex = new PartitionTargetNameIndex();
+    
     @Getter
     @Setter
     private Properties properties = new Properties();
@@ -45,12 +48,25 @@ public final class HashShardingAlgorithm implements StandardShardingAlgorithm<Co
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         Preconditions.checkNotNull(properties.get(MODULO_VALUE), "Modulo value cannot be null.");
-        for (String each : availableTargetNames) {
-            if (each.endsWith(hashShardingValue(shardingValue.getValue()) % getModuloValue() + "")) {
-                return each;
+        return getTargetName(availableTargetNames, hashShardingValue(shardingValue.getValue()) % getModuloValue());
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<PreciseShardingValue<Comparable<?>>> shardingValues) {
+        Preconditions.checkNotNull(properties.get(MODULO_VALUE), "Modulo value cannot be null.");
+        long moduloValue = getModuloValue();
+        Collection<Long> remainders = new LinkedHashSet<>();
+        for (PreciseShardingValue<Comparable<?>> each : shardingValues) {
+            remainders.add(hashShardingValue(each.getValue()) % moduloValue);
+            if (remainders.size() == moduloValue) {
+                break;
             }
         }
-        throw new UnsupportedOperationException();
+        Collection<String> result = new LinkedHashSet<>(remainders.size(), 1);
+        for (long each : remainders) {
+            result.add(getTargetName(availableTargetNames, each));
+        }
+        return result;
     }
     
     @Override
@@ -58,6 +74,10 @@ public final class HashShardingAlgorithm implements StandardShardingAlgorithm<Co
         return availableTargetNames;
     }
     
+    private String getTargetName(final Collection<String> availableTargetNames, final long remainder) {
+        return partitionTargetNameIndex.findTargetName(availableTargetNames, (int) remainder).orElseThrow(UnsupportedOperationException::new);
+    }
+    
     private long hashShardingValue(final Comparable<?> shardingValue) {
         return Math.abs((long) shardingValue.hashCode());
     }
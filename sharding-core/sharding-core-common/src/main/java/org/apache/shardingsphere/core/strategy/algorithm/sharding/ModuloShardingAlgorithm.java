@@ -38,6 +38,8 @@ public final class ModuloShardingAlgorithm implements StandardShardingAlgorithm<
     
     private static final String MODULO_VALUE = "mod.value";
     
+    private final PartitionTargetNameIndex partitionTargetNameIndex = new PartitionTargetNameIndex();
+    
     @Getter
     @Setter
     private Properties properties = new Properties();
@@ -45,12 +47,22 @@ public final class ModuloShardingAlgorithm implements StandardShardingAlgorithm<
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Long> shardingValue) {
         Preconditions.checkNotNull(properties.get(MODULO_VALUE), "Modulo value cannot be null.");
-        for (String each : availableTargetNames) {
-            if (each.endsWith(shardingValue.getValue() % getModuloValue() + "")) {
-                return each;
-            }
+        return getTargetName(availableTargetNames, shardingValue.getValue() % getModuloValue());
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<PreciseShardingValue<Long>> shardingValues) {
+        Preconditions.checkNotNull(properties.get(MODULO_VALUE), "Modulo value cannot be null.");
+        long moduloValue = getModuloValue();
+        Collection<Long> remainders = new LinkedHashSet<>();
+        for (PreciseShardingValue<Long> each : shardingValues) {
+            remainders.add(each.getValue() % moduloValue);
         }
-        throw new UnsupportedOperationException();
+        Collection<String> result = new LinkedHashSet<>(remainders.size(), 1);
+        for (long each : remainders) {
+            result.add(getTargetName(availableTargetNames, each));
+        }
+        return result;
     }
     
     @Override
@@ -68,16 +80,17 @@ public final class ModuloShardingAlgorithm implements StandardShardingAlgorithm<
     
     private Collection<String> getAvailableTargetNames(final Collection<String> availableTargetNames, final RangeShardingValue<Long> shardingValue) {
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
-        for (Long i = shardingValue.getValueRange().lowerEndpoint(); i <= shardingValue.getValueRange().upperEndpoint(); i++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(i % getModuloValue() + "")) {
-                    result.add(each);
-                }
-            }
+        long moduloValue = getModuloValue();
+        for (long i = shardingValue.getValueRange().lowerEndpoint(); i <= shardingValue.getValueRange().upperEndpoint(); i++) {
+            partitionTargetNameIndex.findTargetName(availableTargetNames, (int) (i % moduloValue)).ifPresent(result::add);
         }
         return result;
     }
     
+    private String getTargetName(final Collection<String> availableTargetNames, final long remainder) {
+        return partitionTargetNameIndex.findTargetName(availableTargetNames, (int) remainder).orElseThrow(UnsupportedOperationException::new);
+    }
+    
     private long getModuloValue() {
         return Long.parseLong(properties.get(MODULO_VALUE).toString());
     }
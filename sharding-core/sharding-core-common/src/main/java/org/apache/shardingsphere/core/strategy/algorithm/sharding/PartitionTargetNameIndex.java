@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.algorithm.sharding;
+
+import com.google.common.collect.MapMaker;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Partition target name index.
+ * 
+ * <p>Index available target names by partition which is the numeric suffix of target name.
+ * Indexes are cached by identity of available target names, which are immutable once table rule is built.</p>
+ */
+public final class PartitionTargetNameIndex {
+    
+    private static final int MAX_SUFFIX_LENGTH = 9;
+    
+    private final ConcurrentMap<Collection<String>, NavigableMap<Integer, String>> indexes = new MapMaker().weakKeys().makeMap();
+    
+    /**
+     * Find target name of partition.
+     *
+     * @param availableTargetNames available data sources or tables's names
+     * @param partition partition
+     * @return target name
+     */
+    public Optional<String> findTargetName(final Collection<String> availableTargetNames, final int partition) {
+        return Optional.ofNullable(getIndex(availableTargetNames).get(partition));
+    }
+    
+    /**
+     * Get target names of partitions in range.
+     *
+     * @param availableTargetNames available data sources or tables's names
+     * @param lowerPartition lower partition, inclusive
+     * @param upperPartition upper partition, inclusive
+     * @return target names
+     */
+    public Collection<String> getTargetNames(final Collection<String> availableTargetNames, final int lowerPartition, final int upperPartition) {
+        if (lowerPartition > upperPartition) {
+            return Collections.emptyList();
+        }
+        return new LinkedHashSet<>(getIndex(availableTargetNames).subMap(lowerPartition, true, upperPartition, true).values());
+    }
+    
+    private NavigableMap<Integer, String> getIndex(final Collection<String> availableTargetNames) {
+        NavigableMap<Integer, String> result = indexes.get(availableTargetNames);
+        if (null == result) {
+            result = createIndex(availableTargetNames);
+            indexes.putIfAbsent(availableTargetNames, result);
+        }
+        return result;
+    }
+    
+    private NavigableMap<Integer, String> createIndex(final Collection<String> availableTargetNames) {
+        NavigableMap<Integer, String> result = new TreeMap<>();
+        for (String each : availableTargetNames) {
+            int suffixIndex = each.length();
+            while (suffixIndex > 0 && Character.isDigit(each.charAt(suffixIndex - 1))) {
+                suffixIndex--;
+            }
+            if (suffixIndex < each.length() && each.length() - suffixIndex <= MAX_SUFFIX_LENGTH) {
+                result.putIfAbsent(Integer.parseInt(each.substring(suffixIndex)), each);
+            }
+        }
+        return Collections.unmodifiableNavigableMap(result);
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 /**
@@ -38,15 +39,41 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private Properties properties = new Properties();
     
+    private volatile Closure<?> algorithmClosure;
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Preconditions.checkNotNull(properties.get(ALGORITHM_EXPRESSION), "Inline sharding algorithm expression cannot be null.");
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(properties.get(ALGORITHM_EXPRESSION).toString().trim());
-        Closure<?> closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
-        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        Closure<?> closure = createClosure();
+        closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
+        return closure.call().toString();
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<PreciseShardingValue<Comparable<?>>> shardingValues) {
+        Closure<?> closure = createClosure();
+        Collection<String> result = new LinkedHashSet<>(shardingValues.size(), 1);
+        for (PreciseShardingValue<Comparable<?>> each : shardingValues) {
+            closure.setProperty(each.getColumnName(), each.getValue());
+            result.add(closure.call().toString());
+        }
+        return result;
+    }
+    
+    private Closure<?> createClosure() {
+        Closure<?> result = getAlgorithmClosure().rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
-        return result.call().toString();
+        return result;
+    }
+    
+    private Closure<?> getAlgorithmClosure() {
+        Closure<?> result = algorithmClosure;
+        if (null == result) {
+            Preconditions.checkNotNull(properties.get(ALGORITHM_EXPRESSION), "Inline sharding algorithm expression cannot be null.");
+            String algorithmExpression = InlineExpressionParser.handlePlaceHolder(properties.get(ALGORITHM_EXPRESSION).toString().trim());
+            result = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+            algorithmClosure = result;
+        }
+        return result;
     }
     
     @Override
@@ -74,5 +101,6 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     @Override
     public void setProperties(final Properties properties) {
         this.properties = properties;
+        algorithmClosure = null;
     }
 }
@@ -21,82 +21,65 @@ import com.google.common.collect.Range;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.core.strategy.algorithm.sharding.PartitionTargetNameIndex;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
-import java.util.Map;
 
 /**
  * Abstract range sharding algorithm.
+ * <p>
+ * Partitions are indexed by sorted lower boundaries at init, value `x` belongs to partition `n` which is the count of boundaries not greater than `x`.
+ * </p>
  */
 public abstract class AbstractRangeShardingAlgorithm implements StandardShardingAlgorithm<Long> {
 
-    private volatile boolean init;
+    private final PartitionTargetNameIndex partitionTargetNameIndex = new PartitionTargetNameIndex();
 
-    /**
-     * getTargetNameByPreciseShardingValue.
-     *
-     * @param availableTargetNames available data sources or tables's names
-     * @param shardingValue        sharding value
-     * @param partitionRangeMap    the mapping of partition and range
-     * @return sharding result for data source or table's name
-     */
-    protected String getTargetNameByPreciseShardingValue(final Collection<String> availableTargetNames,
-                                                         final PreciseShardingValue<Long> shardingValue,
-                                                         final Map<Integer, Range<Long>> partitionRangeMap) {
-        return availableTargetNames.stream().filter(each -> each.endsWith(getPartition(partitionRangeMap, shardingValue.getValue()) + ""))
-                .findFirst().orElseThrow(UnsupportedOperationException::new);
+    private volatile long[] partitionBoundaries;
+
+    @Override
+    public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Long> shardingValue) {
+        checkInit();
+        return partitionTargetNameIndex.findTargetName(availableTargetNames, getPartition(shardingValue.getValue())).orElseThrow(UnsupportedOperationException::new);
     }
 
-    /**
-     * getTargetNameByRangeShardingValue.
-     *
-     * @param availableTargetNames available data sources or tables's names
-     * @param shardingValue        sharding value
-     * @param partitionRangeMap    the mapping of partition and range
-     * @return sharding results for data sources or tables's names
-     */
-    protected Collection<String> getTargetNameByRangeShardingValue(final Collection<String> availableTargetNames,
-                                                                   final RangeShardingValue<Long> shardingValue,
-                                                                   final Map<Integer, Range<Long>> partitionRangeMap) {
-        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
-        int lowerEndpointPartition = getPartition(partitionRangeMap, shardingValue.getValueRange().lowerEndpoint());
-        int upperEndpointPartition = getPartition(partitionRangeMap, shardingValue.getValueRange().upperEndpoint());
-        for (int partition = lowerEndpointPartition; partition <= upperEndpointPartition; partition++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(partition + "")) {
-                    result.add(each);
-                }
-            }
-        }
-        return result;
+    @Override
+    public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Long> shardingValue) {
+        checkInit();
+        Range<Long> valueRange = shardingValue.getValueRange();
+        int lowerEndpointPartition = valueRange.hasLowerBound() ? getPartition(valueRange.lowerEndpoint()) : 0;
+        int upperEndpointPartition = valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionBoundaries.length;
+        return partitionTargetNameIndex.getTargetNames(availableTargetNames, lowerEndpointPartition, upperEndpointPartition);
     }
 
-    /**
-     * check properties whether init.
-     */
-    protected void checkInit() {
-        if (!init) {
+    private void checkInit() {
+        if (null == partitionBoundaries) {
             synchronized (this) {
-                if (!init) {
-                    initProperties();
-                    init = true;
+                if (null == partitionBoundaries) {
+                    partitionBoundaries = calculatePartitionBoundaries();
                 }
             }
         }
     }
 
     /**
-     * init properties.
+     * Calculate lower boundaries of partitions from properties.
+     *
+     * @return ascending lower boundaries of partitions, partition 0 is below the first boundary
      */
-    protected abstract void initProperties();
+    protected abstract long[] calculatePartitionBoundaries();
 
-    private Integer getPartition(final Map<Integer, Range<Long>> partitionRangeMap, final Long value) {
-        for (Map.Entry<Integer, Range<Long>> entry : partitionRangeMap.entrySet()) {
-            if (entry.getValue().contains(value)) {
-                return entry.getKey();
+    private int getPartition(final long value) {
+        int low = 0;
+        int high = partitionBoundaries.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (partitionBoundaries[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
-        throw new UnsupportedOperationException();
+        return low;
     }
 }
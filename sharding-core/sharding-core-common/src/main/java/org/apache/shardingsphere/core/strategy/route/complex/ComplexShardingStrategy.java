@@ -33,6 +33,7 @@ import org.apache.shardingsphere.underlying.common.config.properties.Configurati
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.TreeSet;
 
@@ -62,7 +63,7 @@ public final class ComplexShardingStrategy implements ShardingStrategy {
         String logicTableName = "";
         for (RouteValue each : shardingValues) {
             if (each instanceof ListRouteValue) {
-                columnShardingValues.put(each.getColumnName(), ((ListRouteValue) each).getValues());
+                columnShardingValues.put(each.getColumnName(), new LinkedHashSet<>(((ListRouteValue) each).getValues()));
             } else if (each instanceof RangeRouteValue) {
                 columnRangeValues.put(each.getColumnName(), ((RangeRouteValue) each).getValueRange());
             }
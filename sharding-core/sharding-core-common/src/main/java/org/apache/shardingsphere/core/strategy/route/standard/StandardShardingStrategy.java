@@ -28,8 +28,11 @@ import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -66,12 +69,17 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     @SuppressWarnings("unchecked")
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListRouteValue<?> shardingValue) {
-        Collection<String> result = new LinkedList<>();
-        for (Comparable<?> each : shardingValue.getValues()) {
-            String target;
-            target = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each));
-            if (null != target && availableTargetNames.contains(target)) {
-                result.add(target);
+        Collection<Comparable<?>> values = new LinkedHashSet<>(shardingValue.getValues());
+        Collection<PreciseShardingValue> preciseShardingValues = new ArrayList<>(values.size());
+        for (Comparable<?> each : values) {
+            preciseShardingValues.add(new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each));
+        }
+        Collection<String> targets = shardingAlgorithm.doSharding(availableTargetNames, preciseShardingValues);
+        Collection<String> availableTargetNameSet = availableTargetNames instanceof Set ? availableTargetNames : new HashSet<>(availableTargetNames);
+        Collection<String> result = new ArrayList<>(targets.size());
+        for (String each : targets) {
+            if (null != each && availableTargetNameSet.contains(each)) {
+                result.add(each);
             }
         }
         return result;
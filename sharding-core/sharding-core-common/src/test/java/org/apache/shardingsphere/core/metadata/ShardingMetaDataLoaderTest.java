@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metadata;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.core.metadata.fixture.DialectTableMetaDataLoaderFixture;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
+import org.apache.shardingsphere.underlying.common.datanode.DataNodes;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingMetaDataLoaderTest {
+    
+    @Before
+    public void setUp() {
+        DialectTableMetaDataLoaderFixture.getLoadedTables().clear();
+    }
+    
+    @Test
+    public void assertLoadByDataSourceWithDialectLoader() throws SQLException {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"));
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getName()).thenReturn("FIXTURE");
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        Optional<TableMetaData> actual = new ShardingMetaDataLoader().load(
+                databaseType, createDataSourceMap(), new DataNodes(Collections.singletonList(shardingRule)), "t_order", shardingRule, new ConfigurationProperties(props));
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get().getColumns().containsKey("order_id"));
+        Collection<Collection<String>> loadedTables = DialectTableMetaDataLoaderFixture.getLoadedTables();
+        assertThat(loadedTables.size(), is(2));
+        for (Collection<String> each : loadedTables) {
+            assertThat(new HashSet<>(each), is(new HashSet<>(Arrays.asList("t_order_0", "t_order_1"))));
+        }
+    }
+    
+    private Map<String, DataSource> createDataSourceMap() throws SQLException {
+        Map<String, DataSource> result = new HashMap<>(2, 1);
+        for (String each : Arrays.asList("ds_0", "ds_1")) {
+            DataSource dataSource = mock(DataSource.class);
+            when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+            result.put(each, dataSource);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metadata.fixture;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect.DialectTableMetaDataLoader;
+
+import java.sql.Connection;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public final class DialectTableMetaDataLoaderFixture implements DialectTableMetaDataLoader {
+    
+    private static final Collection<Collection<String>> LOADED_TABLES = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Get tables of each load.
+     *
+     * @return tables of each load
+     */
+    public static Collection<Collection<String>> getLoadedTables() {
+        return LOADED_TABLES;
+    }
+    
+    @Override
+    public Map<String, TableMetaData> load(final Connection connection, final Collection<String> tables) {
+        LOADED_TABLES.add(new ArrayList<>(tables));
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tables.size(), 1);
+        for (String each : tables) {
+            result.put(each, new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", Types.INTEGER, "INT", true, false, false)), Collections.emptyList()));
+        }
+        return result;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "FIXTURE";
+    }
+}
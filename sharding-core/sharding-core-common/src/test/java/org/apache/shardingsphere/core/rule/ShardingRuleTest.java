@@ -120,6 +120,12 @@ public final class ShardingRuleTest {
         assertThat(actual.getLogicTable(), is("broadcast_table"));
     }
     
+    @Test
+    public void assertGetTableRuleWithBroadcastTableTwice() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getTableRule("Broadcast_Table"), is(shardingRule.getTableRule("broadcast_table")));
+    }
+    
     @Test(expected = ShardingSphereConfigurationException.class)
     public void assertGetTableRuleFailure() {
         createMinimumShardingRule().getTableRule("New_Table");
@@ -32,6 +32,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotEquals;
@@ -113,8 +114,8 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         TimeService timeService = new FixedTimeService(1);
         SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
         keyGenerateAlgorithm.setProperties(new Properties());
-        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
+        setState(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2, 0L);
+        List<Comparable<?>> expected = Arrays.asList(8388609L, 8388610L, 8388611L, 8388612L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L);
         List<Comparable<?>> actual = new ArrayList<>();
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
             actual.add(keyGenerateAlgorithm.generateKey());
@@ -131,7 +132,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         Properties properties = new Properties();
         properties.setProperty("max.tolerate.time.difference.milliseconds", String.valueOf(0));
         keyGenerateAlgorithm.setProperties(properties);
-        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2);
+        setState(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2, 0L);
         List<Comparable<?>> actual = new ArrayList<>();
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
             actual.add(keyGenerateAlgorithm.generateKey());
@@ -145,8 +146,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         TimeService timeService = new FixedTimeService(2);
         SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
         keyGenerateAlgorithm.setProperties(new Properties());
-        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis());
-        setSequence(keyGenerateAlgorithm, (1 << DEFAULT_SEQUENCE_BITS) - 1);
+        setState(keyGenerateAlgorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 1);
         List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
         List<Comparable<?>> actual = new ArrayList<>();
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
@@ -156,17 +156,42 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
     }
     
     @SneakyThrows
-    private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field sequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerateAlgorithm, value);
+    private void setState(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final long lastMilliseconds, final long sequence) {
+        Field state = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("state");
+        state.setAccessible(true);
+        ((AtomicLong) state.get(keyGenerateAlgorithm)).set(((lastMilliseconds - SnowflakeKeyGenerateAlgorithm.EPOCH) << DEFAULT_SEQUENCE_BITS) | sequence);
     }
     
-    @SneakyThrows
-    private void setLastMilliseconds(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field lastMilliseconds = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerateAlgorithm, value);
+    @Test
+    public void assertGenerateKeysWithSingleThread() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        keyGenerateAlgorithm.setProperties(new Properties());
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(3)), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L)));
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(2)), is(Arrays.<Comparable<?>>asList(4194305L, 4194306L)));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        keyGenerateAlgorithm.setProperties(new Properties());
+        setState(keyGenerateAlgorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 2);
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(3)), is(Arrays.<Comparable<?>>asList(4095L, 4194304L, 4194305L)));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithAssignedWorkerId() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        keyGenerateAlgorithm.setProperties(new Properties());
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        SnowflakeKeyGenerateAlgorithm.setAssignedWorkerId(3L);
+        try {
+            assertThat(keyGenerateAlgorithm.generateKey(), is((Comparable) (3L << DEFAULT_SEQUENCE_BITS)));
+        } finally {
+            SnowflakeKeyGenerateAlgorithm.setAssignedWorkerId(0L);
+        }
     }
     
     @Test(expected = IllegalArgumentException.class)
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.underlying.common.config.properties.Configurati
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
@@ -78,4 +79,32 @@ public final class DatetimeShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_1"));
         assertTrue(actual.contains("t_order_2"));
     }
+    
+    @Test
+    public void assertPreciseDoShardingWithMinutesAndSeconds() {
+        List<String> availableTargetNames = createTargetNames(20);
+        List<RouteValue> shardingValues = Lists.newArrayList(new ListRouteValue<>("create_time", "t_order", Lists.newArrayList("2020-01-01 00:01:05")));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_16"));
+    }
+    
+    @Test
+    public void assertDoShardingWithRangeAcrossMinute() {
+        List<String> availableTargetNames = createTargetNames(20);
+        Range<String> rangeValue = Range.closed("2020-01-01 00:00:58", "2020-01-01 00:01:03");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("create_time", "t_order", rangeValue));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_14"));
+        assertTrue(actual.contains("t_order_15"));
+    }
+    
+    private List<String> createTargetNames(final int count) {
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add("t_order_" + i);
+        }
+        return result;
+    }
 }
@@ -59,6 +59,15 @@ public final class ModuloShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_3"));
     }
     
+    @Test
+    public void assertPreciseDoShardingWithDuplicatedValues() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new ListRouteValue<>("order_id", "t_order", Lists.newArrayList(10L, 14L, 10L, 18L)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_2"));
+    }
+    
     @Test
     public void assertRangeDoShardingWithAllTargets() {
         List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
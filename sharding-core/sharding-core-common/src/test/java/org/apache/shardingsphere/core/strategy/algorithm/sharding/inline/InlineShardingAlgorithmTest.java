@@ -32,6 +32,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class InlineShardingAlgorithmTest {
 
@@ -78,4 +79,31 @@ public final class InlineShardingAlgorithmTest {
         assertThat(shardingStrategyWithSimplified.getShardingColumns().size(), is(1));
         assertThat(shardingStrategyWithSimplified.getShardingColumns().iterator().next(), is("order_id"));
     }
+
+    @Test
+    public void assertDoShardingWithDuplicatedTargets() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new ListRouteValue<>("order_id", "t_order", Lists.newArrayList(0, 4, 8, 1, 4)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_0"));
+        assertTrue(actual.contains("t_order_1"));
+    }
+
+    @Test
+    public void assertDoShardingAfterPropertiesChanged() {
+        InlineShardingAlgorithm shardingAlgorithm = new InlineShardingAlgorithm();
+        shardingAlgorithm.getProperties().setProperty("algorithm.expression", "t_order_$->{order_id % 4}");
+        StandardShardingStrategy shardingStrategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("order_id", shardingAlgorithm));
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new ListRouteValue<>("order_id", "t_order", Lists.newArrayList(2, 3)));
+        assertThat(shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties())).size(), is(2));
+        Properties props = new Properties();
+        props.setProperty("algorithm.expression", "t_order_$->{order_id % 2}");
+        shardingAlgorithm.setProperties(props);
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_0"));
+        assertTrue(actual.contains("t_order_1"));
+    }
 }
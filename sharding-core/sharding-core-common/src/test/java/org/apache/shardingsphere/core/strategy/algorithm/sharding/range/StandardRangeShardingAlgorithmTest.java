@@ -74,4 +74,14 @@ public class StandardRangeShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_4"));
         assertTrue(actual.contains("t_order_5"));
     }
+
+    @Test
+    public void assertRangeDoShardingWithoutUpperBound() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4", "t_order_5");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.atLeast(40L)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_4"));
+        assertTrue(actual.contains("t_order_5"));
+    }
 }
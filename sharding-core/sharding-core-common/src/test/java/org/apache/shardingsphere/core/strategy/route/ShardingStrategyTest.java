@@ -22,6 +22,7 @@ import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.fixture.ComplexKeysShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.StandardShardingAlgorithmFixture;
@@ -66,4 +67,19 @@ public final class ShardingStrategyTest {
                 new ListRouteValue<>("column1", "logicTable", Collections.singletonList(1)), new RangeRouteValue<>("column2", "logicTable", Range.open(1, 3)));
         assertThat(strategy.doSharding(targets, routeValues, new ConfigurationProperties(new Properties())), is(Sets.newHashSet("1", "2", "3")));
     }
+    
+    @Test
+    public void assertDoShardingForInListWithDefaultBatchSharding() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(
+                new StandardShardingStrategyConfiguration("column", new StandardShardingAlgorithmFixture()));
+        assertThat(strategy.doSharding(targets, Collections.singletonList(new ListRouteValue<>("column", "logicTable", Lists.newArrayList(1, 3, 2, 5))), new ConfigurationProperties(new Properties())),
+                is(Sets.newHashSet("1")));
+    }
+    
+    @Test
+    public void assertDefaultBatchShardingEvaluateEveryValue() {
+        Collection<PreciseShardingValue<Integer>> shardingValues = Lists.newArrayList(
+                new PreciseShardingValue<>("logicTable", "column", 1), new PreciseShardingValue<>("logicTable", "column", 2), new PreciseShardingValue<>("logicTable", "column", 3));
+        assertThat(new StandardShardingAlgorithmFixture().doSharding(Sets.newHashSet("0", "1"), shardingValues), is(Sets.newHashSet("0", "1")));
+    }
 }
@@ -29,16 +29,32 @@ import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGeneratorFactory;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.JoinedTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableReferenceSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.subquery.SubqueryExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.subquery.SubquerySegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -72,14 +88,6 @@ public final class WhereClauseShardingConditionEngine {
         if (whereSegment.isPresent()) {
             result.addAll(createShardingConditions(sqlStatementContext, whereSegment.get().getAndPredicates(), parameters));
         }
-        // FIXME process subquery
-//        Collection<SubqueryPredicateSegment> subqueryPredicateSegments = sqlStatementContext.findSQLSegments(SubqueryPredicateSegment.class);
-//        for (SubqueryPredicateSegment each : subqueryPredicateSegments) {
-//            Collection<ShardingCondition> subqueryShardingConditions = createShardingConditions((WhereSegmentAvailable) sqlStatementContext, each.getAndPredicates(), parameters);
-//            if (!result.containsAll(subqueryShardingConditions)) {
-//                result.addAll(subqueryShardingConditions);
-//            }
-//        }
         return result;
     }
     
@@ -96,25 +104,202 @@ public final class WhereClauseShardingConditionEngine {
     }
     
     private Map<Column, Collection<RouteValue>> createRouteValueMap(final SQLStatementContext sqlStatementContext, final AndPredicate andPredicate, final List<Object> parameters) {
-        Map<Column, Collection<RouteValue>> result = new HashMap<>();
+        Collection<PredicateSegment> joinPredicates = sqlStatementContext.getSqlStatement() instanceof SelectStatement
+                ? getJoinPredicates((SelectStatement) sqlStatementContext.getSqlStatement()) : Collections.emptyList();
+        Map<Column, Collection<RouteValue>> result = createRouteValueMap(sqlStatementContext.getTablesContext(), andPredicate.getPredicates(), joinPredicates, parameters);
         for (PredicateSegment each : andPredicate.getPredicates()) {
-            Optional<String> tableName = sqlStatementContext.getTablesContext().findTableName(each.getColumn(), schemaMetaData);
-            if (!tableName.isPresent() || !shardingRule.isShardingColumn(each.getColumn().getIdentifier().getValue(), tableName.get())) {
+            Optional<SelectStatement> subquery = findSubquery(each.getRightValue());
+            if (subquery.isPresent()) {
+                addSubqueryRouteValues(result, sqlStatementContext.getTablesContext(), subquery.get(), parameters);
+            }
+        }
+        return result;
+    }
+    
+    private Map<Column, Collection<RouteValue>> createRouteValueMap(final TablesContext tablesContext, 
+                                                                    final Collection<PredicateSegment> predicates, final Collection<PredicateSegment> joinPredicates, final List<Object> parameters) {
+        Map<Column, Collection<RouteValue>> result = new HashMap<>();
+        Map<Column, Collection<Column>> bindingColumns = new HashMap<>();
+        for (PredicateSegment each : predicates) {
+            Optional<Column> column = findShardingColumn(tablesContext, each.getColumn());
+            if (!column.isPresent()) {
                 continue;
             }
-            Column column = new Column(each.getColumn().getIdentifier().getValue(), tableName.get());
-            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), column, parameters);
-            if (!routeValue.isPresent()) {
+            if (each.getRightValue() instanceof ColumnSegment) {
+                addBindingColumns(bindingColumns, tablesContext, column.get(), (ColumnSegment) each.getRightValue());
                 continue;
             }
-            if (!result.containsKey(column)) {
-                result.put(column, new LinkedList<>());
+            for (RouteValue routeValue : createRouteValues(each.getRightValue(), column.get(), parameters)) {
+                addRouteValue(result, column.get(), routeValue);
+            }
+        }
+        for (PredicateSegment each : joinPredicates) {
+            Optional<Column> column = findShardingColumn(tablesContext, each.getColumn());
+            if (column.isPresent() && each.getRightValue() instanceof ColumnSegment) {
+                addBindingColumns(bindingColumns, tablesContext, column.get(), (ColumnSegment) each.getRightValue());
+            }
+        }
+        propagateRouteValues(result, bindingColumns);
+        return result;
+    }
+    
+    private Collection<RouteValue> createRouteValues(final PredicateRightValue rightValue, final Column column, final List<Object> parameters) {
+        Optional<SelectStatement> subquery = findSubquery(rightValue);
+        if (subquery.isPresent()) {
+            return createSubqueryRouteValues(column, subquery.get(), parameters);
+        }
+        Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(rightValue, column, parameters);
+        return routeValue.isPresent() ? Collections.singletonList(routeValue.get()) : Collections.emptyList();
+    }
+    
+    private Optional<Column> findShardingColumn(final TablesContext tablesContext, final ColumnSegment columnSegment) {
+        Optional<String> tableName = tablesContext.findTableNameIfOwnerPresent(columnSegment, schemaMetaData);
+        if (!tableName.isPresent() || !shardingRule.isShardingColumn(columnSegment.getIdentifier().getValue(), tableName.get())) {
+            return Optional.empty();
+        }
+        return Optional.of(new Column(columnSegment.getIdentifier().getValue(), tableName.get()));
+    }
+    
+    private void addBindingColumns(final Map<Column, Collection<Column>> bindingColumns, final TablesContext tablesContext, final Column column, final ColumnSegment rightColumnSegment) {
+        Optional<Column> rightColumn = findShardingColumn(tablesContext, rightColumnSegment);
+        if (!rightColumn.isPresent() || column.getTableName().equalsIgnoreCase(rightColumn.get().getTableName())
+                || !shardingRule.isAllBindingTables(Arrays.asList(column.getTableName(), rightColumn.get().getTableName()))) {
+            return;
+        }
+        bindingColumns.computeIfAbsent(column, key -> new LinkedList<>()).add(rightColumn.get());
+        bindingColumns.computeIfAbsent(rightColumn.get(), key -> new LinkedList<>()).add(column);
+    }
+    
+    private void propagateRouteValues(final Map<Column, Collection<RouteValue>> routeValueMap, final Map<Column, Collection<Column>> bindingColumns) {
+        Deque<Column> pendingColumns = new LinkedList<>(routeValueMap.keySet());
+        while (!pendingColumns.isEmpty()) {
+            Column source = pendingColumns.poll();
+            for (Column each : bindingColumns.getOrDefault(source, Collections.emptyList())) {
+                if (routeValueMap.containsKey(each)) {
+                    continue;
+                }
+                for (RouteValue routeValue : routeValueMap.get(source)) {
+                    copyRouteValue(routeValue, each).ifPresent(optional -> addRouteValue(routeValueMap, each, optional));
+                }
+                pendingColumns.add(each);
+            }
+        }
+    }
+    
+    private Optional<SelectStatement> findSubquery(final PredicateRightValue rightValue) {
+        if (rightValue instanceof SubquerySegment) {
+            return Optional.of(((SubquerySegment) rightValue).getSelect());
+        }
+        if (rightValue instanceof PredicateCompareRightValue && "=".equals(((PredicateCompareRightValue) rightValue).getOperator())
+                && ((PredicateCompareRightValue) rightValue).getExpression() instanceof SubqueryExpressionSegment) {
+            return Optional.of(((SubqueryExpressionSegment) ((PredicateCompareRightValue) rightValue).getExpression()).getSubquery().getSelect());
+        }
+        if (rightValue instanceof PredicateInRightValue && 1 == ((PredicateInRightValue) rightValue).getSqlExpressions().size()) {
+            ExpressionSegment expression = ((PredicateInRightValue) rightValue).getSqlExpressions().iterator().next();
+            if (expression instanceof SubqueryExpressionSegment) {
+                return Optional.of(((SubqueryExpressionSegment) expression).getSubquery().getSelect());
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Collection<RouteValue> createSubqueryRouteValues(final Column column, final SelectStatement subquery, final List<Object> parameters) {
+        Optional<Map<Column, Collection<RouteValue>>> subqueryRouteValueMap = createSubqueryRouteValueMap(subquery, parameters);
+        if (!subqueryRouteValueMap.isPresent() || null == subquery.getProjections() || 1 != subquery.getProjections().getProjections().size()) {
+            return Collections.emptyList();
+        }
+        ProjectionSegment projection = subquery.getProjections().getProjections().iterator().next();
+        if (!(projection instanceof ColumnProjectionSegment)) {
+            return Collections.emptyList();
+        }
+        Optional<Column> projectionColumn = findShardingColumn(new TablesContext(getSimpleTableSegments(subquery)), ((ColumnProjectionSegment) projection).getColumn());
+        if (!projectionColumn.isPresent() || !subqueryRouteValueMap.get().containsKey(projectionColumn.get())) {
+            return Collections.emptyList();
+        }
+        Collection<RouteValue> result = new LinkedList<>();
+        for (RouteValue each : subqueryRouteValueMap.get().get(projectionColumn.get())) {
+            copyRouteValue(each, column).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private void addSubqueryRouteValues(final Map<Column, Collection<RouteValue>> routeValueMap, final TablesContext tablesContext, final SelectStatement subquery, final List<Object> parameters) {
+        Optional<Map<Column, Collection<RouteValue>>> subqueryRouteValueMap = createSubqueryRouteValueMap(subquery, parameters);
+        if (!subqueryRouteValueMap.isPresent()) {
+            return;
+        }
+        for (Entry<Column, Collection<RouteValue>> entry : subqueryRouteValueMap.get().entrySet()) {
+            if (!isRelatedToOuterTables(entry.getKey().getTableName(), tablesContext.getTableNames())) {
+                for (RouteValue each : entry.getValue()) {
+                    addRouteValue(routeValueMap, entry.getKey(), each);
+                }
+            }
+        }
+    }
+    
+    private boolean isRelatedToOuterTables(final String subqueryTableName, final Collection<String> outerTableNames) {
+        for (String each : outerTableNames) {
+            if (each.equalsIgnoreCase(subqueryTableName) || shardingRule.isAllBindingTables(Arrays.asList(each, subqueryTableName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Optional<Map<Column, Collection<RouteValue>>> createSubqueryRouteValueMap(final SelectStatement subquery, final List<Object> parameters) {
+        Optional<WhereSegment> whereSegment = subquery.getWhere();
+        if (!whereSegment.isPresent() || 1 != whereSegment.get().getAndPredicates().size()) {
+            return Optional.empty();
+        }
+        return Optional.of(createRouteValueMap(
+                new TablesContext(getSimpleTableSegments(subquery)), whereSegment.get().getAndPredicates().iterator().next().getPredicates(), getJoinPredicates(subquery), parameters));
+    }
+    
+    private Collection<SimpleTableSegment> getSimpleTableSegments(final SelectStatement selectStatement) {
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        for (TableReferenceSegment each : selectStatement.getTableReferences()) {
+            if (null != each.getTableFactor()) {
+                result.addAll(each.getTableFactor().getSimpleTableSegments());
+            }
+            for (JoinedTableSegment joinedTable : each.getJoinedTables()) {
+                if (null != joinedTable.getTableFactor()) {
+                    result.addAll(joinedTable.getTableFactor().getSimpleTableSegments());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Collection<PredicateSegment> getJoinPredicates(final SelectStatement selectStatement) {
+        Collection<PredicateSegment> result = new LinkedList<>();
+        for (TableReferenceSegment each : selectStatement.getTableReferences()) {
+            for (JoinedTableSegment joinedTable : each.getJoinedTables()) {
+                if (null != joinedTable.getJoinSpecification() && 1 == joinedTable.getJoinSpecification().getAndPredicates().size()) {
+                    result.addAll(joinedTable.getJoinSpecification().getAndPredicates().iterator().next().getPredicates());
+                }
             }
-            result.get(column).add(routeValue.get());
         }
         return result;
     }
     
+    @SuppressWarnings("unchecked")
+    private Optional<RouteValue> copyRouteValue(final RouteValue routeValue, final Column column) {
+        if (routeValue instanceof ListRouteValue) {
+            return Optional.of(new ListRouteValue<>(column.getName(), column.getTableName(), new LinkedList<Comparable<?>>(((ListRouteValue) routeValue).getValues())));
+        }
+        if (routeValue instanceof RangeRouteValue) {
+            return Optional.of(new RangeRouteValue<>(column.getName(), column.getTableName(), ((RangeRouteValue) routeValue).getValueRange()));
+        }
+        return Optional.empty();
+    }
+    
+    private void addRouteValue(final Map<Column, Collection<RouteValue>> routeValueMap, final Column column, final RouteValue routeValue) {
+        if (!routeValueMap.containsKey(column)) {
+            routeValueMap.put(column, new LinkedList<>());
+        }
+        routeValueMap.get(column).add(routeValue);
+    }
+    
     private ShardingCondition createShardingCondition(final Map<Column, Collection<RouteValue>> routeValueMap) {
         ShardingCondition result = new ShardingCondition();
         for (Entry<Column, Collection<RouteValue>> entry : routeValueMap.entrySet()) {
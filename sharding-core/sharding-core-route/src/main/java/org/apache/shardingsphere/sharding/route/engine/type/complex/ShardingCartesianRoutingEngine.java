@@ -21,6 +21,9 @@ import com.google.common.collect.Sets;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.underlying.route.context.RouteResult;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 import org.apache.shardingsphere.underlying.route.context.RouteMapper;
@@ -29,7 +32,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,13 +48,49 @@ public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine
     
     private final Collection<RouteResult> routeResults;
     
+    private final ConfigurationProperties properties;
+    
     @Override
     public RouteResult route(final ShardingRule shardingRule) {
-        RouteResult result = new RouteResult();
+        Map<String, List<Set<RouteMapper>>> dataSourceRoutingTableGroups = new LinkedHashMap<>();
         for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
             List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
-            List<Set<RouteMapper>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
-            result.getRouteUnits().addAll(getRouteUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
+            dataSourceRoutingTableGroups.put(entry.getKey(), toRoutingTableGroups(entry.getKey(), actualTableGroups));
+        }
+        checkRouteUnitsCount(dataSourceRoutingTableGroups.values());
+        RouteResult result = new RouteResult();
+        for (Entry<String, List<Set<RouteMapper>>> entry : dataSourceRoutingTableGroups.entrySet()) {
+            RouteMapper dataSourceMapper = new RouteMapper(entry.getKey(), entry.getKey());
+            for (List<RouteMapper> each : Sets.cartesianProduct(entry.getValue())) {
+                result.getRouteUnits().add(new RouteUnit(dataSourceMapper, each));
+            }
+        }
+        return result;
+    }
+    
+    private void checkRouteUnitsCount(final Collection<List<Set<RouteMapper>>> routingTableGroups) {
+        int maxRouteUnits = properties.getValue(ConfigurationPropertyKey.MAX_CARTESIAN_ROUTE_UNITS);
+        if (maxRouteUnits <= 0) {
+            return;
+        }
+        long routeUnitsCount = 0L;
+        for (List<Set<RouteMapper>> each : routingTableGroups) {
+            long cartesianProductSize = getCartesianProductSize(each);
+            routeUnitsCount = Long.MAX_VALUE - routeUnitsCount < cartesianProductSize ? Long.MAX_VALUE : routeUnitsCount + cartesianProductSize;
+        }
+        if (routeUnitsCount > maxRouteUnits) {
+            throw new ShardingSphereException("Cartesian route units count %s exceeds `%s`: %s, please configure binding tables or add sharding conditions.",
+                    routeUnitsCount, ConfigurationPropertyKey.MAX_CARTESIAN_ROUTE_UNITS.getKey(), maxRouteUnits);
+        }
+    }
+    
+    private long getCartesianProductSize(final List<Set<RouteMapper>> routingTableGroups) {
+        long result = 1L;
+        for (Set<RouteMapper> each : routingTableGroups) {
+            if (!each.isEmpty() && result > Long.MAX_VALUE / each.size()) {
+                return Long.MAX_VALUE;
+            }
+            result *= each.size();
         }
         return result;
     }
@@ -107,12 +146,4 @@ public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine
         }
         throw new IllegalStateException(String.format("Cannot found routing table factor, data source: %s, actual table: %s", dataSource, actualTable));
     }
-    
-    private Collection<RouteUnit> getRouteUnits(final String dataSource, final Set<List<RouteMapper>> cartesianRoutingTableGroups) {
-        Collection<RouteUnit> result = new LinkedHashSet<>();
-        for (List<RouteMapper> each : cartesianRoutingTableGroups) {
-            result.add(new RouteUnit(new RouteMapper(dataSource, dataSource), each));
-        }
-        return result;
-    }
 }
@@ -68,6 +68,6 @@ public final class ShardingComplexRoutingEngine implements ShardingRouteEngine {
         if (1 == result.size()) {
             return result.iterator().next();
         }
-        return new ShardingCartesianRoutingEngine(result).route(shardingRule);
+        return new ShardingCartesianRoutingEngine(result, properties).route(shardingRule);
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.complex;
+
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingCartesianRoutingEngineTest {
+    
+    @Test
+    public void assertRouteWithoutMaxRouteUnits() {
+        RouteResult actual = new ShardingCartesianRoutingEngine(Arrays.asList(createRouteResult("t_order", 2), createRouteResult("t_user", 3)), createProperties(0)).route(mock(ShardingRule.class));
+        assertThat(actual.getRouteUnits().size(), is(6));
+    }
+    
+    @Test
+    public void assertRouteWithinMaxRouteUnits() {
+        RouteResult actual = new ShardingCartesianRoutingEngine(Arrays.asList(createRouteResult("t_order", 2), createRouteResult("t_user", 3)), createProperties(6)).route(mock(ShardingRule.class));
+        assertThat(actual.getRouteUnits().size(), is(6));
+    }
+    
+    @Test
+    public void assertRouteOverMaxRouteUnits() {
+        try {
+            new ShardingCartesianRoutingEngine(Arrays.asList(createRouteResult("t_order", 2), createRouteResult("t_user", 3)), createProperties(5)).route(mock(ShardingRule.class));
+            fail("Expected ShardingSphereException.");
+        } catch (final ShardingSphereException ex) {
+            assertThat(ex.getMessage(), is("Cartesian route units count 6 exceeds `max.cartesian.route.units`: 5, please configure binding tables or add sharding conditions."));
+        }
+    }
+    
+    private RouteResult createRouteResult(final String logicTable, final int actualTableCount) {
+        RouteResult result = new RouteResult();
+        for (int i = 0; i < actualTableCount; i++) {
+            result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper(logicTable, logicTable + "_" + i))));
+        }
+        return result;
+    }
+    
+    private ConfigurationProperties createProperties(final int maxRouteUnits) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.MAX_CARTESIAN_ROUTE_UNITS.getKey(), String.valueOf(maxRouteUnits));
+        return new ConfigurationProperties(props);
+    }
+}
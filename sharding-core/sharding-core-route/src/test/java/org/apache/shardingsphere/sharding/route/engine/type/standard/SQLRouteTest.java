@@ -17,11 +17,17 @@
 
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
 public final class SQLRouteTest extends AbstractSQLRouteTest {
     
     @Test
@@ -57,6 +63,35 @@ public final class SQLRouteTest extends AbstractSQLRouteTest {
         assertRoute(sql, parameters);
     }
     
+    @Test
+    public void assertBindingTableWithInSubquery() {
+        String sql = "SELECT order_id from t_order where user_id in (select user_id from t_order_item where user_id = ?)";
+        List<Object> parameters = new LinkedList<>();
+        parameters.add(1);
+        assertRoute(sql, parameters);
+    }
+    
+    @Test
+    public void assertBindingTableWithEqualSubquery() {
+        String sql = "SELECT order_id from t_order where user_id = (select user_id from t_order_item where user_id = ? and status = ?)";
+        List<Object> parameters = new LinkedList<>();
+        parameters.add(1);
+        parameters.add("init");
+        assertRoute(sql, parameters);
+    }
+    
+    @Test
+    public void assertBindingTableJoinOnPropagateCondition() {
+        String sql = "SELECT a.order_id from t_order a join t_order_item b on a.user_id = b.user_id where b.user_id = ?";
+        List<Object> parameters = new LinkedList<>();
+        parameters.add(1);
+        RouteContext actual = assertRoute(sql, parameters);
+        RouteUnit routeUnit = actual.getRouteResult().getRouteUnits().iterator().next();
+        assertThat(routeUnit.getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnit.getActualTableNames("t_order"), is(Collections.singleton("t_order_1")));
+        assertThat(routeUnit.getActualTableNames("t_order_item"), is(Collections.singleton("t_order_item_1")));
+    }
+    
     @Test
     public void assertInsertTable() {
         String sql = "INSERT INTO t_order (order_id, user_id) VALUES (?, ?)";
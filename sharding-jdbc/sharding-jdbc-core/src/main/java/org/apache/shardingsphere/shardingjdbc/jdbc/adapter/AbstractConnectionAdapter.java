@@ -23,11 +23,10 @@ import com.google.common.collect.Multimap;
 import lombok.Getter;
 import org.apache.shardingsphere.masterslave.route.engine.impl.MasterVisitedManager;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplate;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ConnectionReservation;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.RuntimeContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationConnection;
 import org.apache.shardingsphere.transaction.core.TransactionTypeHolder;
-import org.apache.shardingsphere.underlying.common.hook.RootInvokeHook;
-import org.apache.shardingsphere.underlying.common.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.connection.JDBCExecutionConnection;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementOption;
@@ -42,6 +41,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -65,7 +65,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     private final ForceExecuteTemplate<Entry<String, Connection>> forceExecuteTemplateForClose = new ForceExecuteTemplate<>();
     
-    private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
+    private final Map<ConnectionReservation, Integer> reservedConnections = new HashMap<>();
     
     private boolean autoCommit = true;
     
@@ -78,7 +78,6 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     protected AbstractConnectionAdapter(final Map<String, DataSource> dataSourceMap, final RuntimeContext runtimeContext) {
         this.dataSourceMap = dataSourceMap;
         this.runtimeContext = runtimeContext;
-        rootInvokeHook.start();
     }
     
     /**
@@ -96,46 +95,67 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     public final List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         DataSource dataSource = getDataSourceMap().get(dataSourceName);
         Preconditions.checkState(null != dataSource, "Missing the data source name: '%s'", dataSourceName);
-        Collection<Connection> connections;
-        synchronized (cachedConnections) {
-            connections = cachedConnections.get(dataSourceName);
-        }
         List<Connection> result;
-        if (connections.size() >= connectionSize) {
-            result = new ArrayList<>(connections).subList(0, connectionSize);
-        } else if (!connections.isEmpty()) {
-            result = new ArrayList<>(connectionSize);
-            result.addAll(connections);
-            List<Connection> newConnections = createConnections(dataSourceName, dataSource, connectionSize - connections.size(), connectionMode);
-            result.addAll(newConnections);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, newConnections);
+        synchronized (cachedConnections) {
+            Collection<Connection> connections = cachedConnections.get(dataSourceName);
+            if (1 == connectionSize && !connections.isEmpty()) {
+                return Collections.singletonList(connections.iterator().next());
             }
-        } else {
-            result = new ArrayList<>(createConnections(dataSourceName, dataSource, connectionSize, connectionMode));
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, result);
+            result = new ArrayList<>(connectionSize);
+            for (Connection each : connections) {
+                if (result.size() == connectionSize) {
+                    return result;
+                }
+                result.add(each);
             }
         }
+        if (result.size() == connectionSize) {
+            return result;
+        }
+        List<Connection> newConnections = createConnections(dataSourceName, dataSource, connectionSize - result.size(), connectionMode);
+        synchronized (cachedConnections) {
+            cachedConnections.putAll(dataSourceName, newConnections);
+        }
+        if (result.isEmpty()) {
+            return newConnections;
+        }
+        result.addAll(newConnections);
         return result;
     }
     
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     private List<Connection> createConnections(final String dataSourceName, final DataSource dataSource, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
-        if (1 == connectionSize) {
-            Connection connection = createConnection(dataSourceName, dataSource);
-            replayMethodsInvocation(connection);
-            return Collections.singletonList(connection);
+        ConnectionReservation connectionReservation = runtimeContext.getConnectionReservations().get(dataSourceName);
+        if (null != connectionReservation && connectionReservation.isBounded()) {
+            return reserveConnections(connectionReservation, dataSourceName, dataSource, connectionSize);
         }
-        if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
+        if (1 == connectionSize || ConnectionMode.CONNECTION_STRICTLY == connectionMode || null == connectionReservation) {
             return createConnections(dataSourceName, dataSource, connectionSize);
         }
-        synchronized (dataSource) {
-            return createConnections(dataSourceName, dataSource, connectionSize);
+        return connectionReservation.reserve(connectionSize, () -> createConnections(dataSourceName, dataSource, connectionSize));
+    }
+    
+    private List<Connection> reserveConnections(final ConnectionReservation connectionReservation, final String dataSourceName, final DataSource dataSource, final int connectionSize) throws SQLException {
+        int heldConnectionSize;
+        synchronized (cachedConnections) {
+            heldConnectionSize = reservedConnections.getOrDefault(connectionReservation, 0);
+        }
+        if (heldConnectionSize + connectionSize > connectionReservation.getPermits()) {
+            throw new SQLException(String.format("Can not hold %d more connections of data source '%s' with %d held, which exceeds reservation permits %d.",
+                    connectionSize, dataSourceName, heldConnectionSize, connectionReservation.getPermits()));
+        }
+        List<Connection> result = connectionReservation.reserve(connectionSize, () -> createConnections(dataSourceName, dataSource, connectionSize));
+        synchronized (cachedConnections) {
+            reservedConnections.merge(connectionReservation, connectionSize, Integer::sum);
         }
+        return result;
     }
     
     private List<Connection> createConnections(final String dataSourceName, final DataSource dataSource, final int connectionSize) throws SQLException {
+        if (1 == connectionSize) {
+            Connection connection = createConnection(dataSourceName, dataSource);
+            replayMethodsInvocation(connection);
+            return Collections.singletonList(connection);
+        }
         List<Connection> result = new ArrayList<>(connectionSize);
         for (int i = 0; i < connectionSize; i++) {
             try {
@@ -152,6 +172,29 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         return result;
     }
     
+    /**
+     * Close cached connections and release their connection reservations.
+     *
+     * @throws SQLException SQL exception
+     */
+    protected final void closeCachedConnections() throws SQLException {
+        try {
+            forceExecuteTemplate.execute(cachedConnections.values(), Connection::close);
+        } finally {
+            cachedConnections.clear();
+            releaseConnectionReservations();
+        }
+    }
+    
+    private void releaseConnectionReservations() {
+        synchronized (cachedConnections) {
+            for (Entry<ConnectionReservation, Integer> entry : reservedConnections.entrySet()) {
+                entry.getKey().release(entry.getValue());
+            }
+            reservedConnections.clear();
+        }
+    }
+    
     protected abstract Connection createConnection(String dataSourceName, DataSource dataSource) throws SQLException;
     
     @SuppressWarnings("MagicConstant")
@@ -199,12 +242,11 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         closed = true;
         MasterVisitedManager.clear();
         TransactionTypeHolder.clear();
-        int connectionSize = cachedConnections.size();
         try {
             forceExecuteTemplateForClose.execute(cachedConnections.entries(), cachedConnections -> cachedConnections.getValue().close());
         } finally {
             cachedConnections.clear();
-            rootInvokeHook.finish(connectionSize);
+            releaseConnectionReservations();
         }
     }
     
@@ -57,6 +57,13 @@ public abstract class AbstractDataSourceAdapter extends AbstractUnsupportedOpera
         runtimeContext = new RuntimeContext(dataSourceMap, databaseType, configurations, props);
     }
     
+    public AbstractDataSourceAdapter(final AbstractDataSourceAdapter previousDataSource,
+                                     final Map<String, DataSource> dataSourceMap, final Collection<RuleConfiguration> configurations, final Properties props) throws SQLException {
+        this.dataSourceMap = dataSourceMap;
+        databaseType = previousDataSource.getDataSourceMap().values().containsAll(dataSourceMap.values()) ? previousDataSource.getDatabaseType() : createDatabaseType();
+        runtimeContext = new RuntimeContext(previousDataSource.getRuntimeContext(), dataSourceMap, databaseType, configurations, props);
+    }
+    
     private DatabaseType createDatabaseType() throws SQLException {
         DatabaseType result = null;
         for (DataSource each : dataSourceMap.values()) {
@@ -98,10 +105,19 @@ public abstract class AbstractDataSourceAdapter extends AbstractUnsupportedOpera
      * @throws Exception exception
      */
     public void close(final Collection<String> dataSourceNames) throws Exception {
-        dataSourceNames.forEach(each -> close(dataSourceMap.get(each)));
+        closeDataSources(dataSourceNames);
         runtimeContext.close();
     }
     
+    /**
+     * Close dataSources only, runtime context keeps working.
+     *
+     * @param dataSourceNames data source names
+     */
+    public void closeDataSources(final Collection<String> dataSourceNames) {
+        dataSourceNames.forEach(each -> close(dataSourceMap.get(each)));
+    }
+    
     private void close(final DataSource dataSource) {
         try {
             Method method = dataSource.getClass().getDeclaredMethod("close");
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingSphere
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingSphereStatement;
 import org.apache.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationResultSet;
 import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
 
 import java.sql.ResultSet;
@@ -34,6 +35,7 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -44,6 +46,8 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Getter
     private final List<ResultSet> resultSets;
     
+    private final Collection<QueryResult> queryResults;
+    
     @Getter
     private final Statement statement;
     
@@ -51,12 +55,19 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     
     private final ForceExecuteTemplate<ResultSet> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
+    private final ForceExecuteTemplate<QueryResult> queryResultForceExecuteTemplate = new ForceExecuteTemplate<>();
+    
     @Getter
     private final ExecutionContext executionContext;
     
     public AbstractResultSetAdapter(final List<ResultSet> resultSets, final Statement statement, final ExecutionContext executionContext) {
+        this(resultSets, Collections.emptyList(), statement, executionContext);
+    }
+    
+    public AbstractResultSetAdapter(final List<ResultSet> resultSets, final Collection<QueryResult> queryResults, final Statement statement, final ExecutionContext executionContext) {
         Preconditions.checkArgument(!resultSets.isEmpty());
         this.resultSets = resultSets;
+        this.queryResults = queryResults;
         this.statement = statement;
         this.executionContext = executionContext;
     }
@@ -80,7 +91,11 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        try {
+            queryResultForceExecuteTemplate.execute(queryResults, QueryResult::close);
+        } finally {
+            forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        }
     }
     
     @Override
@@ -47,6 +47,8 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
+            closeBatch();
+            closeCurrentResultSet();
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
         } finally {
             getRoutedStatements().clear();
@@ -186,6 +188,17 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         forceExecuteTemplate.execute((Collection) getRoutedStatements(), statement -> statement.setQueryTimeout(seconds));
     }
     
+    /**
+     * Close current result set, which may hold resources besides routed statements.
+     *
+     * @throws SQLException SQL exception
+     */
+    protected void closeBatch() {
+    }
+    
+    protected void closeCurrentResultSet() throws SQLException {
+    }
+    
     protected abstract boolean isAccumulate();
     
     protected abstract Collection<? extends Statement> getRoutedStatements();
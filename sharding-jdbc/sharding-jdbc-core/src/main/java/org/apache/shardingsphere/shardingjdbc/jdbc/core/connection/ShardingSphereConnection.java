@@ -137,11 +137,6 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
         }
     }
     
-    private void closeCachedConnections() throws SQLException {
-        getForceExecuteTemplate().execute(getCachedConnections().values(), Connection::close);
-        getCachedConnections().clear();
-    }
-    
     @Override
     public void commit() throws SQLException {
         if (TransactionType.LOCAL == transactionType) {
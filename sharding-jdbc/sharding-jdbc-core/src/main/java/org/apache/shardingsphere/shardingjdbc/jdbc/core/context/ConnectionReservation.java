@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection reservation of data source.
+ * 
+ * <p>
+ * If bounded by pool size, every connection held by a logical connection takes one permit until it is released,
+ * so permits granted never exceed connections available in the pool, and a query which can not get all its connections
+ * fails after timeout instead of waiting on the pool while holding part of it.
+ * If pool size is unknown, creating multiple connections is serialized instead.
+ * </p>
+ */
+public final class ConnectionReservation {
+    
+    private static final String[] POOL_SIZE_GETTERS = {"getMaximumPoolSize", "getMaxTotal", "getMaxActive"};
+    
+    private final String dataSourceName;
+    
+    @Getter
+    private final int permits;
+    
+    private final long timeoutMilliseconds;
+    
+    private final Semaphore semaphore;
+    
+    public ConnectionReservation(final String dataSourceName, final DataSource dataSource, final int permits, final long timeoutMilliseconds) {
+        this.dataSourceName = dataSourceName;
+        this.permits = permits > 0 ? permits : getMaxPoolSize(dataSource);
+        this.timeoutMilliseconds = timeoutMilliseconds;
+        semaphore = new Semaphore(isBounded() ? this.permits : 1, true);
+    }
+    
+    private int getMaxPoolSize(final DataSource dataSource) {
+        for (String each : POOL_SIZE_GETTERS) {
+            try {
+                Method method = dataSource.getClass().getMethod(each);
+                Object result = method.invoke(dataSource);
+                if (result instanceof Integer && (Integer) result > 0) {
+                    return (Integer) result;
+                }
+            } catch (final ReflectiveOperationException ignored) {
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Judge whether permits are bounded by pool size.
+     *
+     * @return permits are bounded or not
+     */
+    public boolean isBounded() {
+        return permits > 0;
+    }
+    
+    /**
+     * Reserve permits and create connections.
+     * 
+     * <p>
+     * Permits are held after connections created if bounded, and should be released by {@link #release(int)}.
+     * </p>
+     *
+     * @param connectionSize connection size
+     * @param creator connections creator
+     * @return created connections
+     * @throws SQLException SQL exception
+     */
+    public List<Connection> reserve(final int connectionSize, final ConnectionsCreator creator) throws SQLException {
+        if (isBounded() && connectionSize > permits) {
+            throw new SQLException(String.format("Can not reserve %d connections of data source '%s', which exceeds reservation permits %d.", connectionSize, dataSourceName, permits));
+        }
+        int reservingPermits = isBounded() ? connectionSize : 1;
+        acquire(connectionSize, reservingPermits);
+        boolean succeed = false;
+        try {
+            List<Connection> result = creator.create();
+            succeed = true;
+            return result;
+        } finally {
+            if (!succeed || !isBounded()) {
+                semaphore.release(reservingPermits);
+            }
+        }
+    }
+    
+    private void acquire(final int connectionSize, final int reservingPermits) throws SQLException {
+        try {
+            if (!semaphore.tryAcquire(reservingPermits, timeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                throw new SQLException(String.format("Can not reserve %d connections of data source '%s' in %d milliseconds.", connectionSize, dataSourceName, timeoutMilliseconds));
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format("Interrupted while reserving %d connections of data source '%s'.", connectionSize, dataSourceName), ex);
+        }
+    }
+    
+    /**
+     * Release permits of released connections.
+     *
+     * @param connectionSize released connection size
+     */
+    public void release(final int connectionSize) {
+        if (isBounded()) {
+            semaphore.release(connectionSize);
+        }
+    }
+    
+    /**
+     * Connections creator.
+     */
+    public interface ConnectionsCreator {
+        
+        /**
+         * Create connections.
+         *
+         * @return created connections
+         * @throws SQLException SQL exception
+         */
+        List<Connection> create() throws SQLException;
+    }
+}
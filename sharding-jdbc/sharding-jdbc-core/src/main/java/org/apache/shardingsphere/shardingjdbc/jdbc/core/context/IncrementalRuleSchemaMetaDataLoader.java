@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.order.OrderedSPIRegistry;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaDataLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
+import org.apache.shardingsphere.underlying.common.datanode.DataNode;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaDataLoader;
+import org.apache.shardingsphere.underlying.common.metadata.schema.spi.RuleMetaDataDecorator;
+import org.apache.shardingsphere.underlying.common.metadata.schema.spi.RuleMetaDataLoader;
+import org.apache.shardingsphere.underlying.common.rule.DataNodeRoutedRule;
+import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Rule schema meta data loader which only reloads tables affected by rule or data source changes.
+ */
+@RequiredArgsConstructor
+final class IncrementalRuleSchemaMetaDataLoader {
+    
+    private final RuntimeContext previousContext;
+    
+    /**
+     * Load rule schema meta data.
+     * 
+     * @param rules current rules
+     * @param databaseType database type
+     * @param dataSourceMap current data source map
+     * @param properties configuration properties
+     * @param executorService executor service
+     * @return rule schema meta data
+     * @throws SQLException SQL exception
+     */
+    RuleSchemaMetaData load(final Collection<ShardingSphereRule> rules, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap,
+                            final ConfigurationProperties properties, final ListeningExecutorService executorService) throws SQLException {
+        RuleSchemaMetaDataLoader loader = new RuleSchemaMetaDataLoader(rules);
+        Map<String, Collection<DataNode>> previousDataNodes = getAllDataNodes(previousContext.getRules());
+        Map<String, Collection<DataNode>> currentDataNodes = getAllDataNodes(rules);
+        if (!isIncrementallyLoadable(rules) || !currentDataNodes.keySet().containsAll(previousDataNodes.keySet())) {
+            return loader.load(databaseType, dataSourceMap, properties, executorService);
+        }
+        Collection<String> changedDataSourceNames = getChangedDataSourceNames(dataSourceMap);
+        RuleSchemaMetaData previousRuleSchemaMetaData = previousContext.getMetaData().getSchema();
+        SchemaMetaData configuredSchemaMetaData = new SchemaMetaData(new HashMap<>());
+        configuredSchemaMetaData.merge(previousRuleSchemaMetaData.getConfiguredSchemaMetaData());
+        Collection<String> excludedTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (Entry<String, Collection<DataNode>> entry : currentDataNodes.entrySet()) {
+            String logicTable = entry.getKey();
+            if (isTableChanged(logicTable, entry.getValue(), previousDataNodes.get(logicTable), rules, dataSourceMap, changedDataSourceNames)) {
+                Optional<TableMetaData> tableMetaData = loader.load(databaseType, dataSourceMap, logicTable, properties);
+                if (tableMetaData.isPresent()) {
+                    configuredSchemaMetaData.put(logicTable, tableMetaData.get());
+                } else {
+                    configuredSchemaMetaData.remove(logicTable);
+                }
+            }
+            excludedTableNames.add(logicTable);
+            excludedTableNames.addAll(entry.getValue().stream().map(DataNode::getTableName).collect(Collectors.toList()));
+        }
+        int maxConnectionCount = properties.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        Map<String, SchemaMetaData> unconfiguredSchemaMetaDataMap = new HashMap<>(dataSourceMap.size(), 1);
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            SchemaMetaData schemaMetaData = changedDataSourceNames.contains(entry.getKey())
+                    ? SchemaMetaDataLoader.load(entry.getValue(), maxConnectionCount, databaseType.getName(), excludedTableNames)
+                    : getRetainedSchemaMetaData(previousRuleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().get(entry.getKey()), excludedTableNames);
+            if (!schemaMetaData.getAllTableNames().isEmpty()) {
+                unconfiguredSchemaMetaDataMap.put(entry.getKey(), schemaMetaData);
+            }
+        }
+        return new RuleSchemaMetaData(configuredSchemaMetaData, unconfiguredSchemaMetaDataMap);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private boolean isIncrementallyLoadable(final Collection<ShardingSphereRule> rules) {
+        if (null == previousContext.getMetaData()) {
+            return false;
+        }
+        Collection<ShardingSphereRule> notDataNodeRoutedRules = getNotDataNodeRoutedRules(rules);
+        notDataNodeRoutedRules.addAll(getNotDataNodeRoutedRules(previousContext.getRules()));
+        return OrderedSPIRegistry.getRegisteredServices(notDataNodeRoutedRules, RuleMetaDataLoader.class).isEmpty()
+                && OrderedSPIRegistry.getRegisteredServices(notDataNodeRoutedRules, RuleMetaDataDecorator.class).isEmpty();
+    }
+    
+    private Collection<ShardingSphereRule> getNotDataNodeRoutedRules(final Collection<ShardingSphereRule> rules) {
+        return rules.stream().filter(each -> !(each instanceof DataNodeRoutedRule)).collect(Collectors.toList());
+    }
+    
+    private Map<String, Collection<DataNode>> getAllDataNodes(final Collection<ShardingSphereRule> rules) {
+        Map<String, Collection<DataNode>> result = new HashMap<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof DataNodeRoutedRule) {
+                result.putAll(((DataNodeRoutedRule) each).getAllDataNodes());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getChangedDataSourceNames(final Map<String, DataSource> dataSourceMap) {
+        return dataSourceMap.entrySet().stream().filter(entry -> entry.getValue() != previousContext.getDataSourceMap().get(entry.getKey())).map(Entry::getKey).collect(Collectors.toSet());
+    }
+    
+    private boolean isTableChanged(final String logicTable, final Collection<DataNode> currentDataNodes, final Collection<DataNode> previousDataNodes,
+                                   final Collection<ShardingSphereRule> rules, final Map<String, DataSource> dataSourceMap, final Collection<String> changedDataSourceNames) {
+        if (null == previousDataNodes || !previousDataNodes.equals(currentDataNodes)) {
+            return true;
+        }
+        if (!Objects.equals(findGenerateKeyColumnName(rules, logicTable), findGenerateKeyColumnName(previousContext.getRules(), logicTable))) {
+            return true;
+        }
+        return currentDataNodes.stream().anyMatch(each -> !dataSourceMap.containsKey(each.getDataSourceName()) || changedDataSourceNames.contains(each.getDataSourceName()));
+    }
+    
+    private Optional<String> findGenerateKeyColumnName(final Collection<ShardingSphereRule> rules, final String logicTable) {
+        return rules.stream().filter(each -> each instanceof ShardingRule).map(each -> ((ShardingRule) each).findGenerateKeyColumnName(logicTable))
+                .filter(Optional::isPresent).map(Optional::get).findFirst();
+    }
+    
+    private SchemaMetaData getRetainedSchemaMetaData(final SchemaMetaData previousSchemaMetaData, final Collection<String> excludedTableNames) {
+        Map<String, TableMetaData> result = new HashMap<>();
+        if (null != previousSchemaMetaData) {
+            for (String each : previousSchemaMetaData.getAllTableNames()) {
+                if (!excludedTableNames.contains(each)) {
+                    result.put(each, previousSchemaMetaData.get(each));
+                }
+            }
+        }
+        return new SchemaMetaData(result);
+    }
+}
@@ -18,8 +18,8 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
 import com.google.common.collect.ImmutableMap;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.log.ConfigurationLogger;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
@@ -33,6 +33,8 @@ import org.apache.shardingsphere.underlying.common.config.properties.Configurati
 import org.apache.shardingsphere.underlying.common.database.DefaultSchema;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.hook.RootInvokeHook;
+import org.apache.shardingsphere.underlying.common.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
@@ -40,6 +42,11 @@ import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMet
 import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
 import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRulesBuilder;
 import org.apache.shardingsphere.underlying.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.PreparedStatementExecuteGroupEngine;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementExecuteGroupEngine;
+import org.apache.shardingsphere.underlying.merge.MergeEngine;
+import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -76,8 +83,27 @@ public final class RuntimeContext implements AutoCloseable {
     
     private final ShardingTransactionManagerEngine shardingTransactionManagerEngine;
     
-    @Setter
-    private ShardingSphereMetaData metaData;
+    private final StatementExecuteGroupEngine statementExecuteGroupEngine;
+    
+    private final PreparedStatementExecuteGroupEngine preparedStatementExecuteGroupEngine;
+    
+    private final Map<String, ConnectionReservation> connectionReservations;
+    
+    private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
+    
+    private volatile ShardingSphereMetaData metaData;
+    
+    private volatile DataNodeRouter dataNodeRouter;
+    
+    private volatile SQLRewriteEntry sqlRewriteEntry;
+    
+    private volatile MergeEngine mergeEngine;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile boolean executorKernelTakenOver;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile boolean shardingTransactionManagerEngineTakenOver;
     
     public RuntimeContext(final Map<String, DataSource> dataSourceMap, 
                           final DatabaseType databaseType, final Collection<RuleConfiguration> configurations, final Properties props) throws SQLException {
@@ -91,7 +117,11 @@ public final class RuntimeContext implements AutoCloseable {
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
         shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
         shardingTransactionManagerEngine.init(databaseType, dataSourceMap);
-        metaData = createMetaData(dataSourceMap, databaseType);
+        int maxConnectionsSizePerQuery = properties.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        statementExecuteGroupEngine = new StatementExecuteGroupEngine(maxConnectionsSizePerQuery, rules);
+        preparedStatementExecuteGroupEngine = new PreparedStatementExecuteGroupEngine(maxConnectionsSizePerQuery, rules);
+        connectionReservations = createConnectionReservations(dataSourceMap);
+        setMetaData(createMetaData(dataSourceMap, databaseType));
         log(configurations, props);
     }
     
@@ -99,6 +129,85 @@ public final class RuntimeContext implements AutoCloseable {
         this(ImmutableMap.of(DefaultSchema.LOGIC_NAME, dataSource), databaseType, configurations, props);
     }
     
+    /**
+     * Create runtime context from previous runtime context incrementally.
+     * 
+     * <p>
+     * Executor kernel, transaction manager engine and meta data of unaffected tables are taken over from previous runtime context,
+     * they will not be closed when previous runtime context closes.
+     * </p>
+     * 
+     * @param previousContext previous runtime context
+     * @param dataSourceMap data source map
+     * @param databaseType database type
+     * @param configurations rule configurations
+     * @param props properties
+     * @throws SQLException SQL exception
+     */
+    public RuntimeContext(final RuntimeContext previousContext, final Map<String, DataSource> dataSourceMap,
+                          final DatabaseType databaseType, final Collection<RuleConfiguration> configurations, final Properties props) throws SQLException {
+        this.dataSourceMap = dataSourceMap;
+        this.databaseType = databaseType;
+        this.configurations = configurations;
+        rules = ShardingSphereRulesBuilder.build(configurations, dataSourceMap.keySet());
+        properties = new ConfigurationProperties(null == props ? new Properties() : props);
+        boolean isSameDataSources = previousContext.getDataSourceMap().equals(dataSourceMap) && previousContext.getDatabaseType() == databaseType;
+        int executorSize = properties.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE);
+        if (executorSize == previousContext.getProperties().<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE)) {
+            executorKernel = previousContext.executorKernel;
+            previousContext.executorKernelTakenOver = true;
+        } else {
+            executorKernel = new ExecutorKernel(executorSize);
+        }
+        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType));
+        cachedDatabaseMetaData = isSameDataSources ? previousContext.getCachedDatabaseMetaData() : createCachedDatabaseMetaData(dataSourceMap);
+        if (isSameDataSources) {
+            shardingTransactionManagerEngine = previousContext.getShardingTransactionManagerEngine();
+            previousContext.shardingTransactionManagerEngineTakenOver = true;
+        } else {
+            shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
+            shardingTransactionManagerEngine.init(databaseType, dataSourceMap);
+        }
+        int maxConnectionsSizePerQuery = properties.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        statementExecuteGroupEngine = new StatementExecuteGroupEngine(maxConnectionsSizePerQuery, rules);
+        preparedStatementExecuteGroupEngine = new PreparedStatementExecuteGroupEngine(maxConnectionsSizePerQuery, rules);
+        connectionReservations = isSameDataSources && isSameConnectionReservation(previousContext) ? previousContext.getConnectionReservations() : createConnectionReservations(dataSourceMap);
+        setMetaData(createMetaData(previousContext, isSameDataSources));
+        log(configurations, props);
+    }
+    
+    /**
+     * Set meta data.
+     * 
+     * <p>
+     * Router, rewrite entry and merge engine depend on meta data, they are rebuilt with new meta data.
+     * </p>
+     *
+     * @param metaData meta data
+     */
+    public void setMetaData(final ShardingSphereMetaData metaData) {
+        dataNodeRouter = new DataNodeRouter(metaData, properties, rules);
+        sqlRewriteEntry = new SQLRewriteEntry(metaData.getSchema().getConfiguredSchemaMetaData(), properties, rules);
+        mergeEngine = new MergeEngine(databaseType, metaData.getSchema().getConfiguredSchemaMetaData(), properties, rules);
+        this.metaData = metaData;
+    }
+    
+    private Map<String, ConnectionReservation> createConnectionReservations(final Map<String, DataSource> dataSourceMap) {
+        int permits = properties.<Integer>getValue(ConfigurationPropertyKey.CONNECTION_RESERVATION_PERMITS);
+        long timeoutMilliseconds = properties.<Long>getValue(ConfigurationPropertyKey.CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS);
+        Map<String, ConnectionReservation> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            result.put(entry.getKey(), new ConnectionReservation(entry.getKey(), entry.getValue(), permits, timeoutMilliseconds));
+        }
+        return result;
+    }
+    
+    private boolean isSameConnectionReservation(final RuntimeContext previousContext) {
+        return properties.getValue(ConfigurationPropertyKey.CONNECTION_RESERVATION_PERMITS).equals(previousContext.getProperties().getValue(ConfigurationPropertyKey.CONNECTION_RESERVATION_PERMITS))
+                && properties.getValue(ConfigurationPropertyKey.CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS).equals(
+                        previousContext.getProperties().getValue(ConfigurationPropertyKey.CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS));
+    }
+    
     private CachedDatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
         try (Connection connection = dataSourceMap.values().iterator().next().getConnection()) {
             return new CachedDatabaseMetaData(connection.getMetaData());
@@ -114,6 +223,16 @@ public final class RuntimeContext implements AutoCloseable {
         return result;
     }
     
+    private ShardingSphereMetaData createMetaData(final RuntimeContext previousContext, final boolean isSameDataSources) throws SQLException {
+        long start = System.currentTimeMillis();
+        DataSourceMetas dataSourceMetas = isSameDataSources ? previousContext.getMetaData().getDataSources() : new DataSourceMetas(databaseType, getDatabaseAccessConfigurationMap(dataSourceMap));
+        RuleSchemaMetaData ruleSchemaMetaData = new IncrementalRuleSchemaMetaDataLoader(previousContext).load(
+                rules, databaseType, dataSourceMap, properties, executorKernel.getExecutorService().getExecutorService());
+        ShardingSphereMetaData result = new ShardingSphereMetaData(dataSourceMetas, ruleSchemaMetaData);
+        log.info("Meta data incremental load finished, cost {} milliseconds.", System.currentTimeMillis() - start);
+        return result;
+    }
+    
     private Map<String, DatabaseAccessConfiguration> getDatabaseAccessConfigurationMap(final Map<String, DataSource> dataSourceMap) throws SQLException {
         Map<String, DatabaseAccessConfiguration> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
@@ -133,7 +252,11 @@ public final class RuntimeContext implements AutoCloseable {
     
     @Override
     public void close() throws Exception {
-        shardingTransactionManagerEngine.close();
-        executorKernel.close();
+        if (!shardingTransactionManagerEngineTakenOver) {
+            shardingTransactionManagerEngine.close();
+        }
+        if (!executorKernelTakenOver) {
+            executorKernel.close();
+        }
     }
 }
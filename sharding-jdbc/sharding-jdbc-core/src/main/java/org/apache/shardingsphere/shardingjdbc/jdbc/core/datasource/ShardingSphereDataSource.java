@@ -37,6 +37,11 @@ public final class ShardingSphereDataSource extends AbstractDataSourceAdapter {
         super(dataSourceMap, configurations, props);
     }
     
+    public ShardingSphereDataSource(final ShardingSphereDataSource previousDataSource,
+                                    final Map<String, DataSource> dataSourceMap, final Collection<RuleConfiguration> configurations, final Properties props) throws SQLException {
+        super(previousDataSource, dataSourceMap, configurations, props);
+    }
+    
     @Override
     public ShardingSphereConnection getConnection() {
         return new ShardingSphereConnection(getDataSourceMap(), getRuntimeContext(), TransactionTypeHolder.get());
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset;
 
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractResultSetAdapter;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
@@ -36,6 +37,8 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -50,7 +53,12 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     private final Map<String, Integer> columnLabelAndIndexMap;
     
     public ShardingSphereResultSet(final List<ResultSet> resultSets, final MergedResult mergeResultSet, final Statement statement, final ExecutionContext executionContext) throws SQLException {
-        super(resultSets, statement, executionContext);
+        this(resultSets, Collections.emptyList(), mergeResultSet, statement, executionContext);
+    }
+    
+    public ShardingSphereResultSet(final List<ResultSet> resultSets, final Collection<QueryResult> queryResults, final MergedResult mergeResultSet, 
+                                   final Statement statement, final ExecutionContext executionContext) throws SQLException {
+        super(resultSets, queryResults, statement, executionContext);
         this.mergeResultSet = mergeResultSet;
         columnLabelAndIndexMap = createColumnLabelAndIndexMap(resultSets.get(0).getMetaData());
     }
@@ -36,6 +36,7 @@ import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.common.hook.RootInvokeHook;
 import org.apache.shardingsphere.underlying.common.rule.DataNodeRoutedRule;
 import org.apache.shardingsphere.underlying.executor.kernel.InputGroup;
 import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
@@ -43,15 +44,11 @@ import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContex
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.executor.SQLExecutor;
-import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.PreparedStatementExecuteGroupEngine;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementOption;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.StreamQueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.log.SQLLogger;
-import org.apache.shardingsphere.underlying.merge.MergeEngine;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
-import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
-import org.apache.shardingsphere.underlying.route.DataNodeRouter;
 import org.apache.shardingsphere.underlying.route.context.RouteContext;
 
 import java.sql.ParameterMetaData;
@@ -91,12 +88,16 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final RootInvokeHook rootInvokeHook;
+    
     private final Collection<Comparable<?>> generatedValues = new LinkedList<>();
     
     private ExecutionContext executionContext;
     
     private ResultSet currentResultSet;
     
+    private boolean batchRootInvoking;
+    
     public ShardingSpherePreparedStatement(final ShardingSphereConnection connection, final String sql) throws SQLException {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false);
     }
@@ -127,6 +128,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         sqlStatement = runtimeContext.getSqlParserEngine().parse(sql, true);
         parameterMetaData = new ShardingSphereParameterMetaData(sqlStatement);
         statementOption = returnGeneratedKeys ? new StatementOption(true) : new StatementOption(resultSetType, resultSetConcurrency, resultSetHoldability);
+        rootInvokeHook = runtimeContext.getRootInvokeHook();
         SQLExecutor sqlExecutor = new SQLExecutor(connection.getRuntimeContext().getExecutorKernel(), connection.isHoldTransaction());
         preparedStatementExecutor = new PreparedStatementExecutor(connection.getDataSourceMap(), connection.getRuntimeContext(), sqlExecutor);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(connection.getRuntimeContext(), sqlExecutor);
@@ -135,17 +137,18 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public ResultSet executeQuery() throws SQLException {
         ResultSet result;
+        rootInvokeHook.start();
         try {
             clearPrevious();
             executionContext = createExecutionContext();
-            PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), getConnection().getRuntimeContext().getRules());
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits(), connection, statementOption);
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = connection.getRuntimeContext().getPreparedStatementExecuteGroupEngine().generate(executionContext.getExecutionUnits(), connection, statementOption);
             cacheStatements(inputGroups);
             reply();
-            MergedResult mergedResult = mergeQuery(preparedStatementExecutor.executeQuery(inputGroups));
-            result = new ShardingSphereResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), mergedResult, this, executionContext);
+            List<QueryResult> queryResults = preparedStatementExecutor.executeQuery(inputGroups);
+            MergedResult mergedResult = mergeQuery(queryResults);
+            result = new ShardingSphereResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), queryResults, mergedResult, this, executionContext);
         } finally {
+            rootInvokeHook.finish(connection.getCachedConnections().size());
             clearBatch();
         }
         currentResultSet = result;
@@ -154,32 +157,32 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     public int executeUpdate() throws SQLException {
+        rootInvokeHook.start();
         try {
             clearPrevious();
             executionContext = createExecutionContext();
-            PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), getConnection().getRuntimeContext().getRules());
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits(), connection, statementOption);
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = connection.getRuntimeContext().getPreparedStatementExecuteGroupEngine().generate(executionContext.getExecutionUnits(), connection, statementOption);
             cacheStatements(inputGroups);
             reply();
             return preparedStatementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext());
         } finally {
+            rootInvokeHook.finish(connection.getCachedConnections().size());
             clearBatch();
         }
     }
     
     @Override
     public boolean execute() throws SQLException {
+        rootInvokeHook.start();
         try {
             clearPrevious();
             executionContext = createExecutionContext();
-            PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), getConnection().getRuntimeContext().getRules());
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits(), connection, statementOption);
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = connection.getRuntimeContext().getPreparedStatementExecuteGroupEngine().generate(executionContext.getExecutionUnits(), connection, statementOption);
             cacheStatements(inputGroups);
             reply();
             return preparedStatementExecutor.execute(inputGroups, executionContext.getSqlStatementContext());
         } finally {
+            rootInvokeHook.finish(connection.getCachedConnections().size());
             clearBatch();
         }
     }
@@ -191,8 +194,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
         if (executionContext.getSqlStatementContext() instanceof SelectStatementContext || executionContext.getSqlStatementContext().getSqlStatement() instanceof DALStatement) {
             List<ResultSet> resultSets = getResultSets();
-            MergedResult mergedResult = mergeQuery(getQueryResults(resultSets));
-            currentResultSet = new ShardingSphereResultSet(resultSets, mergedResult, this, executionContext);
+            List<QueryResult> queryResults = getQueryResults(resultSets);
+            MergedResult mergedResult = mergeQuery(queryResults);
+            currentResultSet = new ShardingSphereResultSet(resultSets, queryResults, mergedResult, this, executionContext);
         }
         return currentResultSet;
     }
@@ -225,9 +229,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ExecutionContext createExecutionContext() {
         RuntimeContext runtimeContext = connection.getRuntimeContext();
-        RouteContext routeContext = new DataNodeRouter(runtimeContext.getMetaData(), runtimeContext.getProperties(), runtimeContext.getRules()).route(sqlStatement, sql, getParameters());
-        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(), 
-                runtimeContext.getProperties(), runtimeContext.getRules()).rewrite(sql, new ArrayList<>(getParameters()), routeContext);
+        RouteContext routeContext = runtimeContext.getDataNodeRouter().route(sqlStatement, sql, getParameters());
+        SQLRewriteResult sqlRewriteResult = runtimeContext.getSqlRewriteEntry().rewrite(sql, new ArrayList<>(getParameters()), routeContext);
         ExecutionContext result = new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(runtimeContext.getMetaData(), sqlRewriteResult));
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.add(generatedKey.getGeneratedValues().getLast()));
         logSQL(runtimeContext, result);
@@ -235,10 +238,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private MergedResult mergeQuery(final List<QueryResult> queryResults) throws SQLException {
-        RuntimeContext runtimeContext = connection.getRuntimeContext();
-        MergeEngine mergeEngine = new MergeEngine(runtimeContext.getDatabaseType(), 
-                runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(), runtimeContext.getProperties(), runtimeContext.getRules());
-        return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
+        return connection.getRuntimeContext().getMergeEngine().merge(queryResults, executionContext.getSqlStatementContext());
     }
     
     private void reply() {
@@ -293,6 +293,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     public void addBatch() {
+        startBatchRootInvoke();
         try {
             executionContext = createExecutionContext();
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
@@ -304,6 +305,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     public int[] executeBatch() throws SQLException {
+        startBatchRootInvoke();
         try {
             initBatchPreparedStatementExecutor();
             return batchPreparedStatementExecutor.executeBatch(executionContext.getSqlStatementContext());
@@ -312,10 +314,15 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
     }
     
+    private void startBatchRootInvoke() {
+        if (!batchRootInvoking) {
+            rootInvokeHook.start();
+            batchRootInvoking = true;
+        }
+    }
+    
     private void initBatchPreparedStatementExecutor() throws SQLException {
-        PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
-                connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), getConnection().getRuntimeContext().getRules());
-        batchPreparedStatementExecutor.init(executeGroupEngine.generate(
+        batchPreparedStatementExecutor.init(connection.getRuntimeContext().getPreparedStatementExecuteGroupEngine().generate(
                 new ArrayList<>(batchPreparedStatementExecutor.getBatchExecutionUnits()).stream().map(BatchExecutionUnit::getExecutionUnit).collect(Collectors.toList()), connection, statementOption));
         setBatchParametersForStatements();
     }
@@ -335,6 +342,15 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
         clearParameters();
+        closeBatch();
+    }
+    
+    @Override
+    protected void closeBatch() {
+        if (batchRootInvoking) {
+            batchRootInvoking = false;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
+        }
     }
     
     @SuppressWarnings("MagicConstant")
@@ -365,7 +381,20 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         return statements;
     }
     
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null == currentResultSet) {
+            return;
+        }
+        try {
+            currentResultSet.close();
+        } finally {
+            currentResultSet = null;
+        }
+    }
+    
     private void clearStatements() throws SQLException {
+        closeCurrentResultSet();
         statements.clear();
         for (Statement each : statements) {
             each.close();
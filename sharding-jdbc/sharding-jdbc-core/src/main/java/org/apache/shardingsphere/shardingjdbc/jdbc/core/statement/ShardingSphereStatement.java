@@ -34,6 +34,7 @@ import org.apache.shardingsphere.sql.parser.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.common.hook.RootInvokeHook;
 import org.apache.shardingsphere.underlying.common.rule.DataNodeRoutedRule;
 import org.apache.shardingsphere.underlying.executor.kernel.InputGroup;
 import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
@@ -41,15 +42,11 @@ import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContex
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.executor.SQLExecutor;
-import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementExecuteGroupEngine;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementOption;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.StreamQueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.log.SQLLogger;
-import org.apache.shardingsphere.underlying.merge.MergeEngine;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
-import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
-import org.apache.shardingsphere.underlying.route.DataNodeRouter;
 import org.apache.shardingsphere.underlying.route.context.RouteContext;
 
 import java.sql.ResultSet;
@@ -77,6 +74,8 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private final StatementExecutor statementExecutor;
     
+    private final RootInvokeHook rootInvokeHook;
+    
     private boolean returnGeneratedKeys;
     
     private ExecutionContext executionContext;
@@ -96,6 +95,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         this.connection = connection;
         statements = new LinkedList<>();
         statementOption = new StatementOption(resultSetType, resultSetConcurrency, resultSetHoldability);
+        rootInvokeHook = connection.getRuntimeContext().getRootInvokeHook();
         statementExecutor = new StatementExecutor(connection.getDataSourceMap(), connection.getRuntimeContext(), 
                 new SQLExecutor(connection.getRuntimeContext().getExecutorKernel(), connection.isHoldTransaction()));
     }
@@ -106,16 +106,17 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             throw new SQLException(SQLExceptionConstant.SQL_STRING_NULL_OR_EMPTY);
         }
         ResultSet result;
+        rootInvokeHook.start();
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             List<QueryResult> queryResults = statementExecutor.executeQuery(inputGroups);
             MergedResult mergedResult = mergeQuery(queryResults);
-            result = new ShardingSphereResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), mergedResult, this, executionContext);
+            result = new ShardingSphereResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), queryResults, mergedResult, this, executionContext);
         } finally {
             currentResultSet = null;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
         }
         currentResultSet = result;
         return result;
@@ -123,14 +124,15 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     @Override
     public int executeUpdate(final String sql) throws SQLException {
+        rootInvokeHook.start();
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext());
         } finally {
             currentResultSet = null;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
         }
     }
     
@@ -139,55 +141,59 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         if (RETURN_GENERATED_KEYS == autoGeneratedKeys) {
             returnGeneratedKeys = true;
         }
+        rootInvokeHook.start();
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext(), autoGeneratedKeys);
         } finally {
             currentResultSet = null;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
         }
     }
     
     @Override
     public int executeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
         returnGeneratedKeys = true;
+        rootInvokeHook.start();
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext(), columnIndexes);
         } finally {
             currentResultSet = null;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
         }
     }
     
     @Override
     public int executeUpdate(final String sql, final String[] columnNames) throws SQLException {
         returnGeneratedKeys = true;
+        rootInvokeHook.start();
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext(), columnNames);
         } finally {
             currentResultSet = null;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
         }
     }
     
     @Override
     public boolean execute(final String sql) throws SQLException {
+        rootInvokeHook.start();
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.execute(inputGroups, executionContext.getSqlStatementContext());
         } finally {
             currentResultSet = null;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
         }
     }
     
@@ -196,42 +202,45 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         if (RETURN_GENERATED_KEYS == autoGeneratedKeys) {
             returnGeneratedKeys = true;
         }
+        rootInvokeHook.start();
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.execute(inputGroups, executionContext.getSqlStatementContext(), autoGeneratedKeys);
         } finally {
             currentResultSet = null;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
         }
     }
     
     @Override
     public boolean execute(final String sql, final int[] columnIndexes) throws SQLException {
         returnGeneratedKeys = true;
+        rootInvokeHook.start();
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.execute(inputGroups, executionContext.getSqlStatementContext(), columnIndexes);
         } finally {
             currentResultSet = null;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
         }
     }
     
     @Override
     public boolean execute(final String sql, final String[] columnNames) throws SQLException {
         returnGeneratedKeys = true;
+        rootInvokeHook.start();
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.execute(inputGroups, executionContext.getSqlStatementContext(), columnNames);
         } finally {
             currentResultSet = null;
+            rootInvokeHook.finish(connection.getCachedConnections().size());
         }
     }
     
@@ -239,16 +248,27 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         clearStatements();
         RuntimeContext runtimeContext = connection.getRuntimeContext();
         SQLStatement sqlStatement = runtimeContext.getSqlParserEngine().parse(sql, false);
-        RouteContext routeContext = new DataNodeRouter(
-                runtimeContext.getMetaData(), runtimeContext.getProperties(), runtimeContext.getRules()).route(sqlStatement, sql, Collections.emptyList());
-        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(),
-                runtimeContext.getProperties(), runtimeContext.getRules()).rewrite(sql, Collections.emptyList(), routeContext);
+        RouteContext routeContext = runtimeContext.getDataNodeRouter().route(sqlStatement, sql, Collections.emptyList());
+        SQLRewriteResult sqlRewriteResult = runtimeContext.getSqlRewriteEntry().rewrite(sql, Collections.emptyList(), routeContext);
         ExecutionContext result = new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(runtimeContext.getMetaData(), sqlRewriteResult));
         logSQL(sql, runtimeContext.getProperties(), result);
         return result;
     }
     
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null == currentResultSet) {
+            return;
+        }
+        try {
+            currentResultSet.close();
+        } finally {
+            currentResultSet = null;
+        }
+    }
+    
     private void clearStatements() throws SQLException {
+        closeCurrentResultSet();
         for (Statement each : statements) {
             each.close();
         }
@@ -261,8 +281,8 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         }
     }
     
-    private Collection<InputGroup<StatementExecuteUnit>> getInputGroups(final int maxConnectionsSizePerQuery) throws SQLException {
-        return new StatementExecuteGroupEngine(maxConnectionsSizePerQuery, getConnection().getRuntimeContext().getRules()).generate(executionContext.getExecutionUnits(), connection, statementOption);
+    private Collection<InputGroup<StatementExecuteUnit>> getInputGroups() throws SQLException {
+        return connection.getRuntimeContext().getStatementExecuteGroupEngine().generate(executionContext.getExecutionUnits(), connection, statementOption);
     }
     
     private void cacheStatements(final Collection<InputGroup<StatementExecuteUnit>> inputGroups) {
@@ -279,8 +299,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         }
         if (executionContext.getSqlStatementContext() instanceof SelectStatementContext || executionContext.getSqlStatementContext().getSqlStatement() instanceof DALStatement) {
             List<ResultSet> resultSets = getResultSets();
-            MergedResult mergedResult = mergeQuery(getQueryResults(resultSets));
-            currentResultSet = new ShardingSphereResultSet(resultSets, mergedResult, this, executionContext);
+            List<QueryResult> queryResults = getQueryResults(resultSets);
+            MergedResult mergedResult = mergeQuery(queryResults);
+            currentResultSet = new ShardingSphereResultSet(resultSets, queryResults, mergedResult, this, executionContext);
         }
         return currentResultSet;
     }
@@ -312,10 +333,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     }
     
     private MergedResult mergeQuery(final List<QueryResult> queryResults) throws SQLException {
-        RuntimeContext runtimeContext = connection.getRuntimeContext();
-        MergeEngine mergeEngine = new MergeEngine(runtimeContext.getDatabaseType(), 
-                runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(), runtimeContext.getProperties(), runtimeContext.getRules());
-        return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
+        return connection.getRuntimeContext().getMergeEngine().merge(queryResults, executionContext.getSqlStatementContext());
     }
     
     @SuppressWarnings("MagicConstant")
@@ -21,11 +21,13 @@ import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ConnectionReservation;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.fixture.BASEShardingTransactionManagerFixture;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.fixture.XAShardingTransactionManagerFixture;
 import org.apache.shardingsphere.transaction.core.TransactionOperationType;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.core.TransactionTypeHolder;
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
 import org.junit.After;
 import org.junit.Test;
 
@@ -33,6 +35,8 @@ import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -160,6 +164,47 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
         assertTrue(cachedConnections.isEmpty());
     }
     
+    @Test
+    public void assertReleaseConnectionReservationsWhenClose() throws SQLException {
+        ShardingSphereConnection actual = getShardingSphereDataSource().getConnection();
+        try {
+            actual.getConnection("jdbc_0");
+            actual.getConnections("jdbc_0", 2, ConnectionMode.MEMORY_STRICTLY);
+            actual.getConnections("jdbc_1", 2, ConnectionMode.MEMORY_STRICTLY);
+            assertThat(getReservedConnections(actual).size(), is(2));
+            assertThat(getReservedConnections(actual).get(getConnectionReservation(actual, "jdbc_0")), is(2));
+        } finally {
+            actual.close();
+        }
+        assertTrue(getReservedConnections(actual).isEmpty());
+        assertAllPermitsAvailable(getConnectionReservation(actual, "jdbc_0"));
+        assertAllPermitsAvailable(getConnectionReservation(actual, "jdbc_1"));
+    }
+    
+    @Test
+    public void assertReleaseConnectionReservationsWhenCloseCachedConnections() throws SQLException {
+        TransactionTypeHolder.set(TransactionType.XA);
+        try (ShardingSphereConnection actual = getShardingSphereDataSource().getConnection()) {
+            actual.getConnections("jdbc_0", 2, ConnectionMode.MEMORY_STRICTLY);
+            assertThat(getReservedConnections(actual).get(getConnectionReservation(actual, "jdbc_0")), is(2));
+            actual.setAutoCommit(false);
+            assertTrue(getCachedConnections(actual).isEmpty());
+            assertTrue(getReservedConnections(actual).isEmpty());
+            assertAllPermitsAvailable(getConnectionReservation(actual, "jdbc_0"));
+        }
+    }
+    
+    private ConnectionReservation getConnectionReservation(final ShardingSphereConnection connection, final String dataSourceName) {
+        ConnectionReservation result = connection.getRuntimeContext().getConnectionReservations().get(dataSourceName);
+        assertTrue(result.isBounded());
+        return result;
+    }
+    
+    private void assertAllPermitsAvailable(final ConnectionReservation connectionReservation) throws SQLException {
+        assertTrue(connectionReservation.reserve(connectionReservation.getPermits(), Collections::emptyList).isEmpty());
+        connectionReservation.release(connectionReservation.getPermits());
+    }
+    
     @Test
     public void assertSetReadOnly() throws SQLException {
         try (ShardingSphereConnection actual = getShardingSphereDataSource().getConnection()) {
@@ -246,4 +291,12 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
         field.setAccessible(true);
         return (Multimap<String, Connection>) field.get(connectionAdapter);
     }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Map<ConnectionReservation, Integer> getReservedConnections(final AbstractConnectionAdapter connectionAdapter) {
+        Field field = AbstractConnectionAdapter.class.getDeclaredField("reservedConnections");
+        field.setAccessible(true);
+        return (Map<ConnectionReservation, Integer>) field.get(connectionAdapter);
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
+
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ConnectionReservationTest {
+    
+    private final List<Connection> connections = Arrays.asList(mock(Connection.class), mock(Connection.class));
+    
+    @Test
+    public void assertReserveWhenBounded() throws SQLException {
+        ConnectionReservation actual = new ConnectionReservation("ds", mock(DataSource.class), 3, 10L);
+        assertTrue(actual.isBounded());
+        assertThat(actual.reserve(2, () -> connections), is(connections));
+        try {
+            actual.reserve(2, () -> connections);
+            throw new AssertionError("Expected reservation timeout.");
+        } catch (final SQLException ex) {
+            assertTrue(ex.getMessage().contains("in 10 milliseconds"));
+        }
+        actual.release(2);
+        assertThat(actual.reserve(2, () -> connections), is(connections));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReserveMoreThanPermits() throws SQLException {
+        new ConnectionReservation("ds", mock(DataSource.class), 1, 10L).reserve(2, () -> connections);
+    }
+    
+    @Test
+    public void assertReserveReleasesPermitsWhenCreateFailed() throws SQLException {
+        ConnectionReservation actual = new ConnectionReservation("ds", mock(DataSource.class), 2, 10L);
+        try {
+            actual.reserve(2, () -> {
+                throw new SQLException("create failed");
+            });
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("create failed"));
+        }
+        assertThat(actual.reserve(2, () -> connections), is(connections));
+    }
+    
+    @Test
+    public void assertReserveWhenPoolSizeUnknown() throws SQLException {
+        ConnectionReservation actual = new ConnectionReservation("ds", mock(DataSource.class), 0, 10L);
+        assertFalse(actual.isBounded());
+        assertThat(actual.reserve(2, () -> connections), is(connections));
+        assertThat(actual.reserve(2, () -> connections), is(connections));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class IncrementalRuleSchemaMetaDataLoaderTest {
+    
+    private static BasicDataSource dataSource;
+    
+    private final TableMetaData cachedOrderTableMetaData = new TableMetaData(
+            Collections.singletonList(new ColumnMetaData("cached_column", Types.INTEGER, "INT", false, false, false)), Collections.emptyList());
+    
+    private final TableMetaData cachedConfigTableMetaData = new TableMetaData(
+            Collections.singletonList(new ColumnMetaData("cached_column", Types.INTEGER, "INT", false, false, false)), Collections.emptyList());
+    
+    private Map<String, DataSource> dataSourceMap;
+    
+    private RuntimeContext previousContext;
+    
+    @BeforeClass
+    public static void initDataSource() throws SQLException {
+        dataSource = new BasicDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUrl("jdbc:h2:mem:incremental_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_0 (order_id INT PRIMARY KEY, user_id INT)");
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_1 (order_id INT PRIMARY KEY, user_id INT)");
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_item_0 (item_id INT PRIMARY KEY, order_id INT)");
+            statement.execute("CREATE TABLE IF NOT EXISTS t_config (id INT PRIMARY KEY)");
+        }
+    }
+    
+    @AfterClass
+    public static void closeDataSource() throws SQLException {
+        dataSource.close();
+    }
+    
+    @Before
+    public void setUp() {
+        dataSourceMap = Collections.singletonMap("ds", dataSource);
+        Map<String, TableMetaData> configuredTables = new HashMap<>(1, 1);
+        configuredTables.put("t_order", cachedOrderTableMetaData);
+        Map<String, TableMetaData> unconfiguredTables = new HashMap<>(1, 1);
+        unconfiguredTables.put("t_config", cachedConfigTableMetaData);
+        RuleSchemaMetaData previousRuleSchemaMetaData = new RuleSchemaMetaData(new SchemaMetaData(configuredTables), Collections.singletonMap("ds", new SchemaMetaData(unconfiguredTables)));
+        previousContext = mock(RuntimeContext.class);
+        when(previousContext.getRules()).thenReturn(createRules(new TableRuleConfiguration("t_order", "ds.t_order_${0..1}")));
+        when(previousContext.getMetaData()).thenReturn(new ShardingSphereMetaData(mock(DataSourceMetas.class), previousRuleSchemaMetaData));
+        when(previousContext.getDataSourceMap()).thenReturn(dataSourceMap);
+    }
+    
+    @Test
+    public void assertLoadWithUnchangedTables() throws SQLException {
+        RuleSchemaMetaData actual = load(createRules(new TableRuleConfiguration("t_order", "ds.t_order_${0..1}")));
+        assertThat(actual.getConfiguredSchemaMetaData().get("t_order"), is(cachedOrderTableMetaData));
+        assertThat(actual.getUnconfiguredSchemaMetaDataMap().get("ds").get("t_config"), is(cachedConfigTableMetaData));
+    }
+    
+    @Test
+    public void assertLoadWithAddedTable() throws SQLException {
+        RuleSchemaMetaData actual = load(createRules(new TableRuleConfiguration("t_order", "ds.t_order_${0..1}"), new TableRuleConfiguration("t_order_item", "ds.t_order_item_0")));
+        assertThat(actual.getConfiguredSchemaMetaData().get("t_order"), is(cachedOrderTableMetaData));
+        assertTrue(actual.getConfiguredSchemaMetaData().containsTable("t_order_item"));
+        assertTrue(actual.getConfiguredSchemaMetaData().get("t_order_item").getColumns().containsKey("item_id"));
+        assertThat(actual.getUnconfiguredSchemaMetaDataMap().get("ds").get("t_config"), is(cachedConfigTableMetaData));
+    }
+    
+    @Test
+    public void assertLoadWithRemovedTable() throws SQLException {
+        RuleSchemaMetaData actual = load(createRules(new TableRuleConfiguration("t_order_item", "ds.t_order_item_0")));
+        assertFalse(actual.getConfiguredSchemaMetaData().containsTable("t_order"));
+        assertTrue(actual.getConfiguredSchemaMetaData().containsTable("t_order_item"));
+        assertThat(actual.getUnconfiguredSchemaMetaDataMap().get("ds").get("t_config"), not(cachedConfigTableMetaData));
+        assertTrue(actual.getUnconfiguredSchemaMetaDataMap().get("ds").containsTable("t_order_0"));
+    }
+    
+    @Test
+    public void assertLoadWithAlteredTable() throws SQLException {
+        RuleSchemaMetaData actual = load(createRules(new TableRuleConfiguration("t_order", "ds.t_order_0")));
+        assertThat(actual.getConfiguredSchemaMetaData().get("t_order"), not(cachedOrderTableMetaData));
+        assertTrue(actual.getConfiguredSchemaMetaData().get("t_order").getColumns().containsKey("order_id"));
+        assertThat(actual.getUnconfiguredSchemaMetaDataMap().get("ds").get("t_config"), is(cachedConfigTableMetaData));
+    }
+    
+    private RuleSchemaMetaData load(final Collection<ShardingSphereRule> rules) throws SQLException {
+        return new IncrementalRuleSchemaMetaDataLoader(previousContext).load(rules, DatabaseTypes.getActualDatabaseType("H2"), dataSourceMap, new ConfigurationProperties(new Properties()), null);
+    }
+    
+    private Collection<ShardingSphereRule> createRules(final TableRuleConfiguration... tableRuleConfigs) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        Collections.addAll(shardingRuleConfig.getTableRuleConfigs(), tableRuleConfigs);
+        return Collections.singletonList(new ShardingRule(shardingRuleConfig, dataSourceMap.keySet()));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.underlying.common.config.RuleConfiguration;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementExecuteGroupEngine;
+import org.apache.shardingsphere.underlying.merge.MergeEngine;
+import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RuntimeContextTest {
+    
+    private static final DatabaseType DATABASE_TYPE = DatabaseTypes.getActualDatabaseType("H2");
+    
+    private static BasicDataSource dataSource;
+    
+    private static BasicDataSource anotherDataSource;
+    
+    @BeforeClass
+    public static void initDataSources() throws SQLException {
+        dataSource = createDataSource("runtime_context_ds");
+        anotherDataSource = createDataSource("another_runtime_context_ds");
+    }
+    
+    private static BasicDataSource createDataSource(final String name) throws SQLException {
+        BasicDataSource result = new BasicDataSource();
+        result.setDriverClassName("org.h2.Driver");
+        result.setUrl(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", name));
+        result.setUsername("sa");
+        result.setPassword("");
+        try (Connection connection = result.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_0 (order_id INT PRIMARY KEY, user_id INT)");
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_1 (order_id INT PRIMARY KEY, user_id INT)");
+        }
+        return result;
+    }
+    
+    @AfterClass
+    public static void closeDataSources() throws SQLException {
+        dataSource.close();
+        anotherDataSource.close();
+    }
+    
+    @Test
+    public void assertSetMetaDataRebuildMetaDataDependentEngines() throws Exception {
+        try (RuntimeContext runtimeContext = new RuntimeContext(dataSource, DATABASE_TYPE, createConfigurations(), new Properties())) {
+            DataNodeRouter dataNodeRouter = runtimeContext.getDataNodeRouter();
+            SQLRewriteEntry sqlRewriteEntry = runtimeContext.getSqlRewriteEntry();
+            MergeEngine mergeEngine = runtimeContext.getMergeEngine();
+            StatementExecuteGroupEngine statementExecuteGroupEngine = runtimeContext.getStatementExecuteGroupEngine();
+            runtimeContext.setMetaData(runtimeContext.getMetaData());
+            assertThat(runtimeContext.getDataNodeRouter(), not(sameInstance(dataNodeRouter)));
+            assertThat(runtimeContext.getSqlRewriteEntry(), not(sameInstance(sqlRewriteEntry)));
+            assertThat(runtimeContext.getMergeEngine(), not(sameInstance(mergeEngine)));
+            assertThat(runtimeContext.getStatementExecuteGroupEngine(), is(sameInstance(statementExecuteGroupEngine)));
+        }
+    }
+    
+    @Test
+    public void assertCreateFromPreviousContextWithSameDataSources() throws Exception {
+        RuntimeContext previousContext = new RuntimeContext(dataSource, DATABASE_TYPE, createConfigurations(), new Properties());
+        try (RuntimeContext actual = new RuntimeContext(previousContext, previousContext.getDataSourceMap(), DATABASE_TYPE, createConfigurations(), new Properties())) {
+            assertThat(actual.getExecutorKernel(), is(sameInstance(previousContext.getExecutorKernel())));
+            assertThat(actual.getShardingTransactionManagerEngine(), is(sameInstance(previousContext.getShardingTransactionManagerEngine())));
+            assertThat(actual.getCachedDatabaseMetaData(), is(sameInstance(previousContext.getCachedDatabaseMetaData())));
+            assertThat(actual.getConnectionReservations(), is(sameInstance(previousContext.getConnectionReservations())));
+            assertThat(actual.getMetaData().getDataSources(), is(sameInstance(previousContext.getMetaData().getDataSources())));
+            assertThat(actual.getDataNodeRouter(), not(sameInstance(previousContext.getDataNodeRouter())));
+            previousContext.close();
+            assertFalse(actual.getExecutorKernel().getExecutorService().getExecutorService().isShutdown());
+        }
+    }
+    
+    @Test
+    public void assertCreateFromPreviousContextWithChangedExecutorSize() throws Exception {
+        RuntimeContext previousContext = new RuntimeContext(dataSource, DATABASE_TYPE, createConfigurations(), new Properties());
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.EXECUTOR_SIZE.getKey(), "2");
+        try (RuntimeContext actual = new RuntimeContext(previousContext, previousContext.getDataSourceMap(), DATABASE_TYPE, createConfigurations(), props)) {
+            assertThat(actual.getExecutorKernel(), not(sameInstance(previousContext.getExecutorKernel())));
+            assertThat(actual.getShardingTransactionManagerEngine(), is(sameInstance(previousContext.getShardingTransactionManagerEngine())));
+            previousContext.close();
+            assertTrue(previousContext.getExecutorKernel().getExecutorService().getExecutorService().isShutdown());
+        }
+    }
+    
+    @Test
+    public void assertCreateFromPreviousContextWithChangedDataSources() throws Exception {
+        try (RuntimeContext previousContext = new RuntimeContext(dataSource, DATABASE_TYPE, createConfigurations(), new Properties());
+             RuntimeContext actual = new RuntimeContext(previousContext, Collections.singletonMap("logic_db", (DataSource) anotherDataSource), DATABASE_TYPE, createConfigurations(), new Properties())) {
+            assertThat(actual.getExecutorKernel(), is(sameInstance(previousContext.getExecutorKernel())));
+            assertThat(actual.getShardingTransactionManagerEngine(), not(sameInstance(previousContext.getShardingTransactionManagerEngine())));
+            assertThat(actual.getCachedDatabaseMetaData(), not(sameInstance(previousContext.getCachedDatabaseMetaData())));
+            assertThat(actual.getConnectionReservations(), not(sameInstance(previousContext.getConnectionReservations())));
+        }
+    }
+    
+    private Collection<RuleConfiguration> createConfigurations() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "logic_db.t_order_${0..1}"));
+        return Collections.singletonList(result);
+    }
+}
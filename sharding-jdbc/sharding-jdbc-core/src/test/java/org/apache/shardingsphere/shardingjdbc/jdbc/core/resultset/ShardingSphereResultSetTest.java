@@ -23,6 +23,7 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingSphere
 import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.junit.Before;
@@ -53,6 +54,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingSphereResultSetTest {
@@ -104,6 +106,17 @@ public final class ShardingSphereResultSetTest {
         assertTrue(shardingSphereResultSet.next());
     }
     
+    @Test
+    public void assertCloseWithQueryResults() throws SQLException {
+        List<ResultSet> resultSets = getResultSets();
+        QueryResult queryResult = mock(QueryResult.class);
+        ShardingSphereResultSet actual = new ShardingSphereResultSet(resultSets, Collections.singletonList(queryResult), mergeResultSet, getShardingSphereStatement(), createExecutionContext());
+        actual.close();
+        assertTrue(actual.isClosed());
+        verify(queryResult).close();
+        verify(resultSets.get(0)).close();
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingSphereResultSet.wasNull());
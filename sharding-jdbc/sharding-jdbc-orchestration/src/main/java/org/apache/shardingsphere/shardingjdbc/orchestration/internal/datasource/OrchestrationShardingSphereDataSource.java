@@ -45,6 +45,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 
 /**
@@ -102,7 +103,10 @@ public class OrchestrationShardingSphereDataSource extends AbstractOrchestration
     @Subscribe
     @SneakyThrows
     public final synchronized void renew(final ShardingRuleChangedEvent shardingRuleChangedEvent) {
-        dataSource = new ShardingSphereDataSource(dataSource.getDataSourceMap(), shardingRuleChangedEvent.getRuleConfigurations(), dataSource.getRuntimeContext().getProperties().getProps());
+        ShardingSphereDataSource previousDataSource = dataSource;
+        dataSource = new ShardingSphereDataSource(
+                previousDataSource, previousDataSource.getDataSourceMap(), shardingRuleChangedEvent.getRuleConfigurations(), previousDataSource.getRuntimeContext().getProperties().getProps());
+        previousDataSource.getRuntimeContext().close();
     }
     
     /**
@@ -114,10 +118,13 @@ public class OrchestrationShardingSphereDataSource extends AbstractOrchestration
     @SneakyThrows
     public final synchronized void renew(final DataSourceChangedEvent dataSourceChangedEvent) {
         Map<String, DataSourceConfiguration> dataSourceConfigurations = dataSourceChangedEvent.getDataSourceConfigurations();
-        dataSource.close(getDeletedDataSources(dataSourceConfigurations));
-        dataSource.close(getModifiedDataSources(dataSourceConfigurations).keySet());
-        dataSource = new ShardingSphereDataSource(getChangedDataSources(dataSource.getDataSourceMap(), dataSourceConfigurations), 
-                dataSource.getRuntimeContext().getConfigurations(), dataSource.getRuntimeContext().getProperties().getProps());
+        ShardingSphereDataSource previousDataSource = dataSource;
+        Collection<String> closedDataSourceNames = new LinkedList<>(getDeletedDataSources(dataSourceConfigurations));
+        closedDataSourceNames.addAll(getModifiedDataSources(dataSourceConfigurations).keySet());
+        dataSource = new ShardingSphereDataSource(previousDataSource, getChangedDataSources(previousDataSource.getDataSourceMap(), dataSourceConfigurations),
+                previousDataSource.getRuntimeContext().getConfigurations(), previousDataSource.getRuntimeContext().getProperties().getProps());
+        previousDataSource.closeDataSources(closedDataSourceNames);
+        previousDataSource.getRuntimeContext().close();
         getDataSourceConfigurations().clear();
         getDataSourceConfigurations().putAll(dataSourceConfigurations);
     }
@@ -130,7 +137,10 @@ public class OrchestrationShardingSphereDataSource extends AbstractOrchestration
     @SneakyThrows
     @Subscribe
     public final synchronized void renew(final PropertiesChangedEvent propertiesChangedEvent) {
-        dataSource = new ShardingSphereDataSource(dataSource.getDataSourceMap(), dataSource.getRuntimeContext().getConfigurations(), propertiesChangedEvent.getProps());
+        ShardingSphereDataSource previousDataSource = dataSource;
+        dataSource = new ShardingSphereDataSource(
+                previousDataSource, previousDataSource.getDataSourceMap(), previousDataSource.getRuntimeContext().getConfigurations(), propertiesChangedEvent.getProps());
+        previousDataSource.getRuntimeContext().close();
     }
     
     /**
@@ -62,6 +62,15 @@ public final class SecondTestRegistryCenterRepository implements RegistryCenterR
         REGISTRY_DATA.put(key, value);
     }
     
+    @Override
+    public boolean persistEphemeralIfAbsent(final String key, final String value) {
+        return null == REGISTRY_DATA.putIfAbsent(key, value);
+    }
+    
+    @Override
+    public void watchSessionReconnected(final Runnable listener) {
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener dataChangedEventListener) {
     }
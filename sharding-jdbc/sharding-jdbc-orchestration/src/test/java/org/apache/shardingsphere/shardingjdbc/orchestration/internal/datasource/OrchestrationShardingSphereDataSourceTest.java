@@ -36,6 +36,7 @@ import org.apache.shardingsphere.shardingjdbc.api.yaml.YamlShardingSphereDataSou
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingSphereDataSource;
 import org.apache.shardingsphere.underlying.common.config.DataSourceConfiguration;
 import org.apache.shardingsphere.underlying.common.database.DefaultSchema;
+import org.apache.shardingsphere.underlying.executor.kernel.ExecutorKernel;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -151,6 +152,13 @@ public final class OrchestrationShardingSphereDataSourceTest {
         assertThat(orchestrationDataSource.getDataSource().getRuntimeContext().getProperties().getProps().getProperty("sql.show"), is("true"));
     }
     
+    @Test
+    public void assertRenewPropertiesWithExecutorKernelTakenOver() {
+        ExecutorKernel executorKernel = orchestrationDataSource.getDataSource().getRuntimeContext().getExecutorKernel();
+        orchestrationDataSource.renew(getPropertiesChangedEvent());
+        assertThat(orchestrationDataSource.getDataSource().getRuntimeContext().getExecutorKernel(), is(executorKernel));
+    }
+    
     private PropertiesChangedEvent getPropertiesChangedEvent() {
         Properties properties = new Properties();
         properties.setProperty("sql.show", "true");
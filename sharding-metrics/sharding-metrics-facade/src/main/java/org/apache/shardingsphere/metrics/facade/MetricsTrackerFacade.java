@@ -42,6 +42,9 @@ public final class MetricsTrackerFacade {
     @Getter
     private MetricsTrackerManager metricsTrackerManager;
     
+    @Getter
+    private MetricsConfiguration metricsConfiguration;
+    
     @Getter
     private volatile boolean enabled;
     
@@ -77,6 +80,7 @@ public final class MetricsTrackerFacade {
         metricsTrackerManager = findMetricsTrackerManager(metricsConfiguration.getMetricsName());
         Preconditions.checkNotNull(metricsTrackerManager, "Can not find metrics tracker manager with metrics name in metrics configuration.");
         metricsTrackerManager.start(metricsConfiguration);
+        this.metricsConfiguration = metricsConfiguration;
         MetricsTrackerHandler.getInstance().init(metricsConfiguration.getAsync(), metricsConfiguration.getThreadCount(), metricsTrackerManager);
         enabled = true;
     }
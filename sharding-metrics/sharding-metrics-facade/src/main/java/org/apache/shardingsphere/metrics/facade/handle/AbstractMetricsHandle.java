@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.facade.handle;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.metrics.api.MetricsTracker;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.spi.MetricsTrackerManager;
+
+/**
+ * Abstract metrics handle.
+ * 
+ * <p>
+ * Metrics tracker is resolved and bound with label values once after metrics tracker facade enabled,
+ * then reused by every event without lookup, label resolving or executor submission.
+ * </p>
+ *
+ * @param <T> type of bound metrics tracker
+ */
+public abstract class AbstractMetricsHandle<T> {
+    
+    private final String metricsType;
+    
+    private final String metricsLabel;
+    
+    private final String[] labelValues;
+    
+    private volatile Binding<T> binding;
+    
+    protected AbstractMetricsHandle(final String metricsType, final String metricsLabel, final String... labelValues) {
+        this.metricsType = metricsType;
+        this.metricsLabel = metricsLabel;
+        this.labelValues = labelValues;
+    }
+    
+    protected final T findBoundTracker() {
+        MetricsTrackerFacade metricsTrackerFacade = MetricsTrackerFacade.getInstance();
+        if (!metricsTrackerFacade.isEnabled()) {
+            return null;
+        }
+        MetricsTrackerManager metricsTrackerManager = metricsTrackerFacade.getMetricsTrackerManager();
+        Binding<T> result = binding;
+        if (null == result || result.metricsTrackerManager != metricsTrackerManager) {
+            result = new Binding<>(metricsTrackerManager, metricsTrackerManager.getMetricsTrackerFactory().create(metricsType, metricsLabel).map(each -> bind(each, labelValues)).orElse(null));
+            binding = result;
+        }
+        return result.boundTracker;
+    }
+    
+    protected abstract T bind(MetricsTracker metricsTracker, String... labelValues);
+    
+    @RequiredArgsConstructor
+    private static final class Binding<T> {
+        
+        private final MetricsTrackerManager metricsTrackerManager;
+        
+        private final T boundTracker;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.facade.handle;
+
+import org.apache.shardingsphere.metrics.api.BoundCounterMetricsTracker;
+import org.apache.shardingsphere.metrics.api.CounterMetricsTracker;
+import org.apache.shardingsphere.metrics.api.MetricsTracker;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+
+/**
+ * Metrics counter.
+ */
+public final class MetricsCounter extends AbstractMetricsHandle<BoundCounterMetricsTracker> {
+    
+    public MetricsCounter(final String metricsLabel, final String... labelValues) {
+        super(MetricsTypeEnum.COUNTER.name(), metricsLabel, labelValues);
+    }
+    
+    /**
+     * Increment of counter.
+     */
+    public void inc() {
+        BoundCounterMetricsTracker boundTracker = findBoundTracker();
+        if (null != boundTracker) {
+            boundTracker.inc(1.0);
+        }
+    }
+    
+    @Override
+    protected BoundCounterMetricsTracker bind(final MetricsTracker metricsTracker, final String... labelValues) {
+        return ((CounterMetricsTracker) metricsTracker).bind(labelValues);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.facade.handle;
+
+import org.apache.shardingsphere.metrics.api.BoundGaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.api.GaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.api.MetricsTracker;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+
+/**
+ * Metrics gauge.
+ */
+public final class MetricsGauge extends AbstractMetricsHandle<BoundGaugeMetricsTracker> {
+    
+    public MetricsGauge(final String metricsLabel, final String... labelValues) {
+        super(MetricsTypeEnum.GAUGE.name(), metricsLabel, labelValues);
+    }
+    
+    /**
+     * Increment of gauge.
+     */
+    public void inc() {
+        BoundGaugeMetricsTracker boundTracker = findBoundTracker();
+        if (null != boundTracker) {
+            boundTracker.inc(1.0);
+        }
+    }
+    
+    /**
+     * Decrement of gauge.
+     */
+    public void dec() {
+        BoundGaugeMetricsTracker boundTracker = findBoundTracker();
+        if (null != boundTracker) {
+            boundTracker.dec(1.0);
+        }
+    }
+    
+    /**
+     * Set value of gauge.
+     *
+     * @param value value
+     */
+    public void set(final double value) {
+        BoundGaugeMetricsTracker boundTracker = findBoundTracker();
+        if (null != boundTracker) {
+            boundTracker.set(value);
+        }
+    }
+    
+    @Override
+    protected BoundGaugeMetricsTracker bind(final MetricsTracker metricsTracker, final String... labelValues) {
+        return ((GaugeMetricsTracker) metricsTracker).bind(labelValues);
+    }
+}
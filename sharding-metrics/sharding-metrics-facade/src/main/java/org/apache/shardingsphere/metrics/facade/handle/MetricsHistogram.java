@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.facade.handle;
+
+import org.apache.shardingsphere.metrics.api.BoundHistogramMetricsTracker;
+import org.apache.shardingsphere.metrics.api.HistogramMetricsTracker;
+import org.apache.shardingsphere.metrics.api.MetricsTracker;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+
+/**
+ * Metrics histogram.
+ */
+public final class MetricsHistogram extends AbstractMetricsHandle<BoundHistogramMetricsTracker> {
+    
+    public MetricsHistogram(final String metricsLabel, final String... labelValues) {
+        super(MetricsTypeEnum.HISTOGRAM.name(), metricsLabel, labelValues);
+    }
+    
+    /**
+     * Start timer.
+     *
+     * @return start time in nanoseconds
+     */
+    public long startTimer() {
+        return System.nanoTime();
+    }
+    
+    /**
+     * Observe amount of time since start time.
+     *
+     * @param startNanoTime start time in nanoseconds
+     */
+    public void observeDuration(final long startNanoTime) {
+        observe(System.nanoTime() - startNanoTime);
+    }
+    
+    /**
+     * Observe elapsed time.
+     *
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public void observe(final long elapsedNanos) {
+        BoundHistogramMetricsTracker boundTracker = findBoundTracker();
+        if (null != boundTracker) {
+            boundTracker.observeNanos(elapsedNanos);
+        }
+    }
+    
+    @Override
+    protected BoundHistogramMetricsTracker bind(final MetricsTracker metricsTracker, final String... labelValues) {
+        return ((HistogramMetricsTracker) metricsTracker).bind(labelValues);
+    }
+}
@@ -32,12 +32,8 @@ import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
 import org.apache.shardingsphere.metrics.facade.executor.MetricsThreadPoolExecutor;
 import org.apache.shardingsphere.metrics.spi.MetricsTrackerManager;
 
-import java.util.Arrays;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 /**
  * Metrics tracker handler.
@@ -47,8 +43,6 @@ public final class MetricsTrackerHandler {
     
     private static final String NAME_FORMAT = "ShardingSphere-Metrics-%d";
     
-    private static final int FUTURE_GET_TIME_OUT_MILLISECONDS = 500;
-    
     private static final int QUEUE_SIZE = 5000;
     
     @Getter
@@ -127,21 +121,15 @@ public final class MetricsTrackerHandler {
     
     /**
      * Start timer of histogram metrics tracker.
+     * 
+     * <p>Timer is started in caller thread even if async, starting timer only records start time and should not wait for executor.</p>
      *
      * @param metricsLabel metrics label
      * @param labelValues  label values
      * @return histogram metrics tracker delegate
      */
     public Optional<HistogramMetricsTrackerDelegate> histogramStartTimer(final String metricsLabel, final String... labelValues) {
-        if (async) {
-            try {
-                return executorService.submit(() -> handlerHistogramStartTimer(metricsLabel, labelValues)).get(FUTURE_GET_TIME_OUT_MILLISECONDS, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException | ExecutionException | TimeoutException e) {
-                throw new IllegalStateException(String.format("Error while fetching histogram metric with metricsLabel= %s and labelValues=%s", metricsLabel, Arrays.toString(labelValues)), e);
-            }
-        } else {
-            return handlerHistogramStartTimer(metricsLabel, labelValues);
-        }
+        return handlerHistogramStartTimer(metricsLabel, labelValues);
     }
     
     /**
@@ -159,21 +147,15 @@ public final class MetricsTrackerHandler {
     
     /**
      * Start timer of summary metrics tracker.
+     * 
+     * <p>Timer is started in caller thread even if async.</p>
      *
      * @param metricsLabel metrics label
      * @param labelValues  label values
      * @return summary metrics tracker delegate
      */
     public Optional<SummaryMetricsTrackerDelegate> summaryStartTimer(final String metricsLabel, final String... labelValues) {
-        if (async) {
-            try {
-                return executorService.submit(() -> handlerSummaryStartTimer(metricsLabel, labelValues)).get(FUTURE_GET_TIME_OUT_MILLISECONDS, TimeUnit.SECONDS);
-            } catch (InterruptedException | ExecutionException | TimeoutException e) {
-                throw new IllegalStateException(String.format("Error while fetching summary metric with metricsLabel= %s and labelValues=%s", metricsLabel, Arrays.toString(labelValues)), e);
-            }
-        } else {
-            return handlerSummaryStartTimer(metricsLabel, labelValues);
-        }
+        return handlerSummaryStartTimer(metricsLabel, labelValues);
     }
     
     /**
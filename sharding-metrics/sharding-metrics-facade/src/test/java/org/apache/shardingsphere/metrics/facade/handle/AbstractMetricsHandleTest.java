@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.facade.handle;
+
+import org.apache.shardingsphere.metrics.api.BoundCounterMetricsTracker;
+import org.apache.shardingsphere.metrics.api.CounterMetricsTracker;
+import org.apache.shardingsphere.metrics.api.MetricsTracker;
+import org.apache.shardingsphere.metrics.api.MetricsTrackerFactory;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.facade.util.FieldUtil;
+import org.apache.shardingsphere.metrics.spi.MetricsTrackerManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class AbstractMetricsHandleTest {
+    
+    private final MetricsTrackerFacade metricsTrackerFacade = MetricsTrackerFacade.getInstance();
+    
+    @Mock
+    private CounterMetricsTracker counterMetricsTracker;
+    
+    @Mock
+    private BoundCounterMetricsTracker boundCounterMetricsTracker;
+    
+    private MetricsTrackerManager originalMetricsTrackerManager;
+    
+    private boolean originalEnabled;
+    
+    @Before
+    public void setUp() {
+        originalMetricsTrackerManager = metricsTrackerFacade.getMetricsTrackerManager();
+        originalEnabled = metricsTrackerFacade.isEnabled();
+    }
+    
+    @After
+    public void tearDown() {
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", originalMetricsTrackerManager);
+        FieldUtil.setField(metricsTrackerFacade, "enabled", originalEnabled);
+    }
+    
+    @Test
+    public void assertIncWhenDisabled() {
+        MetricsTrackerManager metricsTrackerManager = mock(MetricsTrackerManager.class);
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", metricsTrackerManager);
+        FieldUtil.setField(metricsTrackerFacade, "enabled", false);
+        new MetricsCounter("request_total").inc();
+        verify(metricsTrackerManager, never()).getMetricsTrackerFactory();
+    }
+    
+    @Test
+    public void assertIncWithoutMetricsTracker() {
+        MetricsTrackerManager metricsTrackerManager = mockMetricsTrackerManager(Optional.empty());
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", metricsTrackerManager);
+        FieldUtil.setField(metricsTrackerFacade, "enabled", true);
+        MetricsCounter metricsCounter = new MetricsCounter("request_total");
+        metricsCounter.inc();
+        metricsCounter.inc();
+        verify(metricsTrackerManager).getMetricsTrackerFactory();
+    }
+    
+    @Test
+    public void assertBindOnceWithSameMetricsTrackerManager() {
+        when(counterMetricsTracker.bind("label_value")).thenReturn(boundCounterMetricsTracker);
+        MetricsTrackerManager metricsTrackerManager = mockMetricsTrackerManager(Optional.of(counterMetricsTracker));
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", metricsTrackerManager);
+        FieldUtil.setField(metricsTrackerFacade, "enabled", true);
+        MetricsCounter metricsCounter = new MetricsCounter("request_total", "label_value");
+        metricsCounter.inc();
+        metricsCounter.inc();
+        verify(metricsTrackerManager).getMetricsTrackerFactory();
+        verify(counterMetricsTracker).bind("label_value");
+        verify(boundCounterMetricsTracker, times(2)).inc(1.0);
+    }
+    
+    @Test
+    public void assertRebindWhenMetricsTrackerManagerChanged() {
+        when(counterMetricsTracker.bind("label_value")).thenReturn(boundCounterMetricsTracker);
+        CounterMetricsTracker renewedCounterMetricsTracker = mock(CounterMetricsTracker.class);
+        BoundCounterMetricsTracker renewedBoundCounterMetricsTracker = mock(BoundCounterMetricsTracker.class);
+        when(renewedCounterMetricsTracker.bind("label_value")).thenReturn(renewedBoundCounterMetricsTracker);
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", mockMetricsTrackerManager(Optional.of(counterMetricsTracker)));
+        FieldUtil.setField(metricsTrackerFacade, "enabled", true);
+        MetricsCounter metricsCounter = new MetricsCounter("request_total", "label_value");
+        metricsCounter.inc();
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", mockMetricsTrackerManager(Optional.of(renewedCounterMetricsTracker)));
+        metricsCounter.inc();
+        verify(boundCounterMetricsTracker).inc(1.0);
+        verify(renewedBoundCounterMetricsTracker).inc(1.0);
+    }
+    
+    private MetricsTrackerManager mockMetricsTrackerManager(final Optional<MetricsTracker> metricsTracker) {
+        MetricsTrackerFactory metricsTrackerFactory = mock(MetricsTrackerFactory.class);
+        when(metricsTrackerFactory.create(MetricsTypeEnum.COUNTER.name(), "request_total")).thenReturn(metricsTracker);
+        MetricsTrackerManager result = mock(MetricsTrackerManager.class);
+        when(result.getMetricsTrackerFactory()).thenReturn(metricsTrackerFactory);
+        return result;
+    }
+}
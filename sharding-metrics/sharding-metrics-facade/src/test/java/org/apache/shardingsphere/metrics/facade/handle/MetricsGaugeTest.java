@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.facade.handle;
+
+import org.apache.shardingsphere.metrics.api.BoundGaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.api.GaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.api.MetricsTrackerFactory;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.facade.util.FieldUtil;
+import org.apache.shardingsphere.metrics.spi.MetricsTrackerManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MetricsGaugeTest {
+    
+    private final MetricsTrackerFacade metricsTrackerFacade = MetricsTrackerFacade.getInstance();
+    
+    @Mock
+    private MetricsTrackerManager metricsTrackerManager;
+    
+    @Mock
+    private MetricsTrackerFactory metricsTrackerFactory;
+    
+    @Mock
+    private GaugeMetricsTracker gaugeMetricsTracker;
+    
+    @Mock
+    private BoundGaugeMetricsTracker boundGaugeMetricsTracker;
+    
+    private MetricsTrackerManager originalMetricsTrackerManager;
+    
+    private boolean originalEnabled;
+    
+    @Before
+    public void setUp() {
+        originalMetricsTrackerManager = metricsTrackerFacade.getMetricsTrackerManager();
+        originalEnabled = metricsTrackerFacade.isEnabled();
+        when(metricsTrackerManager.getMetricsTrackerFactory()).thenReturn(metricsTrackerFactory);
+        when(metricsTrackerFactory.create(MetricsTypeEnum.GAUGE.name(), "channel_total")).thenReturn(Optional.of(gaugeMetricsTracker));
+        when(gaugeMetricsTracker.bind("label_value")).thenReturn(boundGaugeMetricsTracker);
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", metricsTrackerManager);
+        FieldUtil.setField(metricsTrackerFacade, "enabled", true);
+    }
+    
+    @After
+    public void tearDown() {
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", originalMetricsTrackerManager);
+        FieldUtil.setField(metricsTrackerFacade, "enabled", originalEnabled);
+    }
+    
+    @Test
+    public void assertInc() {
+        new MetricsGauge("channel_total", "label_value").inc();
+        verify(boundGaugeMetricsTracker).inc(1.0);
+    }
+    
+    @Test
+    public void assertDec() {
+        new MetricsGauge("channel_total", "label_value").dec();
+        verify(boundGaugeMetricsTracker).dec(1.0);
+    }
+    
+    @Test
+    public void assertSet() {
+        new MetricsGauge("channel_total", "label_value").set(2.0);
+        verify(boundGaugeMetricsTracker).set(2.0);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.facade.handle;
+
+import org.apache.shardingsphere.metrics.api.BoundSummaryMetricsTracker;
+import org.apache.shardingsphere.metrics.api.SummaryMetricsTracker;
+import org.apache.shardingsphere.metrics.api.MetricsTrackerFactory;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.facade.util.FieldUtil;
+import org.apache.shardingsphere.metrics.spi.MetricsTrackerManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MetricsSummaryTest {
+    
+    private final MetricsTrackerFacade metricsTrackerFacade = MetricsTrackerFacade.getInstance();
+    
+    @Mock
+    private MetricsTrackerManager metricsTrackerManager;
+    
+    @Mock
+    private MetricsTrackerFactory metricsTrackerFactory;
+    
+    @Mock
+    private SummaryMetricsTracker summaryMetricsTracker;
+    
+    @Mock
+    private BoundSummaryMetricsTracker boundSummaryMetricsTracker;
+    
+    private MetricsTrackerManager originalMetricsTrackerManager;
+    
+    private boolean originalEnabled;
+    
+    @Before
+    public void setUp() {
+        originalMetricsTrackerManager = metricsTrackerFacade.getMetricsTrackerManager();
+        originalEnabled = metricsTrackerFacade.isEnabled();
+        when(metricsTrackerManager.getMetricsTrackerFactory()).thenReturn(metricsTrackerFactory);
+        when(metricsTrackerFactory.create(MetricsTypeEnum.SUMMARY.name(), "request")).thenReturn(Optional.of(summaryMetricsTracker));
+        when(summaryMetricsTracker.bind("label_value")).thenReturn(boundSummaryMetricsTracker);
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", metricsTrackerManager);
+        FieldUtil.setField(metricsTrackerFacade, "enabled", true);
+    }
+    
+    @After
+    public void tearDown() {
+        FieldUtil.setField(metricsTrackerFacade, "metricsTrackerManager", originalMetricsTrackerManager);
+        FieldUtil.setField(metricsTrackerFacade, "enabled", originalEnabled);
+    }
+    
+    @Test
+    public void assertObserveDuration() {
+        MetricsSummary metricsSummary = new MetricsSummary("request", "label_value");
+        long startNanoTime = metricsSummary.startTimer();
+        metricsSummary.observeDuration(startNanoTime);
+        verify(boundSummaryMetricsTracker).observeNanos(longThat(each -> each >= 0L));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.hook.stage.SlowQueryBreakdown;
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.apache.shardingsphere.metrics.hook.stage.StageLatencyRecorder;
+import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
+
+import java.util.Map;
+
+/**
+ * Abstract metrics stage hook.
+ * 
+ * <p>Hook instances are shared by concurrent calls, so timer of each call is kept in thread local and removed when stopped.</p>
+ */
+public abstract class AbstractMetricsStageHook {
+    
+    private final ThreadLocal<StageTimer> timers = new ThreadLocal<>();
+    
+    protected final void startTimer() {
+        startTimer(ExecutorDataMap.getValue());
+    }
+    
+    protected final void startTimer(final Map<String, Object> executorDataMap) {
+        if (MetricsTrackerFacade.getInstance().isEnabled()) {
+            timers.set(new StageTimer(SlowQueryBreakdown.find(executorDataMap), System.nanoTime()));
+        } else {
+            timers.remove();
+        }
+    }
+    
+    protected final void stopTimer(final Stage stage, final String detail) {
+        StageTimer timer = timers.get();
+        if (null == timer) {
+            return;
+        }
+        timers.remove();
+        long finishNanoTime = System.nanoTime();
+        long elapsedNanos = finishNanoTime - timer.getStartNanoTime();
+        StageLatencyRecorder.record(stage, detail, elapsedNanos);
+        if (null != timer.getSlowQueryBreakdown()) {
+            timer.getSlowQueryBreakdown().record(stage, detail, elapsedNanos, finishNanoTime);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class StageTimer {
+        
+        private final SlowQueryBreakdown slowQueryBreakdown;
+        
+        private final long startNanoTime;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.apache.shardingsphere.underlying.executor.sql.hook.ConnectionAcquisitionHook;
+
+/**
+ * Metrics connection acquisition hook.
+ */
+public final class MetricsConnectionAcquisitionHook extends AbstractMetricsStageHook implements ConnectionAcquisitionHook {
+    
+    private final ThreadLocal<String> dataSourceName = new ThreadLocal<>();
+    
+    @Override
+    public void start(final String dataSourceName, final int connectionSize) {
+        this.dataSourceName.set(dataSourceName);
+        startTimer();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        stopTimer(Stage.CONNECTION_ACQUISITION, dataSourceName.get());
+        dataSourceName.remove();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        stopTimer(Stage.CONNECTION_ACQUISITION, dataSourceName.get());
+        dataSourceName.remove();
+    }
+}
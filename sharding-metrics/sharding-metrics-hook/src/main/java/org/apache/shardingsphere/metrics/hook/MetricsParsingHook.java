@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.hook.stage.SlowQueryBreakdown;
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.apache.shardingsphere.sql.parser.hook.ParsingHook;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+/**
+ * Metrics parsing hook.
+ */
+public final class MetricsParsingHook extends AbstractMetricsStageHook implements ParsingHook {
+    
+    @Override
+    public void start(final String sql) {
+        if (MetricsTrackerFacade.getInstance().isEnabled()) {
+            SlowQueryBreakdown.beginParse(sql);
+        }
+        startTimer();
+    }
+    
+    @Override
+    public void finishSuccess(final SQLStatement sqlStatement) {
+        stopTimer(Stage.PARSE, "success");
+    }
+    
+    @Override
+    public void finishSuccess(final SQLStatement sqlStatement, final boolean cacheHit) {
+        stopTimer(Stage.PARSE, cacheHit ? "cache_hit" : "cache_miss");
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        stopTimer(Stage.PARSE, "failure");
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.hook.stage.SlowQueryBreakdown;
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.apache.shardingsphere.underlying.route.hook.RoutingHook;
+
+/**
+ * Metrics routing hook.
+ */
+public final class MetricsRoutingHook extends AbstractMetricsStageHook implements RoutingHook {
+    
+    private static final int MAX_ROUTE_UNITS_DETAIL = 16;
+    
+    @Override
+    public void start(final String sql) {
+        if (MetricsTrackerFacade.getInstance().isEnabled()) {
+            SlowQueryBreakdown.beginRoute(sql);
+        }
+        startTimer();
+    }
+    
+    @Override
+    public void finishSuccess(final RouteContext routeContext, final SchemaMetaData schemaMetaData) {
+        int routeUnitsSize = routeContext.getRouteResult().getRouteUnits().size();
+        stopTimer(Stage.ROUTE, routeUnitsSize > MAX_ROUTE_UNITS_DETAIL ? MAX_ROUTE_UNITS_DETAIL + "+" : String.valueOf(routeUnitsSize));
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        stopTimer(Stage.ROUTE, "failure");
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.apache.shardingsphere.underlying.common.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.underlying.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Metrics SQL execution hook.
+ */
+public final class MetricsSQLExecutionHook extends AbstractMetricsStageHook implements SQLExecutionHook {
+    
+    private String dataSourceName;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters, 
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        this.dataSourceName = dataSourceName;
+        startTimer(shardingExecuteDataMap);
+    }
+    
+    @Override
+    public void finishSuccess() {
+        stopTimer(Stage.EXECUTE, dataSourceName);
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        stopTimer(Stage.EXECUTE, dataSourceName);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook.stage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.metrics.configuration.config.MetricsConfiguration;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Slow query breakdown.
+ * 
+ * <p>
+ * Breakdown is created for sampled queries only, kept in executor data map to be visible for execution threads,
+ * and logged when query finished with total elapsed time not less than threshold.
+ * Query is treated as finished when root invoke finished, which is once per statement execution in JDBC and once per command in proxy,
+ * or when next query is routed in the same thread before that.
+ * </p>
+ */
+@Slf4j
+public final class SlowQueryBreakdown {
+    
+    public static final String THRESHOLD_MILLISECONDS_KEY = "slow.query.breakdown.threshold.milliseconds";
+    
+    public static final String SAMPLE_RATIO_KEY = "slow.query.breakdown.sample.ratio";
+    
+    private static final String SLOW_QUERY_BREAKDOWN = "SLOW_QUERY_BREAKDOWN";
+    
+    private static volatile Settings settings = new Settings(null, 0L, 0D);
+    
+    private final long thresholdNanos;
+    
+    private final AtomicLongArray stageNanos = new AtomicLongArray(Stage.values().length);
+    
+    private final AtomicReferenceArray<String> stageDetails = new AtomicReferenceArray<>(Stage.values().length);
+    
+    private final AtomicLong lastFinishNanoTime = new AtomicLong();
+    
+    private volatile String sql;
+    
+    private volatile boolean routed;
+    
+    private volatile long routeStartNanoTime;
+    
+    private SlowQueryBreakdown(final long thresholdNanos, final String sql) {
+        this.thresholdNanos = thresholdNanos;
+        this.sql = sql;
+    }
+    
+    /**
+     * Begin parsing of query in current thread.
+     *
+     * @param sql SQL
+     */
+    public static void beginParse(final String sql) {
+        SlowQueryBreakdown current = find(ExecutorDataMap.getValue());
+        if (null != current && !current.routed) {
+            current.sql = sql;
+            return;
+        }
+        finish();
+        create(sql);
+    }
+    
+    /**
+     * Begin routing of query in current thread.
+     *
+     * @param sql SQL
+     */
+    public static void beginRoute(final String sql) {
+        SlowQueryBreakdown current = find(ExecutorDataMap.getValue());
+        if (null == current || current.routed) {
+            finish();
+            current = create(sql);
+        }
+        if (null != current) {
+            current.sql = sql;
+            current.routeStartNanoTime = System.nanoTime();
+            current.routed = true;
+        }
+    }
+    
+    /**
+     * Finish query in current thread and log breakdown if query is slow.
+     */
+    public static void finish() {
+        SlowQueryBreakdown current = find(ExecutorDataMap.getValue());
+        if (null != current) {
+            ExecutorDataMap.getValue().remove(SLOW_QUERY_BREAKDOWN);
+            current.logIfSlow();
+        }
+    }
+    
+    /**
+     * Find slow query breakdown.
+     *
+     * @param executorDataMap executor data map
+     * @return slow query breakdown, null if query is not sampled
+     */
+    public static SlowQueryBreakdown find(final Map<String, Object> executorDataMap) {
+        return (SlowQueryBreakdown) executorDataMap.get(SLOW_QUERY_BREAKDOWN);
+    }
+    
+    private static SlowQueryBreakdown create(final String sql) {
+        Settings currentSettings = getSettings();
+        if (currentSettings.thresholdNanos <= 0 || ThreadLocalRandom.current().nextDouble() >= currentSettings.sampleRatio) {
+            return null;
+        }
+        SlowQueryBreakdown result = new SlowQueryBreakdown(currentSettings.thresholdNanos, sql);
+        ExecutorDataMap.getValue().put(SLOW_QUERY_BREAKDOWN, result);
+        return result;
+    }
+    
+    private static Settings getSettings() {
+        MetricsConfiguration metricsConfiguration = MetricsTrackerFacade.getInstance().getMetricsConfiguration();
+        Properties props = null == metricsConfiguration ? null : metricsConfiguration.getProps();
+        Settings result = settings;
+        if (result.props != props) {
+            result = null == props ? new Settings(null, 0L, 0D) : new Settings(props, 
+                    TimeUnit.MILLISECONDS.toNanos(Long.parseLong(props.getProperty(THRESHOLD_MILLISECONDS_KEY, "0"))), Double.parseDouble(props.getProperty(SAMPLE_RATIO_KEY, "1")));
+            settings = result;
+        }
+        return result;
+    }
+    
+    /**
+     * Record elapsed time of stage.
+     *
+     * @param stage stage
+     * @param detail detail of stage
+     * @param elapsedNanos elapsed time in nanoseconds
+     * @param finishNanoTime finish time in nanoseconds
+     */
+    public void record(final Stage stage, final String detail, final long elapsedNanos, final long finishNanoTime) {
+        stageNanos.addAndGet(stage.ordinal(), elapsedNanos);
+        stageDetails.set(stage.ordinal(), detail);
+        lastFinishNanoTime.accumulateAndGet(finishNanoTime, Math::max);
+    }
+    
+    private void logIfSlow() {
+        long totalNanos = stageNanos.get(Stage.PARSE.ordinal()) + (routed ? Math.max(lastFinishNanoTime.get() - routeStartNanoTime, 0L) : 0L);
+        if (totalNanos < thresholdNanos) {
+            return;
+        }
+        StringBuilder stages = new StringBuilder();
+        for (Stage each : Stage.values()) {
+            String detail = stageDetails.get(each.ordinal());
+            if (null != detail) {
+                stages.append(", ").append(each.getName()).append('=').append(toMillis(stageNanos.get(each.ordinal()))).append("ms(").append(detail).append(')');
+            }
+        }
+        log.warn("Slow query breakdown: total={}ms{}, SQL: {}", toMillis(totalNanos), stages, sql);
+    }
+    
+    private static String toMillis(final long nanos) {
+        return String.format("%.3f", nanos / 1E6);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Settings {
+        
+        private final Properties props;
+        
+        private final long thresholdNanos;
+        
+        private final double sampleRatio;
+    }
+}
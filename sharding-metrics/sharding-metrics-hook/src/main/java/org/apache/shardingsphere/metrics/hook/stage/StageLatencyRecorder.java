@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook.stage;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.metrics.facade.handle.MetricsHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stage latency recorder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StageLatencyRecorder {
+    
+    private static final Map<Stage, ConcurrentMap<String, MetricsHistogram>> HISTOGRAMS = new EnumMap<>(Stage.class);
+    
+    static {
+        for (Stage each : Stage.values()) {
+            HISTOGRAMS.put(each, new ConcurrentHashMap<>());
+        }
+    }
+    
+    /**
+     * Record elapsed time of stage.
+     *
+     * @param stage stage
+     * @param detail detail of stage
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public static void record(final Stage stage, final String detail, final long elapsedNanos) {
+        getHistogram(stage, detail).observe(elapsedNanos);
+    }
+    
+    private static MetricsHistogram getHistogram(final Stage stage, final String detail) {
+        ConcurrentMap<String, MetricsHistogram> histograms = HISTOGRAMS.get(stage);
+        MetricsHistogram result = histograms.get(detail);
+        if (null != result) {
+            return result;
+        }
+        MetricsHistogram histogram = new MetricsHistogram(MetricsLabelEnum.STAGE_LATENCY.getName(), stage.getName(), detail);
+        result = histograms.putIfAbsent(detail, histogram);
+        return null == result ? histogram : result;
+    }
+}
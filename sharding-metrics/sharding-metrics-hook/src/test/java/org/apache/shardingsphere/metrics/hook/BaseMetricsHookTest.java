@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.configuration.config.MetricsConfiguration;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.hook.fixture.StageLatencyHistogramMetricsTrackerFixture;
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.apache.shardingsphere.metrics.hook.util.FieldUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public abstract class BaseMetricsHookTest {
+    
+    @BeforeClass
+    public static void initMetricsTrackerFacade() {
+        MetricsTrackerFacade.getInstance().init(new MetricsConfiguration("fixture", null, null, false, 1, new Properties()));
+    }
+    
+    @Before
+    public void clearObservations() {
+        StageLatencyHistogramMetricsTrackerFixture.clearObservations();
+    }
+    
+    @After
+    public void enableMetricsTrackerFacade() {
+        FieldUtil.setField(MetricsTrackerFacade.getInstance(), "enabled", true);
+    }
+    
+    protected final void disableMetricsTrackerFacade() {
+        FieldUtil.setField(MetricsTrackerFacade.getInstance(), "enabled", false);
+    }
+    
+    protected final void assertObserved(final Stage stage, final String detail) {
+        assertThat(StageLatencyHistogramMetricsTrackerFixture.getObservations(stage.getName(), detail).size(), is(1));
+    }
+    
+    protected final void assertNotObserved(final Stage stage, final String detail) {
+        assertTrue(StageLatencyHistogramMetricsTrackerFixture.getObservations(stage.getName(), detail).isEmpty());
+    }
+}
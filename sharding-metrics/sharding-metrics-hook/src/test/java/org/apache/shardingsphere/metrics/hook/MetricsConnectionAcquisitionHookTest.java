@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.junit.Test;
+
+public final class MetricsConnectionAcquisitionHookTest extends BaseMetricsHookTest {
+    
+    private final MetricsConnectionAcquisitionHook connectionAcquisitionHook = new MetricsConnectionAcquisitionHook();
+    
+    @Test
+    public void assertFinishSuccess() {
+        connectionAcquisitionHook.start("ds_0", 1);
+        connectionAcquisitionHook.finishSuccess();
+        assertObserved(Stage.CONNECTION_ACQUISITION, "ds_0");
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        connectionAcquisitionHook.start("ds_1", 1);
+        connectionAcquisitionHook.finishFailure(new RuntimeException());
+        assertObserved(Stage.CONNECTION_ACQUISITION, "ds_1");
+    }
+    
+    @Test
+    public void assertFinishSuccessWithConcurrentAcquisition() throws InterruptedException {
+        connectionAcquisitionHook.start("ds_0", 1);
+        Thread concurrentAcquisition = new Thread(() -> {
+            connectionAcquisitionHook.start("ds_1", 1);
+            connectionAcquisitionHook.finishSuccess();
+        });
+        concurrentAcquisition.start();
+        concurrentAcquisition.join();
+        connectionAcquisitionHook.finishSuccess();
+        assertObserved(Stage.CONNECTION_ACQUISITION, "ds_0");
+        assertObserved(Stage.CONNECTION_ACQUISITION, "ds_1");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+
+public final class MetricsParsingHookTest extends BaseMetricsHookTest {
+    
+    private final MetricsParsingHook parsingHook = new MetricsParsingHook();
+    
+    @Test
+    public void assertFinishSuccessWithCacheHit() {
+        parsingHook.start("SELECT 1");
+        parsingHook.finishSuccess(mock(SQLStatement.class), true);
+        assertObserved(Stage.PARSE, "cache_hit");
+    }
+    
+    @Test
+    public void assertFinishSuccessWithCacheMiss() {
+        parsingHook.start("SELECT 1");
+        parsingHook.finishSuccess(mock(SQLStatement.class), false);
+        assertObserved(Stage.PARSE, "cache_miss");
+    }
+    
+    @Test
+    public void assertFinishSuccessWithoutCacheStatus() {
+        parsingHook.start("SELECT 1");
+        parsingHook.finishSuccess(mock(SQLStatement.class));
+        assertObserved(Stage.PARSE, "success");
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        parsingHook.start("SELECT 1");
+        parsingHook.finishFailure(new RuntimeException());
+        assertObserved(Stage.PARSE, "failure");
+    }
+    
+    @Test
+    public void assertFinishSuccessOnlyOnce() {
+        parsingHook.start("SELECT 1");
+        parsingHook.finishSuccess(mock(SQLStatement.class), false);
+        parsingHook.finishSuccess(mock(SQLStatement.class), false);
+        assertObserved(Stage.PARSE, "cache_miss");
+    }
+    
+    @Test
+    public void assertFinishSuccessWhenDisabled() {
+        disableMetricsTrackerFacade();
+        parsingHook.start("SELECT 1");
+        parsingHook.finishSuccess(mock(SQLStatement.class), false);
+        assertNotObserved(Stage.PARSE, "cache_miss");
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.GenericSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public final class MetricsRewritingHookTest extends BaseMetricsHookTest {
+    
+    private final MetricsRewritingHook rewritingHook = new MetricsRewritingHook();
+    
+    @Test
+    public void assertFinishSuccessWithGenericSQLRewriteResult() {
+        rewritingHook.start("SELECT 1");
+        rewritingHook.finishSuccess(new GenericSQLRewriteResult(new SQLRewriteUnit("SELECT 1", Collections.emptyList())));
+        assertObserved(Stage.REWRITE, "generic");
+    }
+    
+    @Test
+    public void assertFinishSuccessWithRouteSQLRewriteResult() {
+        rewritingHook.start("SELECT 1");
+        rewritingHook.finishSuccess(new RouteSQLRewriteResult(Collections.emptyMap()));
+        assertObserved(Stage.REWRITE, "route");
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        rewritingHook.start("SELECT 1");
+        rewritingHook.finishFailure(new RuntimeException());
+        assertObserved(Stage.REWRITE, "failure");
+    }
+}
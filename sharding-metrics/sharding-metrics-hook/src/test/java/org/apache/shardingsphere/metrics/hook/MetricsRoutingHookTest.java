@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public final class MetricsRoutingHookTest extends BaseMetricsHookTest {
+    
+    private final MetricsRoutingHook routingHook = new MetricsRoutingHook();
+    
+    @Test
+    public void assertFinishSuccess() {
+        routingHook.start("SELECT 1");
+        routingHook.finishSuccess(createRouteContext(2), null);
+        assertObserved(Stage.ROUTE, "2");
+    }
+    
+    @Test
+    public void assertFinishSuccessWithTooManyRouteUnits() {
+        routingHook.start("SELECT 1");
+        routingHook.finishSuccess(createRouteContext(17), null);
+        assertObserved(Stage.ROUTE, "16+");
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        routingHook.start("SELECT 1");
+        routingHook.finishFailure(new RuntimeException());
+        assertObserved(Stage.ROUTE, "failure");
+    }
+    
+    @Test
+    public void assertFinishSuccessWithConcurrentRoute() throws InterruptedException {
+        routingHook.start("SELECT 1");
+        Thread concurrentRoute = new Thread(() -> {
+            routingHook.start("SELECT 2");
+            routingHook.finishFailure(new RuntimeException());
+        });
+        concurrentRoute.start();
+        concurrentRoute.join();
+        routingHook.finishSuccess(createRouteContext(2), null);
+        assertObserved(Stage.ROUTE, "failure");
+        assertObserved(Stage.ROUTE, "2");
+    }
+    
+    @Test
+    public void assertFinishSuccessWhenDisabled() {
+        disableMetricsTrackerFacade();
+        routingHook.start("SELECT 1");
+        routingHook.finishSuccess(createRouteContext(2), null);
+        assertNotObserved(Stage.ROUTE, "2");
+    }
+    
+    private RouteContext createRouteContext(final int routeUnitsSize) {
+        RouteResult routeResult = new RouteResult();
+        for (int i = 0; i < routeUnitsSize; i++) {
+            routeResult.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_" + i), Collections.emptyList()));
+        }
+        return new RouteContext(null, Collections.emptyList(), routeResult);
+    }
+}
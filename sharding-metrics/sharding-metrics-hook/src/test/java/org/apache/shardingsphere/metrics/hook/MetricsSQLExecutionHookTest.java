@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.hook.stage.Stage;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+public final class MetricsSQLExecutionHookTest extends BaseMetricsHookTest {
+    
+    private final MetricsSQLExecutionHook sqlExecutionHook = new MetricsSQLExecutionHook();
+    
+    @Test
+    public void assertFinishSuccess() {
+        sqlExecutionHook.start("ds_0", "SELECT 1", Collections.emptyList(), null, true, new HashMap<>());
+        sqlExecutionHook.finishSuccess();
+        assertObserved(Stage.EXECUTE, "ds_0");
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        sqlExecutionHook.start("ds_1", "SELECT 1", Collections.emptyList(), null, false, new HashMap<>());
+        sqlExecutionHook.finishFailure(new RuntimeException());
+        assertObserved(Stage.EXECUTE, "ds_1");
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook.fixture;
+
+import org.apache.shardingsphere.metrics.api.BoundHistogramMetricsTracker;
+import org.apache.shardingsphere.metrics.api.HistogramMetricsTracker;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class StageLatencyHistogramMetricsTrackerFixture implements HistogramMetricsTracker {
+    
+    private static final Map<String, List<Long>> OBSERVATIONS = new ConcurrentHashMap<>();
+    
+    @Override
+    public BoundHistogramMetricsTracker bind(final String... labelValues) {
+        String key = String.join(":", labelValues);
+        return elapsedNanos -> OBSERVATIONS.computeIfAbsent(key, each -> new CopyOnWriteArrayList<>()).add(elapsedNanos);
+    }
+    
+    @Override
+    public String metricsLabel() {
+        return MetricsLabelEnum.STAGE_LATENCY.getName();
+    }
+    
+    /**
+     * Get observations.
+     *
+     * @param stage stage name
+     * @param detail detail of stage
+     * @return observed elapsed time in nanoseconds
+     */
+    public static List<Long> getObservations(final String stage, final String detail) {
+        return OBSERVATIONS.getOrDefault(stage + ":" + detail, Collections.emptyList());
+    }
+    
+    /**
+     * Clear observations.
+     */
+    public static void clearObservations() {
+        OBSERVATIONS.clear();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook.stage;
+
+import org.apache.shardingsphere.metrics.configuration.config.MetricsConfiguration;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.hook.BaseMetricsHookTest;
+import org.apache.shardingsphere.metrics.hook.MetricsParsingHook;
+import org.apache.shardingsphere.metrics.hook.MetricsRootInvokeHook;
+import org.apache.shardingsphere.metrics.hook.util.FieldUtil;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public final class SlowQueryBreakdownTest extends BaseMetricsHookTest {
+    
+    private MetricsConfiguration originalMetricsConfiguration;
+    
+    @Before
+    public void setUp() {
+        originalMetricsConfiguration = MetricsTrackerFacade.getInstance().getMetricsConfiguration();
+    }
+    
+    @After
+    public void tearDown() {
+        SlowQueryBreakdown.finish();
+        FieldUtil.setField(MetricsTrackerFacade.getInstance(), "metricsConfiguration", originalMetricsConfiguration);
+    }
+    
+    @Test
+    public void assertBeginParseWithoutThreshold() {
+        setSlowQueryBreakdownProps("0", "1");
+        SlowQueryBreakdown.beginParse("SELECT 1");
+        assertNull(SlowQueryBreakdown.find(ExecutorDataMap.getValue()));
+    }
+    
+    @Test
+    public void assertBeginParseWithoutSampled() {
+        setSlowQueryBreakdownProps("1000000", "0");
+        SlowQueryBreakdown.beginParse("SELECT 1");
+        assertNull(SlowQueryBreakdown.find(ExecutorDataMap.getValue()));
+    }
+    
+    @Test
+    public void assertBeginParseWithSampled() {
+        setSlowQueryBreakdownProps("1000000", "1");
+        SlowQueryBreakdown.beginParse("SELECT 1");
+        assertNotNull(SlowQueryBreakdown.find(ExecutorDataMap.getValue()));
+    }
+    
+    @Test
+    public void assertBeginRouteAfterParse() {
+        setSlowQueryBreakdownProps("1000000", "1");
+        SlowQueryBreakdown.beginParse("SELECT 1");
+        SlowQueryBreakdown expected = SlowQueryBreakdown.find(ExecutorDataMap.getValue());
+        SlowQueryBreakdown.beginRoute("SELECT 1");
+        assertSame(SlowQueryBreakdown.find(ExecutorDataMap.getValue()), expected);
+    }
+    
+    @Test
+    public void assertBeginParseAfterRoute() {
+        setSlowQueryBreakdownProps("1000000", "1");
+        SlowQueryBreakdown.beginRoute("SELECT 1");
+        SlowQueryBreakdown previous = SlowQueryBreakdown.find(ExecutorDataMap.getValue());
+        SlowQueryBreakdown.beginParse("SELECT 2");
+        SlowQueryBreakdown actual = SlowQueryBreakdown.find(ExecutorDataMap.getValue());
+        assertNotNull(actual);
+        assertNotSame(actual, previous);
+    }
+    
+    @Test
+    public void assertFinishByRootInvokeHook() {
+        setSlowQueryBreakdownProps("1000000", "1");
+        MetricsParsingHook parsingHook = new MetricsParsingHook();
+        parsingHook.start("SELECT 1");
+        parsingHook.finishSuccess(mock(SQLStatement.class), false);
+        assertNotNull(SlowQueryBreakdown.find(ExecutorDataMap.getValue()));
+        new MetricsRootInvokeHook().finish(1);
+        assertNull(SlowQueryBreakdown.find(ExecutorDataMap.getValue()));
+    }
+    
+    private void setSlowQueryBreakdownProps(final String thresholdMilliseconds, final String sampleRatio) {
+        Properties props = new Properties();
+        props.setProperty(SlowQueryBreakdown.THRESHOLD_MILLISECONDS_KEY, thresholdMilliseconds);
+        props.setProperty(SlowQueryBreakdown.SAMPLE_RATIO_KEY, sampleRatio);
+        FieldUtil.setField(MetricsTrackerFacade.getInstance(), "metricsConfiguration", new MetricsConfiguration("fixture", null, null, false, 1, props));
+    }
+}
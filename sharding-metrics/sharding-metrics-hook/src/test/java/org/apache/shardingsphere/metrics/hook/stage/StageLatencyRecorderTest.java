@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook.stage;
+
+import org.apache.shardingsphere.metrics.hook.BaseMetricsHookTest;
+import org.apache.shardingsphere.metrics.hook.fixture.StageLatencyHistogramMetricsTrackerFixture;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class StageLatencyRecorderTest extends BaseMetricsHookTest {
+    
+    @Test
+    public void assertRecord() {
+        StageLatencyRecorder.record(Stage.EXECUTE, "ds_0", 100L);
+        StageLatencyRecorder.record(Stage.EXECUTE, "ds_0", 200L);
+        StageLatencyRecorder.record(Stage.EXECUTE, "ds_1", 300L);
+        assertThat(StageLatencyHistogramMetricsTrackerFixture.getObservations(Stage.EXECUTE.getName(), "ds_0"), is(Arrays.asList(100L, 200L)));
+        assertThat(StageLatencyHistogramMetricsTrackerFixture.getObservations(Stage.EXECUTE.getName(), "ds_1"), is(Collections.singletonList(300L)));
+    }
+    
+    @Test
+    public void assertRecordWhenDisabled() {
+        disableMetricsTrackerFacade();
+        StageLatencyRecorder.record(Stage.MERGE, "failure", 100L);
+        assertNotObserved(Stage.MERGE, "failure");
+    }
+}
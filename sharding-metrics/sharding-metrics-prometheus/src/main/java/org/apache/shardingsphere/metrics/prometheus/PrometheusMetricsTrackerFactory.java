@@ -19,12 +19,15 @@ package org.apache.shardingsphere.metrics.prometheus;
 
 import org.apache.shardingsphere.metrics.api.MetricsTracker;
 import org.apache.shardingsphere.metrics.api.MetricsTrackerFactory;
+import org.apache.shardingsphere.metrics.prometheus.impl.counter.DatabaseTimeSyncFailureCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.RequestTotalCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.SQLStatementCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.ShardingCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.TransactionCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.gauge.ChannelCountGaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.gauge.DatabaseTimeGaugeMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.histogram.RequestLatencyHistogramMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.histogram.StageLatencyHistogramMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.summary.RequestLatencySummaryMetricsTracker;
 
 import java.util.ArrayList;
@@ -43,9 +46,12 @@ public final class PrometheusMetricsTrackerFactory implements MetricsTrackerFact
         REGISTER.add(new SQLStatementCounterMetricsTracker());
         REGISTER.add(new ChannelCountGaugeMetricsTracker());
         REGISTER.add(new RequestLatencyHistogramMetricsTracker());
+        REGISTER.add(new StageLatencyHistogramMetricsTracker());
         REGISTER.add(new RequestLatencySummaryMetricsTracker());
         REGISTER.add(new ShardingCounterMetricsTracker());
         REGISTER.add(new TransactionCounterMetricsTracker());
+        REGISTER.add(new DatabaseTimeGaugeMetricsTracker());
+        REGISTER.add(new DatabaseTimeSyncFailureCounterMetricsTracker());
     }
     
     @Override
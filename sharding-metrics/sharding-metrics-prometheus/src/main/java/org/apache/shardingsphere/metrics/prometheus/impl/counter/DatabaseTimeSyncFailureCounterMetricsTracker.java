@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus.impl.counter;
+
+import io.prometheus.client.Counter;
+import org.apache.shardingsphere.metrics.api.BoundCounterMetricsTracker;
+import org.apache.shardingsphere.metrics.api.CounterMetricsTracker;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+
+/**
+ * Database time sync failure counter metrics tracker.
+ */
+public final class DatabaseTimeSyncFailureCounterMetricsTracker implements CounterMetricsTracker {
+    
+    private static final Counter DATABASE_TIME_SYNC_FAILURE = Counter.build()
+            .name("database_time_sync_failure")
+            .help("database time service failed sync count")
+            .register();
+    
+    @Override
+    public void inc(final double amount, final String... labelValues) {
+        DATABASE_TIME_SYNC_FAILURE.inc(amount);
+    }
+    
+    @Override
+    public BoundCounterMetricsTracker bind(final String... labelValues) {
+        return DATABASE_TIME_SYNC_FAILURE.labels(labelValues)::inc;
+    }
+    
+    @Override
+    public String metricsLabel() {
+        return MetricsLabelEnum.DATABASE_TIME_SYNC_FAILURE.getName();
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.metrics.prometheus.impl.counter;
 
 import io.prometheus.client.Counter;
+import org.apache.shardingsphere.metrics.api.BoundCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.api.CounterMetricsTracker;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
 
@@ -36,6 +37,11 @@ public final class RequestTotalCounterMetricsTracker implements CounterMetricsTr
         REQUEST_TOTAL.inc(amount);
     }
     
+    @Override
+    public BoundCounterMetricsTracker bind(final String... labelValues) {
+        return REQUEST_TOTAL.labels(labelValues)::inc;
+    }
+    
     @Override
     public String metricsLabel() {
         return MetricsLabelEnum.REQUEST_TOTAL.getName();
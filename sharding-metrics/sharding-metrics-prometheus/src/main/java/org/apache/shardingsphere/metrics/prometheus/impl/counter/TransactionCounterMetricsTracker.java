@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.metrics.prometheus.impl.counter;
 
 import io.prometheus.client.Counter;
+import org.apache.shardingsphere.metrics.api.BoundCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.api.CounterMetricsTracker;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
 
@@ -37,6 +38,11 @@ public final class TransactionCounterMetricsTracker implements CounterMetricsTra
         TRANSACTION.labels(labelValues).inc(amount);
     }
     
+    @Override
+    public BoundCounterMetricsTracker bind(final String... labelValues) {
+        return TRANSACTION.labels(labelValues)::inc;
+    }
+    
     @Override
     public String metricsLabel() {
         return MetricsLabelEnum.TRANSACTION.getName();
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.metrics.prometheus.impl.gauge;
 
 import io.prometheus.client.Gauge;
+import org.apache.shardingsphere.metrics.api.BoundGaugeMetricsTracker;
 import org.apache.shardingsphere.metrics.api.GaugeMetricsTracker;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
 
@@ -38,6 +39,33 @@ public final class ChannelCountGaugeMetricsTracker implements GaugeMetricsTracke
         CHANNEL_COUNT.dec(amount);
     }
     
+    @Override
+    public void set(final double value, final String... labelValues) {
+        CHANNEL_COUNT.set(value);
+    }
+    
+    @Override
+    public BoundGaugeMetricsTracker bind(final String... labelValues) {
+        Gauge.Child child = CHANNEL_COUNT.labels(labelValues);
+        return new BoundGaugeMetricsTracker() {
+            
+            @Override
+            public void inc(final double amount) {
+                child.inc(amount);
+            }
+            
+            @Override
+            public void dec(final double amount) {
+                child.dec(amount);
+            }
+            
+            @Override
+            public void set(final double value) {
+                child.set(value);
+            }
+        };
+    }
+    
     @Override
     public String metricsLabel() {
         return MetricsLabelEnum.CHANNEL_COUNT.getName();
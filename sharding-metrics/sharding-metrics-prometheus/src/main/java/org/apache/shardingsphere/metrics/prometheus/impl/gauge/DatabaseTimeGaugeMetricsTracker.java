@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus.impl.gauge;
+
+import io.prometheus.client.Gauge;
+import org.apache.shardingsphere.metrics.api.BoundGaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.api.GaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+
+/**
+ * Database time gauge metrics tracker.
+ */
+public final class DatabaseTimeGaugeMetricsTracker implements GaugeMetricsTracker {
+    
+    private static final Gauge DATABASE_TIME = Gauge.build()
+            .name("database_time")
+            .labelNames("metric")
+            .help("database time service clock offset, drift, staleness and round trip")
+            .register();
+    
+    @Override
+    public void inc(final double amount, final String... labelValues) {
+        DATABASE_TIME.labels(labelValues).inc(amount);
+    }
+    
+    @Override
+    public void dec(final double amount, final String... labelValues) {
+        DATABASE_TIME.labels(labelValues).dec(amount);
+    }
+    
+    @Override
+    public void set(final double value, final String... labelValues) {
+        DATABASE_TIME.labels(labelValues).set(value);
+    }
+    
+    @Override
+    public BoundGaugeMetricsTracker bind(final String... labelValues) {
+        Gauge.Child child = DATABASE_TIME.labels(labelValues);
+        return new BoundGaugeMetricsTracker() {
+            
+            @Override
+            public void inc(final double amount) {
+                child.inc(amount);
+            }
+            
+            @Override
+            public void dec(final double amount) {
+                child.dec(amount);
+            }
+            
+            @Override
+            public void set(final double value) {
+                child.set(value);
+            }
+        };
+    }
+    
+    @Override
+    public String metricsLabel() {
+        return MetricsLabelEnum.DATABASE_TIME.getName();
+    }
+}
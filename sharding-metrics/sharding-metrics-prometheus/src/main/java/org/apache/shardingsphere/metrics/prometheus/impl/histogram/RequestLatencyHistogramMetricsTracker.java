@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.metrics.prometheus.impl.histogram;
 
 import io.prometheus.client.Histogram;
+import org.apache.shardingsphere.metrics.api.BoundHistogramMetricsTracker;
 import org.apache.shardingsphere.metrics.api.HistogramMetricsTrackerDelegate;
 import org.apache.shardingsphere.metrics.api.HistogramMetricsTracker;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
@@ -27,6 +28,8 @@ import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
  */
 public final class RequestLatencyHistogramMetricsTracker implements HistogramMetricsTracker {
     
+    private static final double NANOSECONDS_PER_SECOND = 1E9;
+    
     private static final Histogram REQUEST_LATENCY = Histogram.build()
             .name("requests_latency_histogram_millis").help("Requests Latency Histogram Millis (ms)")
             .register();
@@ -37,6 +40,12 @@ public final class RequestLatencyHistogramMetricsTracker implements HistogramMet
         return new PrometheusHistogramMetricsTrackerDelegate(timer);
     }
     
+    @Override
+    public BoundHistogramMetricsTracker bind(final String... labelValues) {
+        Histogram.Child child = REQUEST_LATENCY.labels(labelValues);
+        return elapsedNanos -> child.observe(elapsedNanos / NANOSECONDS_PER_SECOND);
+    }
+    
     @Override
     public String metricsLabel() {
         return MetricsLabelEnum.REQUEST_LATENCY.getName();
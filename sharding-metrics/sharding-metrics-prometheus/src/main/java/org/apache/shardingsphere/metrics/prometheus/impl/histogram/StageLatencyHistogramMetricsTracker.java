@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus.impl.histogram;
+
+import io.prometheus.client.Histogram;
+import org.apache.shardingsphere.metrics.api.BoundHistogramMetricsTracker;
+import org.apache.shardingsphere.metrics.api.HistogramMetricsTracker;
+import org.apache.shardingsphere.metrics.api.HistogramMetricsTrackerDelegate;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+
+/**
+ * Stage latency histogram metrics tracker.
+ */
+public final class StageLatencyHistogramMetricsTracker implements HistogramMetricsTracker {
+    
+    private static final double NANOSECONDS_PER_SECOND = 1E9;
+    
+    private static final Histogram STAGE_LATENCY = Histogram.build()
+            .name("stage_latency_histogram_seconds").help("Stage Latency Histogram Seconds (s)")
+            .labelNames("stage", "detail")
+            .buckets(0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5)
+            .register();
+    
+    @Override
+    public HistogramMetricsTrackerDelegate startTimer(final String... labelValues) {
+        Histogram.Timer timer = STAGE_LATENCY.labels(labelValues).startTimer();
+        return new PrometheusHistogramMetricsTrackerDelegate(timer);
+    }
+    
+    @Override
+    public BoundHistogramMetricsTracker bind(final String... labelValues) {
+        Histogram.Child child = STAGE_LATENCY.labels(labelValues);
+        return elapsedNanos -> child.observe(elapsedNanos / NANOSECONDS_PER_SECOND);
+    }
+    
+    @Override
+    public String metricsLabel() {
+        return MetricsLabelEnum.STAGE_LATENCY.getName();
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.metrics.prometheus.impl.summary;
 
 import io.prometheus.client.Summary;
+import org.apache.shardingsphere.metrics.api.BoundSummaryMetricsTracker;
 import org.apache.shardingsphere.metrics.api.SummaryMetricsTracker;
 import org.apache.shardingsphere.metrics.api.SummaryMetricsTrackerDelegate;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
@@ -29,6 +30,8 @@ import java.util.concurrent.TimeUnit;
  */
 public final class RequestLatencySummaryMetricsTracker implements SummaryMetricsTracker {
     
+    private static final double NANOSECONDS_PER_SECOND = 1E9;
+    
     private static final Summary REQUEST_LATENCY = Summary.build()
             .name("requests_latency_summary_millis").help("Requests Latency Summary Millis (ms)")
             .quantile(0.5, 0.05)
@@ -44,6 +47,12 @@ public final class RequestLatencySummaryMetricsTracker implements SummaryMetrics
         return new PrometheusSummaryMetricsTrackerDelegate(timer);
     }
     
+    @Override
+    public BoundSummaryMetricsTracker bind(final String... labelValues) {
+        Summary.Child child = REQUEST_LATENCY.labels(labelValues);
+        return elapsedNanos -> child.observe(elapsedNanos / NANOSECONDS_PER_SECOND);
+    }
+    
     @Override
     public String metricsLabel() {
         return MetricsLabelEnum.REQUEST_LATENCY.getName();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.metrics.prometheus.impl.counter;
 
+import org.apache.shardingsphere.metrics.api.BoundCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
 import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
 import org.apache.shardingsphere.metrics.prometheus.impl.AbstractPrometheusCollectorRegistry;
@@ -54,5 +55,13 @@ public final class SQLStatementCounterMetricsTrackerTest extends AbstractPrometh
         Double insert = getCollectorRegistry().getSampleValue(metricsName, new String[]{labelName}, new String[]{"insert"});
         assertThat(insert, is(3.0));
     }
+    
+    @Test
+    public void assertBind() {
+        BoundCounterMetricsTracker boundTracker = new SQLStatementCounterMetricsTracker().bind("replace");
+        boundTracker.inc(1.0);
+        boundTracker.inc(2.0);
+        Double replace = getCollectorRegistry().getSampleValue("sql_statement_count", new String[]{"sql_type"}, new String[]{"replace"});
+        assertThat(replace, is(3.0));
+    }
 }
-
@@ -32,6 +32,16 @@ public interface CounterMetricsTracker extends MetricsTracker {
      */
     void inc(double amount, String... labelValues);
     
+    /**
+     * Bind label values.
+     *
+     * @param labelValues label values
+     * @return counter metrics tracker bound with label values
+     */
+    default BoundCounterMetricsTracker bind(String... labelValues) {
+        return amount -> inc(amount, labelValues);
+    }
+    
     /**
      * Metrics type.
      *
@@ -40,6 +40,40 @@ public interface GaugeMetricsTracker extends MetricsTracker {
      */
     void dec(double amount, String... labelValues);
     
+    /**
+     *  Set the Gauge with label values to the given value.
+     *
+     * @param value value
+     * @param labelValues label values
+     */
+    void set(double value, String... labelValues);
+    
+    /**
+     * Bind label values.
+     *
+     * @param labelValues label values
+     * @return gauge metrics tracker bound with label values
+     */
+    default BoundGaugeMetricsTracker bind(String... labelValues) {
+        return new BoundGaugeMetricsTracker() {
+            
+            @Override
+            public void inc(final double amount) {
+                GaugeMetricsTracker.this.inc(amount, labelValues);
+            }
+            
+            @Override
+            public void dec(final double amount) {
+                GaugeMetricsTracker.this.dec(amount, labelValues);
+            }
+            
+            @Override
+            public void set(final double value) {
+                GaugeMetricsTracker.this.set(value, labelValues);
+            }
+        };
+    }
+    
     /**
      * Metrics type.
      *
@@ -42,6 +42,14 @@ public interface HistogramMetricsTracker extends MetricsTracker {
     default void observer(long amount) {
     }
     
+    /**
+     * Bind label values.
+     *
+     * @param labelValues label values
+     * @return histogram metrics tracker bound with label values
+     */
+    BoundHistogramMetricsTracker bind(String... labelValues);
+    
     /**
      * Metrics type.
      *
@@ -42,6 +42,14 @@ public interface SummaryMetricsTracker extends MetricsTracker {
     default void observer(long amount) {
     }
     
+    /**
+     * Bind label values.
+     *
+     * @param labelValues label values
+     * @return summary metrics tracker bound with label values
+     */
+    BoundSummaryMetricsTracker bind(String... labelValues);
+    
     /**
      * Metrics type.
      *
@@ -47,6 +47,11 @@ public enum MetricsLabelEnum {
      */
     REQUEST_LATENCY("request_latency"),
     
+    /**
+     * Stage latency metrics label.
+     */
+    STAGE_LATENCY("stage_latency"),
+    
     /**
      * Sharding metrics label.
      */
@@ -55,7 +60,17 @@ public enum MetricsLabelEnum {
     /**
      * Transaction metrics label.
      */
-    TRANSACTION("transaction");
+    TRANSACTION("transaction"),
+    
+    /**
+     * Database time metrics label.
+     */
+    DATABASE_TIME("database_time"),
+    
+    /**
+     * Database time sync failure metrics label.
+     */
+    DATABASE_TIME_SYNC_FAILURE("database_time_sync_failure");
     
     private final String name;
 }
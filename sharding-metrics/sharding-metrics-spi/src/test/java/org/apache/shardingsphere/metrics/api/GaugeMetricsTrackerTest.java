@@ -41,6 +41,11 @@ public final class GaugeMetricsTrackerTest implements GaugeMetricsTracker {
     
     }
     
+    @Override
+    public void set(final double value, final String... labelValues) {
+    
+    }
+    
     @Override
     public String metricsLabel() {
         return null;
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.opentracing;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sharding tracing options, initialized from system properties.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@Setter
+public final class ShardingTracingOptions {
+    
+    private static final String SAMPLE_RATE = "org.apache.shardingsphere.opentracing.sample.rate";
+    
+    private static final String MAX_TAG_LENGTH = "org.apache.shardingsphere.opentracing.tag.max.length";
+    
+    private static final String AGGREGATE_EXECUTION = "org.apache.shardingsphere.opentracing.execution.aggregate";
+    
+    private static final ShardingTracingOptions INSTANCE = new ShardingTracingOptions();
+    
+    private volatile double sampleRate = Double.parseDouble(System.getProperty(SAMPLE_RATE, "1"));
+    
+    private volatile int maxTagLength = Integer.parseInt(System.getProperty(MAX_TAG_LENGTH, "1024"));
+    
+    private volatile boolean aggregateExecution = Boolean.parseBoolean(System.getProperty(AGGREGATE_EXECUTION, "false"));
+    
+    /**
+     * Get instance of sharding tracing options.
+     *
+     * @return instance of sharding tracing options
+     */
+    public static ShardingTracingOptions getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Make sampling decision by sample rate.
+     *
+     * @return is sampled or not
+     */
+    public boolean sample() {
+        return sampleRate >= 1 || sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
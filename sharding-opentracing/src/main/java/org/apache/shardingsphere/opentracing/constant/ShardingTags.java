@@ -41,4 +41,9 @@ public final class ShardingTags {
      * Records the connection count.
      */
     public static final StringTag CONNECTION_COUNT = new StringTag("connection.count");
+    
+    /**
+     * Records the count of execution units.
+     */
+    public static final StringTag EXECUTION_COUNT = new StringTag("execution.count");
 }
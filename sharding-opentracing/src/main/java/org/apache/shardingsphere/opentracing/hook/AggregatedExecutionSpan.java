@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.opentracing.hook;
+
+import io.opentracing.BaseSpan;
+import io.opentracing.Span;
+import io.opentracing.tag.Tags;
+import org.apache.shardingsphere.opentracing.ShardingTracer;
+import org.apache.shardingsphere.opentracing.constant.ShardingErrorLogTags;
+import org.apache.shardingsphere.opentracing.constant.ShardingTags;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregated execution span, records every execution unit of one invocation as an event instead of a child span.
+ */
+public final class AggregatedExecutionSpan {
+    
+    private static final String OPERATION_NAME = "/" + ShardingTags.COMPONENT_NAME + "/executeSQL/aggregated/";
+    
+    private static final String EVENT_EXECUTION_TYPE = "execution";
+    
+    private static final String ELAPSED_MICROS = "elapsed.micros";
+    
+    private final BaseSpan<?> parent;
+    
+    private Span span;
+    
+    private int executionCount;
+    
+    private boolean failed;
+    
+    public AggregatedExecutionSpan(final BaseSpan<?> parent) {
+        this.parent = parent;
+    }
+    
+    /**
+     * Start span if not started.
+     */
+    public synchronized void start() {
+        if (null == span) {
+            span = ShardingTracer.get().buildSpan(OPERATION_NAME).asChildOf(parent)
+                    .withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME)
+                    .withTag(Tags.SPAN_KIND.getKey(), Tags.SPAN_KIND_CLIENT)
+                    .withTag(Tags.DB_TYPE.getKey(), "sql").startManual();
+        }
+    }
+    
+    /**
+     * Record execution unit.
+     *
+     * @param dataSourceName data source name
+     * @param elapsedNanoTime elapsed nano time
+     * @param cause failure cause, null if succeed
+     */
+    public synchronized void record(final String dataSourceName, final long elapsedNanoTime, final Exception cause) {
+        Map<String, Object> fields = new HashMap<>(6, 1);
+        fields.put(ShardingErrorLogTags.EVENT, null == cause ? EVENT_EXECUTION_TYPE : ShardingErrorLogTags.EVENT_ERROR_TYPE);
+        fields.put(Tags.DB_INSTANCE.getKey(), dataSourceName);
+        fields.put(ELAPSED_MICROS, TimeUnit.NANOSECONDS.toMicros(elapsedNanoTime));
+        if (null != cause) {
+            fields.put(ShardingErrorLogTags.ERROR_KIND, cause.getClass().getName());
+            fields.put(ShardingErrorLogTags.MESSAGE, cause.getMessage());
+            failed = true;
+        }
+        span.log(fields);
+        executionCount++;
+    }
+    
+    /**
+     * Finish span if started.
+     */
+    public synchronized void finish() {
+        if (null == span) {
+            return;
+        }
+        span.setTag(ShardingTags.EXECUTION_COUNT.getKey(), executionCount);
+        if (failed) {
+            span.setTag(Tags.ERROR.getKey(), true);
+        }
+        span.finish();
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.opentracing.hook;
 
 import io.opentracing.Span;
 import io.opentracing.tag.Tags;
+import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
 import org.apache.shardingsphere.sql.parser.hook.ParsingHook;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.opentracing.ShardingTracer;
@@ -35,19 +36,28 @@ public final class OpenTracingParsingHook implements ParsingHook {
     
     @Override
     public void start(final String sql) {
+        if (!OpenTracingRootInvokeHook.isSampled(ExecutorDataMap.getValue())) {
+            span = null;
+            return;
+        }
         span = ShardingTracer.get().buildSpan(OPERATION_NAME)
                 .withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME)
                 .withTag(Tags.SPAN_KIND.getKey(), Tags.SPAN_KIND_CLIENT)
-                .withTag(Tags.DB_STATEMENT.getKey(), sql).startManual();
+                .withTag(Tags.DB_STATEMENT.getKey(), ShardingSpanTagFormatter.truncate(sql)).startManual();
     }
     
     @Override
     public void finishSuccess(final SQLStatement sqlStatement) {
-        span.finish();
+        if (null != span) {
+            span.finish();
+        }
     }
     
     @Override
     public void finishFailure(final Exception cause) {
+        if (null == span) {
+            return;
+        }
         ShardingErrorSpan.setError(span, cause);
         span.finish();
     }
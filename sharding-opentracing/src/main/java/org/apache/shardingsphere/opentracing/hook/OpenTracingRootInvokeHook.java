@@ -19,30 +19,130 @@ package org.apache.shardingsphere.opentracing.hook;
 
 import io.opentracing.ActiveSpan;
 import io.opentracing.tag.Tags;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
 import org.apache.shardingsphere.underlying.common.hook.RootInvokeHook;
 import org.apache.shardingsphere.opentracing.ShardingTracer;
+import org.apache.shardingsphere.opentracing.ShardingTracingOptions;
 import org.apache.shardingsphere.opentracing.constant.ShardingTags;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
 /**
  * Open tracing root invoke hook.
+ * 
+ * <p>
+ * Root invoke covers one statement execution or one batch in JDBC and one command in proxy,
+ * the sampling decision is made at start and cleared from executor data map at finish.
+ * Hook instance is shared by concurrent root invokes, so span of each root invoke is kept in thread local.
+ * Root invokes of one thread may be nested, executor data of outer root invoke is restored when inner root invoke finished.
+ * </p>
  */
 public final class OpenTracingRootInvokeHook implements RootInvokeHook {
     
     public static final String ACTIVE_SPAN_CONTINUATION = "ACTIVE_SPAN_CONTINUATION";
     
+    public static final String SAMPLED = "SAMPLED";
+    
+    public static final String AGGREGATED_EXECUTION_SPAN = "AGGREGATED_EXECUTION_SPAN";
+    
     private static final String OPERATION_NAME = "/" + ShardingTags.COMPONENT_NAME + "/rootInvoke/";
     
-    private ActiveSpan activeSpan;
+    private static final Collection<String> EXECUTOR_DATA_KEYS = Arrays.asList(SAMPLED, ACTIVE_SPAN_CONTINUATION, AGGREGATED_EXECUTION_SPAN);
+    
+    private final ThreadLocal<Deque<RootInvocation>> invocations = new ThreadLocal<>();
     
     @Override
     public void start() {
-        activeSpan = ShardingTracer.get().buildSpan(OPERATION_NAME).withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME).startActive();
-        ExecutorDataMap.getValue().put(ACTIVE_SPAN_CONTINUATION, activeSpan.capture());
+        Map<String, Object> executorDataMap = ExecutorDataMap.getValue();
+        Map<String, Object> previousExecutorData = new HashMap<>(EXECUTOR_DATA_KEYS.size(), 1);
+        for (String each : EXECUTOR_DATA_KEYS) {
+            Object previousValue = executorDataMap.remove(each);
+            if (null != previousValue) {
+                previousExecutorData.put(each, previousValue);
+            }
+        }
+        boolean sampled = ShardingTracingOptions.getInstance().sample();
+        executorDataMap.put(SAMPLED, sampled);
+        if (!sampled) {
+            pushInvocation(new RootInvocation(previousExecutorData, null, null));
+            return;
+        }
+        ActiveSpan activeSpan = ShardingTracer.get().buildSpan(OPERATION_NAME).withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME).startActive();
+        if (ShardingTracingOptions.getInstance().isAggregateExecution()) {
+            AggregatedExecutionSpan aggregatedExecutionSpan = new AggregatedExecutionSpan(activeSpan);
+            executorDataMap.put(AGGREGATED_EXECUTION_SPAN, aggregatedExecutionSpan);
+            pushInvocation(new RootInvocation(previousExecutorData, activeSpan, aggregatedExecutionSpan));
+        } else {
+            executorDataMap.put(ACTIVE_SPAN_CONTINUATION, activeSpan.capture());
+            pushInvocation(new RootInvocation(previousExecutorData, activeSpan, null));
+        }
+    }
+    
+    private void pushInvocation(final RootInvocation invocation) {
+        Deque<RootInvocation> currentInvocations = invocations.get();
+        if (null == currentInvocations) {
+            currentInvocations = new LinkedList<>();
+            invocations.set(currentInvocations);
+        }
+        currentInvocations.push(invocation);
     }
     
     @Override
     public void finish(final int connectionCount) {
-        activeSpan.setTag(ShardingTags.CONNECTION_COUNT.getKey(), connectionCount).deactivate();
+        Map<String, Object> executorDataMap = ExecutorDataMap.getValue();
+        for (String each : EXECUTOR_DATA_KEYS) {
+            executorDataMap.remove(each);
+        }
+        RootInvocation invocation = popInvocation();
+        if (null == invocation) {
+            return;
+        }
+        executorDataMap.putAll(invocation.previousExecutorData);
+        if (null == invocation.activeSpan) {
+            return;
+        }
+        if (null != invocation.aggregatedExecutionSpan) {
+            invocation.aggregatedExecutionSpan.finish();
+        }
+        invocation.activeSpan.setTag(ShardingTags.CONNECTION_COUNT.getKey(), connectionCount).deactivate();
+    }
+    
+    private RootInvocation popInvocation() {
+        Deque<RootInvocation> currentInvocations = invocations.get();
+        if (null == currentInvocations) {
+            return null;
+        }
+        RootInvocation result = currentInvocations.poll();
+        if (currentInvocations.isEmpty()) {
+            invocations.remove();
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether current invocation is sampled.
+     *
+     * @param executorDataMap executor data map
+     * @return is sampled or not
+     */
+    public static boolean isSampled(final Map<String, Object> executorDataMap) {
+        Object result = null == executorDataMap ? null : executorDataMap.get(SAMPLED);
+        return null == result ? ShardingTracingOptions.getInstance().sample() : (Boolean) result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RootInvocation {
+        
+        private final Map<String, Object> previousExecutorData;
+        
+        private final ActiveSpan activeSpan;
+        
+        private final AggregatedExecutionSpan aggregatedExecutionSpan;
     }
 }
@@ -17,10 +17,10 @@
 
 package org.apache.shardingsphere.opentracing.hook;
 
-import com.google.common.base.Joiner;
 import io.opentracing.ActiveSpan;
 import io.opentracing.Span;
 import io.opentracing.tag.Tags;
+import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
 import org.apache.shardingsphere.underlying.executor.sql.hook.SQLExecutionHook;
 import org.apache.shardingsphere.opentracing.ShardingTracer;
 import org.apache.shardingsphere.opentracing.constant.ShardingTags;
@@ -40,10 +40,30 @@ public final class OpenTracingSQLExecutionHook implements SQLExecutionHook {
     
     private Span span;
     
+    private AggregatedExecutionSpan aggregatedExecutionSpan;
+    
+    private String dataSourceName;
+    
+    private long startNanoTime;
+    
     @Override
     public void start(final String dataSourceName, final String sql, final List<Object> parameters, 
                       final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
-        if (!isTrunkThread) {
+        activeSpan = null;
+        span = null;
+        aggregatedExecutionSpan = null;
+        Map<String, Object> executorDataMap = isTrunkThread ? ExecutorDataMap.getValue() : shardingExecuteDataMap;
+        if (!OpenTracingRootInvokeHook.isSampled(executorDataMap)) {
+            return;
+        }
+        aggregatedExecutionSpan = null == executorDataMap ? null : (AggregatedExecutionSpan) executorDataMap.get(OpenTracingRootInvokeHook.AGGREGATED_EXECUTION_SPAN);
+        if (null != aggregatedExecutionSpan) {
+            aggregatedExecutionSpan.start();
+            this.dataSourceName = dataSourceName;
+            startNanoTime = System.nanoTime();
+            return;
+        }
+        if (!isTrunkThread && null != shardingExecuteDataMap && shardingExecuteDataMap.containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION)) {
             activeSpan = ((ActiveSpan.Continuation) shardingExecuteDataMap.get(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION)).activate();
         }
         span = ShardingTracer.get().buildSpan(OPERATION_NAME)
@@ -53,29 +73,31 @@ public final class OpenTracingSQLExecutionHook implements SQLExecutionHook {
                 .withTag(Tags.PEER_PORT.getKey(), dataSourceMetaData.getPort())
                 .withTag(Tags.DB_TYPE.getKey(), "sql")
                 .withTag(Tags.DB_INSTANCE.getKey(), dataSourceName)
-                .withTag(Tags.DB_STATEMENT.getKey(), sql)
-                .withTag(ShardingTags.DB_BIND_VARIABLES.getKey(), toString(parameters)).startManual();
-        
-    }
-    
-    private String toString(final List<Object> parameterSets) {
-        if (null == parameterSets || parameterSets.isEmpty()) {
-            return "";
-        }
-        return String.format("[%s]", Joiner.on(", ").useForNull("Null").join(parameterSets));
+                .withTag(Tags.DB_STATEMENT.getKey(), ShardingSpanTagFormatter.truncate(sql))
+                .withTag(ShardingTags.DB_BIND_VARIABLES.getKey(), ShardingSpanTagFormatter.format(parameters)).startManual();
     }
     
     @Override
     public void finishSuccess() {
-        span.finish();
-        if (null != activeSpan) {
-            activeSpan.deactivate();
-        }
+        finish(null);
     }
     
     @Override
     public void finishFailure(final Exception cause) {
-        ShardingErrorSpan.setError(span, cause);
+        finish(cause);
+    }
+    
+    private void finish(final Exception cause) {
+        if (null != aggregatedExecutionSpan) {
+            aggregatedExecutionSpan.record(dataSourceName, System.nanoTime() - startNanoTime, cause);
+            return;
+        }
+        if (null == span) {
+            return;
+        }
+        if (null != cause) {
+            ShardingErrorSpan.setError(span, cause);
+        }
         span.finish();
         if (null != activeSpan) {
             activeSpan.deactivate();
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.opentracing.hook;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.opentracing.ShardingTracingOptions;
+
+import java.util.List;
+
+/**
+ * Sharding span tag formatter, which bounds length of tag values.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingSpanTagFormatter {
+    
+    private static final String ELLIPSIS = "...";
+    
+    /**
+     * Truncate SQL.
+     *
+     * @param sql SQL
+     * @return truncated SQL
+     */
+    public static String truncate(final String sql) {
+        int maxLength = ShardingTracingOptions.getInstance().getMaxTagLength();
+        return null == sql || sql.length() <= maxLength ? sql : sql.substring(0, maxLength) + ELLIPSIS;
+    }
+    
+    /**
+     * Format parameters, stop formatting once max tag length reached.
+     *
+     * @param parameters parameters
+     * @return formatted parameters
+     */
+    public static String format(final List<Object> parameters) {
+        if (null == parameters || parameters.isEmpty()) {
+            return "";
+        }
+        int maxLength = ShardingTracingOptions.getInstance().getMaxTagLength();
+        StringBuilder result = new StringBuilder("[");
+        for (Object each : parameters) {
+            if (result.length() > 1) {
+                result.append(", ");
+            }
+            result.append(null == each ? "Null" : each);
+            if (result.length() > maxLength) {
+                result.setLength(maxLength);
+                return result.append(ELLIPSIS).toString();
+            }
+        }
+        return result.append(']').toString();
+    }
+}
@@ -59,6 +59,10 @@ public abstract class BaseOpenTracingHookTest {
         TRACER.reset();
     }
     
+    protected final List<MockSpan> getFinishedSpans() {
+        return TRACER.finishedSpans();
+    }
+    
     protected final MockSpan getActualSpan() {
         List<MockSpan> finishedSpans = TRACER.finishedSpans();
         assertThat(finishedSpans.size(), is(1));
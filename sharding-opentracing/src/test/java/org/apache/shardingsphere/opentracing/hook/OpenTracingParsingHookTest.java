@@ -25,6 +25,7 @@ import org.apache.shardingsphere.sql.parser.hook.ParsingHook;
 import org.apache.shardingsphere.sql.parser.hook.SPIParsingHook;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -32,6 +33,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class OpenTracingParsingHookTest extends BaseOpenTracingHookTest {
@@ -67,4 +69,28 @@ public final class OpenTracingParsingHookTest extends BaseOpenTracingHookTest {
         assertThat(actualTags.get(Tags.DB_STATEMENT.getKey()), is("SELECT * FROM XXX;"));
         assertSpanError(ShardingSphereException.class, "parse SQL error");
     }
+    
+    @Test
+    public void assertExecuteNotSampled() {
+        ExecutorDataMap.getValue().put(OpenTracingRootInvokeHook.SAMPLED, false);
+        try {
+            parsingHook.start("SELECT * FROM XXX;");
+            parsingHook.finishSuccess(mock(SQLStatement.class));
+        } finally {
+            ExecutorDataMap.getValue().remove(OpenTracingRootInvokeHook.SAMPLED);
+        }
+        assertTrue(getFinishedSpans().isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteSampledByRootInvoke() {
+        ExecutorDataMap.getValue().put(OpenTracingRootInvokeHook.SAMPLED, true);
+        try {
+            parsingHook.start("SELECT * FROM XXX;");
+            parsingHook.finishSuccess(mock(SQLStatement.class));
+        } finally {
+            ExecutorDataMap.getValue().remove(OpenTracingRootInvokeHook.SAMPLED);
+        }
+        assertThat(getActualSpan().operationName(), is("/ShardingSphere/parseSQL/"));
+    }
 }
@@ -17,13 +17,22 @@
 
 package org.apache.shardingsphere.opentracing.hook;
 
+import io.opentracing.mock.MockSpan;
+import org.apache.shardingsphere.opentracing.ShardingTracingOptions;
+import org.apache.shardingsphere.opentracing.constant.ShardingTags;
 import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
 import org.apache.shardingsphere.underlying.common.hook.RootInvokeHook;
 import org.apache.shardingsphere.underlying.common.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.junit.After;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public final class OpenTracingRootInvokeHookTest extends BaseOpenTracingHookTest {
@@ -35,10 +44,77 @@ public final class OpenTracingRootInvokeHookTest extends BaseOpenTracingHookTest
         ShardingSphereServiceLoader.register(RootInvokeHook.class);
     }
     
+    @After
+    public void resetOptions() {
+        ShardingTracingOptions.getInstance().setSampleRate(1);
+        ShardingTracingOptions.getInstance().setAggregateExecution(false);
+    }
+    
     @Test
     public void assertRootInvoke() {
         rootInvokeHook.start();
-        assertTrue(ExecutorDataMap.getValue().containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
+        Map<String, Object> executorDataMap = ExecutorDataMap.getValue();
+        assertTrue(executorDataMap.containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
+        assertTrue((Boolean) executorDataMap.get(OpenTracingRootInvokeHook.SAMPLED));
+        rootInvokeHook.finish(1);
+        assertExecutorDataMapCleared();
+    }
+    
+    @Test
+    public void assertRootInvokeWithAggregatedExecution() {
+        ShardingTracingOptions.getInstance().setAggregateExecution(true);
+        rootInvokeHook.start();
+        Map<String, Object> executorDataMap = ExecutorDataMap.getValue();
+        assertTrue(executorDataMap.containsKey(OpenTracingRootInvokeHook.AGGREGATED_EXECUTION_SPAN));
+        assertFalse(executorDataMap.containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
+        rootInvokeHook.finish(2);
+        MockSpan actual = getActualSpan();
+        assertThat(actual.operationName(), is("/ShardingSphere/rootInvoke/"));
+        assertThat(actual.tags().get(ShardingTags.CONNECTION_COUNT.getKey()), is(2));
+        assertExecutorDataMapCleared();
+    }
+    
+    @Test
+    public void assertRootInvokeNotSampled() {
+        ShardingTracingOptions.getInstance().setSampleRate(0);
+        rootInvokeHook.start();
+        Map<String, Object> executorDataMap = ExecutorDataMap.getValue();
+        assertFalse((Boolean) executorDataMap.get(OpenTracingRootInvokeHook.SAMPLED));
+        assertFalse(executorDataMap.containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
+        assertFalse(OpenTracingRootInvokeHook.isSampled(executorDataMap));
+        rootInvokeHook.finish(1);
+        assertTrue(getFinishedSpans().isEmpty());
+        assertExecutorDataMapCleared();
+    }
+    
+    @Test
+    public void assertSamplingDecisionNotKeptAfterFinish() {
+        ShardingTracingOptions.getInstance().setSampleRate(0);
+        rootInvokeHook.start();
         rootInvokeHook.finish(1);
+        ShardingTracingOptions.getInstance().setSampleRate(1);
+        assertTrue(OpenTracingRootInvokeHook.isSampled(ExecutorDataMap.getValue()));
+    }
+    
+    @Test
+    public void assertNestedRootInvokeRestoresOuterRootInvoke() {
+        ShardingTracingOptions.getInstance().setSampleRate(0);
+        rootInvokeHook.start();
+        ShardingTracingOptions.getInstance().setSampleRate(1);
+        rootInvokeHook.start();
+        assertTrue(OpenTracingRootInvokeHook.isSampled(ExecutorDataMap.getValue()));
+        rootInvokeHook.finish(1);
+        assertThat(getFinishedSpans().size(), is(1));
+        assertFalse(OpenTracingRootInvokeHook.isSampled(ExecutorDataMap.getValue()));
+        rootInvokeHook.finish(1);
+        assertThat(getFinishedSpans().size(), is(1));
+        assertExecutorDataMapCleared();
+    }
+    
+    private void assertExecutorDataMapCleared() {
+        Map<String, Object> executorDataMap = ExecutorDataMap.getValue();
+        assertFalse(executorDataMap.containsKey(OpenTracingRootInvokeHook.SAMPLED));
+        assertFalse(executorDataMap.containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
+        assertFalse(executorDataMap.containsKey(OpenTracingRootInvokeHook.AGGREGATED_EXECUTION_SPAN));
     }
 }
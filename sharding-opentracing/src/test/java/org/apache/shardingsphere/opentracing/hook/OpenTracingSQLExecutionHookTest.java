@@ -21,6 +21,8 @@ import io.opentracing.ActiveSpan;
 import io.opentracing.ActiveSpan.Continuation;
 import io.opentracing.mock.MockSpan;
 import io.opentracing.tag.Tags;
+import org.apache.shardingsphere.opentracing.ShardingTracer;
+import org.apache.shardingsphere.opentracing.ShardingTracingOptions;
 import org.apache.shardingsphere.opentracing.constant.ShardingTags;
 import org.apache.shardingsphere.underlying.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.underlying.executor.sql.hook.SQLExecutionHook;
@@ -34,10 +36,12 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -70,6 +74,9 @@ public final class OpenTracingSQLExecutionHookTest extends BaseOpenTracingHookTe
     @After
     public void tearDown() {
         ExecutorDataMap.getValue().remove(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION);
+        ExecutorDataMap.getValue().remove(OpenTracingRootInvokeHook.SAMPLED);
+        ExecutorDataMap.getValue().remove(OpenTracingRootInvokeHook.AGGREGATED_EXECUTION_SPAN);
+        ShardingTracingOptions.getInstance().setMaxTagLength(1024);
     }
     
     @Test
@@ -158,4 +165,46 @@ public final class OpenTracingSQLExecutionHookTest extends BaseOpenTracingHookTe
         assertSpanError(RuntimeException.class, "SQL execution error");
         verify(activeSpan, times(0)).deactivate();
     }
+    
+    @Test
+    public void assertExecuteWithTruncatedTags() {
+        ShardingTracingOptions.getInstance().setMaxTagLength(10);
+        DataSourceMetaData dataSourceMetaData = mock(DataSourceMetaData.class);
+        sqlExecutionHook.start("success_ds", "SELECT * FROM success_tbl;", Arrays.<Object>asList("123456", "789012"), dataSourceMetaData, true, null);
+        sqlExecutionHook.finishSuccess();
+        Map<String, Object> actualTags = getActualSpan().tags();
+        assertThat(actualTags.get(Tags.DB_STATEMENT.getKey()), is("SELECT * F..."));
+        assertThat(actualTags.get(ShardingTags.DB_BIND_VARIABLES.getKey()), is("[123456, 7..."));
+    }
+    
+    @Test
+    public void assertExecuteWhenNotSampled() {
+        ExecutorDataMap.getValue().put(OpenTracingRootInvokeHook.SAMPLED, false);
+        sqlExecutionHook.start("success_ds", "SELECT * FROM success_tbl;", Arrays.asList("1", 2), mock(DataSourceMetaData.class), false, ExecutorDataMap.getValue());
+        sqlExecutionHook.finishSuccess();
+        assertTrue(getFinishedSpans().isEmpty());
+        verify(activeSpan, times(0)).deactivate();
+    }
+    
+    @Test
+    public void assertExecuteWithAggregatedExecutionSpan() {
+        AggregatedExecutionSpan aggregatedExecutionSpan = new AggregatedExecutionSpan(ShardingTracer.get().buildSpan("parent").startManual());
+        ExecutorDataMap.getValue().put(OpenTracingRootInvokeHook.AGGREGATED_EXECUTION_SPAN, aggregatedExecutionSpan);
+        DataSourceMetaData dataSourceMetaData = mock(DataSourceMetaData.class);
+        sqlExecutionHook.start("ds_0", "SELECT * FROM tbl_0;", Collections.emptyList(), dataSourceMetaData, false, ExecutorDataMap.getValue());
+        sqlExecutionHook.finishSuccess();
+        sqlExecutionHook.start("ds_1", "SELECT * FROM tbl_1;", Collections.emptyList(), dataSourceMetaData, false, ExecutorDataMap.getValue());
+        sqlExecutionHook.finishFailure(new RuntimeException("SQL execution error"));
+        assertTrue(getFinishedSpans().isEmpty());
+        aggregatedExecutionSpan.finish();
+        MockSpan actual = getActualSpan();
+        assertThat(actual.operationName(), is("/ShardingSphere/executeSQL/aggregated/"));
+        assertThat(actual.tags().get(ShardingTags.EXECUTION_COUNT.getKey()), is((Object) 2));
+        assertTrue((Boolean) actual.tags().get(Tags.ERROR.getKey()));
+        List<MockSpan.LogEntry> actualLogEntries = actual.logEntries();
+        assertThat(actualLogEntries.size(), is(2));
+        assertThat(actualLogEntries.get(0).fields().get(Tags.DB_INSTANCE.getKey()), is((Object) "ds_0"));
+        assertThat(actualLogEntries.get(1).fields().get(Tags.DB_INSTANCE.getKey()), is((Object) "ds_1"));
+        verify(activeSpan, times(0)).deactivate();
+    }
 }
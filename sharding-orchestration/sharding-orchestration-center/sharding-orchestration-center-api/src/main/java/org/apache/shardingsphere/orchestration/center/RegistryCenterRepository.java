@@ -29,4 +29,24 @@ public interface RegistryCenterRepository extends CenterRepository {
      * @param value value of data
      */
     void persistEphemeral(String key, String value);
+    
+    /**
+     * Persist ephemeral data if key is absent.
+     *
+     * <p>Existence check and creation must be atomic, so that only one of concurrent callers succeeds.</p>
+     *
+     * @param key key of data
+     * @param value value of data
+     * @return persisted or not, false if key is already existed
+     */
+    boolean persistEphemeralIfAbsent(String key, String value);
+    
+    /**
+     * Watch reconnection of session.
+     *
+     * <p>Ephemeral data is removed once session expired, listener is notified after session reconnected to persist it again.</p>
+     *
+     * @param listener session reconnected listener
+     */
+    void watchSessionReconnected(Runnable listener);
 }
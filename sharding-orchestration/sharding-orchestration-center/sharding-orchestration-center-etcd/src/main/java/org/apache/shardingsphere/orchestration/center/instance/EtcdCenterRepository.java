@@ -25,6 +25,10 @@ import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Observers;
 import io.etcd.jetcd.Util;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.TxnResponse;
+import io.etcd.jetcd.op.Cmp;
+import io.etcd.jetcd.op.CmpTarget;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
 import io.etcd.jetcd.watch.WatchEvent;
@@ -97,6 +101,26 @@ public final class EtcdCenterRepository implements ConfigCenterRepository, Regis
         client.getKVClient().put(ByteSequence.from(key, Charsets.UTF_8), ByteSequence.from(value, Charsets.UTF_8), PutOption.newBuilder().withLeaseId(leaseId).build()).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public boolean persistEphemeralIfAbsent(final String key, final String value) {
+        ByteSequence keyByteSequence = ByteSequence.from(key, Charsets.UTF_8);
+        long leaseId = client.getLeaseClient().grant(this.etcdProperties.getValue(EtcdPropertyKey.TIME_TO_LIVE_SECONDS)).get().getID();
+        TxnResponse txnResponse = client.getKVClient().txn().If(new Cmp(keyByteSequence, Cmp.Op.EQUAL, CmpTarget.version(0L)))
+                .Then(Op.put(keyByteSequence, ByteSequence.from(value, Charsets.UTF_8), PutOption.newBuilder().withLeaseId(leaseId).build())).commit().get();
+        if (!txnResponse.isSucceeded()) {
+            client.getLeaseClient().revoke(leaseId);
+            return false;
+        }
+        client.getLeaseClient().keepAlive(leaseId, Observers.observer(response -> { }));
+        return true;
+    }
+    
+    @Override
+    public void watchSessionReconnected(final Runnable listener) {
+        // lease of each ephemeral data is kept alive by jetcd client, there is no session to reconnect
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener dataChangedEventListener) {
         Watch.Listener listener = Watch.listener(response -> {
@@ -24,9 +24,13 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.op.Cmp;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
 import io.grpc.stub.StreamObserver;
@@ -46,9 +50,13 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -151,6 +159,36 @@ public final class EtcdCenterRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class), any(PutOption.class));
     }
     
+    @Test
+    public void assertPersistEphemeralIfAbsent() {
+        mockTxn(true);
+        assertTrue(centerRepository.persistEphemeralIfAbsent("key1", "value1"));
+        verify(lease).keepAlive(anyLong(), any(StreamObserver.class));
+        verify(lease, never()).revoke(anyLong());
+    }
+    
+    @Test
+    public void assertPersistEphemeralIfAbsentWhenExisted() {
+        mockTxn(false);
+        assertFalse(centerRepository.persistEphemeralIfAbsent("key1", "value1"));
+        verify(lease).revoke(123L);
+        verify(lease, never()).keepAlive(anyLong(), any(StreamObserver.class));
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @SuppressWarnings("unchecked")
+    private void mockTxn(final boolean succeeded) {
+        Txn txn = mock(Txn.class);
+        CompletableFuture<TxnResponse> txnFuture = mock(CompletableFuture.class);
+        TxnResponse txnResponse = mock(TxnResponse.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.If(any(Cmp.class))).thenReturn(txn);
+        when(txn.Then(any(Op.class))).thenReturn(txn);
+        when(txn.commit()).thenReturn(txnFuture);
+        when(txnFuture.get()).thenReturn(txnResponse);
+        when(txnResponse.isSucceeded()).thenReturn(succeeded);
+    }
+    
     @Test
     public void assertWatch() {
         centerRepository.watch("key1", dataChangedEvent -> {
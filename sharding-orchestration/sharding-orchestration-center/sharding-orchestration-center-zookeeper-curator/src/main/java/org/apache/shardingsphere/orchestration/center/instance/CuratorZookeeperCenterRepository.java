@@ -27,6 +27,7 @@ import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.TreeCache;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
+import org.apache.curator.framework.state.ConnectionState;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
 import org.apache.shardingsphere.orchestration.center.ConfigCenterRepository;
@@ -35,7 +36,9 @@ import org.apache.shardingsphere.orchestration.center.instance.handler.CuratorZo
 import org.apache.shardingsphere.orchestration.center.listener.DataChangedEvent;
 import org.apache.shardingsphere.orchestration.center.listener.DataChangedEventListener;
 import org.apache.shardingsphere.orchestration.center.config.CenterConfiguration;
+import org.apache.shardingsphere.orchestration.center.exception.OrchestrationException;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
@@ -194,6 +197,30 @@ public final class CuratorZookeeperCenterRepository implements ConfigCenterRepos
         }
     }
     
+    @Override
+    public boolean persistEphemeralIfAbsent(final String key, final String value) {
+        try {
+            client.create().creatingParentsIfNeeded().withMode(CreateMode.EPHEMERAL).forPath(key, value.getBytes(Charsets.UTF_8));
+            return true;
+        } catch (final NodeExistsException ex) {
+            return false;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+            throw new OrchestrationException(ex);
+        }
+    }
+    
+    @Override
+    public void watchSessionReconnected(final Runnable listener) {
+        client.getConnectionStateListenable().addListener((client, newState) -> {
+            if (ConnectionState.RECONNECTED == newState) {
+                listener.run();
+            }
+        });
+    }
+    
     @Override
     public List<String> getChildrenKeys(final String key) {
         try {
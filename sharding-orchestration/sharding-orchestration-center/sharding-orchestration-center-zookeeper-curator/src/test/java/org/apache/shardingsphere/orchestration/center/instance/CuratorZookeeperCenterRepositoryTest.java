@@ -32,9 +32,11 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class CuratorZookeeperCenterRepositoryTest {
     
@@ -69,6 +71,13 @@ public final class CuratorZookeeperCenterRepositoryTest {
         assertThat(REPOSITORY.get("/test/ephemeral"), is("value3"));
     }
     
+    @Test
+    public void assertPersistEphemeralIfAbsent() {
+        assertTrue(REPOSITORY.persistEphemeralIfAbsent("/test/ephemeral_if_absent", "value4"));
+        assertFalse(REPOSITORY.persistEphemeralIfAbsent("/test/ephemeral_if_absent", "value5"));
+        assertThat(REPOSITORY.get("/test/ephemeral_if_absent"), is("value4"));
+    }
+    
     @Test
     public void assertGetChildrenKeys() {
         REPOSITORY.persist("/test/children/1", "value11");
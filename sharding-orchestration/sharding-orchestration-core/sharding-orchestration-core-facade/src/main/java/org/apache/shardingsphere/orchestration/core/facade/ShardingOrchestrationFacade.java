@@ -22,6 +22,7 @@ import com.google.common.base.Splitter;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.rule.Authentication;
+import org.apache.shardingsphere.core.strategy.algorithm.keygen.SnowflakeKeyGenerateAlgorithm;
 import org.apache.shardingsphere.orchestration.center.ConfigCenterRepository;
 import org.apache.shardingsphere.orchestration.center.RegistryCenterRepository;
 import org.apache.shardingsphere.orchestration.center.config.CenterConfiguration;
@@ -71,6 +72,7 @@ public final class ShardingOrchestrationFacade implements AutoCloseable {
     @Getter
     private final ConfigCenter configCenter;
     
+    @Getter
     private final RegistryCenter registryCenter;
 
     @Getter
@@ -132,6 +134,8 @@ public final class ShardingOrchestrationFacade implements AutoCloseable {
      */
     public void init() {
         registryCenter.persistInstanceOnline();
+        registryCenter.leaseWorkerId().ifPresent(SnowflakeKeyGenerateAlgorithm::setAssignedWorkerId);
+        registryCenter.watchWorkerIdLease(SnowflakeKeyGenerateAlgorithm::setAssignedWorkerId);
         registryCenter.persistDataSourcesNode();
         listenerManager.initListeners();
     }
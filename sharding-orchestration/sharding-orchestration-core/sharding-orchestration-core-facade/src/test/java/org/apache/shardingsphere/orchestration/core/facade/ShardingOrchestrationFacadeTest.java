@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -109,6 +110,8 @@ public final class ShardingOrchestrationFacadeTest {
     public void assertInitWithoutParameters() {
         shardingOrchestrationFacade.init();
         verify(registryCenter).persistInstanceOnline();
+        verify(registryCenter).leaseWorkerId();
+        verify(registryCenter).watchWorkerIdLease(any());
         verify(registryCenter).persistDataSourcesNode();
         verify(listenerManager).initListeners();
     }
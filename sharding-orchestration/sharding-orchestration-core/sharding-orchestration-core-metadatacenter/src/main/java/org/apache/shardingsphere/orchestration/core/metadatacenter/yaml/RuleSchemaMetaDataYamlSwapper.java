@@ -26,6 +26,7 @@ import org.apache.shardingsphere.underlying.common.yaml.swapper.YamlSwapper;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
@@ -92,7 +93,7 @@ public final class RuleSchemaMetaDataYamlSwapper implements YamlSwapper<YamlRule
     }
 
     private Map<String, YamlIndexMetaData> convertYamlIndexes(final Map<String, IndexMetaData> indexes) {
-        return indexes.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> convertYamlIndex(entry.getValue())));
+        return indexes.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> convertYamlIndex(entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
     }
 
     private YamlIndexMetaData convertYamlIndex(final IndexMetaData index) {
@@ -102,7 +103,7 @@ public final class RuleSchemaMetaDataYamlSwapper implements YamlSwapper<YamlRule
     }
 
     private Map<String, YamlColumnMetaData> convertYamlColumns(final Map<String, ColumnMetaData> columns) {
-        return columns.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> convertYamlColumn(entry.getValue())));
+        return columns.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> convertYamlColumn(entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
     }
 
     private YamlColumnMetaData convertYamlColumn(final ColumnMetaData column) {
@@ -111,8 +112,8 @@ public final class RuleSchemaMetaDataYamlSwapper implements YamlSwapper<YamlRule
         result.setCaseSensitive(column.isCaseSensitive());
         result.setGenerated(column.isGenerated());
         result.setPrimaryKey(column.isPrimaryKey());
-        result.setDataType(result.getDataType());
-        result.setDataTypeName(result.getDataTypeName());
+        result.setDataType(column.getDataType());
+        result.setDataTypeName(column.getDataTypeName());
         return result;
     }
 }
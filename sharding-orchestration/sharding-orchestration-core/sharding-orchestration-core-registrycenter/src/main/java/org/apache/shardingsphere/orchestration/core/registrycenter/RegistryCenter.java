@@ -17,24 +17,48 @@
 
 package org.apache.shardingsphere.orchestration.core.registrycenter;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.orchestration.center.RegistryCenterRepository;
+import org.apache.shardingsphere.orchestration.center.exception.OrchestrationException;
 import org.apache.shardingsphere.orchestration.core.registrycenter.instance.OrchestrationInstance;
+import org.apache.shardingsphere.orchestration.core.registrycenter.workerid.LocalWorkerIdStorage;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * RegistryCenter hold and persist instance state.
  */
+@Slf4j
 public final class RegistryCenter {
     
+    private static final long WORKER_ID_MAX_VALUE = 1L << 10;
+    
     private final RegistryCenterNode node;
     
     private final RegistryCenterRepository repository;
     
     private final OrchestrationInstance instance;
     
+    private final LocalWorkerIdStorage localWorkerIdStorage;
+    
     public RegistryCenter(final String name, final RegistryCenterRepository registryCenterRepository) {
         this.node = new RegistryCenterNode(name);
         this.repository = registryCenterRepository;
         this.instance = OrchestrationInstance.getInstance();
+        this.localWorkerIdStorage = new LocalWorkerIdStorage(getLocalWorkerIdFile(name));
+    }
+    
+    private static Path getLocalWorkerIdFile(final String name) {
+        String workingDirectoryHash = Integer.toHexString(System.getProperty("user.dir").hashCode());
+        return Paths.get(System.getProperty("user.home"), ".shardingsphere", String.format("%s-%s.workerid", name, workingDirectoryHash));
     }
     
     /**
@@ -44,6 +68,108 @@ public final class RegistryCenter {
         repository.persistEphemeral(node.getInstancesNodeFullPath(instance.getInstanceId()), "");
     }
     
+    /**
+     * Lease worker id for snowflake key generate algorithm.
+     *
+     * <p>
+     * Worker id is held by ephemeral node of current instance and persisted locally,
+     * the local one is used if registry center is unavailable.
+     * Local worker id is stored per working directory, and only used by one instance at a time.
+     * </p>
+     *
+     * @return leased worker id
+     * @throws OrchestrationException if all worker ids are leased by other instances
+     */
+    public Optional<Long> leaseWorkerId() {
+        Optional<Long> result;
+        try {
+            result = leaseWorkerIdFromRepository();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Lease worker id from registry center failed, use local worker id.", ex);
+            return localWorkerIdStorage.load();
+        }
+        if (!result.isPresent()) {
+            throw new OrchestrationException("All %s worker ids are leased by other instances, can not lease worker id for instance `%s`.", WORKER_ID_MAX_VALUE, instance.getInstanceId());
+        }
+        localWorkerIdStorage.persist(result.get());
+        return result;
+    }
+    
+    private Optional<Long> leaseWorkerIdFromRepository() {
+        Optional<Long> localWorkerId = localWorkerIdStorage.load().filter(each -> each >= 0L && each < WORKER_ID_MAX_VALUE);
+        if (localWorkerId.isPresent() && instance.getInstanceId().equals(repository.get(node.getWorkerIdNodeFullPath(localWorkerId.get())))) {
+            return localWorkerId;
+        }
+        List<String> leasedWorkerIds = repository.getChildrenKeys(node.getWorkerIdsNodeFullRootPath());
+        Collection<String> unavailableWorkerIds = null == leasedWorkerIds ? new HashSet<>() : new HashSet<>(leasedWorkerIds);
+        Collection<Long> candidateWorkerIds = new LinkedHashSet<>();
+        localWorkerId.ifPresent(candidateWorkerIds::add);
+        candidateWorkerIds.addAll(getAllWorkerIds());
+        for (long each : candidateWorkerIds) {
+            if (!unavailableWorkerIds.contains(String.valueOf(each)) && repository.persistEphemeralIfAbsent(node.getWorkerIdNodeFullPath(each), instance.getInstanceId())) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Collection<Long> getAllWorkerIds() {
+        Collection<Long> result = new ArrayList<>((int) WORKER_ID_MAX_VALUE);
+        for (long each = 0L; each < WORKER_ID_MAX_VALUE; each++) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Watch lease of worker id.
+     *
+     * <p>
+     * Ephemeral node of worker id is removed after session of registry center expired,
+     * so worker id is leased again once the session reconnected.
+     * </p>
+     *
+     * @param callback callback of leased worker id
+     */
+    public void watchWorkerIdLease(final Consumer<Long> callback) {
+        repository.watchSessionReconnected(() -> leaseWorkerId().ifPresent(callback));
+    }
+    
+    /**
+     * Initialize broadcast table nodes.
+     * 
+     * <p>
+     * Only update of existing node is notified to other instances, so nodes are created before any change is persisted.
+     * </p>
+     *
+     * @param schemaName schema name
+     * @param tableNames broadcast table names
+     */
+    public void persistBroadcastTableNodes(final String schemaName, final Collection<String> tableNames) {
+        for (String each : tableNames) {
+            String key = node.getBroadcastTableNodeFullPath(schemaName, each);
+            if (null == repository.get(key)) {
+                repository.persist(key, "");
+            }
+        }
+    }
+    
+    /**
+     * Persist broadcast table changed.
+     * 
+     * <p>
+     * Node value is changed every time, so that all instances are notified to invalidate cached query results of the table.
+     * </p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     */
+    public void persistBroadcastTableChanged(final String schemaName, final String tableName) {
+        repository.persist(node.getBroadcastTableNodeFullPath(schemaName, tableName), instance.getInstanceId() + "@" + System.currentTimeMillis());
+    }
+    
     /**
      * Initialize data sources node.
      */
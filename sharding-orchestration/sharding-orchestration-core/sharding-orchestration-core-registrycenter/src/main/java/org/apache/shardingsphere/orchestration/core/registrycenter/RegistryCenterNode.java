@@ -33,6 +33,10 @@ public final class RegistryCenterNode {
     
     private static final String DATA_SOURCES_NODE_PATH = "datasources";
     
+    private static final String WORKER_IDS_NODE_PATH = "workerids";
+    
+    private static final String BROADCAST_TABLES_NODE_PATH = "broadcasttables";
+    
     private final String name;
     
     /**
@@ -64,6 +68,45 @@ public final class RegistryCenterNode {
         return Joiner.on("/").join("", name, ROOT, DATA_SOURCES_NODE_PATH, schemaDataSourceName);
     }
     
+    /**
+     * Get worker ids node full root path.
+     *
+     * @return worker ids node full root path
+     */
+    public String getWorkerIdsNodeFullRootPath() {
+        return Joiner.on("/").join("", name, ROOT, WORKER_IDS_NODE_PATH);
+    }
+    
+    /**
+     * Get worker id node full path.
+     *
+     * @param workerId worker id
+     * @return worker id node full path
+     */
+    public String getWorkerIdNodeFullPath(final long workerId) {
+        return Joiner.on("/").join("", name, ROOT, WORKER_IDS_NODE_PATH, workerId);
+    }
+    
+    /**
+     * Get broadcast tables node full root path.
+     *
+     * @return broadcast tables node full root path
+     */
+    public String getBroadcastTablesNodeFullRootPath() {
+        return Joiner.on("/").join("", name, ROOT, BROADCAST_TABLES_NODE_PATH);
+    }
+    
+    /**
+     * Get broadcast table node full path.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return broadcast table node full path
+     */
+    public String getBroadcastTableNodeFullPath(final String schemaName, final String tableName) {
+        return Joiner.on("/").join("", name, ROOT, BROADCAST_TABLES_NODE_PATH, schemaName, tableName);
+    }
+    
     /**
      * Get orchestration sharding schema.
      *
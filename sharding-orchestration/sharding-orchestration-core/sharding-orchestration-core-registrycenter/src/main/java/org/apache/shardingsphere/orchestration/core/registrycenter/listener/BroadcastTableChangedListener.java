@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.core.registrycenter.listener;
+
+import org.apache.shardingsphere.orchestration.center.RegistryCenterRepository;
+import org.apache.shardingsphere.orchestration.center.listener.DataChangedEvent;
+import org.apache.shardingsphere.orchestration.core.common.listener.PostShardingCenterRepositoryEventListener;
+import org.apache.shardingsphere.orchestration.core.registrycenter.RegistryCenterNode;
+import org.apache.shardingsphere.orchestration.core.registrycenter.event.BroadcastTableChangedEvent;
+
+import java.util.Collections;
+
+/**
+ * Broadcast table changed listener.
+ */
+public final class BroadcastTableChangedListener extends PostShardingCenterRepositoryEventListener {
+    
+    private final RegistryCenterNode registryCenterNode;
+    
+    public BroadcastTableChangedListener(final String name, final RegistryCenterRepository registryCenterRepository) {
+        super(registryCenterRepository, Collections.singleton(new RegistryCenterNode(name).getBroadcastTablesNodeFullRootPath()));
+        registryCenterNode = new RegistryCenterNode(name);
+    }
+    
+    @Override
+    protected BroadcastTableChangedEvent createShardingOrchestrationEvent(final DataChangedEvent event) {
+        String schemaAndTable = event.getKey().replace(registryCenterNode.getBroadcastTablesNodeFullRootPath() + '/', "");
+        int index = schemaAndTable.indexOf('/');
+        return -1 == index ? new BroadcastTableChangedEvent(schemaAndTable, "") : new BroadcastTableChangedEvent(schemaAndTable.substring(0, index), schemaAndTable.substring(index + 1));
+    }
+}
@@ -29,9 +29,12 @@ public final class RegistryListenerManager {
     
     private final DataSourceStateChangedListener dataSourceStateChangedListener;
     
+    private final BroadcastTableChangedListener broadcastTableChangedListener;
+    
     public RegistryListenerManager(final String name, final RegistryCenterRepository registryCenterRepository) {
         instanceStateChangedListener = new InstanceStateChangedListener(name, registryCenterRepository);
         dataSourceStateChangedListener = new DataSourceStateChangedListener(name, registryCenterRepository);
+        broadcastTableChangedListener = new BroadcastTableChangedListener(name, registryCenterRepository);
     }
     
     /**
@@ -40,5 +43,6 @@ public final class RegistryListenerManager {
     public void initListeners() {
         instanceStateChangedListener.watch(ChangedType.UPDATED);
         dataSourceStateChangedListener.watch(ChangedType.UPDATED, ChangedType.DELETED);
+        broadcastTableChangedListener.watch(ChangedType.UPDATED);
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.core.registrycenter.workerid;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Local storage of leased worker id, used when registry center is unavailable.
+ * 
+ * <p>
+ * Storage is locked by the first instance using it and kept until the instance exits,
+ * other instances sharing the same file can neither load nor persist worker id.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class LocalWorkerIdStorage {
+    
+    private final Path file;
+    
+    private FileLock lock;
+    
+    /**
+     * Load worker id leased last time.
+     *
+     * @return worker id
+     */
+    public Optional<Long> load() {
+        if (!tryLock() || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim()));
+        } catch (final IOException | NumberFormatException ex) {
+            log.warn("Load worker id from `{}` failed.", file, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Persist leased worker id.
+     *
+     * @param workerId worker id
+     */
+    public void persist(final long workerId) {
+        if (!tryLock()) {
+            return;
+        }
+        try {
+            Files.write(file, String.valueOf(workerId).getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException ex) {
+            log.warn("Persist worker id to `{}` failed.", file, ex);
+        }
+    }
+    
+    private synchronized boolean tryLock() {
+        if (null != lock) {
+            return true;
+        }
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        FileChannel channel = null;
+        try {
+            if (null != file.getParent()) {
+                Files.createDirectories(file.getParent());
+            }
+            channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            lock = channel.tryLock();
+        } catch (final IOException | OverlappingFileLockException ex) {
+            log.debug("Lock `{}` failed.", lockFile, ex);
+        }
+        if (null == lock) {
+            closeQuietly(channel);
+            log.warn("Local worker id `{}` is used by another instance, ignore it.", file);
+            return false;
+        }
+        return true;
+    }
+    
+    private void closeQuietly(final FileChannel channel) {
+        if (null == channel) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (final IOException ex) {
+            log.debug("Close `{}` failed.", file, ex);
+        }
+    }
+}
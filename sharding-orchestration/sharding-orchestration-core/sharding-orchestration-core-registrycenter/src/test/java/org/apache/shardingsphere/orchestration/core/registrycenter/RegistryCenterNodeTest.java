@@ -41,6 +41,11 @@ public final class RegistryCenterNodeTest {
         assertThat(registryCenterNode.getDataSourcesNodeFullPath("sharding_db"), is("/test/registry/datasources/sharding_db"));
     }
     
+    @Test
+    public void assertGetBroadcastTableNodeFullPath() {
+        assertThat(registryCenterNode.getBroadcastTableNodeFullPath("sharding_db", "t_config"), is("/test/registry/broadcasttables/sharding_db/t_config"));
+    }
+    
     @Test
     public void assertGetOrchestrationShardingSchema() {
         assertThat(registryCenterNode.getOrchestrationShardingSchema("/test/registry/datasources/master_slave_db.slave_ds_0").getSchemaName(), is("master_slave_db"));
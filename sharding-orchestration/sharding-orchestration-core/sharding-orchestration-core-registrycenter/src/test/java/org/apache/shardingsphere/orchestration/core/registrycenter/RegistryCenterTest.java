@@ -18,16 +18,33 @@
 package org.apache.shardingsphere.orchestration.core.registrycenter;
 
 import org.apache.shardingsphere.orchestration.center.RegistryCenterRepository;
+import org.apache.shardingsphere.orchestration.center.exception.OrchestrationException;
+import org.apache.shardingsphere.orchestration.core.registrycenter.instance.OrchestrationInstance;
+import org.apache.shardingsphere.orchestration.core.registrycenter.util.FieldUtil;
+import org.apache.shardingsphere.orchestration.core.registrycenter.workerid.LocalWorkerIdStorage;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class RegistryCenterTest {
@@ -35,6 +52,9 @@ public final class RegistryCenterTest {
     @Mock
     private RegistryCenterRepository registryCenterRepository;
     
+    @Mock
+    private LocalWorkerIdStorage localWorkerIdStorage;
+    
     private RegistryCenter registryCenter;
     
     @Before
@@ -43,6 +63,7 @@ public final class RegistryCenterTest {
         Field field = registryCenter.getClass().getDeclaredField("repository");
         field.setAccessible(true);
         field.set(registryCenter, registryCenterRepository);
+        FieldUtil.setField(registryCenter, "localWorkerIdStorage", localWorkerIdStorage);
     }
     
     @Test
@@ -56,4 +77,91 @@ public final class RegistryCenterTest {
         registryCenter.persistDataSourcesNode();
         verify(registryCenterRepository).persist("/test/registry/datasources", "");
     }
+    
+    @Test
+    public void assertPersistBroadcastTableNodes() {
+        when(registryCenterRepository.get("/test/registry/broadcasttables/sharding_db/t_dict")).thenReturn("");
+        registryCenter.persistBroadcastTableNodes("sharding_db", Arrays.asList("t_config", "t_dict"));
+        verify(registryCenterRepository).persist("/test/registry/broadcasttables/sharding_db/t_config", "");
+        verify(registryCenterRepository, never()).persist(eq("/test/registry/broadcasttables/sharding_db/t_dict"), anyString());
+    }
+    
+    @Test
+    public void assertPersistBroadcastTableChanged() {
+        registryCenter.persistBroadcastTableChanged("sharding_db", "t_config");
+        verify(registryCenterRepository).persist(eq("/test/registry/broadcasttables/sharding_db/t_config"), anyString());
+    }
+    
+    @Test
+    public void assertLeaseWorkerIdSkipLeasedWorkerIds() {
+        when(registryCenterRepository.getChildrenKeys("/test/registry/workerids")).thenReturn(Arrays.asList("0", "1"));
+        when(localWorkerIdStorage.load()).thenReturn(Optional.empty());
+        when(registryCenterRepository.persistEphemeralIfAbsent(eq("/test/registry/workerids/2"), anyString())).thenReturn(true);
+        assertThat(registryCenter.leaseWorkerId(), is(Optional.of(2L)));
+        verify(registryCenterRepository, never()).persistEphemeralIfAbsent(eq("/test/registry/workerids/0"), anyString());
+        verify(localWorkerIdStorage).persist(2L);
+    }
+    
+    @Test
+    public void assertLeaseWorkerIdWhenLeasedConcurrently() {
+        when(registryCenterRepository.getChildrenKeys("/test/registry/workerids")).thenReturn(Collections.emptyList());
+        when(localWorkerIdStorage.load()).thenReturn(Optional.empty());
+        when(registryCenterRepository.persistEphemeralIfAbsent(eq("/test/registry/workerids/1"), anyString())).thenReturn(true);
+        assertThat(registryCenter.leaseWorkerId(), is(Optional.of(1L)));
+        verify(registryCenterRepository).persistEphemeralIfAbsent(eq("/test/registry/workerids/0"), anyString());
+        verify(localWorkerIdStorage).persist(1L);
+    }
+    
+    @Test
+    public void assertLeaseWorkerIdPreferLocalWorkerId() {
+        when(registryCenterRepository.getChildrenKeys("/test/registry/workerids")).thenReturn(Collections.emptyList());
+        when(localWorkerIdStorage.load()).thenReturn(Optional.of(7L));
+        when(registryCenterRepository.persistEphemeralIfAbsent(eq("/test/registry/workerids/7"), anyString())).thenReturn(true);
+        assertThat(registryCenter.leaseWorkerId(), is(Optional.of(7L)));
+        verify(registryCenterRepository, never()).persistEphemeralIfAbsent(eq("/test/registry/workerids/0"), anyString());
+    }
+    
+    @Test
+    public void assertLeaseWorkerIdHeldByCurrentInstance() {
+        when(localWorkerIdStorage.load()).thenReturn(Optional.of(7L));
+        when(registryCenterRepository.get("/test/registry/workerids/7")).thenReturn(OrchestrationInstance.getInstance().getInstanceId());
+        assertThat(registryCenter.leaseWorkerId(), is(Optional.of(7L)));
+        verify(registryCenterRepository, never()).persistEphemeralIfAbsent(anyString(), anyString());
+        verify(localWorkerIdStorage).persist(7L);
+    }
+    
+    @Test(expected = OrchestrationException.class)
+    public void assertLeaseWorkerIdWhenAllLeased() {
+        when(registryCenterRepository.getChildrenKeys("/test/registry/workerids")).thenReturn(Collections.emptyList());
+        when(localWorkerIdStorage.load()).thenReturn(Optional.empty());
+        try {
+            registryCenter.leaseWorkerId();
+        } finally {
+            verify(localWorkerIdStorage, never()).persist(anyLong());
+        }
+    }
+    
+    @Test
+    public void assertWatchWorkerIdLease() {
+        when(registryCenterRepository.getChildrenKeys("/test/registry/workerids")).thenReturn(Collections.singletonList("7"));
+        when(localWorkerIdStorage.load()).thenReturn(Optional.of(7L));
+        when(registryCenterRepository.persistEphemeralIfAbsent(eq("/test/registry/workerids/0"), anyString())).thenReturn(true);
+        List<Long> actual = new LinkedList<>();
+        registryCenter.watchWorkerIdLease(actual::add);
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(registryCenterRepository).watchSessionReconnected(listener.capture());
+        assertTrue(actual.isEmpty());
+        listener.getValue().run();
+        assertThat(actual, is(Collections.singletonList(0L)));
+        verify(localWorkerIdStorage).persist(0L);
+    }
+    
+    @Test
+    public void assertLeaseWorkerIdWhenRegistryCenterUnavailable() {
+        when(registryCenterRepository.getChildrenKeys("/test/registry/workerids")).thenThrow(new OrchestrationException("unavailable"));
+        when(localWorkerIdStorage.load()).thenReturn(Optional.of(7L));
+        assertThat(registryCenter.leaseWorkerId(), is(Optional.of(7L)));
+        verify(registryCenterRepository, never()).persistEphemeralIfAbsent(anyString(), anyString());
+        verify(localWorkerIdStorage, never()).persist(anyLong());
+    }
 }
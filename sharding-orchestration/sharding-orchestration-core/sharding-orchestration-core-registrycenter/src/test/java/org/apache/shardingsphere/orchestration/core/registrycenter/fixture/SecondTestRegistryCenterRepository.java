@@ -55,6 +55,15 @@ public final class SecondTestRegistryCenterRepository implements RegistryCenterR
     public void persistEphemeral(final String key, final String value) {
     }
     
+    @Override
+    public boolean persistEphemeralIfAbsent(final String key, final String value) {
+        return true;
+    }
+    
+    @Override
+    public void watchSessionReconnected(final Runnable listener) {
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener dataChangedEventListener) {
     }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.core.registrycenter.listener;
+
+import org.apache.shardingsphere.orchestration.center.RegistryCenterRepository;
+import org.apache.shardingsphere.orchestration.center.listener.DataChangedEvent;
+import org.apache.shardingsphere.orchestration.center.listener.DataChangedEvent.ChangedType;
+import org.apache.shardingsphere.orchestration.core.registrycenter.event.BroadcastTableChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BroadcastTableChangedListenerTest {
+    
+    private BroadcastTableChangedListener broadcastTableChangedListener;
+    
+    @Mock
+    private RegistryCenterRepository registryCenterRepository;
+    
+    @Before
+    public void setUp() {
+        broadcastTableChangedListener = new BroadcastTableChangedListener("test", registryCenterRepository);
+    }
+    
+    @Test
+    public void assertCreateShardingOrchestrationEvent() {
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/test/registry/broadcasttables/sharding_db/t_config", "instance@1", ChangedType.UPDATED);
+        BroadcastTableChangedEvent actual = broadcastTableChangedListener.createShardingOrchestrationEvent(dataChangedEvent);
+        assertThat(actual.getSchemaName(), is("sharding_db"));
+        assertThat(actual.getTableName(), is("t_config"));
+    }
+    
+    @Test
+    public void assertCreateShardingOrchestrationEventForSchemaNode() {
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/test/registry/broadcasttables/sharding_db", "", ChangedType.UPDATED);
+        BroadcastTableChangedEvent actual = broadcastTableChangedListener.createShardingOrchestrationEvent(dataChangedEvent);
+        assertThat(actual.getSchemaName(), is("sharding_db"));
+        assertThat(actual.getTableName(), is(""));
+    }
+}
@@ -39,13 +39,18 @@ public final class RegistryListenerManagerTest {
     @Mock
     private DataSourceStateChangedListener dataSourceStateChangedListener;
     
+    @Mock
+    private BroadcastTableChangedListener broadcastTableChangedListener;
+    
     @Test
     public void assertInitListeners() {
         RegistryListenerManager actual = new RegistryListenerManager("test", registryCenterRepository);
         FieldUtil.setField(actual, "instanceStateChangedListener", instanceStateChangedListener);
         FieldUtil.setField(actual, "dataSourceStateChangedListener", dataSourceStateChangedListener);
+        FieldUtil.setField(actual, "broadcastTableChangedListener", broadcastTableChangedListener);
         actual.initListeners();
         verify(instanceStateChangedListener).watch(ChangedType.UPDATED);
         verify(dataSourceStateChangedListener).watch(ChangedType.UPDATED, ChangedType.DELETED);
+        verify(broadcastTableChangedListener).watch(ChangedType.UPDATED);
     }
 }
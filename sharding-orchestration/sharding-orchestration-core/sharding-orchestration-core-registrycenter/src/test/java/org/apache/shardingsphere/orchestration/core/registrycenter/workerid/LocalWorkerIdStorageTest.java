@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.core.registrycenter.workerid;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class LocalWorkerIdStorageTest {
+    
+    private Path file;
+    
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempDirectory("shardingsphere").resolve("test.workerid");
+    }
+    
+    @Test
+    public void assertLoadWithoutFile() {
+        assertFalse(new LocalWorkerIdStorage(file).load().isPresent());
+    }
+    
+    @Test
+    public void assertPersistAndLoad() {
+        LocalWorkerIdStorage storage = new LocalWorkerIdStorage(file);
+        storage.persist(5L);
+        assertThat(storage.load(), is(Optional.of(5L)));
+    }
+    
+    @Test
+    public void assertLoadWithInvalidContent() throws IOException {
+        Files.write(file, "invalid".getBytes(StandardCharsets.UTF_8));
+        assertFalse(new LocalWorkerIdStorage(file).load().isPresent());
+    }
+    
+    @Test
+    public void assertLoadAndPersistWhenUsedByAnotherInstance() {
+        LocalWorkerIdStorage storage = new LocalWorkerIdStorage(file);
+        storage.persist(3L);
+        LocalWorkerIdStorage anotherStorage = new LocalWorkerIdStorage(file);
+        assertFalse(anotherStorage.load().isPresent());
+        anotherStorage.persist(4L);
+        assertThat(storage.load(), is(Optional.of(3L)));
+    }
+}
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.BroadcastTableQueryCache;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
@@ -30,20 +32,20 @@ import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeade
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
-import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSphereSchema;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.type.TableAvailable;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.rule.DataNodeRoutedRule;
 import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.underlying.executor.sql.log.SQLLogger;
-import org.apache.shardingsphere.underlying.merge.MergeEngine;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
 import java.sql.SQLException;
@@ -88,7 +90,18 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         if (isExecuteDDLInXATransaction(sqlStatementContext.getSqlStatement())) {
             return new ErrorResponse(new TableModifyInTransactionException(getTableName(sqlStatementContext)));
         }
-        response = executeEngine.execute(executionContext);
+        Optional<BroadcastTableQueryCache> queryCache = logicSchema.findBroadcastTableQueryCache();
+        if (queryCache.isPresent() && isQueryCacheable(executionContext)) {
+            response = executeWithQueryCache(queryCache.get(), executionContext);
+            return merge(sqlStatementContext);
+        }
+        try {
+            response = executeEngine.execute(executionContext);
+        } finally {
+            if (queryCache.isPresent() && !(sqlStatementContext.getSqlStatement() instanceof SelectStatement)) {
+                executeEngine.getBackendConnection().invalidateBroadcastTableQueryCache(sqlStatementContext.getTablesContext().getTableNames());
+            }
+        }
         // TODO refresh non-sharding table meta data
         if (logicSchema instanceof ShardingSphereSchema) {
             logicSchema.refreshTableMetaData(executionContext.getSqlStatementContext());
@@ -96,6 +109,32 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         return merge(executionContext.getSqlStatementContext());
     }
     
+    private boolean isQueryCacheable(final ExecutionContext executionContext) {
+        SQLStatement sqlStatement = executionContext.getSqlStatementContext().getSqlStatement();
+        if (!(sqlStatement instanceof SelectStatement) || ((SelectStatement) sqlStatement).getLock().isPresent()
+                || 1 != executionContext.getExecutionUnits().size() || executeEngine.getBackendConnection().getStateHandler().isInTransaction()) {
+            return false;
+        }
+        Optional<ShardingRule> shardingRule = findShardingRule();
+        return shardingRule.isPresent() && shardingRule.get().isAllBroadcastTables(executionContext.getSqlStatementContext().getTablesContext().getTableNames());
+    }
+    
+    private BackendResponse executeWithQueryCache(final BroadcastTableQueryCache queryCache, final ExecutionContext executionContext) throws SQLException {
+        SQLUnit sqlUnit = executionContext.getExecutionUnits().iterator().next().getSqlUnit();
+        Optional<QueryResponse> cachedResponse = queryCache.get(sqlUnit.getSql(), sqlUnit.getParameters());
+        if (cachedResponse.isPresent()) {
+            return cachedResponse.get();
+        }
+        long version = queryCache.getVersion();
+        BackendResponse result = executeEngine.execute(executionContext);
+        return result instanceof QueryResponse
+                ? queryCache.put(sqlUnit.getSql(), sqlUnit.getParameters(), executionContext.getSqlStatementContext().getTablesContext().getTableNames(), version, (QueryResponse) result) : result;
+    }
+    
+    private Optional<ShardingRule> findShardingRule() {
+        return logicSchema.getRules().stream().filter(each -> each instanceof ShardingRule).findFirst().map(each -> (ShardingRule) each);
+    }
+    
     private boolean isExecuteDDLInXATransaction(final SQLStatement sqlStatement) {
         BackendConnection connection = executeEngine.getBackendConnection();
         return TransactionType.XA == connection.getTransactionType() && sqlStatement instanceof DDLStatement && ConnectionStatus.TRANSACTION == connection.getStateHandler().getStatus();
@@ -132,9 +171,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     }
     
     private MergedResult mergeQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        MergeEngine mergeEngine = new MergeEngine(LogicSchemas.getInstance().getDatabaseType(), 
-                logicSchema.getMetaData().getSchema().getConfiguredSchemaMetaData(), ShardingProxyContext.getInstance().getProperties(), logicSchema.getRules());
-        return mergeEngine.merge(queryResults, sqlStatementContext);
+        return logicSchema.getMergeEngine().merge(queryResults, sqlStatementContext);
     }
     
     @Override
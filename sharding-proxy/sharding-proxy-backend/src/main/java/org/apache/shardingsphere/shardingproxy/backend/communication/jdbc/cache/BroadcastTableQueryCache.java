@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query cache of broadcast tables.
+ * 
+ * <p>
+ * Results of queries which only access broadcast tables are cached by actual SQL and parameters.
+ * Cached results are invalidated when their tables are changed through ShardingSphere, or expired after TTL.
+ * </p>
+ */
+public final class BroadcastTableQueryCache {
+    
+    private final Cache<CacheKey, CacheValue> cache;
+    
+    private final int maxRowCount;
+    
+    private volatile long version;
+    
+    public BroadcastTableQueryCache(final long maxSize, final long ttlSeconds, final int maxRowCount) {
+        cache = CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build();
+        this.maxRowCount = maxRowCount;
+    }
+    
+    /**
+     * Get version of cache, which is increased by every invalidation.
+     * 
+     * <p>
+     * Version should be got before executing query, so that result read before invalidation would not be cached.
+     * </p>
+     *
+     * @return version of cache
+     */
+    public long getVersion() {
+        return version;
+    }
+    
+    /**
+     * Get cached query response.
+     *
+     * @param sql actual SQL
+     * @param parameters parameters
+     * @return cached query response
+     */
+    public Optional<QueryResponse> get(final String sql, final List<Object> parameters) {
+        CacheValue result = cache.getIfPresent(new CacheKey(sql, parameters));
+        return null == result ? Optional.empty() : Optional.of(result.newQueryResponse());
+    }
+    
+    /**
+     * Cache query response.
+     * 
+     * <p>
+     * Query results of response are consumed, the returned response should be used instead.
+     * Response is not cached if any of its query results has more rows than max row count.
+     * </p>
+     *
+     * @param sql actual SQL
+     * @param parameters parameters
+     * @param tableNames table names accessed by query
+     * @param version version of cache got before executing query
+     * @param queryResponse query response
+     * @return query response to be used instead
+     * @throws SQLException SQL exception
+     */
+    public QueryResponse put(final String sql, final List<Object> parameters, final Collection<String> tableNames, final long version, final QueryResponse queryResponse) throws SQLException {
+        List<CachedQueryResult> cachedQueryResults = new ArrayList<>(queryResponse.getQueryResults().size());
+        for (QueryResult each : queryResponse.getQueryResults()) {
+            cachedQueryResults.add(new CachedQueryResult(each, maxRowCount));
+        }
+        if (cachedQueryResults.stream().allMatch(CachedQueryResult::isComplete)) {
+            CacheValue cacheValue = new CacheValue(tableNames, queryResponse.getQueryHeaders(), cachedQueryResults);
+            synchronized (this) {
+                if (version == this.version) {
+                    cache.put(new CacheKey(sql, new ArrayList<>(parameters)), cacheValue);
+                }
+            }
+        }
+        QueryResponse result = new QueryResponse(queryResponse.getQueryHeaders());
+        result.getQueryResults().addAll(cachedQueryResults);
+        return result;
+    }
+    
+    /**
+     * Invalidate cached query responses which access any of the tables.
+     *
+     * @param tableNames table names
+     */
+    public synchronized void invalidate(final Collection<String> tableNames) {
+        version++;
+        Collection<String> invalidatedTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        invalidatedTableNames.addAll(tableNames);
+        cache.asMap().values().removeIf(each -> each.isAccessed(invalidatedTableNames));
+    }
+    
+    /**
+     * Invalidate all cached query responses.
+     */
+    public synchronized void invalidateAll() {
+        version++;
+        cache.invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final List<Object> parameters;
+    }
+    
+    private static final class CacheValue {
+        
+        private final Collection<String> tableNames;
+        
+        private final List<QueryHeader> queryHeaders;
+        
+        private final List<CachedQueryResult> queryResults;
+        
+        private CacheValue(final Collection<String> tableNames, final List<QueryHeader> queryHeaders, final List<CachedQueryResult> queryResults) {
+            this.tableNames = new ArrayList<>(tableNames);
+            this.queryHeaders = new ArrayList<>(queryHeaders);
+            this.queryResults = new ArrayList<>(queryResults);
+        }
+        
+        private boolean isAccessed(final Collection<String> tableNames) {
+            return this.tableNames.stream().anyMatch(tableNames::contains);
+        }
+        
+        private QueryResponse newQueryResponse() {
+            QueryResponse result = new QueryResponse(queryHeaders);
+            for (CachedQueryResult each : queryResults) {
+                result.getQueryResults().add(each.replay());
+            }
+            return result;
+        }
+    }
+}
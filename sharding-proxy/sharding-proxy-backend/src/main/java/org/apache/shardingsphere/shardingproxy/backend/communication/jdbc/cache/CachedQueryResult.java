@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Query result replayed from cached rows.
+ * 
+ * <p>
+ * At most max row count rows are cached. Rows beyond are read from the original query result,
+ * and such an incomplete query result can not be replayed.
+ * </p>
+ */
+public final class CachedQueryResult implements QueryResult {
+    
+    private final List<String> columnNames;
+    
+    private final List<String> columnLabels;
+    
+    private final List<List<Object>> rows;
+    
+    private final Iterator<List<Object>> iterator;
+    
+    private final QueryResult remainingQueryResult;
+    
+    private boolean remainingRowPending;
+    
+    private List<Object> currentRow;
+    
+    private Object currentValue;
+    
+    public CachedQueryResult(final QueryResult queryResult, final int maxRowCount) throws SQLException {
+        int columnCount = queryResult.getColumnCount();
+        columnNames = new ArrayList<>(columnCount);
+        columnLabels = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            columnNames.add(queryResult.getColumnName(columnIndex));
+            columnLabels.add(queryResult.getColumnLabel(columnIndex));
+        }
+        rows = new ArrayList<>();
+        boolean hasNext = queryResult.next();
+        while (hasNext && rows.size() < maxRowCount) {
+            List<Object> row = new ArrayList<>(columnCount);
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                row.add(queryResult.getValue(columnIndex, Object.class));
+            }
+            rows.add(row);
+            hasNext = queryResult.next();
+        }
+        remainingQueryResult = hasNext ? queryResult : null;
+        remainingRowPending = hasNext;
+        iterator = rows.iterator();
+    }
+    
+    private CachedQueryResult(final List<String> columnNames, final List<String> columnLabels, final List<List<Object>> rows) {
+        this.columnNames = columnNames;
+        this.columnLabels = columnLabels;
+        this.rows = rows;
+        iterator = rows.iterator();
+        remainingQueryResult = null;
+    }
+    
+    /**
+     * Judge whether all rows are cached.
+     *
+     * @return all rows are cached or not
+     */
+    public boolean isComplete() {
+        return null == remainingQueryResult;
+    }
+    
+    /**
+     * Create query result which replays cached rows from the beginning.
+     *
+     * @return cached query result
+     */
+    public CachedQueryResult replay() {
+        Preconditions.checkState(isComplete(), "Can not replay incomplete query result.");
+        return new CachedQueryResult(columnNames, columnLabels, rows);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (iterator.hasNext()) {
+            currentRow = iterator.next();
+            return true;
+        }
+        currentRow = null;
+        if (null == remainingQueryResult) {
+            return false;
+        }
+        if (remainingRowPending) {
+            remainingRowPending = false;
+            return true;
+        }
+        return remainingQueryResult.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (null == currentRow) {
+            return remainingQueryResult.getValue(columnIndex, type);
+        }
+        currentValue = currentRow.get(columnIndex - 1);
+        return currentValue;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return null == currentRow ? remainingQueryResult.getCalendarValue(columnIndex, type, calendar) : getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        if (null == currentRow) {
+            return remainingQueryResult.getInputStream(columnIndex, type);
+        }
+        throw new SQLFeatureNotSupportedException("getInputStream");
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return null == currentRow ? remainingQueryResult.wasNull() : null == currentValue;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnNames.size();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return columnNames.get(columnIndex - 1);
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.conne
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.underlying.common.database.type.dialect.MySQLDa
 import org.apache.shardingsphere.underlying.common.database.type.dialect.PostgreSQLDatabaseType;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.connection.JDBCExecutionConnection;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementOption;
 
@@ -42,6 +44,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -79,8 +82,13 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<QueryResult> cachedQueryResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> modifiedTableNamesInTransaction = new LinkedHashSet<>();
+    
     @Getter
     private final ResourceSynchronizer resourceSynchronizer = new ResourceSynchronizer();
     
@@ -241,6 +249,39 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         return cachedConnections.values().size();
     }
     
+    /**
+     * Invalidate cached query results of modified broadcast tables.
+     * 
+     * <p>
+     * In transaction the modified tables are only recorded and invalidated when transaction ends,
+     * otherwise results read by other connections before commit would be cached after invalidation.
+     * </p>
+     *
+     * @param modifiedTableNames modified table names
+     */
+    public void invalidateBroadcastTableQueryCache(final Collection<String> modifiedTableNames) {
+        if (null == logicSchema || !logicSchema.findBroadcastTableQueryCache().isPresent()) {
+            return;
+        }
+        if (stateHandler.isInTransaction()) {
+            modifiedTableNamesInTransaction.addAll(modifiedTableNames);
+        } else {
+            logicSchema.invalidateBroadcastTableQueryCache(modifiedTableNames);
+        }
+    }
+    
+    /**
+     * Invalidate cached query results of broadcast tables modified in transaction, should be called when transaction ends.
+     */
+    public void invalidateBroadcastTableQueryCacheOfTransaction() {
+        if (modifiedTableNamesInTransaction.isEmpty()) {
+            return;
+        }
+        Collection<String> modifiedTableNames = new ArrayList<>(modifiedTableNamesInTransaction);
+        modifiedTableNamesInTransaction.clear();
+        logicSchema.invalidateBroadcastTableQueryCache(modifiedTableNames);
+    }
+    
     /**
      * Add statement.
      *
@@ -259,6 +300,15 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add query result.
+     *
+     * @param queryResult query result to be added
+     */
+    public void add(final QueryResult queryResult) {
+        cachedQueryResults.add(queryResult);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -273,6 +323,7 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        exceptions.addAll(closeQueryResults());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         if (!stateHandler.isInTransaction() || forceClose || TransactionType.BASE == transactionType) {
@@ -282,6 +333,19 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (QueryResult each : cachedQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
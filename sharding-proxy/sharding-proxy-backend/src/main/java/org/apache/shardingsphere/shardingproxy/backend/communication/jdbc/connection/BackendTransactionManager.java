@@ -67,6 +67,7 @@ public final class BackendTransactionManager implements TransactionManager {
                 }
             } finally {
                 connection.getStateHandler().setStatus(ConnectionStatus.TERMINATED);
+                connection.invalidateBroadcastTableQueryCacheOfTransaction();
             }
         }
     }
@@ -82,6 +83,7 @@ public final class BackendTransactionManager implements TransactionManager {
                 }
             } finally {
                 connection.getStateHandler().setStatus(ConnectionStatus.TERMINATED);
+                connection.invalidateBroadcastTableQueryCacheOfTransaction();
             }
         }
     }
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.PreparedStatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Batch execute engine for JDBC.
+ * 
+ * <p>
+ * Each parameter set or SQL is routed and rewritten on its own, then the units sharing data source
+ * are sent to the shard as JDBC batch instead of one round trip per parameter set or SQL.
+ * </p>
+ * 
+ * <p>
+ * Outside a transaction the batches run in a local transaction on every data source involved and are committed together
+ * after all of them succeed, so a failed batch leaves no partial result. As with local transaction, a failure while committing
+ * may still leave data sources committed before it.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class JDBCBatchExecuteEngine {
+    
+    private final BackendConnection backendConnection;
+    
+    /**
+     * Execute SQL with parameter sets as batch.
+     *
+     * @param sql SQL to be executed
+     * @param parameterSets parameter sets
+     * @return update count of each parameter set
+     * @throws SQLException SQL exception
+     */
+    public int[] execute(final String sql, final List<List<Object>> parameterSets) throws SQLException {
+        Map<String, Map<String, List<BatchItem>>> batches = new LinkedHashMap<>();
+        Collection<String> modifiedTableNames = new LinkedHashSet<>();
+        for (int i = 0; i < parameterSets.size(); i++) {
+            ExecutionContext executionContext = new PreparedStatementExecutorWrapper(backendConnection.getLogicSchema(), parameterSets.get(i)).route(sql);
+            addModifiedTableNames(executionContext.getSqlStatementContext(), modifiedTableNames);
+            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+                batches.computeIfAbsent(each.getDataSourceName(), key -> new LinkedHashMap<>())
+                        .computeIfAbsent(each.getSqlUnit().getSql(), key -> new LinkedList<>()).add(new BatchItem(i, each.getSqlUnit().getParameters()));
+            }
+        }
+        int[] result = new int[parameterSets.size()];
+        Map<String, Connection> connections = getConnections(batches.keySet());
+        try {
+            executeInLocalTransactionIfNecessary(connections.values(), () -> {
+                for (Entry<String, Map<String, List<BatchItem>>> entry : batches.entrySet()) {
+                    for (Entry<String, List<BatchItem>> each : entry.getValue().entrySet()) {
+                        executeBatch(connections.get(entry.getKey()), each.getKey(), each.getValue(), result);
+                    }
+                }
+            });
+        } finally {
+            backendConnection.invalidateBroadcastTableQueryCache(modifiedTableNames);
+        }
+        return result;
+    }
+    
+    /**
+     * Execute SQLs as batch.
+     *
+     * @param sqls SQLs to be executed
+     * @return update count of each SQL
+     * @throws SQLException SQL exception
+     */
+    public int[] execute(final List<String> sqls) throws SQLException {
+        Map<String, List<StatementBatchItem>> batches = new LinkedHashMap<>();
+        Collection<String> modifiedTableNames = new LinkedHashSet<>();
+        for (int i = 0; i < sqls.size(); i++) {
+            ExecutionContext executionContext = new StatementExecutorWrapper(backendConnection.getLogicSchema()).route(sqls.get(i));
+            addModifiedTableNames(executionContext.getSqlStatementContext(), modifiedTableNames);
+            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+                batches.computeIfAbsent(each.getDataSourceName(), key -> new LinkedList<>()).add(new StatementBatchItem(i, each.getSqlUnit().getSql()));
+            }
+        }
+        int[] result = new int[sqls.size()];
+        Map<String, Connection> connections = getConnections(batches.keySet());
+        try {
+            executeInLocalTransactionIfNecessary(connections.values(), () -> {
+                for (Entry<String, List<StatementBatchItem>> entry : batches.entrySet()) {
+                    executeBatch(connections.get(entry.getKey()), entry.getValue(), result);
+                }
+            });
+        } finally {
+            backendConnection.invalidateBroadcastTableQueryCache(modifiedTableNames);
+        }
+        return result;
+    }
+    
+    private Map<String, Connection> getConnections(final Collection<String> dataSourceNames) throws SQLException {
+        Map<String, Connection> result = new LinkedHashMap<>(dataSourceNames.size(), 1);
+        for (String each : dataSourceNames) {
+            result.put(each, backendConnection.getConnections(each, 1, ConnectionMode.CONNECTION_STRICTLY).get(0));
+        }
+        return result;
+    }
+    
+    private void executeInLocalTransactionIfNecessary(final Collection<Connection> connections, final BatchCallback callback) throws SQLException {
+        if (backendConnection.getStateHandler().isInTransaction()) {
+            callback.execute();
+            return;
+        }
+        Collection<Connection> autoCommitConnections = new LinkedList<>();
+        try {
+            for (Connection each : connections) {
+                if (each.getAutoCommit()) {
+                    each.setAutoCommit(false);
+                    autoCommitConnections.add(each);
+                }
+            }
+            callback.execute();
+            for (Connection each : connections) {
+                each.commit();
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            rollback(connections, ex);
+            throw ex;
+        } finally {
+            for (Connection each : autoCommitConnections) {
+                each.setAutoCommit(true);
+            }
+        }
+    }
+    
+    private void rollback(final Collection<Connection> connections, final Exception cause) {
+        for (Connection each : connections) {
+            try {
+                each.rollback();
+            } catch (final SQLException ex) {
+                cause.addSuppressed(ex);
+            }
+        }
+    }
+    
+    private void addModifiedTableNames(final SQLStatementContext sqlStatementContext, final Collection<String> modifiedTableNames) {
+        if (!(sqlStatementContext.getSqlStatement() instanceof SelectStatement)) {
+            modifiedTableNames.addAll(sqlStatementContext.getTablesContext().getTableNames());
+        }
+    }
+    
+    private void executeBatch(final Connection connection, final String actualSQL, final List<BatchItem> batchItems, final int[] updateCounts) throws SQLException {
+        PreparedStatement preparedStatement = connection.prepareStatement(actualSQL);
+        backendConnection.add(preparedStatement);
+        for (BatchItem each : batchItems) {
+            for (int i = 0; i < each.parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, each.parameters.get(i));
+            }
+            preparedStatement.addBatch();
+        }
+        int[] batchUpdateCounts = preparedStatement.executeBatch();
+        int index = 0;
+        for (BatchItem each : batchItems) {
+            updateCounts[each.parameterSetIndex] += Math.max(batchUpdateCounts[index++], 0);
+        }
+    }
+    
+    private void executeBatch(final Connection connection, final List<StatementBatchItem> batchItems, final int[] updateCounts) throws SQLException {
+        Statement statement = connection.createStatement();
+        backendConnection.add(statement);
+        for (StatementBatchItem each : batchItems) {
+            statement.addBatch(each.actualSQL);
+        }
+        int[] batchUpdateCounts = statement.executeBatch();
+        int index = 0;
+        for (StatementBatchItem each : batchItems) {
+            updateCounts[each.sqlIndex] += Math.max(batchUpdateCounts[index++], 0);
+        }
+    }
+    
+    private interface BatchCallback {
+        
+        void execute() throws SQLException;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BatchItem {
+        
+        private final int parameterSetIndex;
+        
+        private final List<Object> parameters;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class StatementBatchItem {
+        
+        private final int sqlIndex;
+        
+        private final String actualSQL;
+    }
+}
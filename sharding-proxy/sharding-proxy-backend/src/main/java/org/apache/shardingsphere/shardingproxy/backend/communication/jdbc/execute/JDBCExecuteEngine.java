@@ -18,9 +18,10 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
 import lombok.Getter;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
-import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.facade.handle.MetricsCounter;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.ProxySQLExecutorCallback;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.RuleProxySQLExecutorCallback;
@@ -58,6 +59,13 @@ import java.util.Map;
  */
 public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
+    private static final MetricsCounter SELECT_STATEMENT_COUNTER = new MetricsCounter(MetricsLabelEnum.SQL_STATEMENT_COUNT.getName(), "SELECT");
+    
+    private static final Map<String, MetricsCounter> UPDATE_STATEMENT_COUNTERS = ImmutableMap.of(
+            "INSERT", new MetricsCounter(MetricsLabelEnum.SQL_STATEMENT_COUNT.getName(), "INSERT"),
+            "DELETE", new MetricsCounter(MetricsLabelEnum.SQL_STATEMENT_COUNT.getName(), "DELETE"),
+            "UPDATE", new MetricsCounter(MetricsLabelEnum.SQL_STATEMENT_COUNT.getName(), "UPDATE"));
+    
     static {
         ShardingSphereServiceLoader.register(RuleProxySQLExecutorCallback.class);
     }
@@ -91,7 +99,7 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
                 getSQLExecutorCallback(new ProxySQLExecutorCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false)));
         ExecuteResponse executeResponse = executeResponses.iterator().next();
         if (executeResponse instanceof ExecuteQueryResponse) {
-            MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.SQL_STATEMENT_COUNT.getName(), "SELECT");
+            SELECT_STATEMENT_COUNTER.inc();
             return getExecuteQueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders(), executeResponses);
         } else {
             UpdateResponse updateResponse = new UpdateResponse(executeResponses);
@@ -103,7 +111,7 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
                 updateResponse.setType("UPDATE");
             }
             if (!Strings.isNullOrEmpty(updateResponse.getType())) {
-                MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.SQL_STATEMENT_COUNT.getName(), updateResponse.getType());
+                UPDATE_STATEMENT_COUNTERS.get(updateResponse.getType()).inc();
             }
             return updateResponse;
         }
@@ -17,12 +17,18 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.schema;
 
+import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.core.common.event.DataSourceChangedEvent;
 import org.apache.shardingsphere.orchestration.core.common.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.core.facade.ShardingOrchestrationFacade;
 import org.apache.shardingsphere.orchestration.core.metadatacenter.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.orchestration.core.registrycenter.event.BroadcastTableChangedEvent;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.BroadcastTableQueryCache;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
@@ -30,9 +36,12 @@ import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
 import org.apache.shardingsphere.underlying.common.config.RuleConfiguration;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
@@ -42,30 +51,58 @@ import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMet
 import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
 import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRulesBuilder;
 import org.apache.shardingsphere.underlying.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.underlying.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.PreparedStatementExecuteGroupEngine;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementExecuteGroupEngine;
+import org.apache.shardingsphere.underlying.merge.MergeEngine;
+import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
 
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
  * Logic schema.
  */
 @Getter
+@Slf4j(topic = "ShardingSphere-metadata")
 public abstract class LogicSchema {
     
+    private static final ExecutorService METADATA_VALIDATION_EXECUTOR = Executors.newSingleThreadExecutor(ShardingSphereThreadFactoryBuilder.build("MetaData-Validator"));
+    
     private final String name;
     
     private final SQLParserEngine sqlParserEngine;
     
     private Collection<RuleConfiguration> configurations;
     
-    private Collection<ShardingSphereRule> rules;
+    private volatile Collection<ShardingSphereRule> rules;
     
     private JDBCBackendDataSource backendDataSource;
     
-    private ShardingSphereMetaData metaData;
+    private volatile ShardingSphereMetaData metaData;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private volatile long metaDataVersion;
+    
+    @Getter(AccessLevel.NONE)
+    private final MetaDataSnapshot metaDataSnapshot;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile LogicSchemaEngines engines;
+    
+    @Getter(AccessLevel.NONE)
+    private final BroadcastTableQueryCache broadcastTableQueryCache;
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources, final Collection<RuleConfiguration> configurations) throws SQLException {
         this.name = name;
@@ -73,25 +110,67 @@ public abstract class LogicSchema {
         this.rules = ShardingSphereRulesBuilder.build(configurations, dataSources.keySet());
         sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(LogicSchemas.getInstance().getDatabaseType()));
         backendDataSource = new JDBCBackendDataSource(dataSources);
-        metaData = loadOrCreateMetaData(name, rules);
+        metaDataSnapshot = createMetaDataSnapshot();
+        broadcastTableQueryCache = createBroadcastTableQueryCache();
+        persistBroadcastTableNodes();
+        Optional<RuleSchemaMetaData> cachedRuleSchemaMetaData = loadCachedRuleSchemaMetaData();
+        metaData = new ShardingSphereMetaData(createDataSourceMetas(), cachedRuleSchemaMetaData.isPresent() ? cachedRuleSchemaMetaData.get() : loadAndPersistRuleSchemaMetaData());
+        if (cachedRuleSchemaMetaData.isPresent()) {
+            METADATA_VALIDATION_EXECUTOR.execute(this::validateCachedMetaData);
+        }
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
     
-    private ShardingSphereMetaData loadOrCreateMetaData(final String name, final Collection<ShardingSphereRule> rules) throws SQLException {
-        boolean isOverwrite = null != ShardingOrchestrationFacade.getInstance() && ShardingOrchestrationFacade.getInstance().isOverwrite();
-        DatabaseType databaseType = LogicSchemas.getInstance().getDatabaseType();
-        DataSourceMetas dataSourceMetas = new DataSourceMetas(databaseType, getDatabaseAccessConfigurationMap());
-        RuleSchemaMetaData ruleSchemaMetaData;
-        if (null == ShardingOrchestrationFacade.getInstance()) {
-            return new ShardingSphereMetaData(dataSourceMetas, loadRuleSchemaMetaData(databaseType, rules));
+    private MetaDataSnapshot createMetaDataSnapshot() {
+        String snapshotPath = ShardingProxyContext.getInstance().getProperties().getValue(ConfigurationPropertyKey.PROXY_METADATA_SNAPSHOT_PATH);
+        return Strings.isNullOrEmpty(snapshotPath) ? null : new MetaDataSnapshot(Paths.get(snapshotPath));
+    }
+    
+    private BroadcastTableQueryCache createBroadcastTableQueryCache() {
+        ConfigurationProperties properties = ShardingProxyContext.getInstance().getProperties();
+        long maxSize = properties.<Long>getValue(ConfigurationPropertyKey.PROXY_BROADCAST_TABLE_QUERY_CACHE_MAX_SIZE);
+        return maxSize > 0 ? new BroadcastTableQueryCache(maxSize, properties.<Long>getValue(ConfigurationPropertyKey.PROXY_BROADCAST_TABLE_QUERY_CACHE_TTL_SECONDS),
+                properties.<Integer>getValue(ConfigurationPropertyKey.PROXY_BROADCAST_TABLE_QUERY_CACHE_MAX_ROWS)) : null;
+    }
+    
+    private void persistBroadcastTableNodes() {
+        if (null == broadcastTableQueryCache || null == ShardingOrchestrationFacade.getInstance()) {
+            return;
         }
-        if (isOverwrite) {
-            ruleSchemaMetaData = loadRuleSchemaMetaData(databaseType, rules);
-            ShardingOrchestrationFacade.getInstance().getMetaDataCenter().persistMetaDataCenterNode(name, ruleSchemaMetaData);
-        } else {
-            ruleSchemaMetaData = ShardingOrchestrationFacade.getInstance().getMetaDataCenter().loadRuleSchemaMetaData(name).orElse(loadRuleSchemaMetaData(databaseType, rules));
+        Optional<ShardingRule> shardingRule = findShardingRule();
+        if (shardingRule.isPresent()) {
+            ShardingOrchestrationFacade.getInstance().getRegistryCenter().persistBroadcastTableNodes(name, shardingRule.get().getBroadcastTables());
         }
-        return new ShardingSphereMetaData(dataSourceMetas, ruleSchemaMetaData);
+    }
+    
+    private Optional<ShardingRule> findShardingRule() {
+        return rules.stream().filter(each -> each instanceof ShardingRule).findFirst().map(each -> (ShardingRule) each);
+    }
+    
+    private DataSourceMetas createDataSourceMetas() {
+        return new DataSourceMetas(LogicSchemas.getInstance().getDatabaseType(), getDatabaseAccessConfigurationMap());
+    }
+    
+    private Optional<RuleSchemaMetaData> loadCachedRuleSchemaMetaData() {
+        if (null != ShardingOrchestrationFacade.getInstance()) {
+            if (ShardingOrchestrationFacade.getInstance().isOverwrite()) {
+                return Optional.empty();
+            }
+            Optional<RuleSchemaMetaData> result = ShardingOrchestrationFacade.getInstance().getMetaDataCenter().loadRuleSchemaMetaData(name);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return null == metaDataSnapshot ? Optional.empty() : metaDataSnapshot.load(name);
+    }
+    
+    private RuleSchemaMetaData loadAndPersistRuleSchemaMetaData() throws SQLException {
+        RuleSchemaMetaData result = loadRuleSchemaMetaData(LogicSchemas.getInstance().getDatabaseType(), rules);
+        if (null != ShardingOrchestrationFacade.getInstance() && ShardingOrchestrationFacade.getInstance().isOverwrite()) {
+            ShardingOrchestrationFacade.getInstance().getMetaDataCenter().persistMetaDataCenterNode(name, result);
+        }
+        persistMetaDataSnapshot(result);
+        return result;
     }
     
     private RuleSchemaMetaData loadRuleSchemaMetaData(final DatabaseType databaseType, final Collection<ShardingSphereRule> rules) throws SQLException {
@@ -100,6 +179,79 @@ public abstract class LogicSchema {
                 executorKernel.getExecutorService().getExecutorService());
     }
     
+    private void validateCachedMetaData() {
+        long expectedMetaDataVersion = metaDataVersion;
+        RuleSchemaMetaData actualRuleSchemaMetaData;
+        try {
+            actualRuleSchemaMetaData = loadRuleSchemaMetaData(LogicSchemas.getInstance().getDatabaseType(), rules);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Validate cached meta data of schema `{}` failed, keep using cached meta data.", name, ex);
+            return;
+        }
+        refreshCachedMetaData(expectedMetaDataVersion, actualRuleSchemaMetaData);
+    }
+    
+    /**
+     * Refresh cached meta data by actual meta data if they diverge, the refresh is skipped if meta data or rules changed since version expected.
+     *
+     * @param expectedMetaDataVersion version of meta data when loading actual meta data
+     * @param actualRuleSchemaMetaData actual rule schema meta data loaded from databases
+     */
+    void refreshCachedMetaData(final long expectedMetaDataVersion, final RuleSchemaMetaData actualRuleSchemaMetaData) {
+        synchronized (this) {
+            if (expectedMetaDataVersion != metaDataVersion) {
+                log.info("Meta data of schema `{}` changed during validation, skip it.", name);
+                return;
+            }
+            Collection<String> divergentTableNames = getDivergentTableNames(metaData.getSchema().getSchemaMetaData(), actualRuleSchemaMetaData.getSchemaMetaData());
+            if (divergentTableNames.isEmpty()) {
+                return;
+            }
+            log.warn("Cached meta data of schema `{}` diverges from actual databases, tables: {}, refresh it.", name, divergentTableNames);
+            metaData = new ShardingSphereMetaData(metaData.getDataSources(), actualRuleSchemaMetaData);
+            increaseMetaDataVersion();
+        }
+        if (null != ShardingOrchestrationFacade.getInstance()) {
+            ShardingOrchestrationFacade.getInstance().getMetaDataCenter().persistMetaDataCenterNode(name, actualRuleSchemaMetaData);
+        }
+        persistMetaDataSnapshot(actualRuleSchemaMetaData);
+    }
+    
+    private Collection<String> getDivergentTableNames(final SchemaMetaData cachedSchemaMetaData, final SchemaMetaData actualSchemaMetaData) {
+        Collection<String> result = new TreeSet<>();
+        for (String each : cachedSchemaMetaData.getAllTableNames()) {
+            if (!Objects.equals(cachedSchemaMetaData.get(each), actualSchemaMetaData.get(each))) {
+                result.add(each);
+            }
+        }
+        for (String each : actualSchemaMetaData.getAllTableNames()) {
+            if (!cachedSchemaMetaData.containsTable(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Increase version of meta data, must be called with lock of the schema held after meta data or rules changed.
+     */
+    protected final void increaseMetaDataVersion() {
+        metaDataVersion++;
+    }
+    
+    /**
+     * Persist meta data snapshot of the schema.
+     *
+     * @param ruleSchemaMetaData rule schema meta data
+     */
+    protected final void persistMetaDataSnapshot(final RuleSchemaMetaData ruleSchemaMetaData) {
+        if (null != metaDataSnapshot) {
+            metaDataSnapshot.persist(name, ruleSchemaMetaData);
+        }
+    }
+    
     private Map<String, DatabaseAccessConfiguration> getDatabaseAccessConfigurationMap() {
         return backendDataSource.getDataSourceParameters().entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> new DatabaseAccessConfiguration(entry.getValue().getUrl(), null, null)));
@@ -113,6 +265,107 @@ public abstract class LogicSchema {
     public final void setConfigurations(final Collection<RuleConfiguration> configurations) {
         this.configurations = configurations;
         rules = ShardingSphereRulesBuilder.build(configurations, backendDataSource.getDataSourceParameters().keySet());
+        if (null != broadcastTableQueryCache) {
+            broadcastTableQueryCache.invalidateAll();
+            persistBroadcastTableNodes();
+        }
+    }
+    
+    /**
+     * Find query cache of broadcast tables.
+     *
+     * @return query cache of broadcast tables
+     */
+    public final Optional<BroadcastTableQueryCache> findBroadcastTableQueryCache() {
+        return Optional.ofNullable(broadcastTableQueryCache);
+    }
+    
+    /**
+     * Invalidate cached query results of modified broadcast tables, and notify other instances by registry center.
+     *
+     * @param modifiedTableNames modified table names, tables which are not broadcast tables are skipped
+     */
+    public final void invalidateBroadcastTableQueryCache(final Collection<String> modifiedTableNames) {
+        if (null == broadcastTableQueryCache || modifiedTableNames.isEmpty()) {
+            return;
+        }
+        Collection<String> broadcastTableNames = getBroadcastTableNames(modifiedTableNames);
+        if (broadcastTableNames.isEmpty()) {
+            return;
+        }
+        broadcastTableQueryCache.invalidate(broadcastTableNames);
+        if (null != ShardingOrchestrationFacade.getInstance()) {
+            for (String each : broadcastTableNames) {
+                ShardingOrchestrationFacade.getInstance().getRegistryCenter().persistBroadcastTableChanged(name, each);
+            }
+        }
+    }
+    
+    private Collection<String> getBroadcastTableNames(final Collection<String> tableNames) {
+        Optional<ShardingRule> shardingRule = findShardingRule();
+        if (!shardingRule.isPresent()) {
+            return Collections.emptyList();
+        }
+        Collection<String> modifiedTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        modifiedTableNames.addAll(tableNames);
+        return shardingRule.get().getBroadcastTables().stream().filter(modifiedTableNames::contains).collect(Collectors.toList());
+    }
+    
+    /**
+     * Get data node router.
+     *
+     * @return data node router
+     */
+    public DataNodeRouter getDataNodeRouter() {
+        return getEngines().getDataNodeRouter();
+    }
+    
+    /**
+     * Get SQL rewrite entry.
+     *
+     * @return SQL rewrite entry
+     */
+    public SQLRewriteEntry getSqlRewriteEntry() {
+        return getEngines().getSqlRewriteEntry();
+    }
+    
+    /**
+     * Get merge engine.
+     *
+     * @return merge engine
+     */
+    public MergeEngine getMergeEngine() {
+        return getEngines().getMergeEngine();
+    }
+    
+    /**
+     * Get execute group engine for statement.
+     *
+     * @return execute group engine for statement
+     */
+    public StatementExecuteGroupEngine getStatementExecuteGroupEngine() {
+        return getEngines().getStatementExecuteGroupEngine();
+    }
+    
+    /**
+     * Get execute group engine for prepared statement.
+     *
+     * @return execute group engine for prepared statement
+     */
+    public PreparedStatementExecuteGroupEngine getPreparedStatementExecuteGroupEngine() {
+        return getEngines().getPreparedStatementExecuteGroupEngine();
+    }
+    
+    private LogicSchemaEngines getEngines() {
+        LogicSchemaEngines result = engines;
+        ShardingSphereMetaData currentMetaData = metaData;
+        Collection<ShardingSphereRule> currentRules = rules;
+        ConfigurationProperties currentProperties = ShardingProxyContext.getInstance().getProperties();
+        if (null == result || !result.isBuiltFrom(currentMetaData, currentRules, currentProperties)) {
+            result = new LogicSchemaEngines(LogicSchemas.getInstance().getDatabaseType(), currentMetaData, currentRules, currentProperties);
+            engines = result;
+        }
+        return result;
     }
     
     /**
@@ -134,10 +387,29 @@ public abstract class LogicSchema {
         for (String each : event.getSchemaNames()) {
             if (name.equals(each)) {
                 metaData = new ShardingSphereMetaData(metaData.getDataSources(), event.getRuleSchemaMetaData());
+                increaseMetaDataVersion();
+                persistMetaDataSnapshot(event.getRuleSchemaMetaData());
             }
         }
     }
     
+    /**
+     * Invalidate cached query results of broadcast tables.
+     *
+     * @param event broadcast table changed event
+     */
+    @Subscribe
+    public final void renew(final BroadcastTableChangedEvent event) {
+        if (null == broadcastTableQueryCache || !name.equals(event.getSchemaName())) {
+            return;
+        }
+        if (event.getTableName().isEmpty()) {
+            broadcastTableQueryCache.invalidateAll();
+        } else {
+            broadcastTableQueryCache.invalidate(Collections.singleton(event.getTableName()));
+        }
+    }
+    
     /**
      * Renew data source configuration.
      *
@@ -154,6 +426,10 @@ public abstract class LogicSchema {
     /**
      * Refresh table meta data.
      * 
+     * <p>
+     * Implementations should refresh under lock of the schema and increase meta data version, so that background validation would not overwrite the refreshed meta data.
+     * </p>
+     * 
      * @param sqlStatementContext SQL statement context
      * @throws SQLException SQL exception
      */
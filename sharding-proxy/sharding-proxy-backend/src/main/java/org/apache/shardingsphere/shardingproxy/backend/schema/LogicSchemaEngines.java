@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.schema;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.PreparedStatementExecuteGroupEngine;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementExecuteGroupEngine;
+import org.apache.shardingsphere.underlying.merge.MergeEngine;
+import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
+
+import java.util.Collection;
+
+/**
+ * Engines of logic schema, which are built from the same meta data, rules and properties.
+ */
+@Getter
+final class LogicSchemaEngines {
+    
+    @Getter(AccessLevel.NONE)
+    private final ShardingSphereMetaData metaData;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<ShardingSphereRule> rules;
+    
+    @Getter(AccessLevel.NONE)
+    private final ConfigurationProperties properties;
+    
+    private final DataNodeRouter dataNodeRouter;
+    
+    private final SQLRewriteEntry sqlRewriteEntry;
+    
+    private final MergeEngine mergeEngine;
+    
+    private final StatementExecuteGroupEngine statementExecuteGroupEngine;
+    
+    private final PreparedStatementExecuteGroupEngine preparedStatementExecuteGroupEngine;
+    
+    LogicSchemaEngines(final DatabaseType databaseType, final ShardingSphereMetaData metaData, final Collection<ShardingSphereRule> rules, final ConfigurationProperties properties) {
+        this.metaData = metaData;
+        this.rules = rules;
+        this.properties = properties;
+        dataNodeRouter = new DataNodeRouter(metaData, properties, rules);
+        sqlRewriteEntry = new SQLRewriteEntry(metaData.getSchema().getConfiguredSchemaMetaData(), properties, rules);
+        mergeEngine = new MergeEngine(databaseType, metaData.getSchema().getConfiguredSchemaMetaData(), properties, rules);
+        int maxConnectionsSizePerQuery = properties.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        statementExecuteGroupEngine = new StatementExecuteGroupEngine(maxConnectionsSizePerQuery, rules);
+        preparedStatementExecuteGroupEngine = new PreparedStatementExecuteGroupEngine(maxConnectionsSizePerQuery, rules);
+    }
+    
+    /**
+     * Judge whether engines are built from the meta data, rules and properties.
+     *
+     * @param metaData meta data
+     * @param rules rules
+     * @param properties configuration properties
+     * @return engines are built from them or not
+     */
+    boolean isBuiltFrom(final ShardingSphereMetaData metaData, final Collection<ShardingSphereRule> rules, final ConfigurationProperties properties) {
+        return this.metaData == metaData && this.rules == rules && this.properties == properties;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.orchestration.core.metadatacenter.yaml.RuleSchemaMetaDataYamlSwapper;
+import org.apache.shardingsphere.orchestration.core.metadatacenter.yaml.YamlRuleSchemaMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.underlying.common.yaml.engine.YamlEngine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Meta data snapshot of logic schemas persisted in local file system.
+ */
+@RequiredArgsConstructor
+@Slf4j(topic = "ShardingSphere-metadata")
+public final class MetaDataSnapshot {
+    
+    private static final String SNAPSHOT_FILE_SUFFIX = ".yaml";
+    
+    private final Path directory;
+    
+    /**
+     * Load rule schema meta data from snapshot.
+     *
+     * @param schemaName schema name
+     * @return rule schema meta data, empty if snapshot is absent or unreadable
+     */
+    public Optional<RuleSchemaMetaData> load(final String schemaName) {
+        Path snapshotFile = getSnapshotFile(schemaName);
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Optional.empty();
+        }
+        try {
+            YamlRuleSchemaMetaData yamlRuleSchemaMetaData = YamlEngine.unmarshal(new String(Files.readAllBytes(snapshotFile), StandardCharsets.UTF_8), YamlRuleSchemaMetaData.class);
+            return null == yamlRuleSchemaMetaData ? Optional.empty() : Optional.of(new RuleSchemaMetaDataYamlSwapper().swap(yamlRuleSchemaMetaData));
+            // CHECKSTYLE:OFF
+        } catch (final IOException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load meta data snapshot of schema `{}` failed, ignore it.", schemaName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Persist rule schema meta data to snapshot.
+     *
+     * @param schemaName schema name
+     * @param ruleSchemaMetaData rule schema meta data
+     */
+    public void persist(final String schemaName, final RuleSchemaMetaData ruleSchemaMetaData) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, schemaName, ".tmp");
+            Files.write(tempFile, YamlEngine.marshal(new RuleSchemaMetaDataYamlSwapper().swap(ruleSchemaMetaData)).getBytes(StandardCharsets.UTF_8));
+            moveTo(tempFile, getSnapshotFile(schemaName));
+        } catch (final IOException ex) {
+            log.warn("Persist meta data snapshot of schema `{}` failed.", schemaName, ex);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+    
+    private Path getSnapshotFile(final String schemaName) {
+        return directory.resolve(schemaName + SNAPSHOT_FILE_SUFFIX);
+    }
+    
+    private void moveTo(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    private void deleteQuietly(final Path file) {
+        if (null == file) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+        }
+    }
+}
@@ -61,6 +61,7 @@ public final class ShardingSphereSchema extends LogicSchema {
         if (getName().equals(shardingRuleChangedEvent.getShardingSchemaName())) {
             ConfigurationLogger.log(shardingRuleChangedEvent.getRuleConfigurations());
             setConfigurations(shardingRuleChangedEvent.getRuleConfigurations());
+            increaseMetaDataVersion();
         }
     }
     
@@ -83,16 +84,18 @@ public final class ShardingSphereSchema extends LogicSchema {
     
     @SuppressWarnings("unchecked")
     @Override
-    public void refreshTableMetaData(final SQLStatementContext sqlStatementContext) throws SQLException {
+    public synchronized void refreshTableMetaData(final SQLStatementContext sqlStatementContext) throws SQLException {
         if (null == sqlStatementContext) {
             return;
         }
         Optional<MetaDataRefreshStrategy> refreshStrategy = MetaDataRefreshStrategyFactory.newInstance(sqlStatementContext);
         if (refreshStrategy.isPresent()) {
             refreshStrategy.get().refreshMetaData(getMetaData(), LogicSchemas.getInstance().getDatabaseType(), getBackendDataSource().getDataSources(), sqlStatementContext, this::loadTableMetaData);
+            increaseMetaDataVersion();
             if (null != ShardingOrchestrationFacade.getInstance()) {
                 ShardingOrchestrationFacade.getInstance().getMetaDataCenter().persistMetaDataCenterNode(getName(), getMetaData().getSchema());
             }
+            persistMetaDataSnapshot(getMetaData().getSchema());
         }
     }
     
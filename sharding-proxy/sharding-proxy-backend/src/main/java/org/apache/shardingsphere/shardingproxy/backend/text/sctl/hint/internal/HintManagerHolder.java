@@ -41,6 +41,15 @@ public final class HintManagerHolder {
         return HINT_MANAGER_HOLDER.get();
     }
     
+    /**
+     * Judge whether {@code HintManager} is held by current thread.
+     *
+     * @return {@code HintManager} is held or not
+     */
+    public static boolean isInstantiated() {
+        return null != HINT_MANAGER_HOLDER.get();
+    }
+    
     /**
      * remove {@code HintManager} from {@code ThreadLocal}.
      */
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
+
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.BroadcastTableQueryCache;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.underlying.merge.MergeEngine;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JDBCDatabaseCommunicationEngineTest {
+    
+    private static final String SQL = "SELECT * FROM t_config";
+    
+    private final Collection<String> tableNames = Collections.singletonList("t_config");
+    
+    private final LogicSchema logicSchema = mock(LogicSchema.class);
+    
+    private final ShardingRule shardingRule = mock(ShardingRule.class);
+    
+    private final BackendConnection backendConnection = mock(BackendConnection.class);
+    
+    private final ConnectionStateHandler stateHandler = mock(ConnectionStateHandler.class);
+    
+    private final JDBCExecuteEngine executeEngine = mock(JDBCExecuteEngine.class);
+    
+    @Before
+    public void setUp() {
+        when(logicSchema.getRules()).thenReturn(Collections.singletonList(shardingRule));
+        when(logicSchema.findBroadcastTableQueryCache()).thenReturn(Optional.of(new BroadcastTableQueryCache(100L, 60L, 10)));
+        when(logicSchema.getMergeEngine()).thenReturn(mock(MergeEngine.class));
+        when(shardingRule.isAllBroadcastTables(tableNames)).thenReturn(true);
+        when(backendConnection.getStateHandler()).thenReturn(stateHandler);
+        when(executeEngine.getBackendConnection()).thenReturn(backendConnection);
+    }
+    
+    @Test
+    public void assertExecuteBroadcastTableQueryWithCache() throws SQLException {
+        ExecutionContext executionContext = mockExecutionContext(new SelectStatement());
+        when(executeEngine.execute(executionContext)).thenReturn(createQueryResponse());
+        assertThat(new JDBCDatabaseCommunicationEngine(logicSchema, SQL, executeEngine).execute(), instanceOf(QueryResponse.class));
+        assertThat(new JDBCDatabaseCommunicationEngine(logicSchema, SQL, executeEngine).execute(), instanceOf(QueryResponse.class));
+        verify(executeEngine).execute(executionContext);
+    }
+    
+    @Test
+    public void assertExecuteBroadcastTableQueryInTransaction() throws SQLException {
+        when(stateHandler.isInTransaction()).thenReturn(true);
+        ExecutionContext executionContext = mockExecutionContext(new SelectStatement());
+        when(executeEngine.execute(executionContext)).thenAnswer(invocation -> createQueryResponse());
+        new JDBCDatabaseCommunicationEngine(logicSchema, SQL, executeEngine).execute();
+        new JDBCDatabaseCommunicationEngine(logicSchema, SQL, executeEngine).execute();
+        verify(executeEngine, times(2)).execute(executionContext);
+    }
+    
+    @Test
+    public void assertExecuteNonBroadcastTableQuery() throws SQLException {
+        when(shardingRule.isAllBroadcastTables(tableNames)).thenReturn(false);
+        ExecutionContext executionContext = mockExecutionContext(new SelectStatement());
+        when(executeEngine.execute(executionContext)).thenAnswer(invocation -> createQueryResponse());
+        new JDBCDatabaseCommunicationEngine(logicSchema, SQL, executeEngine).execute();
+        new JDBCDatabaseCommunicationEngine(logicSchema, SQL, executeEngine).execute();
+        verify(executeEngine, times(2)).execute(executionContext);
+    }
+    
+    @Test
+    public void assertExecuteUpdateWithInvalidation() throws SQLException {
+        ExecutionContext executionContext = mockExecutionContext(new UpdateStatement());
+        when(executeEngine.execute(executionContext)).thenReturn(new UpdateResponse());
+        assertThat(new JDBCDatabaseCommunicationEngine(logicSchema, SQL, executeEngine).execute(), instanceOf(UpdateResponse.class));
+        verify(backendConnection).invalidateBroadcastTableQueryCache(tableNames);
+    }
+    
+    @Test
+    public void assertExecuteUpdateFailedWithInvalidation() throws SQLException {
+        ExecutionContext executionContext = mockExecutionContext(new UpdateStatement());
+        when(executeEngine.execute(executionContext)).thenThrow(new SQLException("test"));
+        assertThat(new JDBCDatabaseCommunicationEngine(logicSchema, SQL, executeEngine).execute(), instanceOf(ErrorResponse.class));
+        verify(backendConnection).invalidateBroadcastTableQueryCache(tableNames);
+    }
+    
+    @Test
+    public void assertExecuteQueryWithoutInvalidation() throws SQLException {
+        when(shardingRule.isAllBroadcastTables(tableNames)).thenReturn(false);
+        ExecutionContext executionContext = mockExecutionContext(new SelectStatement());
+        when(executeEngine.execute(executionContext)).thenReturn(createQueryResponse());
+        new JDBCDatabaseCommunicationEngine(logicSchema, SQL, executeEngine).execute();
+        verify(backendConnection, times(0)).invalidateBroadcastTableQueryCache(any());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ExecutionContext mockExecutionContext(final SQLStatement sqlStatement) throws SQLException {
+        TablesContext tablesContext = mock(TablesContext.class);
+        when(tablesContext.getTableNames()).thenReturn(tableNames);
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(sqlStatement);
+        when(sqlStatementContext.getTablesContext()).thenReturn(tablesContext);
+        ExecutionContext result = new ExecutionContext(sqlStatementContext, new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.emptyList())));
+        JDBCExecutorWrapper jdbcExecutorWrapper = mock(JDBCExecutorWrapper.class);
+        when(jdbcExecutorWrapper.route(SQL)).thenReturn(result);
+        when(executeEngine.getJdbcExecutorWrapper()).thenReturn(jdbcExecutorWrapper);
+        return result;
+    }
+    
+    private QueryResponse createQueryResponse() {
+        QueryResponse result = new QueryResponse(Collections.emptyList());
+        result.getQueryResults().add(mock(QueryResult.class));
+        return result;
+    }
+}
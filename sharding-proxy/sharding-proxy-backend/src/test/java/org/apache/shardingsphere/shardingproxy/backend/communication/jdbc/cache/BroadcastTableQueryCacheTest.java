@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache;
+
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BroadcastTableQueryCacheTest {
+    
+    private final BroadcastTableQueryCache queryCache = new BroadcastTableQueryCache(100L, 60L, 10);
+    
+    @Test
+    public void assertPutAndGet() throws SQLException {
+        QueryResponse actual = queryCache.put("SELECT * FROM t_config", Collections.singletonList(1), Collections.singletonList("t_config"), queryCache.getVersion(), createQueryResponse());
+        assertQueryResponse(actual);
+        Optional<QueryResponse> cached = queryCache.get("SELECT * FROM t_config", Collections.singletonList(1));
+        assertTrue(cached.isPresent());
+        assertQueryResponse(cached.get());
+        assertQueryResponse(queryCache.get("SELECT * FROM t_config", Collections.singletonList(1)).get());
+        assertFalse(queryCache.get("SELECT * FROM t_config", Collections.singletonList(2)).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidate() throws SQLException {
+        queryCache.put("SELECT * FROM t_config", Collections.emptyList(), Collections.singletonList("t_config"), queryCache.getVersion(), createQueryResponse());
+        queryCache.put("SELECT * FROM t_dict", Collections.emptyList(), Collections.singletonList("t_dict"), queryCache.getVersion(), createQueryResponse());
+        queryCache.invalidate(Collections.singletonList("T_CONFIG"));
+        assertFalse(queryCache.get("SELECT * FROM t_config", Collections.emptyList()).isPresent());
+        assertTrue(queryCache.get("SELECT * FROM t_dict", Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    public void assertPutWithStaleVersion() throws SQLException {
+        long version = queryCache.getVersion();
+        queryCache.invalidateAll();
+        assertQueryResponse(queryCache.put("SELECT * FROM t_config", Collections.emptyList(), Collections.singletonList("t_config"), version, createQueryResponse()));
+        assertFalse(queryCache.get("SELECT * FROM t_config", Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    public void assertPutWithMoreRowsThanMaxRowCount() throws SQLException {
+        BroadcastTableQueryCache queryCache = new BroadcastTableQueryCache(100L, 60L, 1);
+        assertQueryResponse(queryCache.put("SELECT * FROM t_config", Collections.emptyList(), Collections.singletonList("t_config"), queryCache.getVersion(), createQueryResponse()));
+        assertFalse(queryCache.get("SELECT * FROM t_config", Collections.emptyList()).isPresent());
+    }
+    
+    private QueryResponse createQueryResponse() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getColumnCount()).thenReturn(1);
+        when(queryResult.getColumnName(1)).thenReturn("value");
+        when(queryResult.getColumnLabel(1)).thenReturn("value");
+        when(queryResult.next()).thenReturn(true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn("a", "b");
+        QueryResponse result = new QueryResponse(Collections.emptyList());
+        result.getQueryResults().add(queryResult);
+        return result;
+    }
+    
+    private void assertQueryResponse(final QueryResponse actual) throws SQLException {
+        assertThat(actual.getQueryResults().size(), is(1));
+        QueryResult queryResult = actual.getQueryResults().get(0);
+        assertThat(queryResult.getColumnLabel(1), is("value"));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Object.class), is((Object) "a"));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Object.class), is((Object) "b"));
+        assertFalse(queryResult.next());
+    }
+}
@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.shardingproxy.backend.MockLogicSchemasUtil;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.BroadcastTableQueryCache;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -37,7 +38,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -231,4 +234,24 @@ public final class BackendConnectionTest {
         transactionManager.begin();
         backendConnection.setCurrentSchema("newSchema");
     }
+    
+    @Test
+    public void assertInvalidateBroadcastTableQueryCacheWithoutTransaction() {
+        when(backendConnection.getLogicSchema().findBroadcastTableQueryCache()).thenReturn(Optional.of(mock(BroadcastTableQueryCache.class)));
+        backendConnection.invalidateBroadcastTableQueryCache(Collections.singletonList("t_config"));
+        verify(backendConnection.getLogicSchema()).invalidateBroadcastTableQueryCache(Collections.singletonList("t_config"));
+    }
+    
+    @Test
+    public void assertInvalidateBroadcastTableQueryCacheWithTransaction() {
+        when(backendConnection.getLogicSchema().findBroadcastTableQueryCache()).thenReturn(Optional.of(mock(BroadcastTableQueryCache.class)));
+        backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+        backendConnection.invalidateBroadcastTableQueryCache(Collections.singletonList("t_config"));
+        verify(backendConnection.getLogicSchema(), times(0)).invalidateBroadcastTableQueryCache(any());
+        backendConnection.getStateHandler().setStatus(ConnectionStatus.TERMINATED);
+        backendConnection.invalidateBroadcastTableQueryCacheOfTransaction();
+        verify(backendConnection.getLogicSchema()).invalidateBroadcastTableQueryCache(Collections.singletonList("t_config"));
+        backendConnection.invalidateBroadcastTableQueryCacheOfTransaction();
+        verify(backendConnection.getLogicSchema()).invalidateBroadcastTableQueryCache(any());
+    }
 }
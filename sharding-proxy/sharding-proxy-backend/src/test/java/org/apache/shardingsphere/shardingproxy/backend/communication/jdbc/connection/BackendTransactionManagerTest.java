@@ -92,6 +92,7 @@ public final class BackendTransactionManagerTest {
         backendTransactionManager.commit();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(localTransactionManager).commit();
+        verify(backendConnection).invalidateBroadcastTableQueryCacheOfTransaction();
     }
     
     @Test
@@ -100,6 +101,7 @@ public final class BackendTransactionManagerTest {
         backendTransactionManager.commit();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(shardingTransactionManager).commit();
+        verify(backendConnection).invalidateBroadcastTableQueryCacheOfTransaction();
     }
     
     @Test
@@ -117,6 +119,7 @@ public final class BackendTransactionManagerTest {
         backendTransactionManager.rollback();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(localTransactionManager).rollback();
+        verify(backendConnection).invalidateBroadcastTableQueryCacheOfTransaction();
     }
     
     @Test
@@ -125,6 +128,7 @@ public final class BackendTransactionManagerTest {
         backendTransactionManager.rollback();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(shardingTransactionManager).rollback();
+        verify(backendConnection).invalidateBroadcastTableQueryCacheOfTransaction();
     }
     
     @Test
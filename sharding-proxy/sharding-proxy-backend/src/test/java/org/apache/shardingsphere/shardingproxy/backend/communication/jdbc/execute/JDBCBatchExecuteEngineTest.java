@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class JDBCBatchExecuteEngineTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id) VALUES (?)";
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private ConnectionStateHandler stateHandler;
+    
+    @Mock
+    private LogicSchema logicSchema;
+    
+    @Mock
+    private SQLParserEngine sqlParserEngine;
+    
+    @Mock
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(logicSchema.getSqlParserEngine()).thenReturn(sqlParserEngine);
+        when(logicSchema.getDataSources()).thenReturn(Collections.singletonMap("ds", new YamlDataSourceParameter()));
+        when(backendConnection.getLogicSchema()).thenReturn(logicSchema);
+        when(backendConnection.getStateHandler()).thenReturn(stateHandler);
+        when(backendConnection.getConnections("ds", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+    }
+    
+    @Test
+    public void assertExecuteWithParameterSetsInLocalTransaction() throws SQLException {
+        PreparedStatement preparedStatement = mockPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 2});
+        when(connection.getAutoCommit()).thenReturn(true);
+        int[] actual = new JDBCBatchExecuteEngine(backendConnection).execute(SQL, Arrays.asList(Collections.singletonList(1), Collections.singletonList(2)));
+        assertThat(actual.length, is(2));
+        assertThat(actual[0], is(1));
+        assertThat(actual[1], is(2));
+        verify(preparedStatement, times(2)).addBatch();
+        verify(backendConnection).add(preparedStatement);
+        verify(connection).setAutoCommit(false);
+        verify(connection).commit();
+        verify(connection).setAutoCommit(true);
+        verify(backendConnection).invalidateBroadcastTableQueryCache(Collections.emptySet());
+    }
+    
+    @Test
+    public void assertExecuteWithParameterSetsFailedAndRollback() throws SQLException {
+        PreparedStatement preparedStatement = mockPreparedStatement();
+        SQLException expected = new SQLException("batch failed");
+        when(preparedStatement.executeBatch()).thenThrow(expected);
+        when(connection.getAutoCommit()).thenReturn(true);
+        try {
+            new JDBCBatchExecuteEngine(backendConnection).execute(SQL, Arrays.asList(Collections.singletonList(1), Collections.singletonList(2)));
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex, is(expected));
+        }
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+        verify(backendConnection).invalidateBroadcastTableQueryCache(Collections.emptySet());
+    }
+    
+    @Test
+    public void assertExecuteWithParameterSetsInTransaction() throws SQLException {
+        PreparedStatement preparedStatement = mockPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
+        when(stateHandler.isInTransaction()).thenReturn(true);
+        int[] actual = new JDBCBatchExecuteEngine(backendConnection).execute(SQL, Collections.singletonList(Collections.singletonList(1)));
+        assertThat(actual[0], is(1));
+        verify(connection, never()).setAutoCommit(false);
+        verify(connection, never()).commit();
+    }
+    
+    @Test
+    public void assertExecuteSQLsInLocalTransaction() throws SQLException {
+        when(sqlParserEngine.parse("INSERT INTO t_order (order_id) VALUES (1)", false)).thenReturn(new InsertStatement());
+        when(sqlParserEngine.parse("INSERT INTO t_order (order_id) VALUES (2)", false)).thenReturn(new InsertStatement());
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[]{1, Statement.SUCCESS_NO_INFO});
+        when(connection.getAutoCommit()).thenReturn(true);
+        int[] actual = new JDBCBatchExecuteEngine(backendConnection).execute(Arrays.asList("INSERT INTO t_order (order_id) VALUES (1)", "INSERT INTO t_order (order_id) VALUES (2)"));
+        assertThat(actual[0], is(1));
+        assertThat(actual[1], is(0));
+        verify(statement).addBatch("INSERT INTO t_order (order_id) VALUES (1)");
+        verify(statement).addBatch("INSERT INTO t_order (order_id) VALUES (2)");
+        verify(connection).commit();
+        verify(connection).setAutoCommit(true);
+    }
+    
+    private PreparedStatement mockPreparedStatement() throws SQLException {
+        when(sqlParserEngine.parse(SQL, false)).thenReturn(new InsertStatement());
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(connection.prepareStatement(SQL)).thenReturn(result);
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.schema;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Properties;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class LogicSchemaEnginesTest {
+    
+    private final Collection<ShardingSphereRule> rules = new LinkedList<>();
+    
+    private final ConfigurationProperties properties = new ConfigurationProperties(new Properties());
+    
+    private ShardingSphereMetaData metaData;
+    
+    private LogicSchemaEngines engines;
+    
+    @Before
+    public void setUp() {
+        metaData = createMetaData();
+        engines = new LogicSchemaEngines(DatabaseTypes.getActualDatabaseType("MySQL"), metaData, rules, properties);
+    }
+    
+    @Test
+    public void assertNewInstance() {
+        assertNotNull(engines.getDataNodeRouter());
+        assertNotNull(engines.getSqlRewriteEntry());
+        assertNotNull(engines.getMergeEngine());
+        assertNotNull(engines.getStatementExecuteGroupEngine());
+        assertNotNull(engines.getPreparedStatementExecuteGroupEngine());
+    }
+    
+    @Test
+    public void assertIsBuiltFromSameInstances() {
+        assertTrue(engines.isBuiltFrom(metaData, rules, properties));
+    }
+    
+    @Test
+    public void assertIsNotBuiltFromRenewedMetaData() {
+        assertFalse(engines.isBuiltFrom(createMetaData(), rules, properties));
+    }
+    
+    @Test
+    public void assertIsNotBuiltFromRenewedRules() {
+        assertFalse(engines.isBuiltFrom(metaData, new LinkedList<>(rules), properties));
+    }
+    
+    @Test
+    public void assertIsNotBuiltFromRenewedProperties() {
+        assertFalse(engines.isBuiltFrom(metaData, rules, new ConfigurationProperties(new Properties())));
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        return new ShardingSphereMetaData(mock(DataSourceMetas.class), new RuleSchemaMetaData(new SchemaMetaData(Collections.emptyMap()), Collections.emptyMap()));
+    }
+}
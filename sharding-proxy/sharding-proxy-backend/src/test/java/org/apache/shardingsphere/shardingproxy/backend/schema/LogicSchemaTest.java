@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.schema;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.orchestration.core.common.event.ShardingRuleChangedEvent;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+
+public final class LogicSchemaTest {
+    
+    private Path directory;
+    
+    private MetaDataSnapshot metaDataSnapshot;
+    
+    private ShardingSphereSchema logicSchema;
+    
+    private RuleSchemaMetaData cachedRuleSchemaMetaData;
+    
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logic-schema");
+        metaDataSnapshot = new MetaDataSnapshot(directory.resolve("snapshot"));
+        cachedRuleSchemaMetaData = createRuleSchemaMetaData("status");
+        logicSchema = mock(ShardingSphereSchema.class, CALLS_REAL_METHODS);
+        setField("name", "sharding_db");
+        setField("backendDataSource", mock(JDBCBackendDataSource.class));
+        setField("metaDataSnapshot", metaDataSnapshot);
+        setField("metaData", new ShardingSphereMetaData(mock(DataSourceMetas.class), cachedRuleSchemaMetaData));
+    }
+    
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(each -> each.toFile().delete());
+        }
+    }
+    
+    @Test
+    public void assertRefreshCachedMetaDataWithDivergentTables() {
+        RuleSchemaMetaData actualRuleSchemaMetaData = createRuleSchemaMetaData("order_status");
+        long expectedMetaDataVersion = logicSchema.getMetaDataVersion();
+        logicSchema.refreshCachedMetaData(expectedMetaDataVersion, actualRuleSchemaMetaData);
+        assertThat(logicSchema.getMetaData().getSchema(), is(actualRuleSchemaMetaData));
+        assertThat(logicSchema.getMetaDataVersion(), is(expectedMetaDataVersion + 1));
+        Optional<RuleSchemaMetaData> snapshot = metaDataSnapshot.load("sharding_db");
+        assertTrue(snapshot.isPresent());
+        assertThat(snapshot.get().getConfiguredSchemaMetaData().get("t_order"), is(actualRuleSchemaMetaData.getConfiguredSchemaMetaData().get("t_order")));
+    }
+    
+    @Test
+    public void assertRefreshCachedMetaDataWithoutDivergentTables() {
+        long expectedMetaDataVersion = logicSchema.getMetaDataVersion();
+        logicSchema.refreshCachedMetaData(expectedMetaDataVersion, createRuleSchemaMetaData("status"));
+        assertThat(logicSchema.getMetaData().getSchema(), is(cachedRuleSchemaMetaData));
+        assertThat(logicSchema.getMetaDataVersion(), is(expectedMetaDataVersion));
+        assertFalse(metaDataSnapshot.load("sharding_db").isPresent());
+    }
+    
+    @Test
+    public void assertRefreshCachedMetaDataAfterShardingRuleChanged() {
+        long expectedMetaDataVersion = logicSchema.getMetaDataVersion();
+        logicSchema.renew(new ShardingRuleChangedEvent("sharding_db", Collections.emptyList()));
+        assertThat(logicSchema.getMetaDataVersion(), is(expectedMetaDataVersion + 1));
+        logicSchema.refreshCachedMetaData(expectedMetaDataVersion, createRuleSchemaMetaData("order_status"));
+        assertThat(logicSchema.getMetaData().getSchema(), is(cachedRuleSchemaMetaData));
+        assertFalse(metaDataSnapshot.load("sharding_db").isPresent());
+    }
+    
+    private RuleSchemaMetaData createRuleSchemaMetaData(final String statusColumnName) {
+        TableMetaData tableMetaData = new TableMetaData(
+                Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, "BIGINT", true, false, false), new ColumnMetaData(statusColumnName, Types.VARCHAR, "VARCHAR", false, false, false)),
+                Collections.emptyList());
+        return new RuleSchemaMetaData(new SchemaMetaData(Collections.singletonMap("t_order", tableMetaData)), Collections.emptyMap());
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setField(final String fieldName, final Object value) {
+        Field field = LogicSchema.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(logicSchema, value);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.schema;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MetaDataSnapshotTest {
+    
+    private Path directory;
+    
+    private MetaDataSnapshot metaDataSnapshot;
+    
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("metadata-snapshot");
+        metaDataSnapshot = new MetaDataSnapshot(directory.resolve("snapshot"));
+    }
+    
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(each -> each.toFile().delete());
+        }
+    }
+    
+    @Test
+    public void assertLoadWithoutSnapshot() {
+        assertFalse(metaDataSnapshot.load("sharding_db").isPresent());
+    }
+    
+    @Test
+    public void assertPersistAndLoad() {
+        TableMetaData tableMetaData = new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, "BIGINT", true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, "INT", false, false, false)), Collections.singletonList(new IndexMetaData("order_index")));
+        metaDataSnapshot.persist("sharding_db", new RuleSchemaMetaData(new SchemaMetaData(Collections.singletonMap("t_order", tableMetaData)), Collections.emptyMap()));
+        Optional<RuleSchemaMetaData> actual = metaDataSnapshot.load("sharding_db");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getConfiguredSchemaMetaData().get("t_order"), is(tableMetaData));
+        assertTrue(actual.get().getUnconfiguredSchemaMetaDataMap().isEmpty());
+    }
+    
+    @Test
+    public void assertLoadWithCorruptedSnapshot() throws IOException {
+        Files.createDirectories(directory.resolve("snapshot"));
+        Files.write(directory.resolve("snapshot").resolve("sharding_db.yaml"), "tables: [".getBytes(StandardCharsets.UTF_8));
+        assertFalse(metaDataSnapshot.load("sharding_db").isPresent());
+    }
+}
@@ -25,9 +25,8 @@ import org.apache.shardingsphere.database.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.database.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
-import org.apache.shardingsphere.metrics.api.HistogramMetricsTrackerDelegate;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
-import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.facade.handle.MetricsHistogram;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
@@ -47,6 +46,10 @@ import java.util.Optional;
 @Slf4j
 public final class CommandExecutorTask implements Runnable {
     
+    private static final MetricsHistogram REQUEST_LATENCY = new MetricsHistogram(MetricsLabelEnum.REQUEST_LATENCY.getName());
+    
+    private static final RootInvokeHook ROOT_INVOKE_HOOK = new SPIRootInvokeHook();
+    
     private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
     
     private final BackendConnection backendConnection;
@@ -63,9 +66,8 @@ public final class CommandExecutorTask implements Runnable {
      */
     @Override
     public void run() {
-        RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
-        rootInvokeHook.start();
-        Optional<HistogramMetricsTrackerDelegate> trackerDelegate = MetricsTrackerFacade.getInstance().histogramStartTimer(MetricsLabelEnum.REQUEST_LATENCY.getName());
+        ROOT_INVOKE_HOOK.start();
+        long startNanoTime = REQUEST_LATENCY.startTimer();
         int connectionSize = 0;
         boolean isNeedFlush = false;
         try (BackendConnection backendConnection = this.backendConnection;
@@ -85,14 +87,14 @@ public final class CommandExecutorTask implements Runnable {
             if (isNeedFlush) {
                 context.flush();
             }
-            rootInvokeHook.finish(connectionSize);
-            trackerDelegate.ifPresent(HistogramMetricsTrackerDelegate::observeDuration);
+            ROOT_INVOKE_HOOK.finish(connectionSize);
+            REQUEST_LATENCY.observeDuration(startNanoTime);
         }
     }
     
     private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
-        CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
+        CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload, backendConnection);
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
         Collection<DatabasePacket> responsePackets = commandExecutor.execute();
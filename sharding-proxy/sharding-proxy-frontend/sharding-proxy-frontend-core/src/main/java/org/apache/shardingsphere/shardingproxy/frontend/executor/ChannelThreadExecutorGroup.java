@@ -18,28 +18,60 @@
 package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
 import io.netty.channel.ChannelId;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
 
+import java.util.Deque;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BooleanSupplier;
 
 /**
  * Channel thread executor group.
  * 
  * <p>
- *     Manage the thread for each channel invoking.
+ *     Manage the serial executor for each channel invoking.
+ *     Channels share a bounded group of threads, and keep the leased thread while thread bound state is alive.
  *     This ensure XA transaction framework processed by current thread id.
  * </p>
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ChannelThreadExecutorGroup {
     
+    private static final ShardingProxyContext SHARDING_PROXY_CONTEXT = ShardingProxyContext.getInstance();
+    
+    private static final String NAME_FORMAT = "Command-Serial-%d";
+    
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
-    private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private final Map<ChannelId, SerialExecutor> executors = new ConcurrentHashMap<>();
+    
+    private final ThreadFactory threadFactory = ShardingSphereThreadFactoryBuilder.build(NAME_FORMAT);
+    
+    private final int maxThreadCount;
+    
+    private final int maxIdleThreadCount;
+    
+    private final Deque<ExecutorService> idleThreads = new LinkedList<>();
+    
+    private final Queue<SerialExecutor> waitingExecutors = new LinkedList<>();
+    
+    private int threadCount;
+    
+    private ChannelThreadExecutorGroup() {
+        this(SHARDING_PROXY_CONTEXT.getProperties().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_SERIAL_EXECUTOR_MAX_THREADS),
+                SHARDING_PROXY_CONTEXT.getProperties().<Integer>getValue(ConfigurationPropertyKey.ACCEPTOR_SIZE));
+    }
+    
+    ChannelThreadExecutorGroup(final int maxThreadCount, final int maxIdleThreadCount) {
+        this.maxThreadCount = maxThreadCount;
+        this.maxIdleThreadCount = maxIdleThreadCount;
+    }
     
     /**
      * Get channel thread executor group.
@@ -54,19 +86,20 @@ public final class ChannelThreadExecutorGroup {
      * Register channel.
      *
      * @param channelId channel id
+     * @param threadBoundStateAlive is thread bound state of channel alive or not
      */
-    public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+    public void register(final ChannelId channelId, final BooleanSupplier threadBoundStateAlive) {
+        executors.put(channelId, new SerialExecutor(this, threadBoundStateAlive));
     }
     
     /**
-     * Get executor service of current channel.
+     * Get serial executor of current channel.
      *
      * @param channelId channel id
-     * @return executor service of current channel
+     * @return serial executor of current channel
      */
-    public ExecutorService get(final ChannelId channelId) {
-        return executorServices.get(channelId);
+    public SerialExecutor get(final ChannelId channelId) {
+        return executors.get(channelId);
     }
     
     /**
@@ -75,6 +108,60 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void unregister(final ChannelId channelId) {
-        executorServices.remove(channelId).shutdown();
+        executors.remove(channelId).close();
+    }
+    
+    void lease(final SerialExecutor executor) {
+        ExecutorService thread;
+        synchronized (this) {
+            thread = idleThreads.pollFirst();
+            if (null == thread) {
+                if (maxThreadCount > 0 && threadCount >= maxThreadCount) {
+                    waitingExecutors.offer(executor);
+                    return;
+                }
+                thread = newThread();
+            }
+        }
+        executor.startDrain(thread);
+    }
+    
+    void release(final ExecutorService thread) {
+        SerialExecutor waitingExecutor;
+        synchronized (this) {
+            waitingExecutor = waitingExecutors.poll();
+            if (null == waitingExecutor) {
+                if (idleThreads.size() < maxIdleThreadCount) {
+                    idleThreads.offerFirst(thread);
+                    return;
+                }
+                threadCount--;
+            }
+        }
+        if (null == waitingExecutor) {
+            thread.shutdown();
+        } else {
+            waitingExecutor.startDrain(thread);
+        }
+    }
+    
+    void discard(final ExecutorService thread) {
+        thread.shutdown();
+        SerialExecutor waitingExecutor;
+        ExecutorService newThread;
+        synchronized (this) {
+            threadCount--;
+            waitingExecutor = waitingExecutors.poll();
+            if (null == waitingExecutor) {
+                return;
+            }
+            newThread = newThread();
+        }
+        waitingExecutor.startDrain(newThread);
+    }
+    
+    private ExecutorService newThread() {
+        threadCount++;
+        return Executors.newSingleThreadExecutor(threadFactory);
     }
 }
@@ -22,7 +22,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 /**
  * Command executor selector.
@@ -31,15 +31,15 @@ import java.util.concurrent.ExecutorService;
 public final class CommandExecutorSelector {
     
     /**
-     * Get executor service.
+     * Get executor.
      *
      * @param isOccupyThreadForPerConnection is occupy thread for per connection or not
      * @param supportHint is support hint
      * @param transactionType transaction type
      * @param channelId channel ID
-     * @return executor service
+     * @return executor
      */
-    public static ExecutorService getExecutor(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final ChannelId channelId) {
+    public static Executor getExecutor(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final ChannelId channelId) {
         return (isOccupyThreadForPerConnection || supportHint || TransactionType.XA == transactionType || TransactionType.BASE == transactionType)
                 ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
     }
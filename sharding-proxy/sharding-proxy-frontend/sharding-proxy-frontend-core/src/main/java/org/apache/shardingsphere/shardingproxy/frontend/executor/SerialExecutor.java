@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Serial executor.
+ * 
+ * <p>
+ *     Execute commands of one channel one by one in submission order.
+ *     Thread is leased from channel thread executor group when commands arrive and returned when all commands finished,
+ *     unless thread bound state is still alive, then following commands are executed by the same thread.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SerialExecutor implements Executor {
+    
+    private final ChannelThreadExecutorGroup executorGroup;
+    
+    private final BooleanSupplier threadBoundStateAlive;
+    
+    private final Queue<Runnable> commands = new LinkedList<>();
+    
+    private ExecutorService leasedThread;
+    
+    private boolean draining;
+    
+    private boolean closed;
+    
+    @Override
+    public void execute(final Runnable command) {
+        ExecutorService thread;
+        synchronized (this) {
+            commands.offer(command);
+            if (draining) {
+                return;
+            }
+            draining = true;
+            thread = leasedThread;
+        }
+        if (null == thread) {
+            executorGroup.lease(this);
+        } else {
+            thread.execute(this::drain);
+        }
+    }
+    
+    void startDrain(final ExecutorService thread) {
+        synchronized (this) {
+            leasedThread = thread;
+        }
+        thread.execute(this::drain);
+    }
+    
+    private void drain() {
+        Runnable command = pollOrFinish();
+        while (null != command) {
+            try {
+                command.run();
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                log.error("Exception occur: ", ex);
+            }
+            command = pollOrFinish();
+        }
+    }
+    
+    private Runnable pollOrFinish() {
+        ExecutorService releasedThread;
+        boolean threadBound;
+        boolean channelClosed;
+        synchronized (this) {
+            Runnable result = commands.poll();
+            if (null != result) {
+                return result;
+            }
+            draining = false;
+            threadBound = threadBoundStateAlive.getAsBoolean();
+            channelClosed = closed;
+            if (threadBound && !channelClosed) {
+                return null;
+            }
+            releasedThread = leasedThread;
+            leasedThread = null;
+        }
+        if (threadBound || channelClosed) {
+            executorGroup.discard(releasedThread);
+        } else {
+            executorGroup.release(releasedThread);
+        }
+        return null;
+    }
+    
+    /**
+     * Close serial executor.
+     */
+    public void close() {
+        ExecutorService discardedThread;
+        synchronized (this) {
+            closed = true;
+            if (draining || null == leasedThread) {
+                return;
+            }
+            discardedThread = leasedThread;
+            leasedThread = null;
+        }
+        executorGroup.discard(discardedThread);
+    }
+}
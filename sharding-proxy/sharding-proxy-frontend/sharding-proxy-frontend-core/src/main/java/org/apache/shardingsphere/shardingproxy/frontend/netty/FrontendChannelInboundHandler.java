@@ -24,8 +24,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
-import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.metrics.facade.handle.MetricsCounter;
+import org.apache.shardingsphere.metrics.facade.handle.MetricsGauge;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.text.sctl.hint.internal.HintManagerHolder;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecutorTask;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
@@ -43,6 +45,10 @@ import java.sql.SQLException;
 @Slf4j
 public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAdapter {
     
+    private static final MetricsGauge CHANNEL_COUNT = new MetricsGauge(MetricsLabelEnum.CHANNEL_COUNT.getName());
+    
+    private static final MetricsCounter REQUEST_TOTAL = new MetricsCounter(MetricsLabelEnum.REQUEST_TOTAL.getName());
+    
     private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
     
     private volatile boolean authorized;
@@ -53,9 +59,9 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     @Override
     public void channelActive(final ChannelHandlerContext context) {
-        ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        ChannelThreadExecutorGroup.getInstance().register(context.channel().id(), this::isThreadBoundStateAlive);
         databaseProtocolFrontendEngine.getAuthEngine().handshake(context, backendConnection);
-        MetricsTrackerFacade.getInstance().gaugeInc(MetricsLabelEnum.CHANNEL_COUNT.getName());
+        CHANNEL_COUNT.inc();
     }
     
     @Override
@@ -64,11 +70,16 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             authorized = auth(context, (ByteBuf) message);
             return;
         }
-        MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.REQUEST_TOTAL.getName());
+        REQUEST_TOTAL.inc();
         CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
                 backendConnection.getTransactionType(), context.channel().id()).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
     }
     
+    private boolean isThreadBoundStateAlive() {
+        return (backendConnection.isSupportHint() && HintManagerHolder.isInstantiated())
+                || (TransactionType.LOCAL != backendConnection.getTransactionType() && backendConnection.getStateHandler().isInTransaction());
+    }
+    
     private boolean auth(final ChannelHandlerContext context, final ByteBuf message) {
         try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload(message)) {
             return databaseProtocolFrontendEngine.getAuthEngine().auth(context, payload, backendConnection);
@@ -87,7 +98,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
         databaseProtocolFrontendEngine.release(backendConnection);
         backendConnection.close(true);
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
-        MetricsTrackerFacade.getInstance().gaugeDec(MetricsLabelEnum.CHANNEL_COUNT.getName());
+        CHANNEL_COUNT.dec();
     }
     
     @Override
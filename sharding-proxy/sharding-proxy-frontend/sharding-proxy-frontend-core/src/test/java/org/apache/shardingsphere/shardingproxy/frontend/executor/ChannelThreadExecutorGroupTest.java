@@ -20,8 +20,18 @@ package org.apache.shardingsphere.shardingproxy.frontend.executor;
 import io.netty.channel.ChannelId;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class ChannelThreadExecutorGroupTest {
@@ -29,7 +39,7 @@ public final class ChannelThreadExecutorGroupTest {
     @Test
     public void assertRegister() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
         assertNotNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
     }
@@ -37,8 +47,87 @@ public final class ChannelThreadExecutorGroupTest {
     @Test
     public void assertUnregister() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
         assertNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
     }
+    
+    @Test
+    public void assertLeaseWaitingWhenMaxThreadCountReachedAndStartOnRelease() throws InterruptedException {
+        ChannelThreadExecutorGroup executorGroup = new ChannelThreadExecutorGroup(1, 1);
+        SerialExecutor firstExecutor = new SerialExecutor(executorGroup, () -> false);
+        SerialExecutor secondExecutor = new SerialExecutor(executorGroup, () -> false);
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        AtomicReference<Thread> firstThread = new AtomicReference<>();
+        firstExecutor.execute(() -> {
+            firstThread.set(Thread.currentThread());
+            awaitQuietly(blockLatch);
+        });
+        CountDownLatch secondLatch = new CountDownLatch(1);
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        secondExecutor.execute(() -> {
+            secondThread.set(Thread.currentThread());
+            secondLatch.countDown();
+        });
+        assertFalse(secondLatch.await(200, TimeUnit.MILLISECONDS));
+        blockLatch.countDown();
+        assertTrue(secondLatch.await(10, TimeUnit.SECONDS));
+        assertThat(secondThread.get(), is(firstThread.get()));
+        firstExecutor.close();
+        secondExecutor.close();
+    }
+    
+    @Test
+    public void assertLeaseWaitingWhenThreadBoundAndStartOnDiscard() throws InterruptedException {
+        ChannelThreadExecutorGroup executorGroup = new ChannelThreadExecutorGroup(1, 1);
+        AtomicBoolean threadBoundStateAlive = new AtomicBoolean(true);
+        SerialExecutor boundExecutor = new SerialExecutor(executorGroup, threadBoundStateAlive::get);
+        SerialExecutor waitingExecutor = new SerialExecutor(executorGroup, () -> false);
+        CountDownLatch boundLatch = new CountDownLatch(1);
+        AtomicReference<Thread> boundThread = new AtomicReference<>();
+        boundExecutor.execute(() -> {
+            boundThread.set(Thread.currentThread());
+            boundLatch.countDown();
+        });
+        assertTrue(boundLatch.await(10, TimeUnit.SECONDS));
+        CountDownLatch waitingLatch = new CountDownLatch(1);
+        AtomicReference<Thread> waitingThread = new AtomicReference<>();
+        waitingExecutor.execute(() -> {
+            waitingThread.set(Thread.currentThread());
+            waitingLatch.countDown();
+        });
+        assertFalse(waitingLatch.await(200, TimeUnit.MILLISECONDS));
+        boundExecutor.close();
+        assertTrue(waitingLatch.await(10, TimeUnit.SECONDS));
+        assertThat(waitingThread.get(), not(boundThread.get()));
+        waitingExecutor.close();
+    }
+    
+    @Test
+    public void assertDiscardWhenThreadBoundStateAliveAfterClose() throws InterruptedException {
+        ChannelThreadExecutorGroup executorGroup = new ChannelThreadExecutorGroup(1, 1);
+        SerialExecutor boundExecutor = new SerialExecutor(executorGroup, () -> true);
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        boundExecutor.execute(() -> {
+            startLatch.countDown();
+            awaitQuietly(blockLatch);
+        });
+        assertTrue(startLatch.await(10, TimeUnit.SECONDS));
+        boundExecutor.close();
+        blockLatch.countDown();
+        CountDownLatch latch = new CountDownLatch(1);
+        SerialExecutor otherExecutor = new SerialExecutor(executorGroup, () -> false);
+        otherExecutor.execute(latch::countDown);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        otherExecutor.close();
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
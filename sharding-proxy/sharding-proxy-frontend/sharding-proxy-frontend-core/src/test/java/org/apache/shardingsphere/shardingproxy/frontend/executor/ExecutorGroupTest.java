@@ -21,7 +21,7 @@ import io.netty.channel.ChannelId;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -32,27 +32,27 @@ public final class ExecutorGroupTest {
     @Test
     public void assertGetExecutorServiceWithLocal() {
         ChannelId channelId = mock(ChannelId.class);
-        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.LOCAL, channelId), instanceOf(ExecutorService.class));
+        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.LOCAL, channelId), instanceOf(Executor.class));
     }
     
     @Test
     public void assertGetExecutorServiceWithOccupyThreadForPerConnection() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(true, false, TransactionType.LOCAL, channelId), instanceOf(ExecutorService.class));
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
+        assertThat(CommandExecutorSelector.getExecutor(true, false, TransactionType.LOCAL, channelId), instanceOf(Executor.class));
     }
     
     @Test
     public void assertGetExecutorServiceWithXA() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.XA, channelId), instanceOf(ExecutorService.class));
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
+        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.XA, channelId), instanceOf(Executor.class));
     }
     
     @Test
     public void assertGetExecutorServiceWithBASE() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.BASE, channelId), instanceOf(ExecutorService.class));
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
+        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.BASE, channelId), instanceOf(Executor.class));
     }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SerialExecutorTest {
+    
+    @Test
+    public void assertExecuteInSubmissionOrder() throws InterruptedException {
+        SerialExecutor serialExecutor = new SerialExecutor(ChannelThreadExecutorGroup.getInstance(), () -> false);
+        List<Integer> actual = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            serialExecutor.execute(() -> {
+                actual.add(index);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+        serialExecutor.close();
+    }
+    
+    @Test
+    public void assertExecuteOnSameThreadWhenThreadBoundStateAlive() throws InterruptedException {
+        AtomicBoolean threadBoundStateAlive = new AtomicBoolean(true);
+        SerialExecutor serialExecutor = new SerialExecutor(ChannelThreadExecutorGroup.getInstance(), threadBoundStateAlive::get);
+        List<Thread> actual = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CountDownLatch latch = new CountDownLatch(1);
+            serialExecutor.execute(() -> {
+                actual.add(Thread.currentThread());
+                latch.countDown();
+            });
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+        assertThat(actual.get(1), is(actual.get(0)));
+        assertThat(actual.get(2), is(actual.get(0)));
+        threadBoundStateAlive.set(false);
+        serialExecutor.close();
+    }
+    
+    @Test
+    public void assertExecuteFollowingCommandsWhenCommandThrowsException() throws InterruptedException {
+        ChannelThreadExecutorGroup executorGroup = new ChannelThreadExecutorGroup(1, 1);
+        SerialExecutor serialExecutor = new SerialExecutor(executorGroup, () -> false);
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        serialExecutor.execute(() -> awaitQuietly(blockLatch));
+        serialExecutor.execute(() -> {
+            throw new IllegalStateException("Command failed.");
+        });
+        CountDownLatch latch = new CountDownLatch(1);
+        serialExecutor.execute(latch::countDown);
+        blockLatch.countDown();
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        CountDownLatch otherLatch = new CountDownLatch(1);
+        SerialExecutor otherSerialExecutor = new SerialExecutor(executorGroup, () -> false);
+        otherSerialExecutor.execute(otherLatch::countDown);
+        assertTrue(otherLatch.await(10, TimeUnit.SECONDS));
+        serialExecutor.close();
+        otherSerialExecutor.close();
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.auth.MySQLAuthenticationEngine;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.MySQLCommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContext;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
 /**
@@ -47,5 +49,9 @@ public final class MySQLProtocolFrontendEngine implements DatabaseProtocolFronte
     
     @Override
     public void release(final BackendConnection backendConnection) {
+        MySQLConnectionContext connectionContext = MySQLConnectionContextRegistry.getInstance().unregister(backendConnection.getConnectionId());
+        if (null != connectionContext && null != connectionContext.getLoadDataSession()) {
+            connectionContext.getLoadDataSession().cancel();
+        }
     }
 }
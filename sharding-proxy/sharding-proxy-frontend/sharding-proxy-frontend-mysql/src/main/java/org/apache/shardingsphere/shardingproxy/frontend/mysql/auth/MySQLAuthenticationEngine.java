@@ -35,6 +35,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.frontend.ConnectionIdGenerator;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.AuthenticationEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
@@ -61,6 +62,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     public void handshake(final ChannelHandlerContext context, final BackendConnection backendConnection) {
         int connectionId = ConnectionIdGenerator.getInstance().nextId();
         backendConnection.setConnectionId(connectionId);
+        MySQLConnectionContextRegistry.getInstance().register(connectionId);
         connectionPhase = MySQLConnectionPhase.AUTH_PHASE_FAST_PATH;
         context.writeAndFlush(new MySQLHandshakePacket(connectionId, authenticationHandler.getAuthPluginData()));
     }
@@ -73,6 +75,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             authResponse = response41.getAuthResponse();
             database = response41.getDatabase();
             sequenceId = response41.getSequenceId();
+            MySQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId()).setCapabilityFlags(response41.getCapabilityFlags());
             if (!Strings.isNullOrEmpty(database) && !LogicSchemas.getInstance().schemaExists(database)) {
                 context.writeAndFlush(new MySQLErrPacket(++sequenceId, MySQLServerErrorCode.ER_BAD_DB_ERROR, database));
                 return false;
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketFactory;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketTypeLoader;
@@ -34,6 +33,8 @@ import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContext;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 
 import java.sql.SQLException;
@@ -45,12 +46,13 @@ import java.util.Optional;
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
-    public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
-        return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
+    public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload, final BackendConnection backendConnection) {
+        MySQLConnectionContext connectionContext = MySQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId());
+        return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload, null != connectionContext && null != connectionContext.getLoadDataSession());
     }
     
     @Override
-    public MySQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
+    public CommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
         return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload);
     }
     
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.bi
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
 import org.apache.shardingsphere.database.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
@@ -40,7 +41,15 @@ import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.bina
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load.MySQLComLoadDataExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load.MySQLLoadDataStatement;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load.MySQLLocalInfileDataExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query.MySQLComQueryMultiStatementsExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query.MySQLMultiStatementsSplitter;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
+
+import java.util.List;
 
 /**
  * Command executor factory for MySQL.
@@ -67,7 +76,7 @@ public final class MySQLCommandExecutorFactory {
             case COM_FIELD_LIST:
                 return new MySQLComFieldListPacketExecutor((MySQLComFieldListPacket) commandPacket, backendConnection);
             case COM_QUERY:
-                return new MySQLComQueryPacketExecutor((MySQLComQueryPacket) commandPacket, backendConnection);
+                return createComQueryExecutor((MySQLComQueryPacket) commandPacket, backendConnection);
             case COM_STMT_PREPARE:
                 return new MySQLComStmtPrepareExecutor((MySQLComStmtPreparePacket) commandPacket, backendConnection);
             case COM_STMT_EXECUTE:
@@ -78,8 +87,23 @@ public final class MySQLCommandExecutorFactory {
                 return new MySQLComStmtCloseExecutor((MySQLComStmtClosePacket) commandPacket);
             case COM_PING:
                 return new MySQLComPingExecutor();
+            case COM_LOCAL_INFILE_DATA:
+                return new MySQLLocalInfileDataExecutor((MySQLLocalInfileDataPacket) commandPacket, backendConnection);
             default:
                 return new MySQLUnsupportedCommandExecutor(commandPacketType);
         }
     }
+    
+    private static CommandExecutor createComQueryExecutor(final MySQLComQueryPacket comQueryPacket, final BackendConnection backendConnection) {
+        if (MySQLLoadDataStatement.isLoadDataLocalInfile(comQueryPacket.getSql())) {
+            return new MySQLComLoadDataExecutor(comQueryPacket.getSql(), backendConnection);
+        }
+        if (MySQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId()).isMultiStatementsEnabled()) {
+            List<String> sqls = MySQLMultiStatementsSplitter.split(comQueryPacket.getSql());
+            if (sqls.size() > 1) {
+                return new MySQLComQueryMultiStatementsExecutor(sqls, backendConnection);
+            }
+        }
+        return new MySQLComQueryPacketExecutor(comQueryPacket, backendConnection);
+    }
 }
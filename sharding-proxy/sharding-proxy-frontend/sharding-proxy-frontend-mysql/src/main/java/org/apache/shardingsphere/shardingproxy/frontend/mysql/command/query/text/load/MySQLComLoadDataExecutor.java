@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileRequestPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * {@code LOAD DATA LOCAL INFILE} executor for MySQL, which asks client to send the file.
+ */
+@RequiredArgsConstructor
+public final class MySQLComLoadDataExecutor implements CommandExecutor {
+    
+    private final String sql;
+    
+    private final BackendConnection backendConnection;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        MySQLLoadDataSession loadDataSession = new MySQLLoadDataSession(sql, backendConnection);
+        MySQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId()).setLoadDataSession(loadDataSession);
+        return Collections.singletonList(new MySQLLocalInfileRequestPacket(1, loadDataSession.getFileName()));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Row decoder of {@code LOAD DATA LOCAL INFILE} for MySQL.
+ * 
+ * <p>
+ * File arrives in packets which may end in the middle of a row, so bytes after the last complete row are kept until next packet.
+ * Terminators, enclosing and escaping characters are ASCII, so they can be matched on UTF-8 bytes directly.
+ * </p>
+ */
+public final class MySQLLoadDataRowDecoder {
+    
+    private static final byte[] EMPTY = new byte[0];
+    
+    private final byte[] fieldsTerminatedBy;
+    
+    private final int enclosedBy;
+    
+    private final int escapedBy;
+    
+    private final byte[] linesTerminatedBy;
+    
+    private byte[] remaining = EMPTY;
+    
+    private byte[] field = new byte[256];
+    
+    private int fieldLength;
+    
+    public MySQLLoadDataRowDecoder(final MySQLLoadDataStatement statement) {
+        fieldsTerminatedBy = statement.getFieldsTerminatedBy();
+        enclosedBy = statement.getEnclosedBy();
+        escapedBy = statement.getEscapedBy();
+        linesTerminatedBy = statement.getLinesTerminatedBy();
+    }
+    
+    /**
+     * Decode complete rows.
+     *
+     * @param data data of file
+     * @return complete rows
+     */
+    public List<List<String>> decode(final byte[] data) {
+        byte[] buffer = 0 == remaining.length ? data : concat(remaining, data);
+        List<List<String>> result = new LinkedList<>();
+        int position = 0;
+        while (position < buffer.length) {
+            List<String> row = new ArrayList<>();
+            int end = decodeRow(buffer, position, false, row);
+            if (-1 == end) {
+                break;
+            }
+            result.add(row);
+            position = end;
+        }
+        remaining = position == buffer.length ? EMPTY : Arrays.copyOfRange(buffer, position, buffer.length);
+        return result;
+    }
+    
+    /**
+     * Decode last row which is not terminated at end of file.
+     *
+     * @return last row
+     */
+    public Optional<List<String>> decodeLast() {
+        if (0 == remaining.length) {
+            return Optional.empty();
+        }
+        List<String> result = new ArrayList<>();
+        decodeRow(remaining, 0, true, result);
+        remaining = EMPTY;
+        return Optional.of(result);
+    }
+    
+    private static byte[] concat(final byte[] first, final byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+    
+    private int decodeRow(final byte[] buffer, final int start, final boolean isEndOfFile, final List<String> row) {
+        fieldLength = 0;
+        boolean fieldStart = true;
+        boolean enclosed = false;
+        boolean nullValue = false;
+        int i = start;
+        while (i < buffer.length) {
+            int each = buffer[i] & 0xff;
+            if (fieldStart && enclosedBy == each) {
+                fieldStart = false;
+                enclosed = true;
+                i++;
+                continue;
+            }
+            fieldStart = false;
+            if (escapedBy == each) {
+                if (i + 1 == buffer.length) {
+                    if (!isEndOfFile) {
+                        return -1;
+                    }
+                    append(each);
+                    i++;
+                    continue;
+                }
+                int escaped = buffer[i + 1] & 0xff;
+                if ('N' == escaped && 0 == fieldLength) {
+                    nullValue = true;
+                } else {
+                    append(unescape(escaped));
+                }
+                i += 2;
+                continue;
+            }
+            if (enclosed) {
+                if (enclosedBy != each) {
+                    append(each);
+                    i++;
+                    continue;
+                }
+                if (i + 1 == buffer.length && !isEndOfFile) {
+                    return -1;
+                }
+                if (i + 1 < buffer.length && enclosedBy == (buffer[i + 1] & 0xff)) {
+                    append(each);
+                    i += 2;
+                    continue;
+                }
+                enclosed = false;
+                i++;
+                continue;
+            }
+            int matched = match(buffer, i, linesTerminatedBy, isEndOfFile);
+            if (-1 == matched) {
+                return -1;
+            }
+            if (matched > 0) {
+                row.add(takeField(nullValue));
+                return i + matched;
+            }
+            matched = match(buffer, i, fieldsTerminatedBy, isEndOfFile);
+            if (-1 == matched) {
+                return -1;
+            }
+            if (matched > 0) {
+                row.add(takeField(nullValue));
+                fieldStart = true;
+                nullValue = false;
+                i += matched;
+                continue;
+            }
+            append(each);
+            i++;
+        }
+        if (!isEndOfFile) {
+            return -1;
+        }
+        row.add(takeField(nullValue));
+        return buffer.length;
+    }
+    
+    private static int match(final byte[] buffer, final int position, final byte[] terminator, final boolean isEndOfFile) {
+        for (int i = 0; i < terminator.length; i++) {
+            if (position + i == buffer.length) {
+                return isEndOfFile ? 0 : -1;
+            }
+            if (buffer[position + i] != terminator[i]) {
+                return 0;
+            }
+        }
+        return terminator.length;
+    }
+    
+    private static int unescape(final int escaped) {
+        switch (escaped) {
+            case '0':
+                return 0;
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'Z':
+                return 0x1a;
+            default:
+                return escaped;
+        }
+    }
+    
+    private void append(final int value) {
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, field.length << 1);
+        }
+        field[fieldLength++] = (byte) value;
+    }
+    
+    private String takeField(final boolean nullValue) {
+        String result = nullValue && 0 == fieldLength ? null : new String(field, 0, fieldLength, StandardCharsets.UTF_8);
+        fieldLength = 0;
+        return result;
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@code LOAD DATA LOCAL INFILE} session for MySQL.
+ * 
+ * <p>
+ * Rows of the streamed file are routed one by one by the sharding columns and buffered per actual table,
+ * each full buffer is sent to its shard as one multi-row {@code INSERT}.
+ * Outside a transaction the inserts run in a local transaction on their own connections and are committed together at end of file,
+ * so a failed load leaves no partial rows. As with local transaction, a failure while committing may still leave shards committed before it.
+ * </p>
+ */
+public final class MySQLLoadDataSession {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    private final BackendConnection backendConnection;
+    
+    private final LogicSchema logicSchema;
+    
+    private final MySQLLoadDataStatement statement;
+    
+    private final MySQLLoadDataRowDecoder rowDecoder;
+    
+    private final List<String> columnNames;
+    
+    private final Integer[] shardingColumnDataTypes;
+    
+    private final String routeSQL;
+    
+    private final SQLStatement routeSQLStatement;
+    
+    private final Map<String, LoadTarget> targets = new LinkedHashMap<>();
+    
+    private final Map<String, Connection> ownedConnections = new HashMap<>();
+    
+    private long ignoredLines;
+    
+    private long affectedRows;
+    
+    @Getter
+    private Exception cause;
+    
+    public MySQLLoadDataSession(final String sql, final BackendConnection backendConnection) {
+        statement = new MySQLLoadDataStatement(sql);
+        this.backendConnection = backendConnection;
+        logicSchema = backendConnection.getLogicSchema();
+        if (!(logicSchema instanceof ShardingSphereSchema)) {
+            throw new ShardingSphereException("LOAD DATA LOCAL INFILE is only supported by sharding schema.");
+        }
+        String logicTableName = statement.getTableName();
+        TableMetaData tableMetaData = logicSchema.getMetaData().getSchema().getSchemaMetaData().get(logicTableName);
+        if (null == tableMetaData) {
+            throw new ShardingSphereException("Table `%s` does not exist.", logicTableName);
+        }
+        columnNames = statement.getColumnNames().isEmpty() ? new ArrayList<>(tableMetaData.getColumns().keySet()) : statement.getColumnNames();
+        ShardingRule shardingRule = getShardingRule();
+        Optional<String> generateKeyColumnName = shardingRule.findGenerateKeyColumnName(logicTableName);
+        if (generateKeyColumnName.isPresent() && !columnNames.contains(generateKeyColumnName.get().toLowerCase())) {
+            throw new ShardingSphereException("LOAD DATA into `%s` must provide generated key column `%s`.", logicTableName, generateKeyColumnName.get());
+        }
+        shardingColumnDataTypes = new Integer[columnNames.size()];
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (shardingRule.isShardingColumn(columnNames.get(i), logicTableName)) {
+                Preconditions.checkArgument(tableMetaData.getColumns().containsKey(columnNames.get(i)), "Column `%s` does not exist.", columnNames.get(i));
+                shardingColumnDataTypes[i] = tableMetaData.getColumns().get(columnNames.get(i)).getDataType();
+            }
+        }
+        rowDecoder = new MySQLLoadDataRowDecoder(statement);
+        routeSQL = String.format("INSERT INTO %s (%s) VALUES (%s)", logicTableName, Joiner.on(", ").join(columnNames), Joiner.on(", ").join(Collections.nCopies(columnNames.size(), "?")));
+        routeSQLStatement = logicSchema.getSqlParserEngine().parse(routeSQL, true);
+    }
+    
+    private ShardingRule getShardingRule() {
+        return logicSchema.getRules().stream().filter(each -> each instanceof ShardingRule).map(each -> (ShardingRule) each).findFirst()
+                .orElseThrow(() -> new ShardingSphereException("Can not find sharding rule of schema `%s`.", logicSchema.getName()));
+    }
+    
+    /**
+     * Get file name.
+     *
+     * @return file name
+     */
+    public String getFileName() {
+        return statement.getFileName();
+    }
+    
+    /**
+     * Write data of file, which may end in the middle of a row.
+     * 
+     * <p>
+     * Client keeps sending file after any failure, so failure is only recorded as cause and reported at end of file.
+     * </p>
+     *
+     * @param data data of file
+     */
+    public void write(final byte[] data) {
+        if (null != cause) {
+            return;
+        }
+        try {
+            for (List<String> each : rowDecoder.decode(data)) {
+                writeRow(each);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            cause = ex;
+            cancel();
+        }
+    }
+    
+    private void writeRow(final List<String> row) throws SQLException {
+        if (ignoredLines < statement.getIgnoreLines()) {
+            ignoredLines++;
+            return;
+        }
+        List<Object> values = new ArrayList<>(columnNames.size());
+        List<Object> shardingValues = new ArrayList<>(columnNames.size());
+        for (int i = 0; i < columnNames.size(); i++) {
+            String value = i < row.size() ? row.get(i) : null;
+            values.add(value);
+            shardingValues.add(null == shardingColumnDataTypes[i] ? null : convert(value, shardingColumnDataTypes[i]));
+        }
+        for (RouteUnit each : logicSchema.getDataNodeRouter().route(routeSQLStatement, routeSQL, shardingValues).getRouteResult().getRouteUnits()) {
+            String dataSourceName = each.getDataSourceMapper().getActualName();
+            for (String actualTableName : each.getActualTableNames(statement.getTableName())) {
+                LoadTarget target = targets.computeIfAbsent(dataSourceName + "." + actualTableName, key -> new LoadTarget(dataSourceName, actualTableName));
+                target.rows.add(values);
+                if (target.rows.size() >= BATCH_SIZE) {
+                    flush(target);
+                }
+            }
+        }
+    }
+    
+    private Object convert(final String value, final int dataType) {
+        if (null == value) {
+            return null;
+        }
+        switch (dataType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.valueOf(value);
+            case Types.BIGINT:
+                return Long.valueOf(value);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value);
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.valueOf(value);
+            case Types.DATE:
+                return Date.valueOf(value);
+            case Types.TIMESTAMP:
+                return Timestamp.valueOf(value);
+            default:
+                return value;
+        }
+    }
+    
+    private void flush(final LoadTarget target) throws SQLException {
+        if (target.rows.isEmpty()) {
+            return;
+        }
+        String row = "(" + Joiner.on(", ").join(Collections.nCopies(columnNames.size(), "?")) + ")";
+        String sql = String.format("%s INTO %s (%s) VALUES %s",
+                getInsertKeyword(), target.actualTableName, Joiner.on(", ").join(columnNames), Joiner.on(", ").join(Collections.nCopies(target.rows.size(), row)));
+        try (PreparedStatement preparedStatement = getConnection(target.dataSourceName).prepareStatement(sql)) {
+            int index = 1;
+            for (List<Object> each : target.rows) {
+                for (Object value : each) {
+                    preparedStatement.setObject(index++, value);
+                }
+            }
+            affectedRows += preparedStatement.executeUpdate();
+        }
+        target.rows.clear();
+    }
+    
+    private String getInsertKeyword() {
+        if ("REPLACE".equals(statement.getModifier())) {
+            return "REPLACE";
+        }
+        return "IGNORE".equals(statement.getModifier()) ? "INSERT IGNORE" : "INSERT";
+    }
+    
+    private Connection getConnection(final String dataSourceName) throws SQLException {
+        if (backendConnection.getStateHandler().isInTransaction()) {
+            return backendConnection.getConnections(dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        }
+        Connection result = ownedConnections.get(dataSourceName);
+        if (null == result) {
+            result = logicSchema.getBackendDataSource().getConnections(dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY, backendConnection.getTransactionType()).get(0);
+            ownedConnections.put(dataSourceName, result);
+            result.setAutoCommit(false);
+        }
+        return result;
+    }
+    
+    /**
+     * End of file, load remaining rows to all shards.
+     *
+     * @return affected rows
+     * @throws SQLException SQL exception
+     */
+    public long end() throws SQLException {
+        try {
+            Optional<List<String>> lastRow = rowDecoder.decodeLast();
+            if (lastRow.isPresent()) {
+                writeRow(lastRow.get());
+            }
+            for (LoadTarget each : targets.values()) {
+                flush(each);
+            }
+            for (Connection each : ownedConnections.values()) {
+                each.commit();
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            rollbackOwnedConnections();
+            throw ex;
+        } finally {
+            closeOwnedConnections();
+            backendConnection.invalidateBroadcastTableQueryCache(Collections.singleton(statement.getTableName()));
+        }
+        return affectedRows;
+    }
+    
+    /**
+     * Cancel load.
+     */
+    public void cancel() {
+        targets.clear();
+        rollbackOwnedConnections();
+        closeOwnedConnections();
+        backendConnection.invalidateBroadcastTableQueryCache(Collections.singleton(statement.getTableName()));
+    }
+    
+    private void rollbackOwnedConnections() {
+        for (Connection each : ownedConnections.values()) {
+            try {
+                each.rollback();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    private void closeOwnedConnections() {
+        for (Connection each : ownedConnections.values()) {
+            try {
+                each.setAutoCommit(true);
+            } catch (final SQLException ignored) {
+            }
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+        ownedConnections.clear();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LoadTarget {
+        
+        private final String dataSourceName;
+        
+        private final String actualTableName;
+        
+        private final List<List<Object>> rows = new LinkedList<>();
+    }
+}
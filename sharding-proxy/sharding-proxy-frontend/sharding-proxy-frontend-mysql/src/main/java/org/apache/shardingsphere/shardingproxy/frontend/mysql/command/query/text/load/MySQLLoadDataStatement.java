@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import lombok.Getter;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * {@code LOAD DATA LOCAL INFILE} statement for MySQL.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/refman/5.7/en/load-data.html">LOAD DATA Statement</a>
+ */
+@Getter
+public final class MySQLLoadDataStatement {
+    
+    private static final String STRING_LITERAL = "('(?:[^'\\\\]|\\\\.|'')*'|\"(?:[^\"\\\\]|\\\\.|\"\")*\")";
+    
+    private static final Pattern HEAD_PATTERN = Pattern.compile(
+            "^\\s*LOAD\\s+DATA\\s+(?:(?:LOW_PRIORITY|CONCURRENT)\\s+)?LOCAL\\s+INFILE\\s+" + STRING_LITERAL + "\\s+(?:(REPLACE|IGNORE)\\s+)?INTO\\s+TABLE\\s+([\\w.`]+)",
+            Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern CHARACTER_SET_PATTERN = Pattern.compile("\\s+CHARACTER\\s+SET\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern FIELDS_PATTERN = Pattern.compile("\\s+(?:FIELDS|COLUMNS)", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern TERMINATED_BY_PATTERN = Pattern.compile("\\s+TERMINATED\\s+BY\\s+" + STRING_LITERAL, Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern ENCLOSED_BY_PATTERN = Pattern.compile("\\s+(?:OPTIONALLY\\s+)?ENCLOSED\\s+BY\\s+" + STRING_LITERAL, Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern ESCAPED_BY_PATTERN = Pattern.compile("\\s+ESCAPED\\s+BY\\s+" + STRING_LITERAL, Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern LINES_PATTERN = Pattern.compile("\\s+LINES", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern STARTING_BY_PATTERN = Pattern.compile("\\s+STARTING\\s+BY\\s+" + STRING_LITERAL, Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern IGNORE_LINES_PATTERN = Pattern.compile("\\s+IGNORE\\s+(\\d+)\\s+(?:LINES|ROWS)", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern COLUMNS_PATTERN = Pattern.compile("\\s*\\(([^)]*)\\)", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern END_PATTERN = Pattern.compile("\\s*;?\\s*$");
+    
+    private final String fileName;
+    
+    private final String modifier;
+    
+    private final String tableName;
+    
+    private byte[] fieldsTerminatedBy = {'\t'};
+    
+    private int enclosedBy = -1;
+    
+    private int escapedBy = '\\';
+    
+    private byte[] linesTerminatedBy = {'\n'};
+    
+    private long ignoreLines;
+    
+    private List<String> columnNames = Collections.emptyList();
+    
+    public MySQLLoadDataStatement(final String sql) {
+        Matcher matcher = HEAD_PATTERN.matcher(sql);
+        Preconditions.checkArgument(matcher.lookingAt(), "Only `LOAD DATA LOCAL INFILE` is supported.");
+        fileName = unquote(matcher.group(1));
+        modifier = null == matcher.group(2) ? "" : matcher.group(2).toUpperCase();
+        tableName = matcher.group(3).replace("`", "");
+        int position = matcher.end();
+        matcher = CHARACTER_SET_PATTERN.matcher(sql).region(position, sql.length());
+        if (matcher.lookingAt()) {
+            String charset = matcher.group(1).toLowerCase();
+            if (!"utf8".equals(charset) && !"utf8mb4".equals(charset)) {
+                throw new ShardingSphereException("Character set `%s` of LOAD DATA is not supported.", charset);
+            }
+            position = matcher.end();
+        }
+        position = parseFields(sql, position);
+        position = parseLines(sql, position);
+        matcher = IGNORE_LINES_PATTERN.matcher(sql).region(position, sql.length());
+        if (matcher.lookingAt()) {
+            ignoreLines = Long.parseLong(matcher.group(1));
+            position = matcher.end();
+        }
+        matcher = COLUMNS_PATTERN.matcher(sql).region(position, sql.length());
+        if (matcher.lookingAt()) {
+            columnNames = Splitter.on(',').trimResults().omitEmptyStrings().splitToList(matcher.group(1)).stream().map(each -> each.replace("`", "").toLowerCase()).collect(Collectors.toList());
+            for (String each : columnNames) {
+                Preconditions.checkArgument(!each.startsWith("@"), "User variable `%s` of LOAD DATA is not supported.", each);
+            }
+            position = matcher.end();
+        }
+        if (!END_PATTERN.matcher(sql).region(position, sql.length()).lookingAt()) {
+            throw new ShardingSphereException("Unsupported clause of LOAD DATA: `%s`.", sql.substring(position).trim());
+        }
+    }
+    
+    /**
+     * Judge whether SQL is {@code LOAD DATA LOCAL INFILE}.
+     *
+     * @param sql SQL
+     * @return is load data local infile or not
+     */
+    public static boolean isLoadDataLocalInfile(final String sql) {
+        return null != sql && HEAD_PATTERN.matcher(sql).lookingAt();
+    }
+    
+    private int parseFields(final String sql, final int start) {
+        Matcher matcher = FIELDS_PATTERN.matcher(sql).region(start, sql.length());
+        if (!matcher.lookingAt()) {
+            return start;
+        }
+        int result = matcher.end();
+        matcher = TERMINATED_BY_PATTERN.matcher(sql).region(result, sql.length());
+        if (matcher.lookingAt()) {
+            fieldsTerminatedBy = toTerminator(matcher.group(1));
+            result = matcher.end();
+        }
+        matcher = ENCLOSED_BY_PATTERN.matcher(sql).region(result, sql.length());
+        if (matcher.lookingAt()) {
+            enclosedBy = toChar(matcher.group(1));
+            result = matcher.end();
+        }
+        matcher = ESCAPED_BY_PATTERN.matcher(sql).region(result, sql.length());
+        if (matcher.lookingAt()) {
+            escapedBy = toChar(matcher.group(1));
+            result = matcher.end();
+        }
+        return result;
+    }
+    
+    private int parseLines(final String sql, final int start) {
+        Matcher matcher = LINES_PATTERN.matcher(sql).region(start, sql.length());
+        if (!matcher.lookingAt()) {
+            return start;
+        }
+        int result = matcher.end();
+        matcher = STARTING_BY_PATTERN.matcher(sql).region(result, sql.length());
+        if (matcher.lookingAt()) {
+            Preconditions.checkArgument(unquote(matcher.group(1)).isEmpty(), "`LINES STARTING BY` of LOAD DATA is not supported.");
+            result = matcher.end();
+        }
+        matcher = TERMINATED_BY_PATTERN.matcher(sql).region(result, sql.length());
+        if (matcher.lookingAt()) {
+            linesTerminatedBy = toTerminator(matcher.group(1));
+            result = matcher.end();
+        }
+        return result;
+    }
+    
+    private static byte[] toTerminator(final String literal) {
+        byte[] result = unquote(literal).getBytes(StandardCharsets.UTF_8);
+        Preconditions.checkArgument(result.length > 0, "Empty terminator of LOAD DATA is not supported.");
+        return result;
+    }
+    
+    private static int toChar(final String literal) {
+        String value = unquote(literal);
+        Preconditions.checkArgument(value.isEmpty() || 1 == value.length() && value.charAt(0) < 0x80, "Enclosed or escaped character of LOAD DATA must be single ASCII character.");
+        return value.isEmpty() ? -1 : value.charAt(0);
+    }
+    
+    private static String unquote(final String literal) {
+        char quote = literal.charAt(0);
+        String value = literal.substring(1, literal.length() - 1);
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if (quote == each && i + 1 < value.length() && quote == value.charAt(i + 1)) {
+                result.append(quote);
+                i++;
+            } else if ('\\' == each && i + 1 < value.length()) {
+                result.append(unescape(value.charAt(++i)));
+            } else {
+                result.append(each);
+            }
+        }
+        return result.toString();
+    }
+    
+    private static char unescape(final char escaped) {
+        switch (escaped) {
+            case '0':
+                return '\0';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'Z':
+                return '\u001A';
+            default:
+                return escaped;
+        }
+    }
+}
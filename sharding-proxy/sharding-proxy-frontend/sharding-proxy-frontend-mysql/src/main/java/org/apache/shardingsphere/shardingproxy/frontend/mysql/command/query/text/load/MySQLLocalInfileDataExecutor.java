@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContext;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * LOCAL INFILE data executor for MySQL.
+ */
+@RequiredArgsConstructor
+public final class MySQLLocalInfileDataExecutor implements CommandExecutor {
+    
+    private final MySQLLocalInfileDataPacket packet;
+    
+    private final BackendConnection backendConnection;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        MySQLConnectionContext connectionContext = MySQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId());
+        MySQLLoadDataSession loadDataSession = connectionContext.getLoadDataSession();
+        if (!packet.isEndOfFile()) {
+            if (null != loadDataSession) {
+                loadDataSession.write(packet.getData());
+            }
+            return Collections.emptyList();
+        }
+        connectionContext.setLoadDataSession(null);
+        int sequenceId = packet.getSequenceId() + 1;
+        if (null == loadDataSession) {
+            return Collections.singletonList(MySQLErrPacketFactory.newInstance(sequenceId, new ShardingSphereException("There is no LOAD DATA LOCAL INFILE in progress.")));
+        }
+        if (null != loadDataSession.getCause()) {
+            return Collections.singletonList(MySQLErrPacketFactory.newInstance(sequenceId, loadDataSession.getCause()));
+        }
+        try {
+            return Collections.singletonList(new MySQLOKPacket(sequenceId, loadDataSession.end(), 0L));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            return Collections.singletonList(MySQLErrPacketFactory.newInstance(sequenceId, ex));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
+
+import lombok.Getter;
+import org.apache.shardingsphere.database.protocol.error.CommonErrorCode;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCBatchExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSphereSchema;
+import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandlerFactory;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * COM_QUERY command packet executor for MySQL multi-statements.
+ * 
+ * <p>
+ * DML statements of sharding schema are routed one by one and sent to each data source as one batch,
+ * others are executed in order and only the last one can be a query.
+ * Outside a transaction the batch is committed as a whole and rolled back on failure,
+ * while statements executed in order are committed one by one and those before a failed one are kept, as MySQL does.
+ * </p>
+ */
+public final class MySQLComQueryMultiStatementsExecutor implements QueryCommandExecutor {
+    
+    private final List<String> sqls;
+    
+    private final BackendConnection backendConnection;
+    
+    private MySQLComQueryPacketExecutor lastStatementExecutor;
+    
+    @Getter
+    private volatile boolean isUpdateResponse;
+    
+    @Getter
+    private volatile boolean isErrorResponse;
+    
+    private int currentSequenceId;
+    
+    public MySQLComQueryMultiStatementsExecutor(final List<String> sqls, final BackendConnection backendConnection) {
+        this.sqls = sqls;
+        this.backendConnection = backendConnection;
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        if (ShardingProxyContext.getInstance().isCircuitBreak()) {
+            return Collections.singletonList(new MySQLErrPacket(1, CommonErrorCode.CIRCUIT_BREAK_MODE));
+        }
+        if (isBatchable()) {
+            return executeBatch();
+        }
+        Collection<DatabasePacket> result = new LinkedList<>();
+        for (String each : sqls.subList(0, sqls.size() - 1)) {
+            BackendResponse backendResponse = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), each, backendConnection).execute();
+            if (backendResponse instanceof ErrorResponse) {
+                isErrorResponse = true;
+                result.add(MySQLErrPacketFactory.newInstance(++currentSequenceId, ((ErrorResponse) backendResponse).getCause()));
+                return result;
+            }
+            if (!(backendResponse instanceof UpdateResponse)) {
+                isErrorResponse = true;
+                result.add(MySQLErrPacketFactory.newInstance(++currentSequenceId, new ShardingSphereException("Only the last one of multi-statements can be query.")));
+                return result;
+            }
+            UpdateResponse updateResponse = (UpdateResponse) backendResponse;
+            result.add(new MySQLOKPacket(++currentSequenceId, updateResponse.getUpdateCount(), updateResponse.getLastInsertId(), getStatusFlag(true), 0, ""));
+        }
+        lastStatementExecutor = new MySQLComQueryPacketExecutor(new MySQLComQueryPacket(sqls.get(sqls.size() - 1)), backendConnection, currentSequenceId);
+        result.addAll(lastStatementExecutor.execute());
+        isUpdateResponse = lastStatementExecutor.isUpdateResponse();
+        isErrorResponse = lastStatementExecutor.isErrorResponse();
+        return result;
+    }
+    
+    private boolean isBatchable() {
+        LogicSchema logicSchema = backendConnection.getLogicSchema();
+        if (!(logicSchema instanceof ShardingSphereSchema)) {
+            return false;
+        }
+        for (String each : sqls) {
+            SQLStatement sqlStatement;
+            try {
+                sqlStatement = logicSchema.getSqlParserEngine().parse(each, false);
+            } catch (final SQLParsingException ex) {
+                return false;
+            }
+            if (!(sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Collection<DatabasePacket> executeBatch() {
+        int[] updateCounts;
+        try {
+            updateCounts = new JDBCBatchExecuteEngine(backendConnection).execute(sqls);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            isErrorResponse = true;
+            return Collections.singletonList(MySQLErrPacketFactory.newInstance(1, ex));
+        }
+        isUpdateResponse = true;
+        Collection<DatabasePacket> result = new LinkedList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            result.add(new MySQLOKPacket(++currentSequenceId, updateCounts[i], 0L, getStatusFlag(i < updateCounts.length - 1), 0, ""));
+        }
+        return result;
+    }
+    
+    private int getStatusFlag(final boolean moreResultsExists) {
+        int result = backendConnection.getStateHandler().isInTransaction() ? MySQLStatusFlag.SERVER_STATUS_IN_TRANS.getValue() : MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue();
+        return moreResultsExists ? result | MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue() : result;
+    }
+    
+    @Override
+    public boolean isQuery() {
+        return null != lastStatementExecutor && lastStatementExecutor.isQuery();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return lastStatementExecutor.next();
+    }
+    
+    @Override
+    public DatabasePacket getQueryData() throws SQLException {
+        return lastStatementExecutor.getQueryData();
+    }
+}
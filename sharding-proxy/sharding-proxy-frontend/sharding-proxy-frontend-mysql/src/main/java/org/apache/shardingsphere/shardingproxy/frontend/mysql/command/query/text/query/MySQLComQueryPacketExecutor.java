@@ -67,13 +67,18 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     private int currentSequenceId;
     
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket comQueryPacket, final BackendConnection backendConnection) {
+        this(comQueryPacket, backendConnection, 0);
+    }
+    
+    public MySQLComQueryPacketExecutor(final MySQLComQueryPacket comQueryPacket, final BackendConnection backendConnection, final int lastSequenceId) {
         textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), comQueryPacket.getSql(), backendConnection);
+        currentSequenceId = lastSequenceId;
     }
     
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
         if (ShardingProxyContext.getInstance().isCircuitBreak()) {
-            return Collections.singletonList(new MySQLErrPacket(1, CommonErrorCode.CIRCUIT_BREAK_MODE));
+            return Collections.singletonList(new MySQLErrPacket(++currentSequenceId, CommonErrorCode.CIRCUIT_BREAK_MODE));
         }
         BackendResponse backendResponse = textProtocolBackendHandler.execute();
         if (backendResponse instanceof ErrorResponse) {
@@ -89,11 +94,11 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     }
     
     private MySQLErrPacket createErrorPacket(final Exception cause) {
-        return MySQLErrPacketFactory.newInstance(1, cause);
+        return MySQLErrPacketFactory.newInstance(++currentSequenceId, cause);
     }
     
     private MySQLOKPacket createUpdatePacket(final UpdateResponse updateResponse) {
-        return new MySQLOKPacket(1, updateResponse.getUpdateCount(), updateResponse.getLastInsertId());
+        return new MySQLOKPacket(++currentSequenceId, updateResponse.getUpdateCount(), updateResponse.getLastInsertId());
     }
     
     private Collection<DatabasePacket> createQueryPackets(final QueryResponse backendResponse) {
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Splitter of multi-statements for MySQL, which are sent in one COM_QUERY when client enables {@code CLIENT_MULTI_STATEMENTS}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLMultiStatementsSplitter {
+    
+    /**
+     * Split SQL by semicolons which are not in quotes or comments.
+     *
+     * @param sql SQL
+     * @return split SQLs, SQL itself if it is single statement
+     */
+    public static List<String> split(final String sql) {
+        if (null == sql) {
+            return Collections.emptyList();
+        }
+        if (-1 == sql.indexOf(';')) {
+            return Collections.singletonList(sql);
+        }
+        List<String> result = new LinkedList<>();
+        int start = 0;
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char each = sql.charAt(i);
+            if ('\'' == each || '"' == each || '`' == each) {
+                i = skipQuoted(sql, i, each);
+            } else if ('#' == each || '-' == each && i + 2 < length && '-' == sql.charAt(i + 1) && Character.isWhitespace(sql.charAt(i + 2))) {
+                i = skipLine(sql, i);
+            } else if ('/' == each && i + 1 < length && '*' == sql.charAt(i + 1)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = -1 == end ? length : end + 2;
+            } else if (';' == each) {
+                addIfNotEmpty(result, sql.substring(start, i));
+                start = ++i;
+            } else {
+                i++;
+            }
+        }
+        addIfNotEmpty(result, sql.substring(start));
+        return 1 == result.size() ? Collections.singletonList(sql) : result;
+    }
+    
+    private static int skipQuoted(final String sql, final int start, final char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char each = sql.charAt(i);
+            if ('\\' == each && '`' != quote) {
+                i += 2;
+                continue;
+            }
+            if (quote == each) {
+                return i + 1;
+            }
+            i++;
+        }
+        return sql.length();
+    }
+    
+    private static int skipLine(final String sql, final int start) {
+        int end = sql.indexOf('\n', start);
+        return -1 == end ? sql.length() : end + 1;
+    }
+    
+    private static void addIfNotEmpty(final List<String> sqls, final String sql) {
+        String trimmed = sql.trim();
+        if (!trimmed.isEmpty()) {
+            sqls.add(trimmed);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.context;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load.MySQLLoadDataSession;
+
+/**
+ * Connection context for MySQL, holds protocol state which lives across command messages.
+ */
+@Getter
+@Setter
+public final class MySQLConnectionContext {
+    
+    private int capabilityFlags;
+    
+    private MySQLLoadDataSession loadDataSession;
+    
+    /**
+     * Judge whether client enabled multi-statements.
+     *
+     * @return client enabled multi-statements or not
+     */
+    public boolean isMultiStatementsEnabled() {
+        return 0 != (capabilityFlags & MySQLCapabilityFlag.CLIENT_MULTI_STATEMENTS.getValue());
+    }
+}
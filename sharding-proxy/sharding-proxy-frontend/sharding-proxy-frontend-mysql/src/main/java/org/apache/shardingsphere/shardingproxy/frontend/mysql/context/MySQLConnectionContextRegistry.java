@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Connection context registry for MySQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLConnectionContextRegistry {
+    
+    private static final MySQLConnectionContextRegistry INSTANCE = new MySQLConnectionContextRegistry();
+    
+    private final ConcurrentMap<Integer, MySQLConnectionContext> contexts = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of connection context registry.
+     *
+     * @return instance of connection context registry
+     */
+    public static MySQLConnectionContextRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register.
+     *
+     * @param connectionId connection id
+     */
+    public void register(final int connectionId) {
+        contexts.put(connectionId, new MySQLConnectionContext());
+    }
+    
+    /**
+     * Unregister.
+     *
+     * @param connectionId connection id
+     * @return unregistered connection context
+     */
+    public MySQLConnectionContext unregister(final int connectionId) {
+        return contexts.remove(connectionId);
+    }
+    
+    /**
+     * Get connection context.
+     *
+     * @param connectionId connection id
+     * @return connection context
+     */
+    public MySQLConnectionContext get(final int connectionId) {
+        return contexts.get(connectionId);
+    }
+}
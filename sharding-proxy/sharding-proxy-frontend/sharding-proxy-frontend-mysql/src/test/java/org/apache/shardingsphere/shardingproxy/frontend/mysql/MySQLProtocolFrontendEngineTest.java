@@ -31,6 +31,8 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.ConnectionIdGenerator;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.auth.MySQLAuthenticationEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -71,6 +73,12 @@ public final class MySQLProtocolFrontendEngineTest {
         field.setAccessible(true);
         field.set(ConnectionIdGenerator.getInstance(), 0);
         mysqlProtocolFrontendEngine = new MySQLProtocolFrontendEngine();
+        MySQLConnectionContextRegistry.getInstance().register(0);
+    }
+    
+    @After
+    public void tearDown() {
+        MySQLConnectionContextRegistry.getInstance().unregister(0);
     }
     
     @Test
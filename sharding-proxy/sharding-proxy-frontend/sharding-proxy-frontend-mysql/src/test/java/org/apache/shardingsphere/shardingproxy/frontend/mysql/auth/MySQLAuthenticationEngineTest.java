@@ -30,6 +30,8 @@ import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayl
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -60,6 +62,12 @@ public final class MySQLAuthenticationEngineTest {
     @Before
     public void setUp() throws NoSuchFieldException, IllegalAccessException {
         initAuthenticationHandlerForAuthenticationEngine();
+        MySQLConnectionContextRegistry.getInstance().register(0);
+    }
+    
+    @After
+    public void tearDown() {
+        MySQLConnectionContextRegistry.getInstance().unregister(0);
     }
 
     private void initAuthenticationHandlerForAuthenticationEngine() throws NoSuchFieldException, IllegalAccessException {
@@ -124,6 +132,7 @@ public final class MySQLAuthenticationEngineTest {
         setLogicSchemas(Collections.singletonMap("sharding_db", mock(LogicSchema.class)));
         authenticationEngine.auth(context, getPayload("root", "sharding_db", authResponse), mock(BackendConnection.class));
         verify(context).writeAndFlush(any(MySQLOKPacket.class));
+        assertThat(MySQLConnectionContextRegistry.getInstance().get(0).getCapabilityFlags(), is(MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB.getValue()));
     }
     
     private void setLogicSchemas(final Map<String, LogicSchema> logicSchemas) throws NoSuchFieldException, IllegalAccessException {
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load.MySQLLoadDataSession;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class MySQLCommandExecuteEngineTest {
+    
+    private final MySQLCommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
+    
+    private final BackendConnection backendConnection = mock(BackendConnection.class);
+    
+    @Before
+    public void setUp() {
+        MySQLConnectionContextRegistry.getInstance().register(0);
+    }
+    
+    @After
+    public void tearDown() {
+        MySQLConnectionContextRegistry.getInstance().unregister(0);
+    }
+    
+    @Test
+    public void assertGetCommandPacketTypeForLocalInfileData() {
+        MySQLConnectionContextRegistry.getInstance().get(0).setLoadDataSession(mock(MySQLLoadDataSession.class));
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[]{0x02, 'a'}));
+        assertThat(commandExecuteEngine.getCommandPacketType(payload, backendConnection), is(MySQLCommandPacketType.COM_LOCAL_INFILE_DATA));
+        assertThat(payload.readInt1(), is(2));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetCommandPacketTypeWithNonZeroSequenceIdWithoutLoadDataSession() {
+        commandExecuteEngine.getCommandPacketType(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[]{0x02, 'a'})), backendConnection);
+    }
+    
+    @Test
+    public void assertGetCommandPacketTypeForQuery() {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[]{0x00, 0x03, 'S', 'E', 'L', 'E', 'C', 'T', ' ', '1'}));
+        assertThat(commandExecuteEngine.getCommandPacketType(payload, backendConnection), is(MySQLCommandPacketType.COM_QUERY));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
 
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.admin.initdb.MySQLComInitDbPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
@@ -36,7 +37,11 @@ import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.bina
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query.MySQLComQueryMultiStatementsExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -46,6 +51,16 @@ import static org.mockito.Mockito.when;
 
 public final class MySQLCommandExecutorFactoryTest {
     
+    @Before
+    public void setUp() {
+        MySQLConnectionContextRegistry.getInstance().register(0);
+    }
+    
+    @After
+    public void tearDown() {
+        MySQLConnectionContextRegistry.getInstance().unregister(0);
+    }
+    
     @Test
     public void assertNewInstance() {
         BackendConnection backendConnection = mock(BackendConnection.class);
@@ -69,4 +84,13 @@ public final class MySQLCommandExecutorFactoryTest {
         assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_PING,
             mock(CommandPacket.class), backendConnection), instanceOf(MySQLComPingExecutor.class));
     }
+    
+    @Test
+    public void assertNewInstanceWithMultiStatements() {
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        MySQLComQueryPacket comQueryPacket = mock(MySQLComQueryPacket.class);
+        when(comQueryPacket.getSql()).thenReturn("INSERT INTO t_order VALUES (1); INSERT INTO t_order VALUES (2)");
+        MySQLConnectionContextRegistry.getInstance().get(0).setCapabilityFlags(MySQLCapabilityFlag.CLIENT_MULTI_STATEMENTS.getValue());
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUERY, comQueryPacket, backendConnection), instanceOf(MySQLComQueryMultiStatementsExecutor.class));
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLLoadDataRowDecoderTest {
+    
+    @Test
+    public void assertDecodeRowsAcrossPackets() {
+        MySQLLoadDataRowDecoder decoder = new MySQLLoadDataRowDecoder(new MySQLLoadDataStatement("LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE t_order"));
+        assertThat(decoder.decode(bytes("1\t10\tin")), is(Collections.<List<String>>emptyList()));
+        assertThat(decoder.decode(bytes("it\n2\t\\N\ta\\tb\n3\t")), is(Arrays.asList(Arrays.asList("1", "10", "init"), Arrays.asList("2", null, "a\tb"))));
+        assertThat(decoder.decode(bytes("30\tok")), is(Collections.<List<String>>emptyList()));
+        assertThat(decoder.decodeLast().get(), is(Arrays.asList("3", "30", "ok")));
+        assertFalse(decoder.decodeLast().isPresent());
+    }
+    
+    @Test
+    public void assertDecodeEnclosedRows() {
+        MySQLLoadDataRowDecoder decoder = new MySQLLoadDataRowDecoder(new MySQLLoadDataStatement(
+                "LOAD DATA LOCAL INFILE 'a.csv' INTO TABLE t_order FIELDS TERMINATED BY ',' ENCLOSED BY '\"' LINES TERMINATED BY '\\r\\n'"));
+        assertThat(decoder.decode(bytes("1,\"a,\"\"b\"\"\r\nc\"\r")), is(Collections.<List<String>>emptyList()));
+        assertThat(decoder.decode(bytes("\n2,\"\"\r\n")), is(Arrays.asList(Arrays.asList("1", "a,\"b\"\r\nc"), Arrays.asList("2", ""))));
+    }
+    
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load;
+
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MySQLLoadDataSessionTest {
+    
+    private static final String LOAD_DATA_SQL = "LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE t_order (order_id, status)";
+    
+    private final Map<String, Connection> connections = new HashMap<>();
+    
+    private final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+    
+    private final DataNodeRouter dataNodeRouter = mock(DataNodeRouter.class);
+    
+    private BackendConnection backendConnection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        ShardingSphereSchema logicSchema = mock(ShardingSphereSchema.class);
+        TableMetaData tableMetaData = new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", Types.INTEGER, "int", true, false, false), new ColumnMetaData("status", Types.VARCHAR, "varchar", false, false, false)), Collections.emptyList());
+        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaData(new SchemaMetaData(Collections.singletonMap("t_order", tableMetaData)), Collections.emptyMap());
+        when(logicSchema.getMetaData()).thenReturn(new ShardingSphereMetaData(mock(DataSourceMetas.class), ruleSchemaMetaData));
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.isShardingColumn("order_id", "t_order")).thenReturn(true);
+        when(logicSchema.getRules()).thenReturn(Collections.singletonList(shardingRule));
+        SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+        when(sqlParserEngine.parse(anyString(), eq(true))).thenReturn(new InsertStatement());
+        when(logicSchema.getSqlParserEngine()).thenReturn(sqlParserEngine);
+        when(dataNodeRouter.route(any(SQLStatement.class), anyString(), anyList())).thenAnswer(invocation -> route((Integer) invocation.<List<Object>>getArgument(2).get(0)));
+        when(logicSchema.getDataNodeRouter()).thenReturn(dataNodeRouter);
+        JDBCBackendDataSource backendDataSource = mock(JDBCBackendDataSource.class);
+        for (int i = 0; i < 2; i++) {
+            mockConnection(backendDataSource, "ds_" + i, "t_order_" + i);
+        }
+        when(logicSchema.getBackendDataSource()).thenReturn(backendDataSource);
+        backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getLogicSchema()).thenReturn(logicSchema);
+        when(backendConnection.getStateHandler()).thenReturn(mock(ConnectionStateHandler.class));
+        when(backendConnection.getTransactionType()).thenReturn(TransactionType.LOCAL);
+    }
+    
+    private RouteContext route(final int orderId) {
+        RouteResult routeResult = new RouteResult();
+        int index = orderId % 2;
+        routeResult.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_" + index, "ds_" + index), Collections.singletonList(new RouteMapper("t_order", "t_order_" + index))));
+        return new RouteContext(null, Collections.emptyList(), routeResult);
+    }
+    
+    private void mockConnection(final JDBCBackendDataSource backendDataSource, final String dataSourceName, final String actualTableName) throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(String.format("INSERT INTO %s (order_id, status) VALUES (?, ?)", actualTableName))).thenReturn(preparedStatement);
+        when(backendDataSource.getConnections(dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY, TransactionType.LOCAL)).thenReturn(Collections.singletonList(connection));
+        connections.put(dataSourceName, connection);
+        preparedStatements.put(dataSourceName, preparedStatement);
+    }
+    
+    @Test
+    public void assertEnd() throws SQLException {
+        MySQLLoadDataSession loadDataSession = new MySQLLoadDataSession(LOAD_DATA_SQL, backendConnection);
+        assertThat(loadDataSession.getFileName(), is("a.txt"));
+        loadDataSession.write("1\ta\n2\t".getBytes(StandardCharsets.UTF_8));
+        loadDataSession.write("b".getBytes(StandardCharsets.UTF_8));
+        assertThat(loadDataSession.end(), is(2L));
+        verify(preparedStatements.get("ds_0")).setObject(1, "2");
+        verify(preparedStatements.get("ds_0")).setObject(2, "b");
+        verify(preparedStatements.get("ds_1")).setObject(1, "1");
+        verify(preparedStatements.get("ds_1")).setObject(2, "a");
+        for (String each : Arrays.asList("ds_0", "ds_1")) {
+            verify(connections.get(each)).setAutoCommit(false);
+            verify(connections.get(each)).commit();
+            verify(connections.get(each), never()).rollback();
+            verify(connections.get(each)).setAutoCommit(true);
+            verify(connections.get(each)).close();
+        }
+        verify(backendConnection).invalidateBroadcastTableQueryCache(Collections.singleton("t_order"));
+        assertNull(loadDataSession.getCause());
+    }
+    
+    @Test
+    public void assertWriteFailed() throws SQLException {
+        MySQLLoadDataSession loadDataSession = new MySQLLoadDataSession(LOAD_DATA_SQL, backendConnection);
+        loadDataSession.write("x\ta\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(loadDataSession.getCause(), instanceOf(NumberFormatException.class));
+        loadDataSession.write("1\ta\n".getBytes(StandardCharsets.UTF_8));
+        verify(dataNodeRouter, never()).route(any(SQLStatement.class), anyString(), anyList());
+        verify(connections.get("ds_1"), never()).prepareStatement(anyString());
+    }
+    
+    @Test
+    public void assertEndFailedAndRollback() throws SQLException {
+        when(preparedStatements.get("ds_1").executeUpdate()).thenThrow(new SQLException("insert failed"));
+        MySQLLoadDataSession loadDataSession = new MySQLLoadDataSession(LOAD_DATA_SQL, backendConnection);
+        loadDataSession.write("2\tb\n1\ta\n".getBytes(StandardCharsets.UTF_8));
+        try {
+            loadDataSession.end();
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("insert failed"));
+        }
+        verify(preparedStatements.get("ds_0")).executeUpdate();
+        for (String each : Arrays.asList("ds_0", "ds_1")) {
+            verify(connections.get(each), never()).commit();
+            verify(connections.get(each)).rollback();
+            verify(connections.get(each)).close();
+        }
+        verify(backendConnection).invalidateBroadcastTableQueryCache(Collections.singleton("t_order"));
+    }
+}
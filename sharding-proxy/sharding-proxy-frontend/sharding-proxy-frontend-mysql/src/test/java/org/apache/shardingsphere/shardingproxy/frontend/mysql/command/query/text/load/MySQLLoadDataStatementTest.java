@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLLoadDataStatementTest {
+    
+    @Test
+    public void assertParseStatement() {
+        MySQLLoadDataStatement actual = new MySQLLoadDataStatement(
+                "LOAD DATA LOCAL INFILE '/tmp/order.csv' IGNORE INTO TABLE `t_order` FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' LINES TERMINATED BY '\\r\\n' "
+                        + "IGNORE 1 LINES (order_id, `user_id`, status)");
+        assertThat(actual.getFileName(), is("/tmp/order.csv"));
+        assertThat(actual.getModifier(), is("IGNORE"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getFieldsTerminatedBy(), is(new byte[] {','}));
+        assertThat(actual.getEnclosedBy(), is((int) '"'));
+        assertThat(actual.getEscapedBy(), is((int) '\\'));
+        assertThat(actual.getLinesTerminatedBy(), is(new byte[] {'\r', '\n'}));
+        assertThat(actual.getIgnoreLines(), is(1L));
+        assertThat(actual.getColumnNames(), is(Arrays.asList("order_id", "user_id", "status")));
+    }
+    
+    @Test
+    public void assertIsLoadDataLocalInfile() {
+        assertTrue(MySQLLoadDataStatement.isLoadDataLocalInfile("load data local infile 'a.txt' into table t_order"));
+        assertFalse(MySQLLoadDataStatement.isLoadDataLocalInfile("LOAD DATA INFILE 'a.txt' INTO TABLE t_order"));
+        assertFalse(MySQLLoadDataStatement.isLoadDataLocalInfile("SELECT 1"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertParseStatementWithUserVariable() {
+        new MySQLLoadDataStatement("LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE t_order (order_id, @status)");
+    }
+}
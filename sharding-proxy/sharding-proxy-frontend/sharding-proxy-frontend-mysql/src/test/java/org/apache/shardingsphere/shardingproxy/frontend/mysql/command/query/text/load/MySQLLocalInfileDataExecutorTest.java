@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.load;
+
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.context.MySQLConnectionContextRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MySQLLocalInfileDataExecutorTest {
+    
+    private final BackendConnection backendConnection = mock(BackendConnection.class);
+    
+    private final MySQLLoadDataSession loadDataSession = mock(MySQLLoadDataSession.class);
+    
+    @Before
+    public void setUp() {
+        MySQLConnectionContextRegistry.getInstance().register(0);
+        MySQLConnectionContextRegistry.getInstance().get(0).setLoadDataSession(loadDataSession);
+    }
+    
+    @After
+    public void tearDown() {
+        MySQLConnectionContextRegistry.getInstance().unregister(0);
+    }
+    
+    @Test
+    public void assertExecuteWithData() {
+        byte[] data = "1\ta\n".getBytes(StandardCharsets.UTF_8);
+        Collection<DatabasePacket> actual = new MySQLLocalInfileDataExecutor(mockPacket(2, data), backendConnection).execute();
+        assertTrue(actual.isEmpty());
+        verify(loadDataSession).write(data);
+        assertThat(MySQLConnectionContextRegistry.getInstance().get(0).getLoadDataSession(), is(loadDataSession));
+    }
+    
+    @Test
+    public void assertExecuteEndOfFile() throws SQLException {
+        when(loadDataSession.end()).thenReturn(2L);
+        Collection<DatabasePacket> actual = new MySQLLocalInfileDataExecutor(mockPacket(3, new byte[0]), backendConnection).execute();
+        assertThat(actual.size(), is(1));
+        MySQLOKPacket okPacket = (MySQLOKPacket) actual.iterator().next();
+        assertThat(okPacket.getSequenceId(), is(4));
+        assertThat(okPacket.getAffectedRows(), is(2L));
+        assertNull(MySQLConnectionContextRegistry.getInstance().get(0).getLoadDataSession());
+    }
+    
+    @Test
+    public void assertExecuteEndOfFileWithWriteFailure() throws SQLException {
+        when(loadDataSession.getCause()).thenReturn(new NumberFormatException("For input string: \"x\""));
+        Collection<DatabasePacket> actual = new MySQLLocalInfileDataExecutor(mockPacket(3, new byte[0]), backendConnection).execute();
+        assertThat(actual.size(), is(1));
+        MySQLErrPacket errPacket = (MySQLErrPacket) actual.iterator().next();
+        assertThat(errPacket.getSequenceId(), is(4));
+        assertThat(errPacket.getErrorMessage(), is("For input string: \"x\""));
+        verify(loadDataSession, never()).end();
+    }
+    
+    @Test
+    public void assertExecuteEndOfFileWithEndFailure() throws SQLException {
+        when(loadDataSession.end()).thenThrow(new SQLException("insert failed", "HY000", 1062));
+        Collection<DatabasePacket> actual = new MySQLLocalInfileDataExecutor(mockPacket(3, new byte[0]), backendConnection).execute();
+        assertThat(actual.size(), is(1));
+        MySQLErrPacket errPacket = (MySQLErrPacket) actual.iterator().next();
+        assertThat(errPacket.getErrorCode(), is(1062));
+        assertThat(errPacket.getErrorMessage(), is("insert failed"));
+    }
+    
+    @Test
+    public void assertExecuteEndOfFileWithoutSession() {
+        MySQLConnectionContextRegistry.getInstance().get(0).setLoadDataSession(null);
+        Collection<DatabasePacket> actual = new MySQLLocalInfileDataExecutor(mockPacket(3, new byte[0]), backendConnection).execute();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), instanceOf(MySQLErrPacket.class));
+    }
+    
+    private MySQLLocalInfileDataPacket mockPacket(final int sequenceId, final byte[] data) {
+        MySQLLocalInfileDataPacket result = mock(MySQLLocalInfileDataPacket.class);
+        when(result.getSequenceId()).thenReturn(sequenceId);
+        when(result.getData()).thenReturn(data);
+        when(result.isEndOfFile()).thenReturn(0 == data.length);
+        return result;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
+
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MySQLComQueryMultiStatementsExecutorTest {
+    
+    private static final List<String> INSERT_SQLS = Arrays.asList("INSERT INTO t_order (order_id) VALUES (1)", "INSERT INTO t_order (order_id) VALUES (2)");
+    
+    private final BackendConnection backendConnection = mock(BackendConnection.class);
+    
+    private final ConnectionStateHandler stateHandler = mock(ConnectionStateHandler.class);
+    
+    private final Connection connection = mock(Connection.class);
+    
+    private final Statement statement = mock(Statement.class);
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(backendConnection.getStateHandler()).thenReturn(stateHandler);
+        when(backendConnection.getTransactionType()).thenReturn(TransactionType.LOCAL);
+        when(backendConnection.getConnections("ds_0", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+    }
+    
+    private void mockShardingSchema() {
+        ShardingSphereSchema logicSchema = mock(ShardingSphereSchema.class);
+        SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+        when(sqlParserEngine.parse(anyString(), eq(false))).thenReturn(new InsertStatement());
+        when(logicSchema.getSqlParserEngine()).thenReturn(sqlParserEngine);
+        DataNodeRouter dataNodeRouter = mock(DataNodeRouter.class);
+        when(dataNodeRouter.route(any(SQLStatement.class), anyString(), anyList())).thenAnswer(invocation -> route());
+        when(logicSchema.getDataNodeRouter()).thenReturn(dataNodeRouter);
+        SQLRewriteEntry sqlRewriteEntry = mock(SQLRewriteEntry.class);
+        when(sqlRewriteEntry.rewrite(anyString(), anyList(), any(RouteContext.class))).thenAnswer(
+            invocation -> new RouteSQLRewriteResult(Collections.singletonMap(invocation.<RouteContext>getArgument(2).getRouteResult().getRouteUnits().iterator().next(),
+                    new SQLRewriteUnit(invocation.<String>getArgument(0).replace("t_order", "t_order_0"), Collections.emptyList()))));
+        when(logicSchema.getSqlRewriteEntry()).thenReturn(sqlRewriteEntry);
+        when(backendConnection.getLogicSchema()).thenReturn(logicSchema);
+    }
+    
+    private RouteContext route() {
+        RouteResult routeResult = new RouteResult();
+        routeResult.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        return new RouteContext(new CommonSQLStatementContext<>(new InsertStatement()), Collections.emptyList(), routeResult);
+    }
+    
+    @Test
+    public void assertExecuteBatch() throws SQLException {
+        mockShardingSchema();
+        when(statement.executeBatch()).thenReturn(new int[]{1, 1});
+        MySQLComQueryMultiStatementsExecutor executor = new MySQLComQueryMultiStatementsExecutor(INSERT_SQLS, backendConnection);
+        Iterator<DatabasePacket> actual = executor.execute().iterator();
+        assertOKPacket(actual.next(), 1, MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue());
+        assertOKPacket(actual.next(), 2, MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue());
+        assertFalse(actual.hasNext());
+        assertTrue(executor.isUpdateResponse());
+        assertFalse(executor.isQuery());
+        verify(statement).addBatch("INSERT INTO t_order_0 (order_id) VALUES (1)");
+        verify(statement).addBatch("INSERT INTO t_order_0 (order_id) VALUES (2)");
+        verify(connection).setAutoCommit(false);
+        verify(connection).commit();
+        verify(connection).setAutoCommit(true);
+    }
+    
+    @Test
+    public void assertExecuteBatchInTransaction() throws SQLException {
+        mockShardingSchema();
+        when(stateHandler.isInTransaction()).thenReturn(true);
+        when(statement.executeBatch()).thenReturn(new int[]{1, 1});
+        Iterator<DatabasePacket> actual = new MySQLComQueryMultiStatementsExecutor(INSERT_SQLS, backendConnection).execute().iterator();
+        assertOKPacket(actual.next(), 1, MySQLStatusFlag.SERVER_STATUS_IN_TRANS.getValue() | MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue());
+        assertOKPacket(actual.next(), 2, MySQLStatusFlag.SERVER_STATUS_IN_TRANS.getValue());
+        verify(connection, never()).commit();
+    }
+    
+    @Test
+    public void assertExecuteBatchFailedAndRollback() throws SQLException {
+        mockShardingSchema();
+        when(statement.executeBatch()).thenThrow(new SQLException("Duplicate entry '1' for key 'PRIMARY'", "23000", 1062));
+        MySQLComQueryMultiStatementsExecutor executor = new MySQLComQueryMultiStatementsExecutor(INSERT_SQLS, backendConnection);
+        Collection<DatabasePacket> actual = executor.execute();
+        assertThat(actual.size(), is(1));
+        MySQLErrPacket errPacket = (MySQLErrPacket) actual.iterator().next();
+        assertThat(errPacket.getErrorCode(), is(1062));
+        assertTrue(executor.isErrorResponse());
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+    }
+    
+    @Test
+    public void assertExecuteInOrder() throws SQLException {
+        when(backendConnection.getLogicSchema()).thenReturn(mock(LogicSchema.class));
+        when(stateHandler.isInTransaction()).thenReturn(true);
+        MySQLComQueryMultiStatementsExecutor executor = new MySQLComQueryMultiStatementsExecutor(Arrays.asList("sctl:set transaction_type=LOCAL", "sctl:show transaction_type"), backendConnection);
+        Iterator<DatabasePacket> actual = executor.execute().iterator();
+        assertOKPacket(actual.next(), 1, MySQLStatusFlag.SERVER_STATUS_IN_TRANS.getValue() | MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue());
+        assertTrue(actual.hasNext());
+        assertTrue(executor.isQuery());
+        assertFalse(executor.isErrorResponse());
+        verify(backendConnection).setTransactionType(TransactionType.LOCAL);
+    }
+    
+    @Test
+    public void assertExecuteInOrderWithQueryBeforeLast() throws SQLException {
+        when(backendConnection.getLogicSchema()).thenReturn(mock(LogicSchema.class));
+        MySQLComQueryMultiStatementsExecutor executor = new MySQLComQueryMultiStatementsExecutor(Arrays.asList("sctl:show transaction_type", "sctl:set transaction_type=LOCAL"), backendConnection);
+        Collection<DatabasePacket> actual = executor.execute();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), instanceOf(MySQLErrPacket.class));
+        assertTrue(executor.isErrorResponse());
+        verify(backendConnection, never()).setTransactionType(TransactionType.LOCAL);
+    }
+    
+    private void assertOKPacket(final DatabasePacket actual, final int sequenceId, final int statusFlag) {
+        assertThat(actual, instanceOf(MySQLOKPacket.class));
+        assertThat(((MySQLOKPacket) actual).getSequenceId(), is(sequenceId));
+        assertThat(((MySQLOKPacket) actual).getStatusFlag(), is(statusFlag));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLMultiStatementsSplitterTest {
+    
+    @Test
+    public void assertSplitSingleStatement() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1"), is(Collections.singletonList("SELECT 1")));
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1;"), is(Collections.singletonList("SELECT 1;")));
+    }
+    
+    @Test
+    public void assertSplitMultiStatements() {
+        assertThat(MySQLMultiStatementsSplitter.split("INSERT INTO t_order VALUES (1, 'a;b'); UPDATE t_order SET status = \"x;\" WHERE order_id = 1;DELETE FROM `t;order`"),
+                is(Arrays.asList("INSERT INTO t_order VALUES (1, 'a;b')", "UPDATE t_order SET status = \"x;\" WHERE order_id = 1", "DELETE FROM `t;order`")));
+    }
+    
+    @Test
+    public void assertSplitWithCommentsAndEscapes() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 'it\\'s;' /* a;b */ FROM t_order; -- c;d\nSELECT 2 # e;f"),
+                is(Arrays.asList("SELECT 'it\\'s;' /* a;b */ FROM t_order", "-- c;d\nSELECT 2 # e;f")));
+    }
+}
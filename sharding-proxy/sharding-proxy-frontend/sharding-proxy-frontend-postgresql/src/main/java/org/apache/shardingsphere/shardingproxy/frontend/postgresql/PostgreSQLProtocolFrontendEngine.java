@@ -25,6 +25,8 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.auth.PostgreSQLAuthenticationEngine;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContextRegistry;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
 /**
@@ -33,7 +35,7 @@ import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFron
 @Getter
 public final class PostgreSQLProtocolFrontendEngine implements DatabaseProtocolFrontendEngine {
     
-    private final FrontendContext frontendContext = new FrontendContext(true, false);
+    private final FrontendContext frontendContext = new FrontendContext(true, true);
     
     private final PostgreSQLAuthenticationEngine authEngine = new PostgreSQLAuthenticationEngine();
     
@@ -49,5 +51,9 @@ public final class PostgreSQLProtocolFrontendEngine implements DatabaseProtocolF
     @Override
     public void release(final BackendConnection backendConnection) {
         BinaryStatementRegistry.getInstance().unregister(backendConnection.getConnectionId());
+        PostgreSQLConnectionContext connectionContext = PostgreSQLConnectionContextRegistry.getInstance().unregister(backendConnection.getConnectionId());
+        if (null != connectionContext && null != connectionContext.getCopyInSession()) {
+            connectionContext.getCopyInSession().cancel();
+        }
     }
 }
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.frontend.ConnectionIdGenerator;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.AuthenticationEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContextRegistry;
 
 /**
  * Authentication engine for PostgreSQL.
@@ -49,6 +50,7 @@ public final class PostgreSQLAuthenticationEngine implements AuthenticationEngin
         int connectionId = ConnectionIdGenerator.getInstance().nextId();
         backendConnection.setConnectionId(connectionId);
         BinaryStatementRegistry.getInstance().register(connectionId);
+        PostgreSQLConnectionContextRegistry.getInstance().register(connectionId);
     }
     
     @Override
@@ -35,6 +35,7 @@ import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 
 import java.sql.SQLException;
@@ -46,7 +47,7 @@ import java.util.Optional;
 public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
-    public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
+    public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload, final BackendConnection backendConnection) {
         return PostgreSQLCommandPacketTypeLoader.getCommandPacketType((PostgreSQLPacketPayload) payload);
     }
     
@@ -75,13 +76,14 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     @Override
     public void writeQueryData(final ChannelHandlerContext context,
                                final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+        boolean isExtendedQuery = queryCommandExecutor instanceof PostgreSQLComBindExecutor;
         if (queryCommandExecutor.isQuery() && !context.channel().isActive()) {
             context.write(new PostgreSQLCommandCompletePacket());
-            context.write(new PostgreSQLReadyForQueryPacket());
+            writeReadyForQueryIfNecessary(context, isExtendedQuery);
             return;
         }
         if (queryCommandExecutor.isErrorResponse() || queryCommandExecutor.isUpdateResponse()) {
-            context.write(new PostgreSQLReadyForQueryPacket());
+            writeReadyForQueryIfNecessary(context, isExtendedQuery);
             return;
         }
         int count = 0;
@@ -100,6 +102,12 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
             }
         }
         context.write(new PostgreSQLCommandCompletePacket());
-        context.write(new PostgreSQLReadyForQueryPacket());
+        writeReadyForQueryIfNecessary(context, isExtendedQuery);
+    }
+    
+    private void writeReadyForQueryIfNecessary(final ChannelHandlerContext context, final boolean isExtendedQuery) {
+        if (!isExtendedQuery) {
+            context.write(new PostgreSQLReadyForQueryPacket());
+        }
     }
 }
@@ -22,11 +22,18 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.copy.PostgreSQLComCopyDataExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.copy.PostgreSQLComCopyFailExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.copy.PostgreSQLComCopyInExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.copy.PostgreSQLCopyInSession;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.bind.PostgreSQLComBindExecutor;
@@ -55,6 +62,9 @@ public final class PostgreSQLCommandExecutorFactory {
         log.debug("Execute packet type: {}, value: {}", commandPacketType, commandPacket);
         switch (commandPacketType) {
             case QUERY:
+                if (PostgreSQLCopyInSession.isCopyFromStdin(((PostgreSQLComQueryPacket) commandPacket).getSql())) {
+                    return new PostgreSQLComCopyInExecutor((PostgreSQLComQueryPacket) commandPacket, backendConnection);
+                }
                 return new PostgreSQLComQueryExecutor((PostgreSQLComQueryPacket) commandPacket, backendConnection);
             case PARSE:
                 return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, backendConnection);
@@ -65,7 +75,13 @@ public final class PostgreSQLCommandExecutorFactory {
             case EXECUTE:
                 return new PostgreSQLComExecuteExecutor();
             case SYNC:
-                return new PostgreSQLComSyncExecutor();
+                return new PostgreSQLComSyncExecutor(backendConnection);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataExecutor((PostgreSQLComCopyDataPacket) commandPacket, backendConnection);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDoneExecutor(backendConnection);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailExecutor((PostgreSQLComCopyFailPacket) commandPacket, backendConnection);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
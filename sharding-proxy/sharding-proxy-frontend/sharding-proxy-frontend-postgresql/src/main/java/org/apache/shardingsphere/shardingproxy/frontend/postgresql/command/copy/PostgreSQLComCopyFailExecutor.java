@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.copy.PostgreSQLComCopyFailPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.PostgreSQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContextRegistry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Command copy fail executor for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLComCopyFailExecutor implements CommandExecutor {
+    
+    private static final String QUERY_CANCELED = "57014";
+    
+    private final PostgreSQLComCopyFailPacket packet;
+    
+    private final BackendConnection backendConnection;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        PostgreSQLConnectionContext connectionContext = PostgreSQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId());
+        PostgreSQLCopyInSession copyInSession = connectionContext.getCopyInSession();
+        connectionContext.setCopyInSession(null);
+        if (null == copyInSession) {
+            return Collections.emptyList();
+        }
+        if (copyInSession.isFailed()) {
+            return Arrays.asList(PostgreSQLErrPacketFactory.newInstance(copyInSession.getFailureCause()), new PostgreSQLReadyForQueryPacket());
+        }
+        copyInSession.cancel();
+        PostgreSQLErrorResponsePacket errorResponsePacket = new PostgreSQLErrorResponsePacket();
+        errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_SEVERITY, "ERROR");
+        errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_CODE, QUERY_CANCELED);
+        errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_MESSAGE, "COPY from stdin failed: " + packet.getErrorMessage());
+        return Arrays.asList(errorResponsePacket, new PostgreSQLReadyForQueryPacket());
+    }
+}
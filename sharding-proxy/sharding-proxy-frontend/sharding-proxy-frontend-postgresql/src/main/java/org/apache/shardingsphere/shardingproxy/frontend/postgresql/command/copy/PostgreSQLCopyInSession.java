@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.copy;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Copy in session for PostgreSQL.
+ * 
+ * <p>
+ * Rows of {@code COPY ... FROM STDIN} in text format are routed one by one by the sharding columns and forwarded unchanged
+ * to a {@code COPY} stream opened per actual table, so all shards ingest concurrently.
+ * Outside a transaction the streams run in a local transaction on their own connections and are committed together after all of them end,
+ * so a failed copy leaves no partial rows. As with local transaction, a failure while committing may still leave shards committed before it.
+ * </p>
+ */
+public final class PostgreSQLCopyInSession {
+    
+    private static final Pattern COPY_FROM_STDIN_PATTERN = Pattern.compile("^\\s*COPY\\s+([\\w.\"]+)\\s*(?:\\(([^)]*)\\))?\\s*FROM\\s+STDIN\\s*;?\\s*$", Pattern.CASE_INSENSITIVE);
+    
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    
+    private static final String NULL_VALUE = "\\N";
+    
+    private static final String END_OF_DATA = "\\.";
+    
+    private final BackendConnection backendConnection;
+    
+    private final LogicSchema logicSchema;
+    
+    private final String logicTableName;
+    
+    private final List<String> columnNames;
+    
+    private final Integer[] shardingColumnDataTypes;
+    
+    private final String routeSQL;
+    
+    private final SQLStatement routeSQLStatement;
+    
+    private final Map<String, CopyTarget> targets = new LinkedHashMap<>();
+    
+    private final Map<String, CopyTarget> activeTransactionalTargets = new HashMap<>();
+    
+    private final ByteArrayOutputStream partialRow = new ByteArrayOutputStream();
+    
+    private long rowCount;
+    
+    @Getter
+    private boolean failed;
+    
+    @Getter
+    private Exception failureCause;
+    
+    public PostgreSQLCopyInSession(final String sql, final BackendConnection backendConnection) {
+        Matcher matcher = COPY_FROM_STDIN_PATTERN.matcher(sql);
+        Preconditions.checkArgument(matcher.matches(), "Only `COPY table [(columns)] FROM STDIN` in text format is supported.");
+        this.backendConnection = backendConnection;
+        logicSchema = backendConnection.getLogicSchema();
+        if (!(logicSchema instanceof ShardingSphereSchema)) {
+            throw new ShardingSphereException("COPY FROM STDIN is only supported by sharding schema.");
+        }
+        logicTableName = unquote(matcher.group(1));
+        TableMetaData tableMetaData = logicSchema.getMetaData().getSchema().getSchemaMetaData().get(logicTableName);
+        if (null == tableMetaData) {
+            throw new ShardingSphereException("Table `%s` does not exist.", logicTableName);
+        }
+        columnNames = null == matcher.group(2) ? new ArrayList<>(tableMetaData.getColumns().keySet())
+                : Splitter.on(',').trimResults().omitEmptyStrings().splitToList(matcher.group(2)).stream().map(each -> unquote(each).toLowerCase()).collect(Collectors.toList());
+        ShardingRule shardingRule = getShardingRule();
+        Optional<String> generateKeyColumnName = shardingRule.findGenerateKeyColumnName(logicTableName);
+        if (generateKeyColumnName.isPresent() && !columnNames.contains(generateKeyColumnName.get().toLowerCase())) {
+            throw new ShardingSphereException("COPY into `%s` must provide generated key column `%s`.", logicTableName, generateKeyColumnName.get());
+        }
+        shardingColumnDataTypes = new Integer[columnNames.size()];
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (shardingRule.isShardingColumn(columnNames.get(i), logicTableName)) {
+                Preconditions.checkArgument(tableMetaData.getColumns().containsKey(columnNames.get(i)), "Column `%s` does not exist.", columnNames.get(i));
+                shardingColumnDataTypes[i] = tableMetaData.getColumns().get(columnNames.get(i)).getDataType();
+            }
+        }
+        routeSQL = String.format("INSERT INTO %s (%s) VALUES (%s)", logicTableName, Joiner.on(", ").join(columnNames), Joiner.on(", ").join(Collections.nCopies(columnNames.size(), "?")));
+        routeSQLStatement = logicSchema.getSqlParserEngine().parse(routeSQL, true);
+    }
+    
+    /**
+     * Judge whether SQL is {@code COPY ... FROM STDIN}.
+     *
+     * @param sql SQL
+     * @return is copy from stdin or not
+     */
+    public static boolean isCopyFromStdin(final String sql) {
+        return COPY_FROM_STDIN_PATTERN.matcher(sql).matches();
+    }
+    
+    private static String unquote(final String identifier) {
+        return identifier.replace("\"", "");
+    }
+    
+    private ShardingRule getShardingRule() {
+        return logicSchema.getRules().stream().filter(each -> each instanceof ShardingRule).map(each -> (ShardingRule) each).findFirst()
+                .orElseThrow(() -> new ShardingSphereException("Can not find sharding rule of schema `%s`.", logicSchema.getName()));
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnNames.size();
+    }
+    
+    /**
+     * Write copy data, which may end in the middle of a row.
+     * 
+     * <p>
+     * Copy is canceled on failure and following copy data is ignored, the failure is reported when copy done or copy fail received.
+     * </p>
+     *
+     * @param data copy data
+     */
+    public void write(final byte[] data) {
+        if (failed) {
+            return;
+        }
+        try {
+            int start = 0;
+            for (int i = 0; i < data.length; i++) {
+                if ('\n' != data[i]) {
+                    continue;
+                }
+                if (0 == partialRow.size()) {
+                    writeRow(data, start, i + 1 - start);
+                } else {
+                    partialRow.write(data, start, i + 1 - start);
+                    writeRow(partialRow.toByteArray(), 0, partialRow.size());
+                    partialRow.reset();
+                }
+                start = i + 1;
+            }
+            partialRow.write(data, start, data.length - start);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            cancel();
+            failureCause = ex;
+        }
+    }
+    
+    private void writeRow(final byte[] row, final int offset, final int length) throws SQLException {
+        int end = offset + length - 1;
+        if (end > offset && '\r' == row[end - 1]) {
+            end--;
+        }
+        if (END_OF_DATA.equals(new String(row, offset, end - offset, StandardCharsets.UTF_8))) {
+            return;
+        }
+        List<Object> parameters = getShardingValues(row, offset, end);
+        for (RouteUnit each : logicSchema.getDataNodeRouter().route(routeSQLStatement, routeSQL, parameters).getRouteResult().getRouteUnits()) {
+            String dataSourceName = each.getDataSourceMapper().getActualName();
+            for (String actualTableName : each.getActualTableNames(logicTableName)) {
+                CopyTarget target = targets.computeIfAbsent(dataSourceName + "." + actualTableName, key -> new CopyTarget(dataSourceName, actualTableName));
+                target.buffer.write(row, offset, length);
+                if (target.buffer.size() >= FLUSH_THRESHOLD) {
+                    flush(target);
+                }
+            }
+        }
+        rowCount++;
+    }
+    
+    private List<Object> getShardingValues(final byte[] row, final int offset, final int end) {
+        List<Object> result = new ArrayList<>(Collections.nCopies(columnNames.size(), null));
+        int columnIndex = 0;
+        int fieldStart = offset;
+        for (int i = offset; i <= end && columnIndex < columnNames.size(); i++) {
+            if (i < end && '\t' != row[i]) {
+                continue;
+            }
+            if (null != shardingColumnDataTypes[columnIndex]) {
+                result.set(columnIndex, convert(decode(new String(row, fieldStart, i - fieldStart, StandardCharsets.UTF_8)), shardingColumnDataTypes[columnIndex]));
+            }
+            columnIndex++;
+            fieldStart = i + 1;
+        }
+        return result;
+    }
+    
+    private String decode(final String field) {
+        if (NULL_VALUE.equals(field)) {
+            return null;
+        }
+        if (-1 == field.indexOf('\\')) {
+            return field;
+        }
+        StringBuilder result = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char each = field.charAt(i);
+            if ('\\' != each || i == field.length() - 1) {
+                result.append(each);
+                continue;
+            }
+            char escaped = field.charAt(++i);
+            switch (escaped) {
+                case 'b':
+                    result.append('\b');
+                    break;
+                case 'f':
+                    result.append('\f');
+                    break;
+                case 'n':
+                    result.append('\n');
+                    break;
+                case 'r':
+                    result.append('\r');
+                    break;
+                case 't':
+                    result.append('\t');
+                    break;
+                case 'v':
+                    result.append('\u000B');
+                    break;
+                default:
+                    result.append(escaped);
+            }
+        }
+        return result.toString();
+    }
+    
+    private Object convert(final String value, final int dataType) {
+        if (null == value) {
+            return null;
+        }
+        switch (dataType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.valueOf(value);
+            case Types.BIGINT:
+                return Long.valueOf(value);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value);
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.valueOf(value);
+            case Types.DATE:
+                return Date.valueOf(value);
+            case Types.TIMESTAMP:
+                return Timestamp.valueOf(value);
+            default:
+                return value;
+        }
+    }
+    
+    private void flush(final CopyTarget target) throws SQLException {
+        if (0 == target.buffer.size()) {
+            return;
+        }
+        getCopyIn(target).writeToCopy(target.buffer.toByteArray(), 0, target.buffer.size());
+        target.buffer.reset();
+    }
+    
+    private CopyIn getCopyIn(final CopyTarget target) throws SQLException {
+        if (null != target.copyIn && target.copyIn.isActive()) {
+            return target.copyIn;
+        }
+        Connection connection;
+        if (backendConnection.getStateHandler().isInTransaction()) {
+            connection = backendConnection.getConnections(target.dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+            CopyTarget activeTarget = activeTransactionalTargets.put(target.dataSourceName, target);
+            if (null != activeTarget) {
+                endCopy(activeTarget);
+            }
+        } else {
+            if (null == target.ownedConnection) {
+                target.ownedConnection = logicSchema.getBackendDataSource().getConnections(
+                        target.dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY, backendConnection.getTransactionType()).get(0);
+                target.ownedConnection.setAutoCommit(false);
+            }
+            connection = target.ownedConnection;
+        }
+        target.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                String.format("COPY %s (%s) FROM STDIN", target.actualTableName, Joiner.on(", ").join(columnNames)));
+        return target.copyIn;
+    }
+    
+    private void endCopy(final CopyTarget target) throws SQLException {
+        if (null != target.copyIn && target.copyIn.isActive()) {
+            target.copyIn.endCopy();
+        }
+    }
+    
+    /**
+     * End copy, flush remaining rows and wait for all shards.
+     *
+     * @return count of copied rows
+     * @throws SQLException SQL exception
+     */
+    public long end() throws SQLException {
+        try {
+            for (CopyTarget each : targets.values()) {
+                flush(each);
+            }
+            for (CopyTarget each : targets.values()) {
+                endCopy(each);
+            }
+            for (CopyTarget each : targets.values()) {
+                if (null != each.ownedConnection) {
+                    each.ownedConnection.commit();
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            cancel();
+            throw ex;
+        }
+        closeOwnedConnections();
+        backendConnection.invalidateBroadcastTableQueryCache(Collections.singleton(logicTableName));
+        return rowCount;
+    }
+    
+    /**
+     * Cancel copy on all shards.
+     */
+    public void cancel() {
+        failed = true;
+        for (CopyTarget each : targets.values()) {
+            try {
+                if (null != each.copyIn && each.copyIn.isActive()) {
+                    each.copyIn.cancelCopy();
+                }
+            } catch (final SQLException ignored) {
+            }
+            try {
+                if (null != each.ownedConnection) {
+                    each.ownedConnection.rollback();
+                }
+            } catch (final SQLException ignored) {
+            }
+        }
+        closeOwnedConnections();
+        backendConnection.invalidateBroadcastTableQueryCache(Collections.singleton(logicTableName));
+    }
+    
+    private void closeOwnedConnections() {
+        for (CopyTarget each : targets.values()) {
+            if (null == each.ownedConnection) {
+                continue;
+            }
+            try {
+                each.ownedConnection.setAutoCommit(true);
+                each.ownedConnection.close();
+            } catch (final SQLException ignored) {
+            }
+            each.ownedConnection = null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CopyTarget {
+        
+        private final String dataSourceName;
+        
+        private final String actualTableName;
+        
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(FLUSH_THRESHOLD);
+        
+        private Connection ownedConnection;
+        
+        private CopyIn copyIn;
+    }
+}
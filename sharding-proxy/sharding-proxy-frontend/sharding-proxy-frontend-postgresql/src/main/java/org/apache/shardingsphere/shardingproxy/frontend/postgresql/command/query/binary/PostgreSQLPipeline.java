@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCBatchExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.PostgreSQLErrPacketFactory;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Pipeline of extended query messages received before sync for PostgreSQL.
+ * 
+ * <p>
+ * Consecutive bind and execute of the same update statement are deferred and executed as one JDBC batch per shard,
+ * responses of the pipeline are held back until the batch completes so the order of responses is preserved.
+ * Outside a transaction each batch is committed on its own once executed, rather than in the implicit transaction PostgreSQL keeps until sync,
+ * so batches executed before a failed one keep their results.
+ * </p>
+ */
+public final class PostgreSQLPipeline {
+    
+    private final List<BatchedBind> batchedBinds = new LinkedList<>();
+    
+    private List<DatabasePacket> pendingPackets = new LinkedList<>();
+    
+    @Getter
+    private boolean failed;
+    
+    /**
+     * Judge whether SQL statement can be deferred to batch.
+     *
+     * @param sqlStatement SQL statement
+     * @return can be deferred or not
+     */
+    public static boolean isBatchable(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
+    /**
+     * Add packet to be sent after responses of binds batched before.
+     *
+     * @param packet database packet
+     */
+    public void addPacket(final DatabasePacket packet) {
+        if (!failed) {
+            pendingPackets.add(packet);
+        }
+    }
+    
+    /**
+     * Add bind to batch.
+     *
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param sqlStatement SQL statement
+     */
+    public void addBatchedBind(final String sql, final List<Object> parameters, final SQLStatement sqlStatement) {
+        batchedBinds.add(new BatchedBind(pendingPackets, sql, parameters, getCommandType(sqlStatement)));
+        pendingPackets = new LinkedList<>();
+    }
+    
+    private String getCommandType(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof InsertStatement) {
+            return "INSERT";
+        }
+        return sqlStatement instanceof DeleteStatement ? "DELETE" : "UPDATE";
+    }
+    
+    /**
+     * Execute batched binds and drain all held back responses.
+     *
+     * @param backendConnection backend connection
+     * @return responses in order of received messages
+     */
+    public List<DatabasePacket> drain(final BackendConnection backendConnection) {
+        List<DatabasePacket> result = new LinkedList<>();
+        try {
+            boolean succeed = true;
+            int start = 0;
+            while (succeed && start < batchedBinds.size()) {
+                int end = start + 1;
+                while (end < batchedBinds.size() && batchedBinds.get(end).sql.equals(batchedBinds.get(start).sql)) {
+                    end++;
+                }
+                succeed = executeBatch(backendConnection, batchedBinds.subList(start, end), result);
+                start = end;
+            }
+            if (succeed) {
+                result.addAll(pendingPackets);
+            }
+        } finally {
+            batchedBinds.clear();
+            pendingPackets = new LinkedList<>();
+        }
+        return result;
+    }
+    
+    private boolean executeBatch(final BackendConnection backendConnection, final List<BatchedBind> binds, final List<DatabasePacket> responses) {
+        List<List<Object>> parameterSets = new ArrayList<>(binds.size());
+        for (BatchedBind each : binds) {
+            parameterSets.add(each.parameters);
+        }
+        int[] updateCounts;
+        try {
+            updateCounts = new JDBCBatchExecuteEngine(backendConnection).execute(binds.get(0).sql, parameterSets);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            responses.addAll(binds.get(0).precedingPackets);
+            responses.add(new PostgreSQLBindCompletePacket());
+            responses.add(PostgreSQLErrPacketFactory.newInstance(ex));
+            failed = true;
+            return false;
+        }
+        for (int i = 0; i < binds.size(); i++) {
+            responses.addAll(binds.get(i).precedingPackets);
+            responses.add(new PostgreSQLBindCompletePacket());
+            responses.add(new PostgreSQLCommandCompletePacket(binds.get(i).commandType, updateCounts[i]));
+        }
+        return true;
+    }
+    
+    /**
+     * Mark pipeline as failed, messages are ignored until sync.
+     */
+    public void fail() {
+        failed = true;
+    }
+    
+    /**
+     * Mark pipeline as failed with error response sent after responses of messages received before, messages are ignored until sync.
+     *
+     * @param errorPacket error packet
+     */
+    public void fail(final DatabasePacket errorPacket) {
+        addPacket(errorPacket);
+        failed = true;
+    }
+    
+    /**
+     * Sync pipeline.
+     *
+     * @param backendConnection backend connection
+     * @return responses in order of received messages
+     */
+    public List<DatabasePacket> sync(final BackendConnection backendConnection) {
+        List<DatabasePacket> result = drain(backendConnection);
+        failed = false;
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BatchedBind {
+        
+        private final List<DatabasePacket> precedingPackets;
+        
+        private final String sql;
+        
+        private final List<Object> parameters;
+        
+        private final String commandType;
+    }
+}
@@ -38,9 +38,14 @@ import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSphereSchema;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.PostgreSQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPipeline;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContextRegistry;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -56,8 +61,16 @@ import java.util.Optional;
 public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
     
     private final PostgreSQLComBindPacket packet;
-            
-    private final DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    private final BackendConnection backendConnection;
+    
+    private final PostgreSQLPipeline pipeline;
+    
+    private SQLStatement batchedStatement;
+    
+    private DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    private RuntimeException bindFailureCause;
     
     private volatile boolean isQuery;
     
@@ -69,8 +82,28 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
     
     public PostgreSQLComBindExecutor(final PostgreSQLComBindPacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
-        databaseCommunicationEngine = null == packet.getSql()
-                ? null : DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(backendConnection.getLogicSchema(), packet.getSql(), packet.getParameters(), backendConnection);
+        this.backendConnection = backendConnection;
+        pipeline = PostgreSQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId()).getPipeline();
+        if (null == packet.getSql() || pipeline.isFailed()) {
+            return;
+        }
+        try {
+            batchedStatement = findBatchedStatement(backendConnection.getLogicSchema());
+            if (null == batchedStatement) {
+                databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
+                        backendConnection.getLogicSchema(), packet.getSql(), packet.getParameters(), backendConnection);
+            }
+        } catch (final RuntimeException ex) {
+            bindFailureCause = ex;
+        }
+    }
+    
+    private SQLStatement findBatchedStatement(final LogicSchema logicSchema) {
+        if (!(logicSchema instanceof ShardingSphereSchema)) {
+            return null;
+        }
+        SQLStatement result = logicSchema.getSqlParserEngine().parse(packet.getSql(), true);
+        return PostgreSQLPipeline.isBatchable(result) ? result : null;
     }
     
     @Override
@@ -78,14 +111,31 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
         if (ShardingProxyContext.getInstance().isCircuitBreak()) {
             return Collections.singletonList(new PostgreSQLErrorResponsePacket());
         }
-        List<DatabasePacket> result = new LinkedList<>();
-        result.add(new PostgreSQLBindCompletePacket());
+        if (pipeline.isFailed()) {
+            return Collections.emptyList();
+        }
+        if (null != bindFailureCause) {
+            pipeline.fail(PostgreSQLErrPacketFactory.newInstance(bindFailureCause));
+            return Collections.emptyList();
+        }
+        if (null != batchedStatement) {
+            pipeline.addBatchedBind(packet.getSql(), packet.getParameters(), batchedStatement);
+            return Collections.emptyList();
+        }
         if (null == databaseCommunicationEngine) {
+            pipeline.addPacket(new PostgreSQLBindCompletePacket());
+            return Collections.emptyList();
+        }
+        List<DatabasePacket> result = new LinkedList<>(pipeline.drain(backendConnection));
+        if (pipeline.isFailed()) {
+            isErrorResponse = true;
             return result;
         }
+        result.add(new PostgreSQLBindCompletePacket());
         BackendResponse backendResponse = databaseCommunicationEngine.execute();
         if (backendResponse instanceof ErrorResponse) {
             isErrorResponse = true;
+            pipeline.fail();
             result.add(createErrorPacket((ErrorResponse) backendResponse));
         }
         if (backendResponse instanceof UpdateResponse) {
@@ -25,6 +25,9 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.command.que
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.PostgreSQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPipeline;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContextRegistry;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.Collection;
@@ -41,18 +44,31 @@ public final class PostgreSQLComParseExecutor implements CommandExecutor {
     
     private final ConnectionScopeBinaryStatementRegistry binaryStatementRegistry;
     
+    private final PostgreSQLPipeline pipeline;
+    
     public PostgreSQLComParseExecutor(final PostgreSQLComParsePacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
         logicSchema = backendConnection.getLogicSchema();
         binaryStatementRegistry = BinaryStatementRegistry.getInstance().get(backendConnection.getConnectionId());
+        pipeline = PostgreSQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId()).getPipeline();
     }
     
     @Override
     public Collection<DatabasePacket> execute() {
+        if (pipeline.isFailed()) {
+            return Collections.emptyList();
+        }
         if (!packet.getSql().isEmpty()) {
-            SQLStatement sqlStatement = logicSchema.getSqlParserEngine().parse(packet.getSql(), true);
+            SQLStatement sqlStatement;
+            try {
+                sqlStatement = logicSchema.getSqlParserEngine().parse(packet.getSql(), true);
+            } catch (final RuntimeException ex) {
+                pipeline.fail(PostgreSQLErrPacketFactory.newInstance(ex));
+                return Collections.emptyList();
+            }
             binaryStatementRegistry.register(packet.getStatementId(), packet.getSql(), sqlStatement.getParameterCount(), packet.getBinaryStatementParameterTypes());
         }
-        return Collections.singletonList(new PostgreSQLParseCompletePacket());
+        pipeline.addPacket(new PostgreSQLParseCompletePacket());
+        return Collections.emptyList();
     }
 }
@@ -17,19 +17,28 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.sync;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContextRegistry;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 
 /**
  * Command sync executor for PostgreSQL.
  */
+@RequiredArgsConstructor
 public final class PostgreSQLComSyncExecutor implements CommandExecutor {
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket> execute() {
-        return Collections.emptyList();
+        List<DatabasePacket> result = PostgreSQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId()).getPipeline().sync(backendConnection);
+        result.add(new PostgreSQLReadyForQueryPacket());
+        return result;
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Connection context registry for PostgreSQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLConnectionContextRegistry {
+    
+    private static final PostgreSQLConnectionContextRegistry INSTANCE = new PostgreSQLConnectionContextRegistry();
+    
+    private final ConcurrentMap<Integer, PostgreSQLConnectionContext> contexts = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of connection context registry.
+     *
+     * @return instance of connection context registry
+     */
+    public static PostgreSQLConnectionContextRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register.
+     *
+     * @param connectionId connection id
+     */
+    public void register(final int connectionId) {
+        contexts.put(connectionId, new PostgreSQLConnectionContext());
+    }
+    
+    /**
+     * Unregister.
+     *
+     * @param connectionId connection id
+     * @return unregistered connection context
+     */
+    public PostgreSQLConnectionContext unregister(final int connectionId) {
+        return contexts.remove(connectionId);
+    }
+    
+    /**
+     * Get connection context.
+     *
+     * @param connectionId connection id
+     * @return connection context
+     */
+    public PostgreSQLConnectionContext get(final int connectionId) {
+        return contexts.get(connectionId);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContextRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComCopyDoneExecutorTest {
+    
+    @Mock
+    private PostgreSQLCopyInSession copyInSession;
+    
+    @Before
+    public void setUp() {
+        PostgreSQLConnectionContextRegistry.getInstance().register(0);
+        PostgreSQLConnectionContextRegistry.getInstance().get(0).setCopyInSession(copyInSession);
+    }
+    
+    @After
+    public void tearDown() {
+        PostgreSQLConnectionContextRegistry.getInstance().unregister(0);
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        when(copyInSession.end()).thenReturn(3L);
+        List<DatabasePacket> actual = new ArrayList<>(new PostgreSQLComCopyDoneExecutor(mock(BackendConnection.class)).execute());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(actual.get(1), instanceOf(PostgreSQLReadyForQueryPacket.class));
+        assertThat(PostgreSQLConnectionContextRegistry.getInstance().get(0).getCopyInSession(), nullValue());
+    }
+    
+    @Test
+    public void assertExecuteAfterCopyDataFailed() throws SQLException {
+        when(copyInSession.isFailed()).thenReturn(true);
+        when(copyInSession.getFailureCause()).thenReturn(new NumberFormatException("For input string: \"x\""));
+        List<DatabasePacket> actual = new ArrayList<>(new PostgreSQLComCopyDoneExecutor(mock(BackendConnection.class)).execute());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(PostgreSQLErrorResponsePacket.class));
+        assertThat(actual.get(1), instanceOf(PostgreSQLReadyForQueryPacket.class));
+        verify(copyInSession, never()).end();
+    }
+    
+    @Test
+    public void assertExecuteWithoutCopyInSession() throws SQLException {
+        PostgreSQLConnectionContextRegistry.getInstance().get(0).setCopyInSession(null);
+        assertTrue(new PostgreSQLComCopyDoneExecutor(mock(BackendConnection.class)).execute().isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary;
+
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.parse.PostgreSQLParseCompletePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLPipelineTest {
+    
+    @Test
+    public void assertIsBatchable() {
+        assertTrue(PostgreSQLPipeline.isBatchable(new InsertStatement()));
+        assertFalse(PostgreSQLPipeline.isBatchable(new SelectStatement()));
+    }
+    
+    @Test
+    public void assertDrainPendingPacketsInOrder() {
+        PostgreSQLPipeline pipeline = new PostgreSQLPipeline();
+        pipeline.addPacket(new PostgreSQLParseCompletePacket());
+        pipeline.addPacket(new PostgreSQLBindCompletePacket());
+        List<DatabasePacket> actual = pipeline.drain(mock(BackendConnection.class));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(PostgreSQLParseCompletePacket.class));
+        assertThat(actual.get(1), instanceOf(PostgreSQLBindCompletePacket.class));
+        assertTrue(pipeline.drain(mock(BackendConnection.class)).isEmpty());
+    }
+    
+    @Test
+    public void assertSyncAfterFail() {
+        PostgreSQLPipeline pipeline = new PostgreSQLPipeline();
+        pipeline.fail();
+        pipeline.addPacket(new PostgreSQLParseCompletePacket());
+        assertTrue(pipeline.isFailed());
+        assertTrue(pipeline.sync(mock(BackendConnection.class)).isEmpty());
+        assertFalse(pipeline.isFailed());
+    }
+    
+    @Test
+    public void assertSyncAfterFailWithErrorPacket() {
+        PostgreSQLPipeline pipeline = new PostgreSQLPipeline();
+        pipeline.addPacket(new PostgreSQLParseCompletePacket());
+        pipeline.fail(new PostgreSQLErrorResponsePacket());
+        pipeline.addPacket(new PostgreSQLBindCompletePacket());
+        assertTrue(pipeline.isFailed());
+        List<DatabasePacket> actual = pipeline.sync(mock(BackendConnection.class));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(PostgreSQLParseCompletePacket.class));
+        assertThat(actual.get(1), instanceOf(PostgreSQLErrorResponsePacket.class));
+        assertFalse(pipeline.isFailed());
+    }
+    
+    @Test
+    public void assertDrainBatchedBinds() throws SQLException {
+        String sql = "INSERT INTO t_order (order_id) VALUES (?)";
+        Connection connection = mock(Connection.class);
+        BackendConnection backendConnection = mockBackendConnection(sql, connection);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        PostgreSQLPipeline pipeline = new PostgreSQLPipeline();
+        pipeline.addPacket(new PostgreSQLParseCompletePacket());
+        pipeline.addBatchedBind(sql, Collections.singletonList(1), new InsertStatement());
+        pipeline.addBatchedBind(sql, Collections.singletonList(2), new InsertStatement());
+        pipeline.addPacket(new PostgreSQLParseCompletePacket());
+        List<DatabasePacket> actual = pipeline.sync(backendConnection);
+        assertThat(actual.size(), is(6));
+        assertThat(actual.get(0), instanceOf(PostgreSQLParseCompletePacket.class));
+        assertThat(actual.get(1), instanceOf(PostgreSQLBindCompletePacket.class));
+        assertThat(actual.get(2), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(actual.get(3), instanceOf(PostgreSQLBindCompletePacket.class));
+        assertThat(actual.get(4), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(actual.get(5), instanceOf(PostgreSQLParseCompletePacket.class));
+        verify(connection).commit();
+    }
+    
+    @Test
+    public void assertDrainBatchedBindsFailed() throws SQLException {
+        String sql = "INSERT INTO t_order (order_id) VALUES (?)";
+        Connection connection = mock(Connection.class);
+        BackendConnection backendConnection = mockBackendConnection(sql, connection);
+        when(connection.prepareStatement(sql)).thenThrow(new SQLException("prepare failed"));
+        PostgreSQLPipeline pipeline = new PostgreSQLPipeline();
+        pipeline.addPacket(new PostgreSQLParseCompletePacket());
+        pipeline.addBatchedBind(sql, Collections.singletonList(1), new InsertStatement());
+        pipeline.addBatchedBind(sql, Collections.singletonList(2), new InsertStatement());
+        pipeline.addPacket(new PostgreSQLParseCompletePacket());
+        List<DatabasePacket> actual = pipeline.drain(backendConnection);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), instanceOf(PostgreSQLParseCompletePacket.class));
+        assertThat(actual.get(1), instanceOf(PostgreSQLBindCompletePacket.class));
+        assertThat(actual.get(2), instanceOf(PostgreSQLErrorResponsePacket.class));
+        assertTrue(pipeline.isFailed());
+        assertTrue(pipeline.sync(backendConnection).isEmpty());
+        verify(connection).rollback();
+    }
+    
+    private BackendConnection mockBackendConnection(final String sql, final Connection connection) throws SQLException {
+        SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+        when(sqlParserEngine.parse(sql, true)).thenReturn(new InsertStatement());
+        LogicSchema logicSchema = mock(LogicSchema.class);
+        when(logicSchema.getSqlParserEngine()).thenReturn(sqlParserEngine);
+        when(logicSchema.getDataSources()).thenReturn(Collections.singletonMap("ds", new YamlDataSourceParameter()));
+        BackendConnection result = mock(BackendConnection.class);
+        when(result.getLogicSchema()).thenReturn(logicSchema);
+        when(result.getStateHandler()).thenReturn(mock(ConnectionStateHandler.class));
+        when(result.getConnections("ds", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        return result;
+    }
+}
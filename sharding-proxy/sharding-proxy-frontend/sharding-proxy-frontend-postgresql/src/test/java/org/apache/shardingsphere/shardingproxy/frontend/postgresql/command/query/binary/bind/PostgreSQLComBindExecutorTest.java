@@ -18,12 +18,21 @@
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.bind;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSphereSchema;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPipeline;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.context.PostgreSQLConnectionContextRegistry;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.hamcrest.Matchers;
+import org.junit.After;
 import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -33,6 +42,7 @@ import org.postgresql.util.PSQLException;
 import org.postgresql.util.ServerErrorMessage;
 
 import java.util.LinkedList;
+import java.util.List;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -43,14 +53,43 @@ public class PostgreSQLComBindExecutorTest {
     @Mock
     private DatabaseCommunicationEngine databaseCommunicationEngine;
     
+    @Before
+    public void setUp() {
+        PostgreSQLConnectionContextRegistry.getInstance().register(0);
+    }
+    
+    @After
+    public void tearDown() {
+        PostgreSQLConnectionContextRegistry.getInstance().unregister(0);
+    }
+    
     @Test
     @SneakyThrows
     public void assertExecuteHasError() {
-        PostgreSQLComBindExecutor postgreSQLComBindExecutor = new PostgreSQLComBindExecutor(mock(PostgreSQLComBindPacket.class), null);
+        PostgreSQLComBindExecutor postgreSQLComBindExecutor = new PostgreSQLComBindExecutor(mock(PostgreSQLComBindPacket.class), mock(BackendConnection.class));
         FieldSetter.setField(postgreSQLComBindExecutor, PostgreSQLComBindExecutor.class.getDeclaredField("databaseCommunicationEngine"), databaseCommunicationEngine);
         ErrorResponse errorResponse = new ErrorResponse(new PSQLException(mock(ServerErrorMessage.class)));
         when(databaseCommunicationEngine.execute()).thenReturn(errorResponse);
         Assert.assertThat(((LinkedList) postgreSQLComBindExecutor.execute()).get(1), Matchers.instanceOf(PostgreSQLErrorResponsePacket.class));
         Assert.assertThat(postgreSQLComBindExecutor.isErrorResponse(), Matchers.is(true));
     }
+    
+    @Test
+    public void assertExecuteWithBindFailure() {
+        PostgreSQLComBindPacket packet = mock(PostgreSQLComBindPacket.class);
+        when(packet.getSql()).thenReturn("INSERT INTO t_order VALUES (?)");
+        SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+        when(sqlParserEngine.parse("INSERT INTO t_order VALUES (?)", true)).thenThrow(new SQLParsingException("parse failed"));
+        ShardingSphereSchema logicSchema = mock(ShardingSphereSchema.class);
+        when(logicSchema.getSqlParserEngine()).thenReturn(sqlParserEngine);
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getLogicSchema()).thenReturn(logicSchema);
+        PostgreSQLComBindExecutor postgreSQLComBindExecutor = new PostgreSQLComBindExecutor(packet, backendConnection);
+        Assert.assertTrue(postgreSQLComBindExecutor.execute().isEmpty());
+        PostgreSQLPipeline pipeline = PostgreSQLConnectionContextRegistry.getInstance().get(0).getPipeline();
+        Assert.assertTrue(pipeline.isFailed());
+        List<DatabasePacket> actual = pipeline.sync(backendConnection);
+        Assert.assertThat(actual.size(), Matchers.is(1));
+        Assert.assertThat(actual.get(0), Matchers.instanceOf(PostgreSQLErrorResponsePacket.class));
+    }
 }
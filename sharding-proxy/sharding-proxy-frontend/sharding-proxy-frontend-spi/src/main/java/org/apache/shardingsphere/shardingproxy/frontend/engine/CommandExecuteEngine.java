@@ -38,9 +38,10 @@ public interface CommandExecuteEngine {
      * Get command packet type.
      *
      * @param packetPayload packet payload
+     * @param backendConnection backend connection
      * @return command packet type
      */
-    CommandPacketType getCommandPacketType(PacketPayload packetPayload);
+    CommandPacketType getCommandPacketType(PacketPayload packetPayload, BackendConnection backendConnection);
     
     /**
      * Get command packet.
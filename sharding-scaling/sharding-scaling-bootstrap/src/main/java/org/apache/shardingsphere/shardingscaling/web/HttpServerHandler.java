@@ -33,6 +33,7 @@ import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.CharsetUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.shardingscaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.shardingscaling.core.config.ScalingConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.config.utils.SyncConfigurationUtil;
@@ -50,7 +51,7 @@ import java.util.regex.Pattern;
 @Slf4j
 public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
     
-    private static final Pattern URL_PATTERN = Pattern.compile("(^/shardingscaling/job/(start|stop|list))|(^/shardingscaling/job/progress/\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern URL_PATTERN = Pattern.compile("(^/shardingscaling/job/(start|stop|list))|(^/shardingscaling/job/(progress|check)/\\d+)", Pattern.CASE_INSENSITIVE);
     
     private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
     
@@ -74,6 +75,14 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
             getJobProgress(channelHandlerContext, requestPath);
             return;
         }
+        if (requestPath.contains("/shardingscaling/job/check/") && method.equals(HttpMethod.POST)) {
+            startCheckJob(channelHandlerContext, requestPath);
+            return;
+        }
+        if (requestPath.contains("/shardingscaling/job/check/") && method.equals(HttpMethod.GET)) {
+            getCheckJobProgress(channelHandlerContext, requestPath);
+            return;
+        }
         if ("/shardingscaling/job/list".equalsIgnoreCase(requestPath) && method.equals(HttpMethod.GET)) {
             listAllJobs(channelHandlerContext);
             return;
@@ -105,6 +114,26 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
         }
     }
     
+    private void startCheckJob(final ChannelHandlerContext channelHandlerContext, final String requestPath) {
+        int jobId = Integer.parseInt(requestPath.split("/")[4]);
+        try {
+            DataConsistencyCheckProgress checkProgress = SCALING_JOB_CONTROLLER.startCheck(jobId);
+            response(GSON.toJson(ResponseContentUtil.build(checkProgress)), channelHandlerContext, HttpResponseStatus.OK);
+        } catch (ScalingJobNotFoundException e) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(e.getMessage())), channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
+    private void getCheckJobProgress(final ChannelHandlerContext channelHandlerContext, final String requestPath) {
+        int jobId = Integer.parseInt(requestPath.split("/")[4]);
+        try {
+            DataConsistencyCheckProgress checkProgress = SCALING_JOB_CONTROLLER.getCheckProgress(jobId);
+            response(GSON.toJson(ResponseContentUtil.build(checkProgress)), channelHandlerContext, HttpResponseStatus.OK);
+        } catch (ScalingJobNotFoundException e) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(e.getMessage())), channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
     private void listAllJobs(final ChannelHandlerContext channelHandlerContext) {
         List<ShardingScalingJob> shardingScalingJobs = SCALING_JOB_CONTROLLER.listShardingScalingJobs();
         response(GSON.toJson(ResponseContentUtil.build(shardingScalingJobs)), channelHandlerContext, HttpResponseStatus.OK);
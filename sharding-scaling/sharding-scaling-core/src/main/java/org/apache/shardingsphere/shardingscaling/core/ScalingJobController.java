@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.shardingscaling.core;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyCheckProgress;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyChecker;
 import org.apache.shardingsphere.shardingscaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.shardingscaling.core.job.ScalingJobProgress;
 import org.apache.shardingsphere.shardingscaling.core.job.SyncProgress;
@@ -29,18 +33,25 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Scaling job controller.
  */
+@Slf4j
 public final class ScalingJobController {
     
     private final ConcurrentMap<Integer, ShardingScalingJob> scalingJobMap = new ConcurrentHashMap<>();
     
     private final ConcurrentMap<Integer, ScalingTaskScheduler> scalingTaskSchedulerMap = new ConcurrentHashMap<>();
     
+    private final ConcurrentMap<Integer, DataConsistencyCheckProgress> checkProgressMap = new ConcurrentHashMap<>();
+    
     private final ShardingScalingJobPreparer shardingScalingJobPreparer = new ShardingScalingJobPreparer();
     
+    private final ExecutorService checkExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingScaling-check-%d").build());
+    
     /**
      * Start data nodes migrate.
      *
@@ -87,6 +98,53 @@ public final class ScalingJobController {
         return result;
     }
     
+    /**
+     * Start checking data consistency between source and target of sharding scaling job in background.
+     *
+     * <p>
+     * Check progress of the job is returned if it is already running.
+     * </p>
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     * @return data consistency check progress
+     */
+    public DataConsistencyCheckProgress startCheck(final int shardingScalingJobId) {
+        ShardingScalingJob shardingScalingJob = scalingJobMap.get(shardingScalingJobId);
+        if (null == shardingScalingJob) {
+            throw new ScalingJobNotFoundException(String.format("Can't find scaling job id %s", shardingScalingJobId));
+        }
+        DataConsistencyCheckProgress result = new DataConsistencyCheckProgress(shardingScalingJobId);
+        DataConsistencyCheckProgress running = checkProgressMap.compute(shardingScalingJobId, (key, value) -> null != value && value.isRunning() ? value : result);
+        if (running != result) {
+            return running;
+        }
+        checkExecutorService.execute(() -> {
+            try {
+                result.finish(new DataConsistencyChecker().check(shardingScalingJob.getSyncConfigurations()));
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.error("Check data consistency of scaling job {} failed", shardingScalingJobId, ex);
+                result.fail(ex.getMessage());
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Get data consistency check progress of sharding scaling job.
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     * @return data consistency check progress
+     */
+    public DataConsistencyCheckProgress getCheckProgress(final int shardingScalingJobId) {
+        DataConsistencyCheckProgress result = checkProgressMap.get(shardingScalingJobId);
+        if (null == result) {
+            throw new ScalingJobNotFoundException(String.format("Can't find data consistency check of scaling job id %s", shardingScalingJobId));
+        }
+        return result;
+    }
+    
     /**
      * List all sharding scaling jobs.
      *
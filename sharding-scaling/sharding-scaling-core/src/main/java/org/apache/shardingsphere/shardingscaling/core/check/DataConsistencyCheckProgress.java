@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Data consistency check progress of sharding scaling job.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DataConsistencyCheckProgress {
+    
+    public static final String RUNNING = "RUNNING";
+    
+    public static final String FINISHED = "FINISHED";
+    
+    public static final String FAILURE = "FAILURE";
+    
+    private final int jobId;
+    
+    private volatile String status = RUNNING;
+    
+    private volatile Map<String, DataConsistencyCheckResult> checkResult;
+    
+    private volatile String errorMessage;
+    
+    /**
+     * Finish check with result.
+     *
+     * @param checkResult check result, key is logic table name
+     */
+    public void finish(final Map<String, DataConsistencyCheckResult> checkResult) {
+        this.checkResult = checkResult;
+        status = FINISHED;
+    }
+    
+    /**
+     * Fail check with error message.
+     *
+     * @param errorMessage error message
+     */
+    public void fail(final String errorMessage) {
+        this.errorMessage = errorMessage;
+        status = FAILURE;
+    }
+    
+    /**
+     * Judge whether check is running.
+     *
+     * @return is running or not
+     */
+    public boolean isRunning() {
+        return RUNNING.equals(status);
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.shardingscaling.core.exception.DataCheckFailedException;
+import org.apache.shardingsphere.shardingscaling.core.metadata.MetaDataManager;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Data consistency checker.
+ *
+ * <p>
+ * Tables with single integer primary key are split into key ranges of at most chunk size records by keyset pagination,
+ * checksum of each range is calculated in parallel on source and target,
+ * mismatched ranges are split recursively until records can be compared one by one.
+ * Other tables are compared by checksum of the whole table.
+ * </p>
+ */
+@Slf4j
+public final class DataConsistencyChecker {
+    
+    private static final int ROW_LEVEL_RANGE_SIZE = 128;
+    
+    private static final int MAX_DIFFERENT_KEYS = 1000;
+    
+    private final int concurrency;
+    
+    private final int chunkSize;
+    
+    private final RateLimiter rateLimiter;
+    
+    public DataConsistencyChecker() {
+        this(ScalingContext.getInstance().getServerConfiguration());
+    }
+    
+    public DataConsistencyChecker(final ServerConfiguration serverConfiguration) {
+        this(serverConfiguration.getDataCheckConcurrency(), serverConfiguration.getDataCheckChunkSize(), serverConfiguration.getDataCheckRowsPerSecond());
+    }
+    
+    public DataConsistencyChecker(final int concurrency, final int chunkSize, final int rowsPerSecond) {
+        this.concurrency = Math.max(1, concurrency);
+        this.chunkSize = Math.max(ROW_LEVEL_RANGE_SIZE, chunkSize);
+        rateLimiter = 0 < rowsPerSecond ? RateLimiter.create(rowsPerSecond) : null;
+    }
+    
+    /**
+     * Check data consistency between source and target of sync configurations.
+     *
+     * @param syncConfigurations sync configurations
+     * @return check result, key is logic table name
+     */
+    public Map<String, DataConsistencyCheckResult> check(final Collection<SyncConfiguration> syncConfigurations) {
+        Map<String, DataConsistencyCheckResult> result = new LinkedHashMap<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        try (DataSourceManager dataSourceManager = new DataSourceManager()) {
+            for (Map.Entry<String, CheckTable> entry : groupByLogicTable(syncConfigurations, dataSourceManager).entrySet()) {
+                result.put(entry.getKey(), checkTable(entry.getValue(), executorService));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return result;
+    }
+    
+    private Map<String, CheckTable> groupByLogicTable(final Collection<SyncConfiguration> syncConfigurations, final DataSourceManager dataSourceManager) {
+        Map<String, CheckTable> result = new LinkedHashMap<>();
+        for (SyncConfiguration each : syncConfigurations) {
+            DataSource sourceDataSource = dataSourceManager.getDataSource(each.getDumperConfiguration().getDataSourceConfiguration());
+            DataSource targetDataSource = dataSourceManager.getDataSource(each.getImporterConfiguration().getDataSourceConfiguration());
+            MetaDataManager metaDataManager = new MetaDataManager(sourceDataSource);
+            for (Map.Entry<String, String> entry : each.getTableNameMap().entrySet()) {
+                CheckTable checkTable = result.get(entry.getValue());
+                if (null == checkTable) {
+                    checkTable = new CheckTable(entry.getValue(), targetDataSource, metaDataManager.getTableMetaData(entry.getKey()));
+                    result.put(entry.getValue(), checkTable);
+                }
+                checkTable.getActualTables().add(new ActualTable(sourceDataSource, entry.getKey()));
+            }
+        }
+        return result;
+    }
+    
+    private DataConsistencyCheckResult checkTable(final CheckTable checkTable, final ExecutorService executorService) {
+        if (null == checkTable.getTableMetaData()) {
+            throw new DataCheckFailedException(String.format("Can not get meta data of table %s", checkTable.getLogicTable()), null);
+        }
+        try {
+            return isSplitByPrimaryKeyRange(checkTable.getTableMetaData()) ? checkByPrimaryKeyRange(checkTable, executorService) : checkWholeTable(checkTable);
+        } catch (final SQLException ex) {
+            throw new DataCheckFailedException(String.format("Check data consistency of table %s failed", checkTable.getLogicTable()), ex);
+        }
+    }
+    
+    private boolean isSplitByPrimaryKeyRange(final TableMetaData tableMetaData) {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        if (1 != primaryKeys.size()) {
+            return false;
+        }
+        int columnType = tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(primaryKeys.get(0))).getDataType();
+        return Types.INTEGER == columnType || Types.BIGINT == columnType || Types.SMALLINT == columnType || Types.TINYINT == columnType;
+    }
+    
+    private DataConsistencyCheckResult checkWholeTable(final CheckTable checkTable) throws SQLException {
+        String columns = getColumns(checkTable.getTableMetaData());
+        RangeChecksum source = new RangeChecksum(0, 0);
+        for (ActualTable each : checkTable.getActualTables()) {
+            source = source.merge(calculateChecksum(each.getDataSource(), String.format("SELECT %s FROM %s", columns, each.getTableName())));
+        }
+        RangeChecksum target = calculateChecksum(checkTable.getTargetDataSource(), String.format("SELECT %s FROM %s", columns, checkTable.getLogicTable()));
+        return new DataConsistencyCheckResult(checkTable.getLogicTable(), source.getCount(), target.getCount(), source.equals(target), Collections.emptyList());
+    }
+    
+    private DataConsistencyCheckResult checkByPrimaryKeyRange(final CheckTable checkTable, final ExecutorService executorService) throws SQLException {
+        long[] keyRange = getKeyRange(checkTable);
+        if (null == keyRange) {
+            return new DataConsistencyCheckResult(checkTable.getLogicTable(), 0, 0, true, Collections.emptyList());
+        }
+        RangeCheckContext context = new RangeCheckContext(checkTable);
+        Collection<Future<?>> futures = new LinkedList<>();
+        long begin = keyRange[0];
+        while (true) {
+            long end = getChunkEnd(checkTable, begin, keyRange[1]);
+            final long chunkBegin = begin;
+            futures.add(executorService.submit(() -> {
+                checkRange(context, chunkBegin, end);
+                return null;
+            }));
+            if (end >= keyRange[1]) {
+                break;
+            }
+            begin = end + 1;
+        }
+        waitForChecked(checkTable, futures);
+        List<Object> differentKeys;
+        synchronized (context.getDifferentKeys()) {
+            differentKeys = new ArrayList<>(context.getDifferentKeys());
+        }
+        return new DataConsistencyCheckResult(checkTable.getLogicTable(), context.getSourceCount().get(), context.getTargetCount().get(), 0 == context.getDifferentCount().get(), differentKeys);
+    }
+    
+    private long[] getKeyRange(final CheckTable checkTable) throws SQLException {
+        String primaryKey = checkTable.getTableMetaData().getPrimaryKeyColumns().get(0);
+        long[] result = null;
+        for (ActualTable each : checkTable.getActualTables()) {
+            result = mergeKeyRange(result, getKeyRange(each.getDataSource(), each.getTableName(), primaryKey));
+        }
+        return mergeKeyRange(result, getKeyRange(checkTable.getTargetDataSource(), checkTable.getLogicTable(), primaryKey));
+    }
+    
+    private long[] getKeyRange(final DataSource dataSource, final String tableName, final String primaryKey) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT MIN(%s),MAX(%s) FROM %s", primaryKey, primaryKey, tableName));
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            long min = resultSet.getLong(1);
+            return resultSet.wasNull() ? null : new long[] {min, resultSet.getLong(2)};
+        }
+    }
+    
+    private long[] mergeKeyRange(final long[] keyRange, final long[] otherKeyRange) {
+        if (null == keyRange) {
+            return otherKeyRange;
+        }
+        if (null == otherKeyRange) {
+            return keyRange;
+        }
+        return new long[] {Math.min(keyRange[0], otherKeyRange[0]), Math.max(keyRange[1], otherKeyRange[1])};
+    }
+    
+    private long getChunkEnd(final CheckTable checkTable, final long begin, final long maxKey) throws SQLException {
+        String primaryKey = checkTable.getTableMetaData().getPrimaryKeyColumns().get(0);
+        long result = getChunkEnd(checkTable.getTargetDataSource(), checkTable.getLogicTable(), primaryKey, begin, maxKey);
+        for (ActualTable each : checkTable.getActualTables()) {
+            result = Math.min(result, getChunkEnd(each.getDataSource(), each.getTableName(), primaryKey, begin, maxKey));
+        }
+        return result;
+    }
+    
+    private long getChunkEnd(final DataSource dataSource, final String tableName, final String primaryKey, final long begin, final long maxKey) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = prepareStatement(connection, String.format("SELECT %s FROM %s WHERE %s >= ? ORDER BY %s LIMIT ?", primaryKey, tableName, primaryKey, primaryKey), begin, chunkSize);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            int count = 0;
+            long result = maxKey;
+            while (resultSet.next()) {
+                result = resultSet.getLong(1);
+                count++;
+            }
+            return count < chunkSize ? maxKey : result;
+        }
+    }
+    
+    private void waitForChecked(final CheckTable checkTable, final Collection<Future<?>> futures) {
+        try {
+            for (Future<?> each : futures) {
+                each.get();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataCheckFailedException(String.format("Check data consistency of table %s interrupted", checkTable.getLogicTable()), ex);
+        } catch (final ExecutionException ex) {
+            throw new DataCheckFailedException(String.format("Check data consistency of table %s failed", checkTable.getLogicTable()), ex.getCause());
+        }
+    }
+    
+    private void checkRange(final RangeCheckContext context, final long begin, final long end) throws SQLException {
+        CheckTable checkTable = context.getCheckTable();
+        String columns = getColumns(checkTable.getTableMetaData());
+        String primaryKey = checkTable.getTableMetaData().getPrimaryKeyColumns().get(0);
+        RangeChecksum source = new RangeChecksum(0, 0);
+        for (ActualTable each : checkTable.getActualTables()) {
+            source = source.merge(calculateChecksum(each.getDataSource(), getRangeSQL(columns, each.getTableName(), primaryKey), begin, end));
+        }
+        RangeChecksum target = calculateChecksum(checkTable.getTargetDataSource(), getRangeSQL(columns, checkTable.getLogicTable(), primaryKey), begin, end);
+        context.getSourceCount().addAndGet(source.getCount());
+        context.getTargetCount().addAndGet(target.getCount());
+        if (!source.equals(target)) {
+            findDifferentKeys(context, begin, end, Math.max(source.getCount(), target.getCount()));
+        }
+    }
+    
+    private void findDifferentKeys(final RangeCheckContext context, final long begin, final long end, final long count) throws SQLException {
+        if (count <= ROW_LEVEL_RANGE_SIZE || begin == end) {
+            compareRecords(context, begin, end);
+            return;
+        }
+        CheckTable checkTable = context.getCheckTable();
+        String columns = getColumns(checkTable.getTableMetaData());
+        String primaryKey = checkTable.getTableMetaData().getPrimaryKeyColumns().get(0);
+        long middle = (begin & end) + ((begin ^ end) >> 1);
+        for (long[] each : new long[][] {{begin, middle}, {middle + 1, end}}) {
+            RangeChecksum source = new RangeChecksum(0, 0);
+            for (ActualTable actualTable : checkTable.getActualTables()) {
+                source = source.merge(calculateChecksum(actualTable.getDataSource(), getRangeSQL(columns, actualTable.getTableName(), primaryKey), each[0], each[1]));
+            }
+            RangeChecksum target = calculateChecksum(checkTable.getTargetDataSource(), getRangeSQL(columns, checkTable.getLogicTable(), primaryKey), each[0], each[1]);
+            if (!source.equals(target)) {
+                findDifferentKeys(context, each[0], each[1], Math.max(source.getCount(), target.getCount()));
+            }
+        }
+    }
+    
+    private void compareRecords(final RangeCheckContext context, final long begin, final long end) throws SQLException {
+        CheckTable checkTable = context.getCheckTable();
+        String columns = getColumns(checkTable.getTableMetaData());
+        String primaryKey = checkTable.getTableMetaData().getPrimaryKeyColumns().get(0);
+        Map<Long, Long> sourceRecords = new HashMap<>();
+        for (ActualTable each : checkTable.getActualTables()) {
+            sourceRecords.putAll(loadRecordChecksums(each.getDataSource(), getRangeSQL(columns, each.getTableName(), primaryKey), primaryKey, begin, end));
+        }
+        Map<Long, Long> targetRecords = loadRecordChecksums(checkTable.getTargetDataSource(), getRangeSQL(columns, checkTable.getLogicTable(), primaryKey), primaryKey, begin, end);
+        Collection<Long> keys = new TreeSet<>(sourceRecords.keySet());
+        keys.addAll(targetRecords.keySet());
+        for (Long each : keys) {
+            if (!Objects.equals(sourceRecords.get(each), targetRecords.get(each))) {
+                context.addDifferentKey(each);
+            }
+        }
+    }
+    
+    private String getColumns(final TableMetaData tableMetaData) {
+        return String.join(",", tableMetaData.getColumnNames());
+    }
+    
+    private String getRangeSQL(final String columns, final String tableName, final String primaryKey) {
+        return String.format("SELECT %s FROM %s WHERE %s BETWEEN ? AND ?", columns, tableName, primaryKey);
+    }
+    
+    private RangeChecksum calculateChecksum(final DataSource dataSource, final String sql, final long... parameters) throws SQLException {
+        long count = 0;
+        long checksum = 0;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = prepareStatement(connection, sql, parameters);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            int columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                count++;
+                checksum += calculateRecordChecksum(resultSet, columnCount);
+            }
+        }
+        acquireRows(count);
+        return new RangeChecksum(count, checksum);
+    }
+    
+    private Map<Long, Long> loadRecordChecksums(final DataSource dataSource, final String sql, final String primaryKey, final long begin, final long end) throws SQLException {
+        Map<Long, Long> result = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = prepareStatement(connection, sql, begin, end);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            int columnCount = resultSet.getMetaData().getColumnCount();
+            int primaryKeyIndex = resultSet.findColumn(primaryKey);
+            while (resultSet.next()) {
+                result.put(resultSet.getLong(primaryKeyIndex), calculateRecordChecksum(resultSet, columnCount));
+            }
+        }
+        acquireRows(result.size());
+        return result;
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final long... parameters) throws SQLException {
+        PreparedStatement result = connection.prepareStatement(sql);
+        for (int i = 0; i < parameters.length; i++) {
+            result.setLong(i + 1, parameters[i]);
+        }
+        return result;
+    }
+    
+    private long calculateRecordChecksum(final ResultSet resultSet, final int columnCount) throws SQLException {
+        CRC32 crc32 = new CRC32();
+        for (int i = 1; i <= columnCount; i++) {
+            Object value = resultSet.getObject(i);
+            if (null == value) {
+                crc32.update(0);
+            } else if (value instanceof byte[]) {
+                crc32.update((byte[]) value);
+            } else if (value instanceof Number) {
+                crc32.update(new BigDecimal(value.toString()).stripTrailingZeros().toPlainString().getBytes(StandardCharsets.UTF_8));
+            } else {
+                crc32.update(value.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            crc32.update(',');
+        }
+        return crc32.getValue();
+    }
+    
+    private void acquireRows(final long count) {
+        if (null != rateLimiter && 0 < count) {
+            rateLimiter.acquire((int) Math.min(count, Integer.MAX_VALUE));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ActualTable {
+        
+        private final DataSource dataSource;
+        
+        private final String tableName;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CheckTable {
+        
+        private final String logicTable;
+        
+        private final DataSource targetDataSource;
+        
+        private final TableMetaData tableMetaData;
+        
+        private final Collection<ActualTable> actualTables = new LinkedList<>();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RangeCheckContext {
+        
+        private final CheckTable checkTable;
+        
+        private final AtomicLong sourceCount = new AtomicLong();
+        
+        private final AtomicLong targetCount = new AtomicLong();
+        
+        private final AtomicLong differentCount = new AtomicLong();
+        
+        private final List<Object> differentKeys = new LinkedList<>();
+        
+        void addDifferentKey(final long key) {
+            differentCount.incrementAndGet();
+            synchronized (differentKeys) {
+                if (differentKeys.size() < MAX_DIFFERENT_KEYS) {
+                    differentKeys.add(key);
+                }
+            }
+        }
+    }
+}
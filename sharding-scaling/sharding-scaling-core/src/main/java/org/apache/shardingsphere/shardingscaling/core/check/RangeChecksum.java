@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Aggregated checksum of records in a range.
+ *
+ * <p>
+ * Checksum is the sum of CRC32 of each record, so it does not depend on the order of records and can be merged over data sources.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+public final class RangeChecksum {
+    
+    private final long count;
+    
+    private final long checksum;
+    
+    /**
+     * Merge with another range checksum.
+     *
+     * @param other other range checksum
+     * @return merged range checksum
+     */
+    public RangeChecksum merge(final RangeChecksum other) {
+        return new RangeChecksum(count + other.count, checksum + other.checksum);
+    }
+}
@@ -36,4 +36,12 @@ public final class ServerConfiguration implements YamlConfiguration {
     private int pushTimeout = 1000;
     
     private int workerThread = 30;
+    
+    private String walDecodingPlugin = "test_decoding";
+    
+    private int dataCheckConcurrency = 4;
+    
+    private int dataCheckChunkSize = 10000;
+    
+    private int dataCheckRowsPerSecond;
 }
@@ -34,6 +34,14 @@ public interface Channel {
      */
     void pushRecord(Record dataRecord) throws InterruptedException;
     
+    /**
+     * push a batch of {@code Record} to channel.
+     *
+     * @param records records
+     * @throws InterruptedException if thread interrupted
+     */
+    void pushRecords(List<Record> records) throws InterruptedException;
+    
     /**
      * fetch {@code Record} from channel, if the timeout also returns the record.
      *
@@ -23,33 +23,35 @@ import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Fi
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.PlaceholderRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Distribution channel.
+ *
+ * <p>
+ * Data records are partitioned by table name and primary key, so records of the same row are always handled by the same importer in order.
+ * </p>
  */
 public final class DistributionChannel implements Channel {
     
     private final int channelNumber;
     
-    /**
-     * key = channel id, value = channel.
-     */
-    private final Map<String, MemoryChannel> channels = new HashMap<>();
+    private final MemoryChannel[] channels;
     
     /**
-     * key = thread id, value = channel id.
+     * key = thread id, value = channel index.
      */
-    private final Map<String, String> channelAssignment = new HashMap<>();
+    private final Map<Long, Integer> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger assignedChannelCount = new AtomicInteger();
     
     private final AckCallback ackCallback;
     
@@ -57,59 +59,80 @@ public final class DistributionChannel implements Channel {
     
     private final Map<LogPosition, Record> pendingAcknowledgeRecords = new ConcurrentHashMap<>();
     
-    private ScheduledExecutorService scheduleAckRecordsExecutor;
-    
     public DistributionChannel(final int channelNumber, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
         this.ackCallback = ackCallback;
+        channels = new MemoryChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels.put(Integer.toString(i), new MemoryChannel(new SingleChannelAckCallback()));
+            channels[i] = new MemoryChannel(new SingleChannelAckCallback());
         }
-        scheduleAckRecords();
     }
     
-    private void scheduleAckRecords() {
-        this.scheduleAckRecordsExecutor = Executors.newSingleThreadScheduledExecutor();
-        scheduleAckRecordsExecutor.scheduleAtFixedRate(this::ackRecords0, 5, 1, TimeUnit.SECONDS);
-    }
-    
-    private void ackRecords0() {
-        synchronized (DistributionChannel.this) {
-            List<Record> result = new LinkedList<>();
-            while (!toBeAcknowledgeRecords.isEmpty()) {
-                Record record = toBeAcknowledgeRecords.peek();
-                if (pendingAcknowledgeRecords.containsKey(record.getLogPosition())) {
-                    result.add(record);
-                    toBeAcknowledgeRecords.poll();
-                    pendingAcknowledgeRecords.remove(record.getLogPosition());
-                } else {
-                    break;
-                }
-            }
-            if (result.size() > 0) {
-                ackCallback.onAck(result);
+    private synchronized void ackRecords0() {
+        List<Record> result = new LinkedList<>();
+        while (!toBeAcknowledgeRecords.isEmpty()) {
+            Record record = toBeAcknowledgeRecords.peek();
+            if (null == pendingAcknowledgeRecords.remove(record.getLogPosition())) {
+                break;
             }
+            result.add(record);
+            toBeAcknowledgeRecords.poll();
+        }
+        if (result.size() > 0) {
+            ackCallback.onAck(result);
         }
     }
     
     @Override
     public void pushRecord(final Record record) throws InterruptedException {
-        if (FinishedRecord.class.equals(record.getClass())) {
-            // broadcast
-            for (Map.Entry<String, MemoryChannel> entry : channels.entrySet()) {
-                entry.getValue().pushRecord(record);
+        pushRecords(Collections.singletonList(record));
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) throws InterruptedException {
+        List<List<Record>> partitions = new ArrayList<>(channelNumber);
+        for (int i = 0; i < channelNumber; i++) {
+            partitions.add(new LinkedList<>());
+        }
+        boolean hasPlaceholder = false;
+        for (Record each : records) {
+            if (FinishedRecord.class.equals(each.getClass())) {
+                flush(partitions);
+                broadcast(each);
+            } else if (DataRecord.class.equals(each.getClass())) {
+                toBeAcknowledgeRecords.add(each);
+                partitions.get(partition((DataRecord) each)).add(each);
+            } else if (PlaceholderRecord.class.equals(each.getClass())) {
+                toBeAcknowledgeRecords.add(each);
+                pendingAcknowledgeRecords.put(each.getLogPosition(), each);
+                hasPlaceholder = true;
+            } else {
+                throw new RuntimeException("Not Support Record Type");
+            }
+        }
+        flush(partitions);
+        if (hasPlaceholder) {
+            ackRecords0();
+        }
+    }
+    
+    private int partition(final DataRecord dataRecord) {
+        return (dataRecord.hashCode() & Integer.MAX_VALUE) % channelNumber;
+    }
+    
+    private void flush(final List<List<Record>> partitions) throws InterruptedException {
+        for (int i = 0; i < channelNumber; i++) {
+            List<Record> partition = partitions.get(i);
+            if (!partition.isEmpty()) {
+                channels[i].pushRecords(partition);
+                partitions.set(i, new LinkedList<>());
             }
-        } else if (DataRecord.class.equals(record.getClass())) {
-            toBeAcknowledgeRecords.add(record);
-            // hash by table name
-            DataRecord dataRecord = (DataRecord) record;
-            String index = Integer.toString(Math.abs(dataRecord.hashCode()) % channelNumber);
-            channels.get(index).pushRecord(dataRecord);
-        } else if (PlaceholderRecord.class.equals(record.getClass())) {
-            toBeAcknowledgeRecords.add(record);
-            pendingAcknowledgeRecords.put(record.getLogPosition(), record);
-        } else {
-            throw new RuntimeException("Not Support Record Type");
+        }
+    }
+    
+    private void broadcast(final Record record) throws InterruptedException {
+        for (MemoryChannel each : channels) {
+            each.pushRecord(record);
         }
     }
     
@@ -125,44 +148,24 @@ public final class DistributionChannel implements Channel {
     
     @Override
     public void close() {
-        for (MemoryChannel each : channels.values()) {
+        for (MemoryChannel each : channels) {
             each.close();
         }
-        scheduleAckRecordsExecutor.shutdown();
         ackRecords0();
     }
     
     private Channel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels.get(channelAssignment.get(threadId));
-    }
-    
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
-            synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
-                }
-            }
-        }
-    }
-    
-    private void assignmentChannel(final String threadId) {
-        for (Map.Entry<String, MemoryChannel> entry : channels.entrySet()) {
-            if (!channelAssignment.containsValue(entry.getKey())) {
-                channelAssignment.put(threadId, entry.getKey());
-            }
-        }
+        return channels[channelAssignment.computeIfAbsent(Thread.currentThread().getId(), key -> assignedChannelCount.getAndIncrement() % channelNumber)];
     }
     
     private class SingleChannelAckCallback implements AckCallback {
-
+        
         @Override
         public void onAck(final List<Record> records) {
             for (Record record : records) {
                 pendingAcknowledgeRecords.put(record.getLogPosition(), record);
             }
+            ackRecords0();
         }
     }
 }
@@ -20,12 +20,9 @@ package org.apache.shardingsphere.shardingscaling.core.execute.executor.channel;
 import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Memory channel.
@@ -34,40 +31,38 @@ public final class MemoryChannel implements Channel {
     
     private static final int PUSH_TIMEOUT = ScalingContext.getInstance().getServerConfiguration().getPushTimeout();
     
-    private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(ScalingContext.getInstance().getServerConfiguration().getBlockQueueSize());
+    private final RecordRingBuffer ringBuffer;
     
     private final AckCallback ackCallback;
     
     private final List<Record> toBeAcknowledgeRecords = new LinkedList<>();
     
     public MemoryChannel(final AckCallback ackCallback) {
+        this(ScalingContext.getInstance().getServerConfiguration().getBlockQueueSize(), ackCallback);
+    }
+    
+    public MemoryChannel(final int capacity, final AckCallback ackCallback) {
+        ringBuffer = new RecordRingBuffer(capacity);
         this.ackCallback = ackCallback;
     }
     
     @Override
     public void pushRecord(final Record dataRecord) throws InterruptedException {
-        if (!queue.offer(dataRecord, PUSH_TIMEOUT, TimeUnit.MILLISECONDS)) {
-            throw new RuntimeException();
+        pushRecords(Collections.singletonList(dataRecord));
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) throws InterruptedException {
+        if (!ringBuffer.publish(records, PUSH_TIMEOUT)) {
+            throw new RuntimeException(String.format("Push records to channel timeout after %d ms", PUSH_TIMEOUT));
         }
     }
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
-        List<Record> records = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeout * 1000 <= System.currentTimeMillis() - start) {
-                break;
-            }
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException ignored) {
-                break;
-            }
-        }
-        queue.drainTo(records, batchSize);
-        toBeAcknowledgeRecords.addAll(records);
-        return records;
+        List<Record> result = ringBuffer.consume(batchSize, timeout * 1000L);
+        toBeAcknowledgeRecords.addAll(result);
+        return result;
     }
     
     @Override
@@ -80,6 +75,6 @@ public final class MemoryChannel implements Channel {
     
     @Override
     public void close() {
-        queue.clear();
+        ringBuffer.clear();
     }
 }
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.channel;
+
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single producer single consumer ring buffer for records.
+ *
+ * <p>
+ * Producer and consumer only coordinate through two volatile sequences, waiting side is parked and woken up by the other side,
+ * so no lock is held and no sleep polling is needed.
+ * Write sequence is only advanced by producer and read sequence is only advanced by consumer,
+ * other threads can only request to discard records, which is performed by consumer.
+ * </p>
+ */
+public final class RecordRingBuffer {
+    
+    private final Record[] entries;
+    
+    private final int capacity;
+    
+    private final int mask;
+    
+    private final AtomicLong writeSequence = new AtomicLong();
+    
+    private final AtomicLong readSequence = new AtomicLong();
+    
+    private volatile long clearSequence;
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    private volatile int consumerThreshold = 1;
+    
+    public RecordRingBuffer(final int minCapacity) {
+        capacity = ceilingPowerOfTwo(Math.max(minCapacity, 2));
+        mask = capacity - 1;
+        entries = new Record[capacity];
+    }
+    
+    private static int ceilingPowerOfTwo(final int value) {
+        return 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(value - 1));
+    }
+    
+    /**
+     * Publish records, wait if ring buffer is full.
+     *
+     * @param records records to be published
+     * @param timeoutMillis max wait time in milliseconds when ring buffer is full
+     * @return whether all records published before timeout
+     * @throws InterruptedException if thread interrupted
+     */
+    public boolean publish(final List<Record> records, final long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int offset = 0;
+        while (offset < records.size()) {
+            long current = writeSequence.get();
+            int free = (int) (capacity - (current - readSequence.get()));
+            if (0 == free) {
+                if (!awaitFreeSlot(current, deadline)) {
+                    return false;
+                }
+                continue;
+            }
+            int count = Math.min(free, records.size() - offset);
+            for (int i = 0; i < count; i++) {
+                entries[(int) ((current + i) & mask)] = records.get(offset + i);
+            }
+            writeSequence.set(current + count);
+            offset += count;
+            signalConsumer();
+        }
+        return true;
+    }
+    
+    private boolean awaitFreeSlot(final long current, final long deadline) throws InterruptedException {
+        waitingProducer = Thread.currentThread();
+        try {
+            while (capacity <= current - readSequence.get()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return true;
+        } finally {
+            waitingProducer = null;
+        }
+    }
+    
+    private void signalConsumer() {
+        Thread consumer = waitingConsumer;
+        if (null != consumer && writeSequence.get() - readSequence.get() >= consumerThreshold) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    /**
+     * Consume records, wait until {@code batchSize} records available or timeout.
+     *
+     * @param batchSize max record count to be consumed
+     * @param timeoutMillis max wait time in milliseconds
+     * @return consumed records
+     */
+    public List<Record> consume(final int batchSize, final long timeoutMillis) {
+        long current = discardCleared(readSequence.get());
+        awaitAvailable(current, Math.min(batchSize, capacity), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        current = discardCleared(current);
+        int count = (int) Math.min(writeSequence.get() - current, batchSize);
+        if (0 >= count) {
+            return Collections.emptyList();
+        }
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = (int) ((current + i) & mask);
+            result.add(entries[index]);
+            entries[index] = null;
+        }
+        readSequence.set(current + count);
+        signalProducer();
+        return result;
+    }
+    
+    private long discardCleared(final long current) {
+        long end = clearSequence;
+        if (end <= current) {
+            return current;
+        }
+        for (long i = current; i < end; i++) {
+            entries[(int) (i & mask)] = null;
+        }
+        readSequence.set(end);
+        signalProducer();
+        return end;
+    }
+    
+    private void signalProducer() {
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+    }
+    
+    private void awaitAvailable(final long current, final int threshold, final long deadline) {
+        if (writeSequence.get() - current >= threshold) {
+            return;
+        }
+        consumerThreshold = threshold;
+        waitingConsumer = Thread.currentThread();
+        try {
+            while (writeSequence.get() - current < threshold && clearSequence <= current) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        } finally {
+            waitingConsumer = null;
+        }
+    }
+    
+    /**
+     * Get count of records waiting to be consumed.
+     *
+     * @return record count
+     */
+    public int size() {
+        return (int) (writeSequence.get() - Math.max(readSequence.get(), clearSequence));
+    }
+    
+    /**
+     * Get capacity.
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    /**
+     * Discard all records published and not consumed yet.
+     * 
+     * <p>
+     * Records are discarded by consumer at its next consumption, waiting consumer is woken up.
+     * </p>
+     */
+    public void clear() {
+        clearSequence = writeSequence.get();
+        Thread consumer = waitingConsumer;
+        if (null != consumer) {
+            LockSupport.unpark(consumer);
+        }
+    }
+}
@@ -131,13 +131,15 @@ public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecut
     }
     
     private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> values = new ArrayList<>();
-        values.addAll(RecordUtil.extractUpdatedColumns(record));
-        values.addAll(RecordUtil.extractPrimaryColumns(record));
+        List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(record);
+        List<Column> primaryKeys = RecordUtil.extractPrimaryColumns(record);
         String updateSql = sqlBuilder.buildUpdateSQL(record);
         PreparedStatement ps = connection.prepareStatement(updateSql);
-        for (int i = 0; i < values.size(); i++) {
-            ps.setObject(i + 1, values.get(i).getValue());
+        for (int i = 0; i < updatedColumns.size(); i++) {
+            ps.setObject(i + 1, updatedColumns.get(i).getValue());
+        }
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            ps.setObject(updatedColumns.size() + i + 1, primaryKeys.get(i).getOldValue());
         }
         ps.execute();
     }
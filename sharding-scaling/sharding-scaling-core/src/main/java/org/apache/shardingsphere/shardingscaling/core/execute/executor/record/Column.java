@@ -29,9 +29,18 @@ public final class Column {
     
     private final String name;
     
+    /**
+     * Value before update, which is used to locate the row of update when primary key is changed.
+     */
+    private final Object oldValue;
+    
     private final Object value;
     
     private final boolean updated;
     
     private final boolean primaryKey;
+    
+    public Column(final String name, final Object value, final boolean updated, final boolean primaryKey) {
+        this(name, value, value, updated, primaryKey);
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import org.apache.shardingsphere.shardingscaling.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataConsistencyCheckerTest {
+    
+    private static final String SOURCE_DATA_SOURCE_URL = "jdbc:h2:mem:check_source_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private static final String TARGET_DATA_SOURCE_URL = "jdbc:h2:mem:check_target_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private static final String USERNAME = "root";
+    
+    private static final String PASSWORD = "password";
+    
+    private final DataSourceManager dataSourceManager = new DataSourceManager();
+    
+    private Collection<SyncConfiguration> syncConfigurations;
+    
+    @Before
+    public void setUp() throws SQLException {
+        DataSourceConfiguration sourceDataSourceConfiguration = new JDBCDataSourceConfiguration(SOURCE_DATA_SOURCE_URL, USERNAME, PASSWORD);
+        DataSourceConfiguration targetDataSourceConfiguration = new JDBCDataSourceConfiguration(TARGET_DATA_SOURCE_URL, USERNAME, PASSWORD);
+        execute(sourceDataSourceConfiguration, "DROP TABLE IF EXISTS t_order_0", "DROP TABLE IF EXISTS t_order_1",
+                "CREATE TABLE t_order_0 (id INT PRIMARY KEY, user_id VARCHAR(12))", "CREATE TABLE t_order_1 (id INT PRIMARY KEY, user_id VARCHAR(12))");
+        execute(targetDataSourceConfiguration, "DROP TABLE IF EXISTS t_order", "CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
+        for (int i = 0; i < 500; i++) {
+            execute(sourceDataSourceConfiguration, String.format("INSERT INTO t_order_%d (id, user_id) VALUES (%d, 'user_%d')", i % 2, i, i));
+            execute(targetDataSourceConfiguration, String.format("INSERT INTO t_order (id, user_id) VALUES (%d, 'user_%d')", i, i));
+        }
+        Map<String, String> tableNameMap = new HashMap<>(2, 1);
+        tableNameMap.put("t_order_0", "t_order");
+        tableNameMap.put("t_order_1", "t_order");
+        syncConfigurations = new LinkedList<>();
+        syncConfigurations.add(new SyncConfiguration(3, tableNameMap, createRdbmsConfiguration(sourceDataSourceConfiguration), createRdbmsConfiguration(targetDataSourceConfiguration)));
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertCheckConsistent() {
+        DataConsistencyCheckResult actual = new DataConsistencyChecker(2, 128, 0).check(syncConfigurations).get("t_order");
+        assertTrue(actual.isConsistent());
+        assertThat(actual.getSourceRecordsCount(), is(500L));
+        assertThat(actual.getTargetRecordsCount(), is(500L));
+        assertTrue(actual.getDifferentKeys().isEmpty());
+    }
+    
+    @Test
+    public void assertCheckInconsistent() throws SQLException {
+        DataSourceConfiguration targetDataSourceConfiguration = new JDBCDataSourceConfiguration(TARGET_DATA_SOURCE_URL, USERNAME, PASSWORD);
+        execute(targetDataSourceConfiguration, "UPDATE t_order SET user_id = 'changed' WHERE id = 300", "DELETE FROM t_order WHERE id = 7");
+        DataConsistencyCheckResult actual = new DataConsistencyChecker(2, 128, 0).check(syncConfigurations).get("t_order");
+        assertFalse(actual.isConsistent());
+        assertThat(actual.getSourceRecordsCount(), is(500L));
+        assertThat(actual.getTargetRecordsCount(), is(499L));
+        assertThat(actual.getDifferentKeys().size(), is(2));
+        assertTrue(actual.getDifferentKeys().containsAll(Arrays.<Object>asList(7L, 300L)));
+    }
+    
+    @Test
+    public void assertCheckSparseKeys() throws SQLException {
+        DataSourceConfiguration sourceDataSourceConfiguration = new JDBCDataSourceConfiguration(SOURCE_DATA_SOURCE_URL, USERNAME, PASSWORD);
+        DataSourceConfiguration targetDataSourceConfiguration = new JDBCDataSourceConfiguration(TARGET_DATA_SOURCE_URL, USERNAME, PASSWORD);
+        execute(sourceDataSourceConfiguration, "DROP TABLE IF EXISTS t_sparse_0", "CREATE TABLE t_sparse_0 (id BIGINT PRIMARY KEY, user_id VARCHAR(12))");
+        execute(targetDataSourceConfiguration, "DROP TABLE IF EXISTS t_sparse", "CREATE TABLE t_sparse (id BIGINT PRIMARY KEY, user_id VARCHAR(12))");
+        for (int i = 0; i < 300; i++) {
+            long id = Long.MIN_VALUE + 1 + i * 61000000000000000L;
+            execute(sourceDataSourceConfiguration, String.format("INSERT INTO t_sparse_0 (id, user_id) VALUES (%d, 'user_%d')", id, i));
+            execute(targetDataSourceConfiguration, String.format("INSERT INTO t_sparse (id, user_id) VALUES (%d, 'user_%d')", id, 150 == i ? -1 : i));
+        }
+        Collection<SyncConfiguration> sparseSyncConfigurations = Collections.singletonList(new SyncConfiguration(1, Collections.singletonMap("t_sparse_0", "t_sparse"),
+                createRdbmsConfiguration(sourceDataSourceConfiguration), createRdbmsConfiguration(targetDataSourceConfiguration)));
+        DataConsistencyCheckResult actual = new DataConsistencyChecker(2, 128, 0).check(sparseSyncConfigurations).get("t_sparse");
+        assertFalse(actual.isConsistent());
+        assertThat(actual.getSourceRecordsCount(), is(300L));
+        assertThat(actual.getTargetRecordsCount(), is(300L));
+        assertThat(actual.getDifferentKeys(), is((Collection<Object>) Collections.<Object>singletonList(Long.MIN_VALUE + 1 + 150 * 61000000000000000L)));
+    }
+    
+    private RdbmsConfiguration createRdbmsConfiguration(final DataSourceConfiguration dataSourceConfiguration) {
+        RdbmsConfiguration result = new RdbmsConfiguration();
+        result.setDataSourceConfiguration(dataSourceConfiguration);
+        result.setTableNameMap(Collections.emptyMap());
+        return result;
+    }
+    
+    private void execute(final DataSourceConfiguration dataSourceConfiguration, final String... sqls) throws SQLException {
+        try (Connection connection = dataSourceManager.getDataSource(dataSourceConfiguration).getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+}
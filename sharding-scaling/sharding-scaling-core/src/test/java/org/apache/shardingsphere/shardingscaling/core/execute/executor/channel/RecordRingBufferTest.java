@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.channel;
+
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.PlaceholderRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.shardingscaling.core.job.position.NopLogPosition;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RecordRingBufferTest {
+    
+    @Test
+    public void assertCapacityRoundUpToPowerOfTwo() {
+        assertThat(new RecordRingBuffer(10000).getCapacity(), is(16384));
+        assertThat(new RecordRingBuffer(16).getCapacity(), is(16));
+    }
+    
+    @Test
+    public void assertPublishAndConsumeInOrder() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(8);
+        List<Record> records = mockRecords(5);
+        assertTrue(ringBuffer.publish(records, 100));
+        assertThat(ringBuffer.size(), is(5));
+        List<Record> actual = ringBuffer.consume(3, 100);
+        assertThat(actual, is(records.subList(0, 3)));
+        actual = ringBuffer.consume(3, 10);
+        assertThat(actual, is(records.subList(3, 5)));
+        assertThat(ringBuffer.size(), is(0));
+    }
+    
+    @Test
+    public void assertConsumeTimeoutWhenEmpty() {
+        assertTrue(new RecordRingBuffer(8).consume(10, 10).isEmpty());
+    }
+    
+    @Test
+    public void assertPublishTimeoutWhenFull() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(2);
+        assertTrue(ringBuffer.publish(mockRecords(2), 10));
+        assertFalse(ringBuffer.publish(mockRecords(1), 10));
+    }
+    
+    @Test
+    public void assertConsumerWokenUpByProducer() throws InterruptedException {
+        final RecordRingBuffer ringBuffer = new RecordRingBuffer(1024);
+        final List<Record> records = mockRecords(3000);
+        Thread producer = new Thread(() -> {
+            try {
+                for (Record each : records) {
+                    ringBuffer.publish(Collections.singletonList(each), 1000);
+                }
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        producer.start();
+        List<Record> actual = new ArrayList<>(records.size());
+        while (actual.size() < records.size()) {
+            actual.addAll(ringBuffer.consume(100, 1000));
+        }
+        producer.join();
+        assertThat(actual, is(records));
+    }
+    
+    @Test
+    public void assertClearDiscardedByConsumer() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(8);
+        ringBuffer.publish(mockRecords(3), 100);
+        ringBuffer.clear();
+        assertThat(ringBuffer.size(), is(0));
+        assertTrue(ringBuffer.consume(10, 10).isEmpty());
+        List<Record> records = mockRecords(8);
+        assertTrue(ringBuffer.publish(records, 10));
+        assertThat(ringBuffer.consume(10, 10), is(records));
+    }
+    
+    @Test
+    public void assertConsumeKeepInterruptedStatus() {
+        Thread.currentThread().interrupt();
+        try {
+            assertTrue(new RecordRingBuffer(8).consume(10, 10000).isEmpty());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+    
+    private List<Record> mockRecords(final int count) {
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new PlaceholderRecord(new NopLogPosition()));
+        }
+        return result;
+    }
+}
@@ -53,6 +53,8 @@ public final class AbstractJDBCImporterTest {
     
     private static final String UPDATE_SQL = "UPDATE test_table SET user = ?,status = ? WHERE id = ?";
     
+    private static final String UPDATE_PRIMARY_KEY_SQL = "UPDATE test_table SET id = ?,user = ?,status = ? WHERE id = ?";
+    
     @Mock
     private DataSourceManager dataSourceManager;
     
@@ -128,6 +130,25 @@ public final class AbstractJDBCImporterTest {
         verify(preparedStatement).execute();
     }
     
+    @Test
+    public void assertUpdatePrimaryKeyDataRecord() throws SQLException {
+        DataRecord updateRecord = new DataRecord(new NopLogPosition(), 3);
+        updateRecord.setTableName(TABLE_NAME);
+        updateRecord.setType("UPDATE");
+        updateRecord.addColumn(new Column("id", 1, 2, true, true));
+        updateRecord.addColumn(new Column("user", 10, true, false));
+        updateRecord.addColumn(new Column("status", "UPDATE", true, false));
+        when(sqlBuilder.buildUpdateSQL(updateRecord)).thenReturn(UPDATE_PRIMARY_KEY_SQL);
+        when(connection.prepareStatement(UPDATE_PRIMARY_KEY_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(updateRecord));
+        jdbcImporter.run();
+        verify(preparedStatement).setObject(1, 2);
+        verify(preparedStatement).setObject(2, 10);
+        verify(preparedStatement).setObject(3, "UPDATE");
+        verify(preparedStatement).setObject(4, 1);
+        verify(preparedStatement).execute();
+    }
+    
     private List<Record> mockRecords(final DataRecord dataRecord) {
         List<Record> result = new LinkedList<>();
         result.add(dataRecord);
@@ -44,6 +44,8 @@ import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -113,14 +115,16 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
             return;
         }
         TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+        List<Record> records = new ArrayList<>(event.getAfterRows().size());
         for (Serializable[] each : event.getAfterRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType("INSERT");
             for (int i = 0; i < each.length; i++) {
                 record.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), each[i], true, tableMetaData.isPrimaryKey(i)));
             }
-            pushRecord(channel, record);
+            records.add(record);
         }
+        pushRecords(channel, records);
     }
     
     private void handleUpdateRowsEvent(final Channel channel, final JdbcUri uri, final UpdateRowsEvent event) {
@@ -129,6 +133,7 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
             return;
         }
         TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+        List<Record> records = new ArrayList<>(event.getBeforeRows().size());
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
@@ -137,10 +142,11 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
             for (int j = 0; j < beforeValues.length; j++) {
                 Object oldValue = beforeValues[j];
                 Object newValue = afterValues[j];
-                record.addColumn(new Column(tableMetaData.getColumnMetaData(j).getName(), newValue, !newValue.equals(oldValue), tableMetaData.isPrimaryKey(j)));
+                record.addColumn(new Column(tableMetaData.getColumnMetaData(j).getName(), oldValue, newValue, !newValue.equals(oldValue), tableMetaData.isPrimaryKey(j)));
             }
-            pushRecord(channel, record);
+            records.add(record);
         }
+        pushRecords(channel, records);
     }
     
     private void handleDeleteRowsEvent(final Channel channel, final JdbcUri uri, final DeleteRowsEvent event) {
@@ -149,14 +155,16 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
             return;
         }
         TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+        List<Record> records = new ArrayList<>(event.getBeforeRows().size());
         for (Serializable[] each : event.getBeforeRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType("DELETE");
             for (int i = 0; i < each.length; i++) {
                 record.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), each[i], true, tableMetaData.isPrimaryKey(i)));
             }
-            pushRecord(channel, record);
+            records.add(record);
         }
+        pushRecords(channel, records);
     }
     
     private DataRecord createDataRecord(final AbstractRowsEvent rowsEvent, final int columnCount) {
@@ -179,6 +187,13 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
         }
     }
     
+    private void pushRecords(final Channel channel, final List<Record> records) {
+        try {
+            channel.pushRecords(records);
+        } catch (InterruptedException ignored) {
+        }
+    }
+    
     private boolean filter(final String database, final String schemaName, final String tableName) {
         return !schemaName.equals(database) || !rdbmsConfiguration.getTableNameMap().containsKey(tableName);
     }
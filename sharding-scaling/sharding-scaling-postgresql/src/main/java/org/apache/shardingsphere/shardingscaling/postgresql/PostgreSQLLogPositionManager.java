@@ -19,6 +19,8 @@ package org.apache.shardingsphere.shardingscaling.postgresql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingscaling.core.job.position.LogPositionManager;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.LogicalReplication;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.decode.DecodingPluginType;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.util.PSQLException;
 
@@ -36,8 +38,6 @@ public final class PostgreSQLLogPositionManager implements LogPositionManager<Wa
     
     public static final String SLOT_NAME = "sharding_scaling";
     
-    public static final String DECODE_PLUGIN = "test_decoding";
-    
     public static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     private final DataSource dataSource;
@@ -63,8 +63,16 @@ public final class PostgreSQLLogPositionManager implements LogPositionManager<Wa
     }
     
     private void createIfNotExists(final Connection connection) throws SQLException {
+        DecodingPluginType decodingPluginType = DecodingPluginType.getConfiguredType();
+        if (DecodingPluginType.PGOUTPUT == decodingPluginType) {
+            executeIfNotExists(connection, String.format("CREATE PUBLICATION %s FOR ALL TABLES", LogicalReplication.PUBLICATION_NAME));
+        }
+        executeIfNotExists(connection, String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, decodingPluginType.getPluginName()));
+    }
+    
+    private void executeIfNotExists(final Connection connection, final String sql) throws SQLException {
         try {
-            PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, DECODE_PLUGIN));
+            PreparedStatement ps = connection.prepareStatement(sql);
             ps.execute();
         } catch (PSQLException ex) {
             if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
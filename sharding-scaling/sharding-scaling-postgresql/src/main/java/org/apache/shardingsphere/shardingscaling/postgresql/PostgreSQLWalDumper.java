@@ -30,7 +30,7 @@ import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Re
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.LogicalReplication;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.WalEventConverter;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.decode.DecodingPlugin;
-import org.apache.shardingsphere.shardingscaling.postgresql.wal.decode.TestDecodingPlugin;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.decode.DecodingPluginType;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.AbstractWalEvent;
 import org.postgresql.PGConnection;
 import org.postgresql.jdbc.PgConnection;
@@ -77,9 +77,10 @@ public final class PostgreSQLWalDumper extends AbstractShardingScalingExecutor i
     public void dump(final Channel channel) {
         try {
             PGConnection pgConnection = logicalReplication.createPgConnection((JDBCDataSourceConfiguration) rdbmsConfiguration.getDataSourceConfiguration());
-            decodingPlugin = new TestDecodingPlugin(((Connection) pgConnection).unwrap(PgConnection.class).getTimestampUtils());
+            DecodingPluginType decodingPluginType = DecodingPluginType.getConfiguredType();
+            decodingPlugin = decodingPluginType.newDecodingPlugin(((Connection) pgConnection).unwrap(PgConnection.class).getTimestampUtils());
             PGReplicationStream stream = logicalReplication.createReplicationStream(pgConnection,
-                    PostgreSQLLogPositionManager.SLOT_NAME, walPosition.getLogSequenceNumber());
+                    PostgreSQLLogPositionManager.SLOT_NAME, walPosition.getLogSequenceNumber(), decodingPluginType);
             while (isRunning()) {
                 ByteBuffer msg = stream.readPending();
                 if (msg == null) {
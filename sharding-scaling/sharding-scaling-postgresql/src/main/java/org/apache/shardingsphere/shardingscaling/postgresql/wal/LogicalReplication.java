@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.shardingscaling.postgresql.wal;
 
 import org.apache.shardingsphere.shardingscaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.decode.DecodingPluginType;
 import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -32,6 +34,8 @@ import java.util.Properties;
  */
 public final class LogicalReplication {
     
+    public static final String PUBLICATION_NAME = "sharding_scaling";
+    
     /**
      *  Create PostgreSQL connection.
      *
@@ -53,14 +57,30 @@ public final class LogicalReplication {
      * @throws SQLException sql exception
      */
     public PGReplicationStream createReplicationStream(final PGConnection pgConnection, final String slotName, final LogSequenceNumber startPosition) throws SQLException {
-        return pgConnection.getReplicationAPI()
+        return createReplicationStream(pgConnection, slotName, startPosition, DecodingPluginType.TEST_DECODING);
+    }
+    
+    /**
+     * Create PostgreSQL replication stream.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @param startPosition start position
+     * @param decodingPluginType decoding plugin type of slot
+     * @return replication stream
+     * @throws SQLException sql exception
+     */
+    public PGReplicationStream createReplicationStream(final PGConnection pgConnection, final String slotName, final LogSequenceNumber startPosition,
+                                                       final DecodingPluginType decodingPluginType) throws SQLException {
+        ChainedLogicalStreamBuilder builder = pgConnection.getReplicationAPI()
                 .replicationStream()
                 .logical()
                 .withStartPosition(startPosition)
-                .withSlotName(slotName)
-                .withSlotOption("include-xids", true)
-                .withSlotOption("skip-empty-xacts", true)
-                .start();
+                .withSlotName(slotName);
+        if (DecodingPluginType.PGOUTPUT == decodingPluginType) {
+            return builder.withSlotOption("proto_version", "1").withSlotOption("publication_names", PUBLICATION_NAME).start();
+        }
+        return builder.withSlotOption("include-xids", true).withSlotOption("skip-empty-xacts", true).start();
     }
     
     private PGConnection createConnection(final JDBCDataSourceConfiguration jdbcDataSourceConfiguration) throws SQLException {
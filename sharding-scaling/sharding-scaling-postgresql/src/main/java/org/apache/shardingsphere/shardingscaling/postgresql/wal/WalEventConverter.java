@@ -31,6 +31,7 @@ import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.AbstractRo
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.AbstractWalEvent;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.UnchangedToastValue;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.UpdateRowEvent;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.WriteRowEvent;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
@@ -94,14 +95,14 @@ public final class WalEventConverter {
     private DataRecord handleWriteRowsEvent(final WriteRowEvent writeRowEvent) {
         DataRecord record = createDataRecord(writeRowEvent, writeRowEvent.getAfterRow().size());
         record.setType("INSERT");
-        putColumnsIntoDataRecord(record, metaDataManager.getTableMetaData(writeRowEvent.getTableName()), writeRowEvent.getAfterRow());
+        putColumnsIntoDataRecord(record, metaDataManager.getTableMetaData(writeRowEvent.getTableName()), null, writeRowEvent.getAfterRow());
         return record;
     }
     
     private DataRecord handleUpdateRowsEvent(final UpdateRowEvent updateRowEvent) {
         DataRecord record = createDataRecord(updateRowEvent, updateRowEvent.getAfterRow().size());
         record.setType("UPDATE");
-        putColumnsIntoDataRecord(record, metaDataManager.getTableMetaData(updateRowEvent.getTableName()), updateRowEvent.getAfterRow());
+        putColumnsIntoDataRecord(record, metaDataManager.getTableMetaData(updateRowEvent.getTableName()), updateRowEvent.getBeforeRow(), updateRowEvent.getAfterRow());
         return record;
     }
     
@@ -122,9 +123,16 @@ public final class WalEventConverter {
         return result;
     }
     
-    private void putColumnsIntoDataRecord(final DataRecord dataRecord, final TableMetaData tableMetaData, final List<Object> values) {
+    private void putColumnsIntoDataRecord(final DataRecord dataRecord, final TableMetaData tableMetaData, final List<Object> beforeValues, final List<Object> values) {
         for (int i = 0; i < values.size(); i++) {
-            dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), values.get(i), true, tableMetaData.isPrimaryKey(i)));
+            Object value = values.get(i);
+            if (UnchangedToastValue.INSTANCE == value) {
+                dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), null, false, tableMetaData.isPrimaryKey(i)));
+            } else if (null != beforeValues && tableMetaData.isPrimaryKey(i)) {
+                dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), beforeValues.get(i), value, true, true));
+            } else {
+                dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), value, true, tableMetaData.isPrimaryKey(i)));
+            }
         }
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.postgresql.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.postgresql.jdbc.TimestampUtils;
+
+/**
+ * Logical decoding plugin type.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum DecodingPluginType {
+    
+    TEST_DECODING("test_decoding"),
+    
+    PGOUTPUT("pgoutput");
+    
+    private final String pluginName;
+    
+    /**
+     * Get decoding plugin type by plugin name.
+     *
+     * @param pluginName plugin name
+     * @return decoding plugin type
+     */
+    public static DecodingPluginType valueOfPluginName(final String pluginName) {
+        for (DecodingPluginType each : values()) {
+            if (each.pluginName.equalsIgnoreCase(pluginName)) {
+                return each;
+            }
+        }
+        throw new UnsupportedOperationException(String.format("Unsupported logical decoding plugin '%s'", pluginName));
+    }
+    
+    /**
+     * Get configured decoding plugin type.
+     *
+     * @return configured decoding plugin type, {@code TEST_DECODING} if not configured
+     */
+    public static DecodingPluginType getConfiguredType() {
+        ServerConfiguration serverConfiguration = ScalingContext.getInstance().getServerConfiguration();
+        return null == serverConfiguration || null == serverConfiguration.getWalDecodingPlugin() ? TEST_DECODING : valueOfPluginName(serverConfiguration.getWalDecodingPlugin());
+    }
+    
+    /**
+     * Create decoding plugin.
+     *
+     * @param timestampUtils timestamp utils
+     * @return decoding plugin
+     */
+    public DecodingPlugin newDecodingPlugin(final TimestampUtils timestampUtils) {
+        return PGOUTPUT == this ? new PgOutputDecodingPlugin(timestampUtils) : new TestDecodingPlugin(timestampUtils);
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.postgresql.wal.decode;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.UnchangedToastValue;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.WriteRowEvent;
+import org.postgresql.core.Oid;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for binary pgoutput protocol (version 1).
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final byte BEGIN = 'B';
+    
+    private static final byte COMMIT = 'C';
+    
+    private static final byte RELATION = 'R';
+    
+    private static final byte INSERT = 'I';
+    
+    private static final byte UPDATE = 'U';
+    
+    private static final byte DELETE = 'D';
+    
+    private static final byte KEY_TUPLE = 'K';
+    
+    private static final byte OLD_TUPLE = 'O';
+    
+    private static final byte NEW_TUPLE = 'N';
+    
+    private static final byte NULL_VALUE = 'n';
+    
+    private static final byte UNCHANGED_TOAST_VALUE = 'u';
+    
+    private static final byte TEXT_VALUE = 't';
+    
+    private final TimestampUtils timestampUtils;
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final LogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        byte messageType = data.get();
+        switch (messageType) {
+            case RELATION:
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case INSERT:
+                result = readWriteRowEvent(data);
+                break;
+            case UPDATE:
+                result = readUpdateRowEvent(data);
+                break;
+            case DELETE:
+                result = readDeleteRowEvent(data);
+                break;
+            case BEGIN:
+            case COMMIT:
+            default:
+                result = new PlaceholderEvent();
+                break;
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        int columnCount = data.getShort();
+        int[] columnTypes = new int[columnCount];
+        boolean[] keyColumns = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = 0 != (data.get() & 1);
+            readString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationId, new PgOutputRelation(schemaName.isEmpty() ? "pg_catalog" : schemaName, tableName, columnTypes, keyColumns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        UpdateRowEvent result = new UpdateRowEvent();
+        byte tupleType = data.get();
+        if (KEY_TUPLE == tupleType || OLD_TUPLE == tupleType) {
+            result.setBeforeRow(readTupleData(data, relation));
+            tupleType = data.get();
+        }
+        if (NEW_TUPLE != tupleType) {
+            throw new DecodingException(new IllegalStateException(String.format("Unexpected tuple type '%c' of update message", (char) tupleType)));
+        }
+        result.setAfterRow(readTupleData(data, relation));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> values = readTupleData(data, relation);
+        List<Object> primaryKeys = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            if (relation.getKeyColumns()[i]) {
+                primaryKeys.add(values.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        return setTable(result, relation);
+    }
+    
+    private PgOutputRelation getRelation(final int relationId) {
+        PgOutputRelation result = relations.get(relationId);
+        if (null == result) {
+            throw new DecodingException(new IllegalStateException(String.format("Relation message of '%d' not received before row message", relationId)));
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent setTable(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            byte valueType = data.get();
+            switch (valueType) {
+                case NULL_VALUE:
+                    result.add(null);
+                    break;
+                case UNCHANGED_TOAST_VALUE:
+                    result.add(UnchangedToastValue.INSTANCE);
+                    break;
+                case TEXT_VALUE:
+                    byte[] value = new byte[data.getInt()];
+                    data.get(value);
+                    result.add(readColumnData(new String(value, StandardCharsets.UTF_8), relation.getColumnTypes()[i]));
+                    break;
+                default:
+                    throw new DecodingException(new IllegalStateException(String.format("Unexpected column value type '%c'", (char) valueType)));
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final String value, final int columnType) {
+        switch (columnType) {
+            case Oid.BOOL:
+                return "t".equals(value);
+            case Oid.INT2:
+                return Short.parseShort(value);
+            case Oid.INT4:
+                return Integer.parseInt(value);
+            case Oid.INT8:
+            case Oid.OID:
+                return Long.parseLong(value);
+            case Oid.FLOAT4:
+                return Float.parseFloat(value);
+            case Oid.FLOAT8:
+                return Double.parseDouble(value);
+            case Oid.NUMERIC:
+                return "NaN".equals(value) ? value : new BigDecimal(value);
+            case Oid.DATE:
+                return Date.valueOf(value);
+            case Oid.TIME:
+                try {
+                    return timestampUtils.toTime(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case Oid.TIMESTAMP:
+            case Oid.TIMESTAMPTZ:
+                try {
+                    return timestampUtils.toTimestamp(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case Oid.BYTEA:
+                return ByteaDecoder.decodeHex(value.substring(2));
+            default:
+                return value;
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int start = data.position();
+        while (0 != data.get()) {
+            continue;
+        }
+        byte[] result = new byte[data.position() - start - 1];
+        data.position(start);
+        data.get(result);
+        data.get();
+        return new String(result, StandardCharsets.UTF_8);
+    }
+}
@@ -191,7 +191,7 @@ public final class TestDecodingPlugin implements DecodingPlugin {
                     throw new DecodingException(e);
                 }
             case "bytea":
-                return decodeHex(readNextString(data).substring(2));
+                return ByteaDecoder.decodeHex(readNextString(data).substring(2));
             default:
                 return readNextString(data);
         }
@@ -229,28 +229,4 @@ public final class TestDecodingPlugin implements DecodingPlugin {
         }
         return result.toString();
     }
-    
-    private byte[] decodeHex(final String hexString) {
-        int dataLength = hexString.length();
-        if (0 != (dataLength & 1)) {
-            throw new IllegalArgumentException(String.format("Illegal hex data %s", hexString));
-        }
-        if (0 == dataLength) {
-            return new byte[0];
-        }
-        byte[] result = new byte[dataLength >>> 1];
-        for (int i = 0; i < dataLength; i += 2) {
-            result[i >>> 1] = decodeHexByte(hexString, i);
-        }
-        return result;
-    }
-    
-    private byte decodeHexByte(final String hexString, final int index) {
-        int firstHexChar = Character.digit(hexString.charAt(index), 16);
-        int secondHexChar = Character.digit(hexString.charAt(index + 1), 16);
-        if (-1 == firstHexChar || -1 == secondHexChar) {
-            throw new IllegalArgumentException(String.format("Illegal hex byte '%s' in index %d", hexString, index));
-        }
-        return (byte) ((firstHexChar << 4) + secondHexChar);
-    }
 }
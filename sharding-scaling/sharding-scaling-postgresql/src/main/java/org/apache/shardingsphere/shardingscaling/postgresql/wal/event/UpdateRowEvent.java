@@ -29,5 +29,7 @@ import java.util.List;
 @Getter
 public final class UpdateRowEvent extends AbstractRowEvent {
     
+    private List<Object> beforeRow;
+    
     private List<Object> afterRow;
 }
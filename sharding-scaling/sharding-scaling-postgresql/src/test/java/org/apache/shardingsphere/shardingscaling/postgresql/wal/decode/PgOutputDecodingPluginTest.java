@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.postgresql.wal.decode;
+
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.UnchangedToastValue;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private static final String RELATION_MESSAGE = "52000040017075626c696300745f6f7264657200640004016f726465725f69640000000017ffffffff00757365725f69640000000014ffffffff"
+            + "007374617475730000000413ffffffff00616d6f756e7400000006a4ffffffff";
+    
+    private static final String BEGIN_MESSAGE = "4200000000016b3a8800000000000000000000023a";
+    
+    private static final String INSERT_MESSAGE = "49000040014e0004740000000131740000000231307400000004696e6974740000000531322e3530";
+    
+    private static final String UPDATE_MESSAGE = "55000040014e0004740000000131740000000231306e75";
+    
+    private static final String UPDATE_PRIMARY_KEY_MESSAGE = "55000040014b00047400000001316e6e6e4e0004740000000132740000000231306e75";
+    
+    private static final String DELETE_MESSAGE = "44000040014b00047400000001316e6e6e";
+    
+    private final LogSequenceNumber lsn = LogSequenceNumber.valueOf("0/16B3A88");
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        assertThat(decodingPlugin.decode(wrap(RELATION_MESSAGE), lsn), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeBeginMessage() {
+        assertThat(decodingPlugin.decode(wrap(BEGIN_MESSAGE), lsn).getLogSequenceNumber(), is(lsn));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(wrap(INSERT_MESSAGE), lsn);
+        assertThat(actual.getLogSequenceNumber(), is(lsn));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow(), is(Arrays.<Object>asList(1, 10L, "init", new BigDecimal("12.50"))));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEvent() {
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(wrap(UPDATE_MESSAGE), lsn);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is((Object) 1));
+        assertThat(actual.getAfterRow().get(2), nullValue());
+        assertThat(actual.getAfterRow().get(3), is((Object) UnchangedToastValue.INSTANCE));
+        assertThat(actual.getBeforeRow(), nullValue());
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithPrimaryKeyChanged() {
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(wrap(UPDATE_PRIMARY_KEY_MESSAGE), lsn);
+        assertThat(actual.getBeforeRow().get(0), is((Object) 1));
+        assertThat(actual.getAfterRow().get(0), is((Object) 2));
+        assertThat(actual.getAfterRow().get(1), is((Object) 10));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(wrap(DELETE_MESSAGE), lsn);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.<Object>asList(1)));
+    }
+    
+    @Test(expected = DecodingException.class)
+    public void assertDecodeRowEventWithoutRelation() {
+        new PgOutputDecodingPlugin(null).decode(wrap(INSERT_MESSAGE), lsn);
+    }
+    
+    private ByteBuffer wrap(final String hexMessage) {
+        return ByteBuffer.wrap(ByteaDecoder.decodeHex(hexMessage));
+    }
+}
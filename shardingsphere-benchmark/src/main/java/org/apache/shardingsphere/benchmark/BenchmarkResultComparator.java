@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Benchmark result comparator.
+ * 
+ * <p>
+ * Compare JMH results of two commits, which are produced by {@code java -jar shardingsphere-benchmarks.jar -rf json -rff <commit>.json},
+ * and exit with non zero status if any score regresses more than threshold percent, which is 10 by default.
+ * </p>
+ * 
+ * <p>Usage: {@code java -cp shardingsphere-benchmarks.jar org.apache.shardingsphere.benchmark.BenchmarkResultComparator <baseline.json> <current.json> [threshold percent]}</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkResultComparator {
+    
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10D;
+    
+    /**
+     * Main entrance.
+     *
+     * @param args baseline result file, current result file and optional threshold percent
+     * @throws IOException IO exception
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkResultComparator <baseline.json> <current.json> [threshold percent]");
+            System.exit(2);
+        }
+        double thresholdPercent = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, JsonObject> baseline = load(args[0]);
+        Map<String, JsonObject> current = load(args[1]);
+        int regressionCount = 0;
+        for (Entry<String, JsonObject> entry : current.entrySet()) {
+            JsonObject baselineResult = baseline.get(entry.getKey());
+            if (null == baselineResult) {
+                System.out.printf("%-100s %s%n", entry.getKey(), "NEW");
+                continue;
+            }
+            double changePercent = getImprovementPercent(baselineResult, entry.getValue());
+            boolean regressed = -changePercent > thresholdPercent;
+            if (regressed) {
+                regressionCount++;
+            }
+            System.out.printf("%-100s %14.3f -> %14.3f %-10s %+8.2f%%%s%n", entry.getKey(), getScore(baselineResult), getScore(entry.getValue()), 
+                    entry.getValue().getAsJsonObject("primaryMetric").get("scoreUnit").getAsString(), changePercent, regressed ? " REGRESSED" : "");
+        }
+        System.out.printf("%d of %d benchmarks regressed more than %.2f%%.%n", regressionCount, current.size(), thresholdPercent);
+        if (regressionCount > 0) {
+            System.exit(1);
+        }
+    }
+    
+    private static Map<String, JsonObject> load(final String resultFile) throws IOException {
+        Map<String, JsonObject> result = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(resultFile), StandardCharsets.UTF_8)) {
+            for (JsonElement each : JsonParser.parseReader(reader).getAsJsonArray()) {
+                JsonObject benchmarkResult = each.getAsJsonObject();
+                result.put(getKey(benchmarkResult), benchmarkResult);
+            }
+        }
+        return result;
+    }
+    
+    private static String getKey(final JsonObject benchmarkResult) {
+        Map<String, String> params = new TreeMap<>();
+        if (benchmarkResult.has("params")) {
+            for (Entry<String, JsonElement> entry : benchmarkResult.getAsJsonObject("params").entrySet()) {
+                params.put(entry.getKey(), entry.getValue().getAsString());
+            }
+        }
+        return String.format("%s%s[%s]", benchmarkResult.get("benchmark").getAsString(), params, benchmarkResult.get("mode").getAsString());
+    }
+    
+    private static double getScore(final JsonObject benchmarkResult) {
+        return benchmarkResult.getAsJsonObject("primaryMetric").get("score").getAsDouble();
+    }
+    
+    private static double getImprovementPercent(final JsonObject baselineResult, final JsonObject currentResult) {
+        double baselineScore = getScore(baselineResult);
+        double currentScore = getScore(currentResult);
+        if (0D == baselineScore) {
+            return 0D;
+        }
+        double result = (currentScore - baselineScore) / baselineScore * 100D;
+        return "thrpt".equals(currentResult.get("mode").getAsString()) ? result : -result;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import com.google.common.io.ByteStreams;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import org.apache.shardingsphere.shardingjdbc.api.yaml.YamlShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.RuntimeContext;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.h2.tools.RunScript;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark environment, which shards tables into in-memory H2 databases.
+ */
+@Getter
+public final class BenchmarkEnvironment implements AutoCloseable {
+    
+    private static final int DATA_SOURCE_COUNT = 2;
+    
+    private static final long ORDER_COUNT = 1000L;
+    
+    private static final long USER_COUNT = 100L;
+    
+    private final Map<String, DataSource> actualDataSources;
+    
+    private final ShardingSphereDataSource dataSource;
+    
+    public BenchmarkEnvironment() throws SQLException, IOException {
+        actualDataSources = createActualDataSources();
+        dataSource = (ShardingSphereDataSource) YamlShardingSphereDataSourceFactory.createDataSource(actualDataSources, readResource("config-benchmark.yaml"));
+        initData();
+    }
+    
+    private Map<String, DataSource> createActualDataSources() throws SQLException, IOException {
+        Map<String, DataSource> result = new LinkedHashMap<>(DATA_SOURCE_COUNT, 1);
+        for (int i = 0; i < DATA_SOURCE_COUNT; i++) {
+            String dataSourceName = "ds_" + i;
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setDriverClassName("org.h2.Driver");
+            dataSource.setJdbcUrl(String.format("jdbc:h2:mem:benchmark_%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", dataSourceName));
+            dataSource.setUsername("sa");
+            dataSource.setPassword("");
+            dataSource.setMaximumPoolSize(50);
+            createSchema(dataSource);
+            result.put(dataSourceName, dataSource);
+        }
+        return result;
+    }
+    
+    private void createSchema(final DataSource dataSource) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection();
+             InputStreamReader reader = new InputStreamReader(getResourceAsStream("benchmark_init.sql"), StandardCharsets.UTF_8)) {
+            RunScript.execute(connection, reader);
+        }
+    }
+    
+    private byte[] readResource(final String name) throws IOException {
+        try (InputStream inputStream = getResourceAsStream(name)) {
+            return ByteStreams.toByteArray(inputStream);
+        }
+    }
+    
+    private InputStream getResourceAsStream(final String name) {
+        return BenchmarkEnvironment.class.getClassLoader().getResourceAsStream(name);
+    }
+    
+    private void initData() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)")) {
+                for (long i = 1; i <= ORDER_COUNT; i++) {
+                    preparedStatement.setLong(1, i);
+                    preparedStatement.setLong(2, i % USER_COUNT);
+                    preparedStatement.setString(3, 0 == i % 2 ? "PAID" : "INIT");
+                    preparedStatement.executeUpdate();
+                }
+            }
+            try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_user (user_id, user_name, pwd) VALUES (?, ?, ?)")) {
+                for (long i = 0; i < USER_COUNT; i++) {
+                    preparedStatement.setLong(1, i);
+                    preparedStatement.setString(2, "user_" + i);
+                    preparedStatement.setString(3, "pwd_" + i);
+                    preparedStatement.executeUpdate();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Get runtime context.
+     *
+     * @return runtime context
+     */
+    public RuntimeContext getRuntimeContext() {
+        return dataSource.getRuntimeContext();
+    }
+    
+    /**
+     * Parse SQL of workload.
+     *
+     * @param workload workload
+     * @return SQL statement
+     */
+    public SQLStatement parse(final Workload workload) {
+        return getRuntimeContext().getSqlParserEngine().parse(workload.getSql(), true);
+    }
+    
+    /**
+     * Route SQL of workload.
+     *
+     * @param workload workload
+     * @return route context
+     */
+    public RouteContext route(final Workload workload) {
+        return getRuntimeContext().getDataNodeRouter().route(parse(workload), workload.getSql(), new ArrayList<>(workload.getParameters()));
+    }
+    
+    /**
+     * Create execution context of workload.
+     *
+     * @param workload workload
+     * @return execution context
+     */
+    public ExecutionContext createExecutionContext(final Workload workload) {
+        RouteContext routeContext = route(workload);
+        SQLRewriteResult sqlRewriteResult = getRuntimeContext().getSqlRewriteEntry().rewrite(workload.getSql(), new ArrayList<>(workload.getParameters()), routeContext);
+        return new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(getRuntimeContext().getMetaData(), sqlRewriteResult));
+    }
+    
+    /**
+     * Delete rows of logic table.
+     *
+     * @param logicTableName logic table name
+     * @throws SQLException SQL exception
+     */
+    public void deleteAll(final String logicTableName) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement("DELETE FROM " + logicTableName)) {
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    @Override
+    public void close() throws Exception {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Query result over rows loaded before benchmark, which keeps JDBC driver cost out of merge benchmark.
+ */
+@RequiredArgsConstructor
+public final class RowsQueryResult implements QueryResult {
+    
+    private final List<String> columnLabels;
+    
+    private final List<List<Object>> rows;
+    
+    private int currentRowIndex = -1;
+    
+    private Object currentValue;
+    
+    /**
+     * Load query result from result set.
+     *
+     * @param resultSet result set
+     * @return loaded query result
+     * @throws SQLException SQL exception
+     */
+    public static RowsQueryResult load(final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<String> columnLabels = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            columnLabels.add(metaData.getColumnLabel(i));
+        }
+        List<List<Object>> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            List<Object> row = new ArrayList<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                row.add(resultSet.getObject(i));
+            }
+            rows.add(row);
+        }
+        return new RowsQueryResult(columnLabels, rows);
+    }
+    
+    /**
+     * Create new query result over the same rows, which iterates from the first row.
+     *
+     * @return new query result
+     */
+    public RowsQueryResult newQueryResult() {
+        return new RowsQueryResult(columnLabels, rows);
+    }
+    
+    @Override
+    public boolean next() {
+        return ++currentRowIndex < rows.size();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        currentValue = rows.get(currentRowIndex).get(columnIndex - 1);
+        return currentValue;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getInputStream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return null == currentValue;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmark workload.
+ */
+@Getter
+public enum Workload {
+    
+    POINT_SELECT(true, "SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", 3L, 13L),
+    
+    IN_LIST_SELECT(true, "SELECT order_id, user_id, status FROM t_order WHERE order_id IN (?, ?, ?, ?, ?, ?, ?, ?)", 11L, 22L, 33L, 44L, 55L, 66L, 77L, 88L),
+    
+    RANGE_ORDER_BY_LIMIT_SELECT(true, "SELECT order_id, user_id, status FROM t_order WHERE order_id BETWEEN ? AND ? ORDER BY order_id DESC LIMIT ?, ?", 100L, 600L, 10, 20),
+    
+    GROUP_BY_SELECT(true, "SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id"),
+    
+    MULTI_ROW_INSERT(false, "INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (?, ?, ?, ?), (?, ?, ?, ?), (?, ?, ?, ?), (?, ?, ?, ?)",
+            1L, 1L, 1L, "INIT", 2L, 2L, 2L, "INIT", 3L, 3L, 3L, "INIT", 4L, 4L, 4L, "INIT"),
+    
+    ENCRYPT_SELECT(true, "SELECT user_id, user_name, pwd FROM t_user WHERE user_id = ? AND pwd = ?", 7L, "pwd_7");
+    
+    private final boolean query;
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    Workload(final boolean query, final String sql, final Object... parameters) {
+        this.query = query;
+        this.sql = sql;
+        this.parameters = Collections.unmodifiableList(Arrays.asList(parameters));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.jdbc;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.Workload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end benchmark for ShardingSphere data source, which covers parse, route, rewrite, execute and merge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ShardingSphereDataSourceBenchmark {
+    
+    @Param
+    private Workload workload;
+    
+    private BenchmarkEnvironment environment;
+    
+    private DataSource dataSource;
+    
+    /**
+     * Set up.
+     *
+     * @throws Exception exception
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment();
+        dataSource = environment.getDataSource();
+    }
+    
+    /**
+     * Execute SQL of workload.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void execute(final Blackhole blackhole) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(workload.getSql())) {
+            int index = 1;
+            for (Object each : workload.getParameters()) {
+                preparedStatement.setObject(index++, each);
+            }
+            if (!workload.isQuery()) {
+                blackhole.consume(preparedStatement.executeUpdate());
+                return;
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                int columnCount = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    for (int i = 1; i <= columnCount; i++) {
+                        blackhole.consume(resultSet.getObject(i));
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Delete rows inserted in last iteration.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown(Level.Iteration)
+    public void deleteInsertedRows() throws SQLException {
+        if (!workload.isQuery()) {
+            environment.deleteAll("t_order_item");
+        }
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.Workload;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for data node router.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DataNodeRouterBenchmark {
+    
+    @Param
+    private Workload workload;
+    
+    private BenchmarkEnvironment environment;
+    
+    private DataNodeRouter dataNodeRouter;
+    
+    private SQLStatement sqlStatement;
+    
+    /**
+     * Set up.
+     *
+     * @throws Exception exception
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment();
+        dataNodeRouter = environment.getRuntimeContext().getDataNodeRouter();
+        sqlStatement = environment.parse(workload);
+    }
+    
+    /**
+     * Route.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return dataNodeRouter.route(sqlStatement, workload.getSql(), new ArrayList<>(workload.getParameters()));
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.Workload;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.underlying.executor.kernel.InputGroup;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.PreparedStatementExecuteGroupEngine;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for execute group engine.
+ * 
+ * <p>Prepared statements created for execute groups are closed in each invocation, the cost of closing is included.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExecuteGroupEngineBenchmark {
+    
+    @Param
+    private Workload workload;
+    
+    private BenchmarkEnvironment environment;
+    
+    private PreparedStatementExecuteGroupEngine executeGroupEngine;
+    
+    private Collection<ExecutionUnit> executionUnits;
+    
+    private ShardingSphereConnection connection;
+    
+    private StatementOption statementOption;
+    
+    /**
+     * Set up.
+     *
+     * @throws Exception exception
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment();
+        executeGroupEngine = environment.getRuntimeContext().getPreparedStatementExecuteGroupEngine();
+        executionUnits = environment.createExecutionContext(workload).getExecutionUnits();
+        connection = environment.getDataSource().getConnection();
+        statementOption = new StatementOption(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+    }
+    
+    /**
+     * Generate execute groups.
+     *
+     * @return execute groups
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public Collection<InputGroup<StatementExecuteUnit>> generate() throws SQLException {
+        Collection<InputGroup<StatementExecuteUnit>> result = executeGroupEngine.generate(executionUnits, connection, statementOption);
+        for (InputGroup<StatementExecuteUnit> each : result) {
+            for (StatementExecuteUnit executeUnit : each.getInputs()) {
+                executeUnit.getStorageResource().close();
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        connection.close();
+        environment.close();
+    }
+}
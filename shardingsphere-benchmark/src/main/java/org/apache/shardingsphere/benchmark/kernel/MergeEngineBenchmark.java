@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.RowsQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.Workload;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.merge.MergeEngine;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for merge engine.
+ * 
+ * <p>Query results of each route unit are loaded before benchmark, merged results are fully iterated in each invocation.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MergeEngineBenchmark {
+    
+    @Param({"POINT_SELECT", "IN_LIST_SELECT", "RANGE_ORDER_BY_LIMIT_SELECT", "GROUP_BY_SELECT", "ENCRYPT_SELECT"})
+    private Workload workload;
+    
+    private BenchmarkEnvironment environment;
+    
+    private MergeEngine mergeEngine;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    private List<RowsQueryResult> loadedQueryResults;
+    
+    private int columnCount;
+    
+    /**
+     * Set up.
+     *
+     * @throws Exception exception
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment();
+        mergeEngine = environment.getRuntimeContext().getMergeEngine();
+        ExecutionContext executionContext = environment.createExecutionContext(workload);
+        sqlStatementContext = executionContext.getSqlStatementContext();
+        loadedQueryResults = new ArrayList<>(executionContext.getExecutionUnits().size());
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            loadedQueryResults.add(loadQueryResult(each));
+        }
+        columnCount = loadedQueryResults.get(0).getColumnCount();
+    }
+    
+    private RowsQueryResult loadQueryResult(final ExecutionUnit executionUnit) throws SQLException {
+        try (Connection connection = environment.getActualDataSources().get(executionUnit.getDataSourceName()).getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(executionUnit.getSqlUnit().getSql())) {
+            int index = 1;
+            for (Object each : executionUnit.getSqlUnit().getParameters()) {
+                preparedStatement.setObject(index++, each);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return RowsQueryResult.load(resultSet);
+            }
+        }
+    }
+    
+    /**
+     * Merge and iterate merged result.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(loadedQueryResults.size());
+        for (RowsQueryResult each : loadedQueryResults) {
+            queryResults.add(each.newQueryResult());
+        }
+        MergedResult mergedResult = mergeEngine.merge(queryResults, sqlStatementContext);
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+}
@@ -29,7 +29,9 @@ import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.bi
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.database.protocol.packet.CommandPacket;
 
 import java.sql.SQLException;
 
@@ -47,7 +49,7 @@ public final class MySQLCommandPacketFactory {
      * @return command packet for MySQL
      * @throws SQLException SQL exception
      */
-    public static MySQLCommandPacket newInstance(final MySQLCommandPacketType commandPacketType, final MySQLPacketPayload payload) throws SQLException {
+    public static CommandPacket newInstance(final MySQLCommandPacketType commandPacketType, final MySQLPacketPayload payload) throws SQLException {
         switch (commandPacketType) {
             case COM_QUIT:
                 return new MySQLComQuitPacket();
@@ -67,6 +69,8 @@ public final class MySQLCommandPacketFactory {
                 return new MySQLComStmtClosePacket(payload);
             case COM_PING:
                 return new MySQLComPingPacket();
+            case COM_LOCAL_INFILE_DATA:
+                return new MySQLLocalInfileDataPacket(payload);
             default:
                 return new MySQLUnsupportedCommandPacket(commandPacketType);
         }
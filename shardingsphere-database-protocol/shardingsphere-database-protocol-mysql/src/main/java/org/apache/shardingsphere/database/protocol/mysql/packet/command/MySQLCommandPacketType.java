@@ -253,7 +253,14 @@ public enum MySQLCommandPacketType implements CommandPacketType {
      * 
      * @see <a href="https://dev.mysql.com/doc/internals/en/com-reset-connection.html">COM_RESET_CONNECTION</a>
      */
-    COM_RESET_CONNECTION(0x1f);
+    COM_RESET_CONNECTION(0x1f),
+    
+    /**
+     * Data of LOCAL INFILE, which is sent by client after LOCAL INFILE request instead of a command.
+     * 
+     * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#local-infile-request">LOCAL INFILE Request</a>
+     */
+    COM_LOCAL_INFILE_DATA(-1);
 
     private static final Map<Integer, MySQLCommandPacketType> MYSQL_COMMAND_PACKET_TYPE_CACHE = new HashMap<Integer, MySQLCommandPacketType>() {
         {
@@ -35,7 +35,28 @@ public final class MySQLCommandPacketTypeLoader {
      * @return command packet type for MySQL
      */
     public static MySQLCommandPacketType getCommandPacketType(final MySQLPacketPayload payload) {
-        Preconditions.checkArgument(0 == payload.readInt1(), "Sequence ID of MySQL command packet must be `0`.");
+        return getCommandPacketType(payload, false);
+    }
+    
+    /**
+     * Get command packet type.
+     * 
+     * <p>
+     * Command packet always starts a new sequence, so packet with non zero sequence ID can only be data of LOCAL INFILE while it is expected,
+     * its sequence ID is left in payload for the data packet.
+     * </p>
+     *
+     * @param payload packet payload for MySQL
+     * @param localInfileDataExpected whether LOAD DATA LOCAL INFILE is in progress and its data is expected
+     * @return command packet type for MySQL
+     */
+    public static MySQLCommandPacketType getCommandPacketType(final MySQLPacketPayload payload, final boolean localInfileDataExpected) {
+        int sequenceId = payload.readInt1();
+        if (localInfileDataExpected && 0 != sequenceId) {
+            payload.getByteBuf().readerIndex(payload.getByteBuf().readerIndex() - 1);
+            return MySQLCommandPacketType.COM_LOCAL_INFILE_DATA;
+        }
+        Preconditions.checkArgument(0 == sequenceId, "Sequence ID of MySQL command packet must be `0`.");
         return MySQLCommandPacketType.valueOf(payload.readInt1());
     }
 }
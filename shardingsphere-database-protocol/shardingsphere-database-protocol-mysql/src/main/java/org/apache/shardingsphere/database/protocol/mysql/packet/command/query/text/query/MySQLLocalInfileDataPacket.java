@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query;
+
+import lombok.Getter;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.database.protocol.packet.CommandPacket;
+
+/**
+ * LOCAL INFILE data packet for MySQL, empty data means end of file.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#local-infile-request">LOCAL INFILE Request</a>
+ */
+@Getter
+public final class MySQLLocalInfileDataPacket implements MySQLPacket, CommandPacket {
+    
+    private final int sequenceId;
+    
+    private final byte[] data;
+    
+    public MySQLLocalInfileDataPacket(final MySQLPacketPayload payload) {
+        sequenceId = payload.readInt1();
+        data = payload.readStringEOFByBytes();
+    }
+    
+    /**
+     * Judge whether is end of file.
+     *
+     * @return is end of file or not
+     */
+    public boolean isEndOfFile() {
+        return 0 == data.length;
+    }
+    
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        payload.writeBytes(data);
+    }
+}
@@ -31,11 +31,11 @@ public final class MySQLCapabilityFlagTest {
     
     @Test
     public void assertCalculateHandshakeCapabilityFlagsLower() {
-        assertThat(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower(), is(46927));
+        assertThat(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower(), is(47055));
     }
     
     @Test
     public void assertCalculateHandshakeCapabilityFlagsUpper() {
-        assertThat(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsUpper(), is(0x0008));
+        assertThat(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsUpper(), is(0x000b));
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.database.protocol.mysql.packet.command;
 
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 
@@ -34,6 +35,25 @@ public final class MySQLCommandPacketTypeLoaderTest {
         assertThat(MySQLCommandPacketTypeLoader.getCommandPacketType(payload), is(MySQLCommandPacketType.COM_QUIT));
     }
 
+    @Test
+    public void assertGetCommandPacketTypeForLocalInfileData() {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {2, 'a'}));
+        assertThat(MySQLCommandPacketTypeLoader.getCommandPacketType(payload, true), is(MySQLCommandPacketType.COM_LOCAL_INFILE_DATA));
+        assertThat(payload.readInt1(), is(2));
+    }
+    
+    @Test
+    public void assertGetCommandPacketTypeWhenLocalInfileDataExpected() {
+        MySQLPacketPayload payload = mock(MySQLPacketPayload.class);
+        when(payload.readInt1()).thenReturn(0, MySQLCommandPacketType.COM_QUERY.getValue());
+        assertThat(MySQLCommandPacketTypeLoader.getCommandPacketType(payload, true), is(MySQLCommandPacketType.COM_QUERY));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetCommandPacketTypeWithNonZeroSequenceId() {
+        MySQLCommandPacketTypeLoader.getCommandPacketType(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {2, 'a'})));
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertGetCommandPacketTypeError() {
         MySQLPacketPayload payload = mock(MySQLPacketPayload.class);
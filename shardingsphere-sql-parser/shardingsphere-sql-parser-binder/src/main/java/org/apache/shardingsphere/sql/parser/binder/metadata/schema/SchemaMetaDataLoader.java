@@ -25,6 +25,8 @@ import org.apache.shardingsphere.sql.parser.binder.metadata.MetaDataConnection;
 import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaDataLoader;
 import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaDataLoader;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaDataLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect.DialectTableMetaDataLoaderFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -36,6 +38,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -86,6 +89,9 @@ public final class SchemaMetaDataLoader {
         if (0 == tableNames.size()) {
             return new SchemaMetaData(Collections.emptyMap());
         }
+        if (DialectTableMetaDataLoaderFactory.findInstance(databaseType).isPresent()) {
+            return new SchemaMetaData(load(dataSource.getConnection(), tableNames, databaseType));
+        }
         List<List<String>> tableGroups = Lists.partition(tableNames, Math.max(tableNames.size() / maxConnectionCount, 1));
         Map<String, TableMetaData> tableMetaDataMap = 1 == tableGroups.size()
                 ? load(dataSource.getConnection(), tableGroups.get(0), databaseType) : asyncLoad(dataSource, maxConnectionCount, tableNames, tableGroups, databaseType);
@@ -94,6 +100,10 @@ public final class SchemaMetaDataLoader {
     
     private static Map<String, TableMetaData> load(final Connection con, final Collection<String> tables, final String databaseType) throws SQLException {
         try (MetaDataConnection connection = new MetaDataConnection(con)) {
+            Optional<Map<String, TableMetaData>> dialectResult = TableMetaDataLoader.loadByDialect(connection, tables, databaseType);
+            if (dialectResult.isPresent()) {
+                return dialectResult.get();
+            }
             Map<String, TableMetaData> result = new LinkedHashMap<>();
             for (String each : tables) {
                 result.put(each, new TableMetaData(ColumnMetaDataLoader.load(connection, each, databaseType), IndexMetaDataLoader.load(connection, each)));
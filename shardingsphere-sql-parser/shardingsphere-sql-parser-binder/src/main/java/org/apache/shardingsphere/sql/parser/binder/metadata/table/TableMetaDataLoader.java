@@ -21,18 +21,25 @@ import java.sql.ResultSet;
 import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.sql.parser.binder.metadata.MetaDataConnection;
 import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaDataLoader;
 import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaDataLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect.DialectTableMetaDataLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect.DialectTableMetaDataLoaderFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Table meta data loader.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j(topic = "ShardingSphere-metadata")
 public final class TableMetaDataLoader {
     
     /**
@@ -53,6 +60,57 @@ public final class TableMetaDataLoader {
         }
     }
     
+    /**
+     * Load table meta data of tables in same data source.
+     * 
+     * <p>
+     * Use dialect table meta data loader to load all tables with a few queries if database type is supported, 
+     * otherwise or if failed, load tables one by one via JDBC database meta data.
+     * </p>
+     *
+     * @param dataSource data source
+     * @param tables table names
+     * @param databaseType database type
+     * @return table meta data map, key is table name, tables which do not exist are absent
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableMetaData> load(final DataSource dataSource, final Collection<String> tables, final String databaseType) throws SQLException {
+        try (MetaDataConnection connection = new MetaDataConnection(dataSource.getConnection())) {
+            Optional<Map<String, TableMetaData>> dialectResult = loadByDialect(connection, tables, databaseType);
+            if (dialectResult.isPresent()) {
+                return dialectResult.get();
+            }
+            Map<String, TableMetaData> result = new LinkedHashMap<>(tables.size(), 1);
+            for (String each : tables) {
+                if (isTableExist(connection, each)) {
+                    result.put(each, new TableMetaData(ColumnMetaDataLoader.load(connection, each, databaseType), IndexMetaDataLoader.load(connection, each)));
+                }
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * Load table meta data by dialect table meta data loader.
+     *
+     * @param connection connection
+     * @param tables table names
+     * @param databaseType database type
+     * @return table meta data map, absent if database type is not supported or loading failed
+     */
+    public static Optional<Map<String, TableMetaData>> loadByDialect(final Connection connection, final Collection<String> tables, final String databaseType) {
+        Optional<DialectTableMetaDataLoader> dialectLoader = DialectTableMetaDataLoaderFactory.findInstance(databaseType);
+        if (!dialectLoader.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(dialectLoader.get().load(connection, tables));
+        } catch (final SQLException ex) {
+            log.warn("Load {} tables' meta data by {} catalog queries failed, fall back to JDBC database meta data.", tables.size(), databaseType, ex);
+            return Optional.empty();
+        }
+    }
+    
     private static boolean isTableExist(final Connection connection, final String table) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), table, null)) {
             return resultSet.next();
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Abstract dialect table meta data loader.
+ * 
+ * <p>
+ * Columns, primary keys and indexes are queried for a batch of tables with one query each, 
+ * the SQL of dialect must take schema as the first parameter and table names as the rest parameters.
+ * </p>
+ */
+public abstract class AbstractDialectTableMetaDataLoader implements DialectTableMetaDataLoader {
+    
+    private static final int MAX_TABLE_COUNT_PER_QUERY = 1000;
+    
+    private static final String TYPE_NAME = "TYPE_NAME";
+    
+    private static final String DATA_TYPE = "DATA_TYPE";
+    
+    @Override
+    public final Map<String, TableMetaData> load(final Connection connection, final Collection<String> tables) throws SQLException {
+        String schema = getSchema(connection);
+        if (null == schema) {
+            throw new SQLFeatureNotSupportedException("Can not get schema of connection.");
+        }
+        Map<String, Integer> dataTypes = loadDataTypes(connection.getMetaData());
+        Map<String, Collection<ColumnMetaData>> columns = new LinkedHashMap<>(tables.size(), 1);
+        Map<String, Collection<IndexMetaData>> indexes = new HashMap<>(tables.size(), 1);
+        for (List<String> each : Lists.partition(new ArrayList<>(tables), MAX_TABLE_COUNT_PER_QUERY)) {
+            Map<String, Collection<String>> primaryKeys = loadTableItems(connection, getPrimaryKeySQL(each.size()), schema, each);
+            loadColumns(connection, schema, each, dataTypes, primaryKeys, columns);
+            for (Entry<String, Collection<String>> entry : loadTableItems(connection, getIndexSQL(each.size()), schema, each).entrySet()) {
+                Collection<IndexMetaData> indexMetaDataList = new HashSet<>(entry.getValue().size(), 1);
+                for (String indexName : entry.getValue()) {
+                    indexMetaDataList.add(new IndexMetaData(indexName));
+                }
+                indexes.put(entry.getKey(), indexMetaDataList);
+            }
+        }
+        Map<String, String> requestedTables = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : tables) {
+            requestedTables.put(each, each);
+        }
+        Map<String, TableMetaData> result = new LinkedHashMap<>(columns.size(), 1);
+        for (Entry<String, Collection<ColumnMetaData>> entry : columns.entrySet()) {
+            result.put(requestedTables.getOrDefault(entry.getKey(), entry.getKey()), new TableMetaData(entry.getValue(), indexes.getOrDefault(entry.getKey(), Collections.emptyList())));
+        }
+        return result;
+    }
+    
+    private Map<String, Integer> loadDataTypes(final DatabaseMetaData databaseMetaData) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        try (ResultSet resultSet = databaseMetaData.getTypeInfo()) {
+            while (resultSet.next()) {
+                result.putIfAbsent(resultSet.getString(TYPE_NAME), resultSet.getInt(DATA_TYPE));
+            }
+        }
+        return result;
+    }
+    
+    private void loadColumns(final Connection connection, final String schema, final List<String> tables, final Map<String, Integer> dataTypes,
+                             final Map<String, Collection<String>> primaryKeys, final Map<String, Collection<ColumnMetaData>> columns) throws SQLException {
+        try (PreparedStatement preparedStatement = prepareStatement(connection, getColumnSQL(tables.size()), schema, tables);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                String tableName = resultSet.getString(1);
+                String columnName = resultSet.getString(2);
+                String dataTypeName = resultSet.getString(3);
+                boolean primaryKey = primaryKeys.getOrDefault(tableName, Collections.emptyList()).contains(columnName);
+                boolean caseSensitive = isCaseSensitive(dataTypeName, resultSet.getString(4));
+                columns.computeIfAbsent(tableName, key -> new LinkedList<>())
+                        .add(new ColumnMetaData(columnName, dataTypes.getOrDefault(dataTypeName, Types.OTHER), dataTypeName, primaryKey, false, caseSensitive));
+            }
+        }
+    }
+    
+    private Map<String, Collection<String>> loadTableItems(final Connection connection, final String sql, final String schema, final List<String> tables) throws SQLException {
+        Map<String, Collection<String>> result = new HashMap<>(tables.size(), 1);
+        try (PreparedStatement preparedStatement = prepareStatement(connection, sql, schema, tables);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result.computeIfAbsent(resultSet.getString(1), key -> new LinkedList<>()).add(resultSet.getString(2));
+            }
+        }
+        return result;
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final String schema, final List<String> tables) throws SQLException {
+        PreparedStatement result = connection.prepareStatement(sql);
+        result.setString(1, schema);
+        int index = 2;
+        for (String each : tables) {
+            result.setString(index++, each);
+        }
+        return result;
+    }
+    
+    protected final String getPlaceholders(final int tableCount) {
+        return Joiner.on(",").join(Collections.nCopies(tableCount, "?"));
+    }
+    
+    protected abstract String getSchema(Connection connection) throws SQLException;
+    
+    /**
+     * Get SQL to query columns, result columns are table name, column name, data type name and collation name in order.
+     * 
+     * @param tableCount count of tables
+     * @return SQL
+     */
+    protected abstract String getColumnSQL(int tableCount);
+    
+    /**
+     * Get SQL to query primary keys, result columns are table name and column name in order.
+     *
+     * @param tableCount count of tables
+     * @return SQL
+     */
+    protected abstract String getPrimaryKeySQL(int tableCount);
+    
+    /**
+     * Get SQL to query indexes, result columns are table name and index name in order.
+     *
+     * @param tableCount count of tables
+     * @return SQL
+     */
+    protected abstract String getIndexSQL(int tableCount);
+    
+    protected abstract boolean isCaseSensitive(String dataTypeName, String collationName);
+}
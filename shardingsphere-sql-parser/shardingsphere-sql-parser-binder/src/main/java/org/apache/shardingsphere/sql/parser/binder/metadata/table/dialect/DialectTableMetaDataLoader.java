@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Dialect table meta data loader, which loads meta data of many tables with a few catalog queries.
+ */
+public interface DialectTableMetaDataLoader {
+    
+    /**
+     * Load table meta data.
+     *
+     * @param connection connection
+     * @param tables table names
+     * @return table meta data map, key is table name, tables which do not exist are absent
+     * @throws SQLException SQL exception
+     */
+    Map<String, TableMetaData> load(Connection connection, Collection<String> tables) throws SQLException;
+    
+    /**
+     * Get database type.
+     *
+     * @return database type
+     */
+    String getDatabaseType();
+}
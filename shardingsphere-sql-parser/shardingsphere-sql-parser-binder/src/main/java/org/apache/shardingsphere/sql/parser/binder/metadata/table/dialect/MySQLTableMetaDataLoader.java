@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Table meta data loader for MySQL.
+ */
+public final class MySQLTableMetaDataLoader extends AbstractDialectTableMetaDataLoader {
+    
+    @Override
+    protected String getSchema(final Connection connection) throws SQLException {
+        return connection.getCatalog();
+    }
+    
+    @Override
+    protected String getColumnSQL(final int tableCount) {
+        return String.format("SELECT TABLE_NAME, COLUMN_NAME, CASE WHEN COLUMN_TYPE LIKE '%%unsigned' THEN CONCAT(UPPER(DATA_TYPE), ' UNSIGNED') ELSE UPPER(DATA_TYPE) END, COLLATION_NAME "
+                + "FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s) ORDER BY TABLE_NAME, ORDINAL_POSITION", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected String getPrimaryKeySQL(final int tableCount) {
+        return String.format("SELECT TABLE_NAME, COLUMN_NAME FROM information_schema.KEY_COLUMN_USAGE WHERE TABLE_SCHEMA = ? AND CONSTRAINT_NAME = 'PRIMARY' AND TABLE_NAME IN (%s)", 
+                getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected String getIndexSQL(final int tableCount) {
+        return String.format("SELECT DISTINCT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s)", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected boolean isCaseSensitive(final String dataTypeName, final String collationName) {
+        return null != collationName && !collationName.toLowerCase().endsWith("_ci");
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
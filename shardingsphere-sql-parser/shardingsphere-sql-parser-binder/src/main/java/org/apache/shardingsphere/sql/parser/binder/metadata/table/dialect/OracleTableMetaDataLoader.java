@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Table meta data loader for Oracle.
+ */
+public final class OracleTableMetaDataLoader extends AbstractDialectTableMetaDataLoader {
+    
+    private static final Collection<String> CASE_SENSITIVE_TYPES = new HashSet<>(Arrays.asList("CHAR", "NCHAR", "VARCHAR2", "NVARCHAR2", "LONG", "CLOB", "NCLOB"));
+    
+    @Override
+    protected String getSchema(final Connection connection) throws SQLException {
+        String result = connection.getSchema();
+        return null == result ? connection.getMetaData().getUserName() : result;
+    }
+    
+    @Override
+    protected String getColumnSQL(final int tableCount) {
+        return String.format("SELECT TABLE_NAME, COLUMN_NAME, REGEXP_REPLACE(DATA_TYPE, '\\(.*\\)', ''), NULL FROM ALL_TAB_COLUMNS WHERE OWNER = ? AND TABLE_NAME IN (%s) "
+                + "ORDER BY TABLE_NAME, COLUMN_ID", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected String getPrimaryKeySQL(final int tableCount) {
+        return String.format("SELECT A.TABLE_NAME, B.COLUMN_NAME FROM ALL_CONSTRAINTS A INNER JOIN ALL_CONS_COLUMNS B ON A.OWNER = B.OWNER AND A.CONSTRAINT_NAME = B.CONSTRAINT_NAME "
+                + "WHERE A.CONSTRAINT_TYPE = 'P' AND A.OWNER = ? AND A.TABLE_NAME IN (%s)", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected String getIndexSQL(final int tableCount) {
+        return String.format("SELECT TABLE_NAME, INDEX_NAME FROM ALL_INDEXES WHERE TABLE_OWNER = ? AND TABLE_NAME IN (%s)", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected boolean isCaseSensitive(final String dataTypeName, final String collationName) {
+        return CASE_SENSITIVE_TYPES.contains(dataTypeName);
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "Oracle";
+    }
+}
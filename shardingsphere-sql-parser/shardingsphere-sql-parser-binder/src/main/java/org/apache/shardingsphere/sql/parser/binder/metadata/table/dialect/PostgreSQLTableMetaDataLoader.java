@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Table meta data loader for PostgreSQL.
+ */
+public final class PostgreSQLTableMetaDataLoader extends AbstractDialectTableMetaDataLoader {
+    
+    private static final Collection<String> CASE_INSENSITIVE_TYPES = new HashSet<>(Arrays.asList(
+            "oid", "int2", "int4", "int8", "float4", "float8", "numeric", "bool", "bit", "varbit", "date", "time", "timetz", "timestamp", "timestamptz", "interval"));
+    
+    @Override
+    protected String getSchema(final Connection connection) throws SQLException {
+        return connection.getSchema();
+    }
+    
+    @Override
+    protected String getColumnSQL(final int tableCount) {
+        return String.format("SELECT table_name, column_name, udt_name, collation_name FROM information_schema.columns WHERE table_schema = ? AND table_name IN (%s) "
+                + "ORDER BY table_name, ordinal_position", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected String getPrimaryKeySQL(final int tableCount) {
+        return String.format("SELECT tc.table_name, kc.column_name FROM information_schema.table_constraints tc JOIN information_schema.key_column_usage kc "
+                + "ON tc.constraint_schema = kc.constraint_schema AND tc.constraint_name = kc.constraint_name AND tc.table_name = kc.table_name "
+                + "WHERE tc.constraint_type = 'PRIMARY KEY' AND tc.table_schema = ? AND tc.table_name IN (%s)", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected String getIndexSQL(final int tableCount) {
+        return String.format("SELECT tablename, indexname FROM pg_indexes WHERE schemaname = ? AND tablename IN (%s)", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected boolean isCaseSensitive(final String dataTypeName, final String collationName) {
+        return !CASE_INSENSITIVE_TYPES.contains(dataTypeName);
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
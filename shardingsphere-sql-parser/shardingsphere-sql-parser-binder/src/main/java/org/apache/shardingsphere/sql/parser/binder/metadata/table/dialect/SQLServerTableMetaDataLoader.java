@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Table meta data loader for SQLServer.
+ */
+public final class SQLServerTableMetaDataLoader extends AbstractDialectTableMetaDataLoader {
+    
+    @Override
+    protected String getSchema(final Connection connection) throws SQLException {
+        return connection.getSchema();
+    }
+    
+    @Override
+    protected String getColumnSQL(final int tableCount) {
+        return String.format("SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLLATION_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s) "
+                + "ORDER BY TABLE_NAME, ORDINAL_POSITION", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected String getPrimaryKeySQL(final int tableCount) {
+        return String.format("SELECT kcu.TABLE_NAME, kcu.COLUMN_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu "
+                + "ON tc.CONSTRAINT_SCHEMA = kcu.CONSTRAINT_SCHEMA AND tc.CONSTRAINT_NAME = kcu.CONSTRAINT_NAME "
+                + "WHERE tc.CONSTRAINT_TYPE = 'PRIMARY KEY' AND tc.TABLE_SCHEMA = ? AND tc.TABLE_NAME IN (%s)", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected String getIndexSQL(final int tableCount) {
+        return String.format("SELECT t.name, i.name FROM sys.indexes i JOIN sys.tables t ON i.object_id = t.object_id "
+                + "WHERE i.name IS NOT NULL AND SCHEMA_NAME(t.schema_id) = ? AND t.name IN (%s)", getPlaceholders(tableCount));
+    }
+    
+    @Override
+    protected boolean isCaseSensitive(final String dataTypeName, final String collationName) {
+        return null != collationName && collationName.toUpperCase().contains("_CS");
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "SQLServer";
+    }
+}
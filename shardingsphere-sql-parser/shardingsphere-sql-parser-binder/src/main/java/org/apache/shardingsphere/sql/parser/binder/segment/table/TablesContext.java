@@ -67,7 +67,28 @@ public final class TablesContext {
             return Optional.of(tables.iterator().next().getTableName().getIdentifier().getValue());
         }
         if (column.getOwner().isPresent()) {
-            return Optional.of(findTableNameFromSQL(column.getOwner().get().getIdentifier().getValue()));
+            return Optional.of(findTableNameFromSQL(column.getOwner().get().getIdentifier().getValue()).orElseThrow(() -> new IllegalStateException("Can not find owner from table.")));
+        }
+        return findTableNameFromMetaData(column.getIdentifier().getValue(), schemaMetaData);
+    }
+    
+    /**
+     * Find table name if owner of column is present in tables.
+     * 
+     * <p>
+     * Different from {@code findTableName}, empty is returned if owner of column is neither table name nor alias of tables.
+     * </p>
+     *
+     * @param column column segment
+     * @param schemaMetaData schema meta data
+     * @return table name
+     */
+    public Optional<String> findTableNameIfOwnerPresent(final ColumnSegment column, final SchemaMetaData schemaMetaData) {
+        if (1 == tables.size()) {
+            return Optional.of(tables.iterator().next().getTableName().getIdentifier().getValue());
+        }
+        if (column.getOwner().isPresent()) {
+            return findTableNameFromSQL(column.getOwner().get().getIdentifier().getValue());
         }
         return findTableNameFromMetaData(column.getIdentifier().getValue(), schemaMetaData);
     }
@@ -84,18 +105,18 @@ public final class TablesContext {
             return Optional.of(tables.iterator().next().getTableName().getIdentifier().getValue());
         }
         if (null != column.getOwner()) {
-            return Optional.of(findTableNameFromSQL(column.getOwner()));
+            return Optional.of(findTableNameFromSQL(column.getOwner()).orElseThrow(() -> new IllegalStateException("Can not find owner from table.")));
         }
         return findTableNameFromMetaData(column.getName(), schemaMetaData);
     }
     
-    private String findTableNameFromSQL(final String tableNameOrAlias) {
+    private Optional<String> findTableNameFromSQL(final String tableNameOrAlias) {
         for (SimpleTableSegment each : tables) {
             if (tableNameOrAlias.equalsIgnoreCase(each.getTableName().getIdentifier().getValue()) || tableNameOrAlias.equals(each.getAlias().orElse(null))) {
-                return each.getTableName().getIdentifier().getValue();
+                return Optional.of(each.getTableName().getIdentifier().getValue());
             }
         }
-        throw new IllegalStateException("Can not find owner from table.");
+        return Optional.empty();
     }
     
     private Optional<String> findTableNameFromMetaData(final String columnName, final SchemaMetaData schemaMetaData) {
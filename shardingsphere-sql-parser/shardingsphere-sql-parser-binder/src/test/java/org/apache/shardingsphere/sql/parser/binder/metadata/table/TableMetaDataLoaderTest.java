@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table;
+
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class TableMetaDataLoaderTest {
+    
+    @Test
+    public void assertLoadByDialectWithoutDialectLoader() {
+        assertFalse(TableMetaDataLoader.loadByDialect(mock(Connection.class), Collections.singletonList("t_order"), "H2").isPresent());
+    }
+    
+    @Test
+    public void assertLoadByDialectFailed() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getCatalog()).thenReturn("ds");
+        when(connection.getMetaData()).thenThrow(new SQLException("catalog query failed"));
+        assertFalse(TableMetaDataLoader.loadByDialect(connection, Collections.singletonList("t_order"), "MySQL").isPresent());
+    }
+    
+    @Test
+    public void assertLoadFallbackToDatabaseMetaData() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        ResultSet tableResultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getCatalog()).thenReturn("ds");
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getTypeInfo()).thenThrow(new SQLException("catalog query failed"));
+        when(databaseMetaData.getTables(anyString(), any(), anyString(), any())).thenReturn(tableResultSet);
+        assertTrue(TableMetaDataLoader.load(dataSource, Arrays.asList("t_order_0", "t_order_1"), "MySQL").isEmpty());
+        verify(databaseMetaData).getTables("ds", null, "t_order_0", null);
+        verify(databaseMetaData).getTables("ds", null, "t_order_1", null);
+    }
+}
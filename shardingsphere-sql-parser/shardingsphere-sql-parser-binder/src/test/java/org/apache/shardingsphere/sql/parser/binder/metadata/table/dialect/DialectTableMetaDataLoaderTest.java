@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class DialectTableMetaDataLoaderTest {
+    
+    private final String databaseType;
+    
+    private final DialectTableMetaDataLoader loader;
+    
+    private final String catalog;
+    
+    private final String schema;
+    
+    private final String expectedSchema;
+    
+    private final String columnSQL;
+    
+    private final String primaryKeySQL;
+    
+    private final String indexSQL;
+    
+    private final String intTypeName;
+    
+    private final int intDataType;
+    
+    private final String varcharTypeName;
+    
+    private final String caseSensitiveCollation;
+    
+    private final boolean upperCaseIdentifier;
+    
+    private final String indexName;
+    
+    private final Connection connection = mock(Connection.class);
+    
+    private final PreparedStatement columnStatement = mock(PreparedStatement.class);
+    
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> getParameters() {
+        return Arrays.asList(
+                new Object[] {"MySQL", new MySQLTableMetaDataLoader(), "ds", null, "ds", "information_schema.COLUMNS", "information_schema.KEY_COLUMN_USAGE", "information_schema.STATISTICS",
+                    "INT", Types.INTEGER, "VARCHAR", "utf8mb4_bin", false, "PRIMARY"},
+                new Object[] {"PostgreSQL", new PostgreSQLTableMetaDataLoader(), null, "public", "public", "information_schema.columns", "information_schema.table_constraints", "pg_indexes",
+                    "int4", Types.INTEGER, "varchar", "default", false, "t_order_0_pkey"},
+                new Object[] {"SQLServer", new SQLServerTableMetaDataLoader(), null, "dbo", "dbo", "INFORMATION_SCHEMA.COLUMNS", "INFORMATION_SCHEMA.TABLE_CONSTRAINTS", "sys.indexes",
+                    "int", Types.INTEGER, "varchar", "Latin1_General_CS_AS", false, "PK_t_order_0"},
+                new Object[] {"Oracle", new OracleTableMetaDataLoader(), null, null, "SCOTT", "ALL_TAB_COLUMNS", "ALL_CONSTRAINTS", "ALL_INDEXES",
+                    "NUMBER", Types.NUMERIC, "VARCHAR2", null, true, "SYS_C0012345"});
+    }
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(connection.getCatalog()).thenReturn(catalog);
+        when(connection.getSchema()).thenReturn(schema);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getUserName()).thenReturn("SCOTT");
+        ResultSet typeInfoResultSet = mock(ResultSet.class);
+        when(databaseMetaData.getTypeInfo()).thenReturn(typeInfoResultSet);
+        when(typeInfoResultSet.next()).thenReturn(true, true, false);
+        when(typeInfoResultSet.getString("TYPE_NAME")).thenReturn(intTypeName, varcharTypeName);
+        when(typeInfoResultSet.getInt("DATA_TYPE")).thenReturn(intDataType, Types.VARCHAR);
+        ResultSet columnResultSet = mockQuery(columnStatement, columnSQL);
+        when(columnResultSet.next()).thenReturn(true, true, true, false);
+        when(columnResultSet.getString(1)).thenReturn(toIdentifier("t_order_0"), toIdentifier("t_order_0"), toIdentifier("t_order_1"));
+        when(columnResultSet.getString(2)).thenReturn(toIdentifier("order_id"), toIdentifier("status"), toIdentifier("order_id"));
+        when(columnResultSet.getString(3)).thenReturn(intTypeName, varcharTypeName, intTypeName);
+        when(columnResultSet.getString(4)).thenReturn(null, caseSensitiveCollation, null);
+        ResultSet primaryKeyResultSet = mockQuery(mock(PreparedStatement.class), primaryKeySQL);
+        when(primaryKeyResultSet.next()).thenReturn(true, true, false);
+        when(primaryKeyResultSet.getString(1)).thenReturn(toIdentifier("t_order_0"), toIdentifier("t_order_1"));
+        when(primaryKeyResultSet.getString(2)).thenReturn(toIdentifier("order_id"), toIdentifier("order_id"));
+        ResultSet indexResultSet = mockQuery(mock(PreparedStatement.class), indexSQL);
+        when(indexResultSet.next()).thenReturn(true, false);
+        when(indexResultSet.getString(1)).thenReturn(toIdentifier("t_order_0"));
+        when(indexResultSet.getString(2)).thenReturn(indexName);
+    }
+    
+    private ResultSet mockQuery(final PreparedStatement preparedStatement, final String sqlFragment) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(connection.prepareStatement(contains(sqlFragment))).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(result);
+        return result;
+    }
+    
+    private String toIdentifier(final String identifier) {
+        return upperCaseIdentifier ? identifier.toUpperCase() : identifier;
+    }
+    
+    @Test
+    public void assertLoad() throws SQLException {
+        Map<String, TableMetaData> actual = loader.load(connection, Arrays.asList(toIdentifier("t_order_0"), toIdentifier("t_order_1"), toIdentifier("t_order_2")));
+        assertThat(actual.size(), is(2));
+        TableMetaData tableMetaData = actual.get(toIdentifier("t_order_0"));
+        assertThat(tableMetaData.getColumns().size(), is(2));
+        assertColumnMetaData(tableMetaData.getColumns().get("order_id"), intDataType, intTypeName, true, false);
+        assertColumnMetaData(tableMetaData.getColumns().get("status"), Types.VARCHAR, varcharTypeName, false, true);
+        assertTrue(tableMetaData.getIndexes().containsKey(indexName.toLowerCase()));
+        assertTrue(actual.get(toIdentifier("t_order_1")).getIndexes().isEmpty());
+        verify(columnStatement).setString(1, expectedSchema);
+        verify(columnStatement).setString(4, toIdentifier("t_order_2"));
+    }
+    
+    private void assertColumnMetaData(final ColumnMetaData actual, final int dataType, final String dataTypeName, final boolean primaryKey, final boolean caseSensitive) {
+        assertThat(actual.getDataType(), is(dataType));
+        assertThat(actual.getDataTypeName(), is(dataTypeName));
+        assertThat(actual.isPrimaryKey(), is(primaryKey));
+        assertThat(actual.isCaseSensitive(), is(caseSensitive));
+        assertFalse(actual.isGenerated());
+    }
+}
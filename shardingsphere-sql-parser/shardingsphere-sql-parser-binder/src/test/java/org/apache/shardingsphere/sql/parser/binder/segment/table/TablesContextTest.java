@@ -91,6 +91,26 @@ public final class TablesContextTest {
         assertThat(actual.get(), is("table_1"));
     }
     
+    @Test
+    public void assertFindTableNameIfOwnerPresentWhenOwnerAbsentInTables() {
+        SimpleTableSegment tableSegment1 = createTableSegment("table_1", "tbl_1");
+        SimpleTableSegment tableSegment2 = createTableSegment("table_2", "tbl_2");
+        ColumnSegment columnSegment = createColumnSegment();
+        columnSegment.setOwner(new OwnerSegment(0, 10, new IdentifierValue("table_3")));
+        assertFalse(new TablesContext(Arrays.asList(tableSegment1, tableSegment2)).findTableNameIfOwnerPresent(columnSegment, mock(SchemaMetaData.class)).isPresent());
+    }
+    
+    @Test
+    public void assertFindTableNameIfOwnerPresentWhenOwnerIsAlias() {
+        SimpleTableSegment tableSegment1 = createTableSegment("table_1", "tbl_1");
+        SimpleTableSegment tableSegment2 = createTableSegment("table_2", "tbl_2");
+        ColumnSegment columnSegment = createColumnSegment();
+        columnSegment.setOwner(new OwnerSegment(0, 10, new IdentifierValue("tbl_2")));
+        Optional<String> actual = new TablesContext(Arrays.asList(tableSegment1, tableSegment2)).findTableNameIfOwnerPresent(columnSegment, mock(SchemaMetaData.class));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("table_2"));
+    }
+    
     private SimpleTableSegment createTableSegment(final String tableName, final String alias) {
         SimpleTableSegment result = new SimpleTableSegment(0, 0, new IdentifierValue(tableName));
         AliasSegment aliasSegment = new AliasSegment(0, 0, new IdentifierValue(alias));
@@ -58,8 +58,13 @@ public final class SQLParserEngine {
         ParsingHook parsingHook = new SPIParsingHook();
         parsingHook.start(sql);
         try {
+            Optional<SQLStatement> cachedSQLStatement = useCache ? cache.getSQLStatement(sql) : Optional.empty();
+            if (cachedSQLStatement.isPresent()) {
+                parsingHook.finishSuccess(cachedSQLStatement.get(), true);
+                return cachedSQLStatement.get();
+            }
             SQLStatement result = parse0(sql, useCache);
-            parsingHook.finishSuccess(result);
+            parsingHook.finishSuccess(result, false);
             return result;
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -70,12 +75,6 @@ public final class SQLParserEngine {
     }
     
     private SQLStatement parse0(final String sql, final boolean useCache) {
-        if (useCache) {
-            Optional<SQLStatement> cachedSQLStatement = cache.getSQLStatement(sql);
-            if (cachedSQLStatement.isPresent()) {
-                return cachedSQLStatement.get();
-            }
-        }
         ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute().getRootNode();
         SQLStatement result = (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, VisitorRule.valueOf(parseTree.getClass())).visit(parseTree);
         if (useCache) {
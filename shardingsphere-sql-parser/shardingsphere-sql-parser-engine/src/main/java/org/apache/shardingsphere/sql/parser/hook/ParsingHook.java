@@ -38,6 +38,16 @@ public interface ParsingHook {
      */
     void finishSuccess(SQLStatement sqlStatement);
     
+    /**
+     * Handle when parse finished success with parse result cache status.
+     *
+     * @param sqlStatement sql statement
+     * @param cacheHit is SQL statement hit from parse result cache
+     */
+    default void finishSuccess(SQLStatement sqlStatement, boolean cacheHit) {
+        finishSuccess(sqlStatement);
+    }
+    
     /**
      * Handle when parse finished failure.
      * 
@@ -47,6 +47,13 @@ public final class SPIParsingHook implements ParsingHook {
         }
     }
     
+    @Override
+    public void finishSuccess(final SQLStatement sqlStatement, final boolean cacheHit) {
+        for (ParsingHook each : parsingHooks) {
+            each.finishSuccess(sqlStatement, cacheHit);
+        }
+    }
+    
     @Override
     public void finishFailure(final Exception cause) {
         for (ParsingHook each : parsingHooks) {
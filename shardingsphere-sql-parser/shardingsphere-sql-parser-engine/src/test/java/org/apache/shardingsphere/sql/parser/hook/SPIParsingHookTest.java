@@ -45,6 +45,12 @@ public final class SPIParsingHookTest {
         assertTrue(ParsingHookFixture.containsAction("finishSuccess"));
     }
     
+    @Test
+    public void assertFinishSuccessWithCacheHit() {
+        spiParsingHook.finishSuccess(null, true);
+        assertTrue(ParsingHookFixture.containsAction("finishSuccess"));
+    }
+    
     @Test
     public void assertFinishFailure() {
         spiParsingHook.finishFailure(null);
@@ -77,6 +77,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Max connections of each data source which can be reserved by queries opening multiple connections at once.
+     *
+     * <p>
+     * It should not exceed connection pool size of data source.
+     * Default: 0, means max pool size of data source if known, otherwise opening multiple connections is serialized.
+     * </p>
+     */
+    CONNECTION_RESERVATION_PERMITS("connection.reservation.permits", String.valueOf(0), int.class),
+    
+    /**
+     * Timeout milliseconds to reserve connections, query fails if connections can not be reserved in time.
+     */
+    CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS("connection.reservation.timeout.milliseconds", String.valueOf(30000L), long.class),
+    
     /**
      * When encrypt data, query with cipher column or not.
      * 
@@ -88,6 +103,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
     
+    /**
+     * Max threads of Sharding-Proxy to execute commands of channels which need ordered execution on the same thread.
+     *
+     * <p>
+     * Threads are shared by channels and only held by channel while thread bound state such as XA transaction or hint is alive,
+     * commands wait for free thread if all threads are held.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    PROXY_FRONTEND_SERIAL_EXECUTOR_MAX_THREADS("proxy.frontend.serial.executor.max.threads", String.valueOf(0), int.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -127,7 +153,58 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    /**
+     * Max cached query results of broadcast tables for each schema of Sharding-Proxy.
+     *
+     * <p>
+     * Results of queries which only access broadcast tables and are not in transaction are cached by SQL and parameters,
+     * and invalidated when the tables are modified through Sharding-Proxy of any instance in the same orchestration.
+     * Default: 0, means cache is disabled.
+     * </p>
+     */
+    PROXY_BROADCAST_TABLE_QUERY_CACHE_MAX_SIZE("proxy.broadcast.table.query.cache.max.size", String.valueOf(0L), long.class),
+    
+    /**
+     * Seconds to expire cached query results of broadcast tables, changes not made through Sharding-Proxy are visible after expiration.
+     */
+    PROXY_BROADCAST_TABLE_QUERY_CACHE_TTL_SECONDS("proxy.broadcast.table.query.cache.ttl.seconds", String.valueOf(60L), long.class),
+    
+    /**
+     * Max rows of each cached query result of broadcast tables, results with more rows are not cached.
+     */
+    PROXY_BROADCAST_TABLE_QUERY_CACHE_MAX_ROWS("proxy.broadcast.table.query.cache.max.rows", String.valueOf(1000), int.class),
+    
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max route units of cartesian routing.
+     *
+     * <p>
+     * Joins of sharding tables without binding relation are routed by cartesian product,
+     * query fails if route units exceed this value instead of being executed.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    MAX_CARTESIAN_ROUTE_UNITS("max.cartesian.route.units", String.valueOf(0), int.class),
+    
+    /**
+     * Max rows in memory of each query result loaded in connection strictly mode.
+     *
+     * <p>
+     * Rows beyond it are spilled to temporary file instead of heap, it bounds heap usage only and result set is still fully read before merging.
+     * Default: 0, means all rows are loaded in memory.
+     * </p>
+     */
+    QUERY_RESULT_MAX_ROWS_IN_MEMORY("query.result.max.rows.in.memory", String.valueOf(0), int.class),
+    
+    /**
+     * Directory to persist schema meta data snapshot for Sharding-Proxy, empty means snapshot is disabled.
+     *
+     * <p>
+     * Sharding-Proxy starts with the snapshot and validates it against actual databases in background.
+     * </p>
+     */
+    PROXY_METADATA_SNAPSHOT_PATH("proxy.metadata.snapshot.path", "", String.class);
     
     private final String key;
     
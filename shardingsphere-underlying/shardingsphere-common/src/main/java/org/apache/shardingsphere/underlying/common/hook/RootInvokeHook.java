@@ -19,6 +19,9 @@ package org.apache.shardingsphere.underlying.common.hook;
 
 /**
  * Root invoke hook.
+ * 
+ * <p>Hook instance is shared by concurrent root invokes, state between start and finish should be kept in thread local.
+ * Root invoke of batch lasts from first batch added to batch executed or cleared, other root invokes may be nested in it.</p>
  */
 public interface RootInvokeHook {
     
@@ -98,4 +98,12 @@ public interface QueryResult {
      * @throws SQLException SQL Exception
      */
     String getColumnLabel(int columnIndex) throws SQLException;
+    
+    /**
+     * Close query result and release resources held by it.
+     *
+     * @throws SQLException SQL Exception
+     */
+    default void close() throws SQLException {
+    }
 }
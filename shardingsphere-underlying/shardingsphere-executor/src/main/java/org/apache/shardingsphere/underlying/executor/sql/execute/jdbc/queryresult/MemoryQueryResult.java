@@ -31,9 +31,6 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -43,26 +40,48 @@ public final class MemoryQueryResult implements QueryResult {
     
     private final ResultSetMetaData resultSetMetaData;
     
-    private final Iterator<List<Object>> rows;
+    private final SpillableRows rows;
     
     private List<Object> currentRow;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
+        this(resultSet, 0);
+    }
+    
+    /**
+     * Create memory query result which keeps limited rows in heap.
+     * 
+     * <p>
+     * Rows beyond max rows in memory are spilled to temporary file, so whole result is not held in heap.
+     * Result set is still read to the end before the query result is created, rows are not streamed while reading.
+     * </p>
+     *
+     * @param resultSet result set
+     * @param maxRowsInMemory max rows in memory, rows are not spilled if it is not positive
+     * @throws SQLException SQL exception
+     */
+    public MemoryQueryResult(final ResultSet resultSet, final int maxRowsInMemory) throws SQLException {
         resultSetMetaData = resultSet.getMetaData();
-        rows = getRows(resultSet);
+        rows = getRows(resultSet, maxRowsInMemory);
     }
     
-    private Iterator<List<Object>> getRows(final ResultSet resultSet) throws SQLException {
-        Collection<List<Object>> result = new LinkedList<>();
-        while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                Object rowValue = getRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+    private SpillableRows getRows(final ResultSet resultSet, final int maxRowsInMemory) throws SQLException {
+        SpillableRows result = new SpillableRows(maxRowsInMemory);
+        try {
+            while (resultSet.next()) {
+                List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
+                for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
+                    Object rowValue = getRowValue(resultSet, columnIndex);
+                    rowData.add(resultSet.wasNull() ? null : rowValue);
+                }
+                result.add(rowData);
             }
-            result.add(rowData);
+            result.finishAdding();
+        } catch (final SQLException | RuntimeException ex) {
+            result.close();
+            throw ex;
         }
-        return result.iterator();
+        return result;
     }
     
     private Object getRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
@@ -166,4 +185,10 @@ public final class MemoryQueryResult implements QueryResult {
     public String getColumnLabel(final int columnIndex) throws SQLException {
         return resultSetMetaData.getColumnLabel(columnIndex);
     }
+    
+    @Override
+    public void close() {
+        rows.close();
+        currentRow = null;
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+/**
+ * Rows which keep limited rows in memory and spill the others to temporary file.
+ * 
+ * <p>Rows are iterated in added order. Rows which can not be spilled because of unserializable values are kept in memory,
+ * and a marker is spilled in their place, so following rows can still be spilled.</p>
+ */
+@Slf4j
+final class SpillableRows implements Iterator<List<Object>> {
+    
+    private static final Integer UNSPILLABLE_ROW_MARKER = 0;
+    
+    private final int maxRowsInMemory;
+    
+    private final Queue<List<Object>> memoryRows = new LinkedList<>();
+    
+    private final Queue<List<Object>> unspillableRows = new LinkedList<>();
+    
+    private File spillFile;
+    
+    private ObjectOutputStream spillOutput;
+    
+    private ObjectInputStream spillInput;
+    
+    private int spilledRowCount;
+    
+    private int readSpilledRowCount;
+    
+    SpillableRows(final int maxRowsInMemory) {
+        this.maxRowsInMemory = maxRowsInMemory;
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row
+     * @throws SQLException SQL exception
+     */
+    void add(final List<Object> row) throws SQLException {
+        if (maxRowsInMemory <= 0 || null == spillFile && memoryRows.size() < maxRowsInMemory) {
+            memoryRows.add(row);
+        } else if (isSerializable(row)) {
+            spill(row);
+        } else {
+            unspillableRows.add(row);
+            spill(UNSPILLABLE_ROW_MARKER);
+        }
+    }
+    
+    private boolean isSerializable(final List<Object> row) {
+        for (Object each : row) {
+            if (null != each && !(each instanceof Serializable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void spill(final Object row) throws SQLException {
+        try {
+            if (null == spillFile) {
+                spillFile = File.createTempFile("shardingsphere-query-result-", ".tmp");
+                spillOutput = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile)));
+            }
+            spillOutput.writeUnshared(row);
+            spillOutput.reset();
+            spilledRowCount++;
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException("Spill query result to temporary file failed.", ex);
+        }
+    }
+    
+    /**
+     * Finish adding rows.
+     *
+     * @throws SQLException SQL exception
+     */
+    void finishAdding() throws SQLException {
+        if (null == spillFile) {
+            return;
+        }
+        try {
+            spillOutput.close();
+            spillInput = new ObjectInputStream(new BufferedInputStream(new FileInputStream(spillFile)));
+        } catch (final IOException ex) {
+            throw new SQLException("Read spilled query result from temporary file failed.", ex);
+        } finally {
+            deleteSpillFile();
+        }
+    }
+    
+    private void deleteSpillFile() {
+        if (null != spillFile && !spillFile.delete()) {
+            spillFile.deleteOnExit();
+        }
+    }
+    
+    /**
+     * Close rows and release temporary file.
+     */
+    void close() {
+        closeQuietly(spillOutput);
+        closeQuietly(spillInput);
+        deleteSpillFile();
+        memoryRows.clear();
+        unspillableRows.clear();
+        readSpilledRowCount = spilledRowCount;
+    }
+    
+    private void closeQuietly(final Closeable closeable) {
+        if (null == closeable) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (final IOException ex) {
+            log.warn("Close spilled query result of temporary file `{}` failed.", spillFile, ex);
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !memoryRows.isEmpty() || readSpilledRowCount < spilledRowCount;
+    }
+    
+    @Override
+    public List<Object> next() {
+        if (!memoryRows.isEmpty()) {
+            return memoryRows.poll();
+        }
+        if (readSpilledRowCount < spilledRowCount) {
+            return readSpilledRow();
+        }
+        throw new NoSuchElementException();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Object> readSpilledRow() {
+        try {
+            Object result = spillInput.readUnshared();
+            readSpilledRowCount++;
+            if (readSpilledRowCount == spilledRowCount) {
+                spillInput.close();
+            }
+            return UNSPILLABLE_ROW_MARKER.equals(result) ? unspillableRows.poll() : (List<Object>) result;
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new IllegalStateException("Read spilled query result from temporary file failed.", ex);
+        }
+    }
+}
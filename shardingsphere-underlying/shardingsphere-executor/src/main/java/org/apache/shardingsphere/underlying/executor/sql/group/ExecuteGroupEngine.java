@@ -28,6 +28,7 @@ import org.apache.shardingsphere.underlying.executor.sql.StorageResourceExecuteU
 import org.apache.shardingsphere.underlying.executor.sql.StorageResourceOption;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.underlying.executor.sql.hook.SPIConnectionAcquisitionHook;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -55,6 +56,8 @@ public abstract class ExecuteGroupEngine<U extends StorageResourceExecuteUnit, E
     
     private final Map<ShardingSphereRule, ExecuteGroupDecorator> decorators;
     
+    private final SPIConnectionAcquisitionHook connectionAcquisitionHook = new SPIConnectionAcquisitionHook();
+    
     public ExecuteGroupEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
         decorators = OrderedSPIRegistry.getRegisteredServices(rules, ExecuteGroupDecorator.class);
@@ -102,7 +105,7 @@ public abstract class ExecuteGroupEngine<U extends StorageResourceExecuteUnit, E
         int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
         List<List<SQLUnit>> sqlUnitPartitions = Lists.partition(sqlUnits, desiredPartitionSize);
         ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
-        List<C> connections = executionConnection.getConnections(dataSourceName, sqlUnitPartitions.size(), connectionMode);
+        List<C> connections = getConnections(dataSourceName, sqlUnitPartitions.size(), executionConnection, connectionMode);
         int count = 0;
         for (List<SQLUnit> each : sqlUnitPartitions) {
             result.add(generateSQLExecuteGroup(dataSourceName, each, executionConnection, connections.get(count++), connectionMode, option));
@@ -110,6 +113,20 @@ public abstract class ExecuteGroupEngine<U extends StorageResourceExecuteUnit, E
         return result;
     }
     
+    private List<C> getConnections(final String dataSourceName, final int connectionSize, final E executionConnection, final ConnectionMode connectionMode) throws SQLException {
+        connectionAcquisitionHook.start(dataSourceName, connectionSize);
+        try {
+            List<C> result = executionConnection.getConnections(dataSourceName, connectionSize, connectionMode);
+            connectionAcquisitionHook.finishSuccess();
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            connectionAcquisitionHook.finishFailure(ex);
+            throw ex;
+        }
+    }
+    
     private InputGroup<U> generateSQLExecuteGroup(final String dataSourceName, final List<SQLUnit> sqlUnitGroup, 
                                                   final E executionConnection, final C connection, final ConnectionMode connectionMode, final O option) throws SQLException {
         List<U> result = new LinkedList<>();
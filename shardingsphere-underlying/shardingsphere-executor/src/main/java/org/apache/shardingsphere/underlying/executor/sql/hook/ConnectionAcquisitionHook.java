@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.hook;
+
+/**
+ * Connection acquisition hook.
+ * 
+ * <p>Hook instance is shared by concurrent connection acquisitions, state between start and finish should be kept in thread local.</p>
+ */
+public interface ConnectionAcquisitionHook {
+    
+    /**
+     * Handle when connection acquisition started.
+     *
+     * @param dataSourceName data source name
+     * @param connectionSize size of connections to be acquired
+     */
+    void start(String dataSourceName, int connectionSize);
+    
+    /**
+     * Handle when connection acquisition finished success.
+     */
+    void finishSuccess();
+    
+    /**
+     * Handle when connection acquisition finished failure.
+     * 
+     * @param cause failure cause
+     */
+    void finishFailure(Exception cause);
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.hook;
+
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+
+import java.util.Collection;
+
+/**
+ * Connection acquisition hook for SPI.
+ */
+public final class SPIConnectionAcquisitionHook implements ConnectionAcquisitionHook {
+    
+    private final Collection<ConnectionAcquisitionHook> connectionAcquisitionHooks = ShardingSphereServiceLoader.newServiceInstances(ConnectionAcquisitionHook.class);
+    
+    static {
+        ShardingSphereServiceLoader.register(ConnectionAcquisitionHook.class);
+    }
+    
+    @Override
+    public void start(final String dataSourceName, final int connectionSize) {
+        for (ConnectionAcquisitionHook each : connectionAcquisitionHooks) {
+            each.start(dataSourceName, connectionSize);
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        for (ConnectionAcquisitionHook each : connectionAcquisitionHooks) {
+            each.finishSuccess();
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        for (ConnectionAcquisitionHook each : connectionAcquisitionHooks) {
+            each.finishFailure(cause);
+        }
+    }
+}
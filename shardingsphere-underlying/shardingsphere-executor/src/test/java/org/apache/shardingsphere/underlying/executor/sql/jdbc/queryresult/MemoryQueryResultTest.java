@@ -63,6 +63,59 @@ public final class MemoryQueryResultTest {
         assertFalse(queryResult.next());
     }
     
+    @Test
+    public void assertNextWithSpilledRows() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.SMALLINT);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2, 3);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet, 1);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(3));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithUnserializableRowsBetweenSpilledRows() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.OTHER);
+        when(resultSet.next()).thenReturn(true, true, true, true, false);
+        Object unserializableValue = new Object();
+        when(resultSet.getObject(1)).thenReturn(1, unserializableValue, 3, 4);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet, 1);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(unserializableValue));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 4));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseWithSpilledRows() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.SMALLINT);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2, 3);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet, 1);
+        assertTrue(actual.next());
+        actual.close();
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertConstructorWithSqlExceptionAfterSpilling() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.SMALLINT);
+        when(resultSet.next()).thenReturn(true, true, true).thenThrow(new SQLException());
+        when(resultSet.getInt(1)).thenReturn(1, 2, 3);
+        new MemoryQueryResult(resultSet, 1);
+    }
+    
     @Test
     public void assertGetValueByNull() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.underlying.merge.engine.decorator.ResultDecorat
 import org.apache.shardingsphere.underlying.merge.engine.decorator.ResultDecoratorEngine;
 import org.apache.shardingsphere.underlying.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.underlying.merge.engine.merger.ResultMergerEngine;
+import org.apache.shardingsphere.underlying.merge.hook.SPIMergingHook;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.apache.shardingsphere.underlying.merge.result.impl.transparent.TransparentMergedResult;
 
@@ -57,6 +58,8 @@ public final class MergeEngine {
     
     private final Map<ShardingSphereRule, ResultProcessEngine> engines;
     
+    private final SPIMergingHook mergingHook = new SPIMergingHook();
+    
     public MergeEngine(final DatabaseType databaseType, final SchemaMetaData schemaMetaData, final ConfigurationProperties properties, final Collection<ShardingSphereRule> rules) {
         this.databaseType = databaseType;
         this.schemaMetaData = schemaMetaData;
@@ -73,6 +76,20 @@ public final class MergeEngine {
      * @throws SQLException SQL exception
      */
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext) throws SQLException {
+        mergingHook.start(queryResults.size());
+        try {
+            MergedResult result = merge0(queryResults, sqlStatementContext);
+            mergingHook.finishSuccess(result);
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            mergingHook.finishFailure(ex);
+            throw ex;
+        }
+    }
+    
+    private MergedResult merge0(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext) throws SQLException {
         Optional<MergedResult> mergedResult = executeMerge(queryResults, sqlStatementContext);
         Optional<MergedResult> result = mergedResult.isPresent() ? Optional.of(decorate(mergedResult.get(), sqlStatementContext)) : decorate(queryResults.get(0), sqlStatementContext);
         return result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
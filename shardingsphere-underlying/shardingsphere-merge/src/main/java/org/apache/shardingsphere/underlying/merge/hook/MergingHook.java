@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.merge.hook;
+
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+
+/**
+ * Merging hook.
+ * 
+ * <p>Hook instance is shared by concurrent merges, state between start and finish should be kept in thread local.</p>
+ */
+public interface MergingHook {
+    
+    /**
+     * Handle when merging started.
+     *
+     * @param queryResultSize size of query results to be merged
+     */
+    void start(int queryResultSize);
+    
+    /**
+     * Handle when merging finished success.
+     *
+     * @param mergedResult merged result
+     */
+    void finishSuccess(MergedResult mergedResult);
+    
+    /**
+     * Handle when merging finished failure.
+     * 
+     * @param cause failure cause
+     */
+    void finishFailure(Exception cause);
+}
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContextDec
 import org.apache.shardingsphere.underlying.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.underlying.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.hook.SPIRewritingHook;
 import org.apache.shardingsphere.underlying.route.context.RouteContext;
 
 import java.util.Collection;
@@ -49,6 +50,8 @@ public final class SQLRewriteEntry {
     
     private final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators;
     
+    private final SPIRewritingHook rewritingHook = new SPIRewritingHook();
+    
     public SQLRewriteEntry(final SchemaMetaData schemaMetaData, final ConfigurationProperties properties, final Collection<ShardingSphereRule> rules) {
         this.schemaMetaData = schemaMetaData;
         this.properties = properties;
@@ -64,6 +67,20 @@ public final class SQLRewriteEntry {
      * @return route unit and SQL rewrite result map
      */
     public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final RouteContext routeContext) {
+        rewritingHook.start(sql);
+        try {
+            SQLRewriteResult result = executeRewrite(sql, parameters, routeContext);
+            rewritingHook.finishSuccess(result);
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            rewritingHook.finishFailure(ex);
+            throw ex;
+        }
+    }
+    
+    private SQLRewriteResult executeRewrite(final String sql, final List<Object> parameters, final RouteContext routeContext) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, routeContext.getSqlStatementContext(), routeContext);
         return routeContext.getRouteResult().getRouteUnits().isEmpty()
                 ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext.getRouteResult());
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.hook;
+
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
+
+/**
+ * Rewriting hook.
+ * 
+ * <p>Hook instance is shared by concurrent rewrites, state between start and finish should be kept in thread local.</p>
+ */
+public interface RewritingHook {
+    
+    /**
+     * Handle when rewriting started.
+     *
+     * @param sql SQL to be rewritten
+     */
+    void start(String sql);
+    
+    /**
+     * Handle when rewriting finished success.
+     *
+     * @param sqlRewriteResult SQL rewrite result
+     */
+    void finishSuccess(SQLRewriteResult sqlRewriteResult);
+    
+    /**
+     * Handle when rewriting finished failure.
+     * 
+     * @param cause failure cause
+     */
+    void finishFailure(Exception cause);
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.hook;
+
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
+
+import java.util.Collection;
+
+/**
+ * Rewriting hook for SPI.
+ */
+public final class SPIRewritingHook implements RewritingHook {
+    
+    private final Collection<RewritingHook> rewritingHooks = ShardingSphereServiceLoader.newServiceInstances(RewritingHook.class);
+    
+    static {
+        ShardingSphereServiceLoader.register(RewritingHook.class);
+    }
+    
+    @Override
+    public void start(final String sql) {
+        for (RewritingHook each : rewritingHooks) {
+            each.start(sql);
+        }
+    }
+    
+    @Override
+    public void finishSuccess(final SQLRewriteResult sqlRewriteResult) {
+        for (RewritingHook each : rewritingHooks) {
+            each.finishSuccess(sqlRewriteResult);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        for (RewritingHook each : rewritingHooks) {
+            each.finishFailure(cause);
+        }
+    }
+}
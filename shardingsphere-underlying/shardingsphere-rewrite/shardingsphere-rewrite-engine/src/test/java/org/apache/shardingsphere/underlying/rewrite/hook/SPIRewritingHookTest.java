@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.hook;
+
+import org.apache.shardingsphere.underlying.rewrite.hook.fixture.RewritingHookFixture;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public final class SPIRewritingHookTest {
+    
+    private SPIRewritingHook spiRewritingHook;
+    
+    @Before
+    public void setUp() {
+        RewritingHookFixture.clearActions();
+        spiRewritingHook = new SPIRewritingHook();
+    }
+    
+    @Test
+    public void assertStart() {
+        spiRewritingHook.start("SELECT 1");
+        assertTrue(RewritingHookFixture.containsAction("start"));
+    }
+    
+    @Test
+    public void assertFinishSuccess() {
+        spiRewritingHook.finishSuccess(null);
+        assertTrue(RewritingHookFixture.containsAction("finishSuccess"));
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        spiRewritingHook.finishFailure(null);
+        assertTrue(RewritingHookFixture.containsAction("finishFailure"));
+    }
+}
@@ -38,6 +38,8 @@ import java.util.Map.Entry;
 
 /**
  * Data node router.
+ * 
+ * <p>Router is thread safe and can be shared by statements, routing hooks are loaded once and shared by routes as well.</p>
  */
 public final class DataNodeRouter {
     
@@ -51,13 +53,12 @@ public final class DataNodeRouter {
     
     private final Map<ShardingSphereRule, RouteDecorator> decorators;
     
-    private SPIRoutingHook routingHook;
+    private final SPIRoutingHook routingHook = new SPIRoutingHook();
     
     public DataNodeRouter(final ShardingSphereMetaData metaData, final ConfigurationProperties properties, final Collection<ShardingSphereRule> rules) {
         this.metaData = metaData;
         this.properties = properties;
         decorators = OrderedSPIRegistry.getRegisteredServices(rules, RouteDecorator.class);
-        routingHook = new SPIRoutingHook();
     }
     
     /**
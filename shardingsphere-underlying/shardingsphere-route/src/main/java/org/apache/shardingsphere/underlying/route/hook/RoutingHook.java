@@ -22,6 +22,8 @@ import org.apache.shardingsphere.underlying.route.context.RouteContext;
 
 /**
  * Routing hook.
+ * 
+ * <p>Hook instance is shared by concurrent routes, state between start and finish should be kept in thread local.</p>
  */
 public interface RoutingHook {
     